@@ -12,7 +12,10 @@
  */
 package org.openhab.binding.deconz.internal.netutils;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.net.URI;
+import java.util.EnumMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
@@ -37,6 +40,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 /**
  * Establishes and keeps a websocket connection to the deCONZ software.
@@ -58,7 +63,8 @@ public class WebSocketConnection {
     private int watchdogInterval;
 
     private final WebSocketConnectionListener connectionListener;
-    private final Map<String, WebSocketMessageListener> listeners = new ConcurrentHashMap<>();
+    private final Map<ResourceType, Map<String, WebSocketMessageListener>> listeners = new EnumMap<>(
+            ResourceType.class);
 
     private ConnectionState connectionState = ConnectionState.DISCONNECTED;
     private @Nullable ScheduledFuture<?> watchdogJob;
@@ -73,6 +79,10 @@ public class WebSocketConnection {
         this.gson = gson;
         this.socketName = "Websocket$" + System.currentTimeMillis() + "-" + INSTANCE_COUNTER.incrementAndGet();
         this.watchdogInterval = watchdogInterval;
+        // the map of each resource type is created upfront, so that the outer map is never modified
+        for (ResourceType resourceType : ResourceType.values()) {
+            listeners.put(resourceType, new ConcurrentHashMap<>());
+        }
     }
 
     public void setWatchdogInterval(int watchdogInterval) {
@@ -139,11 +149,11 @@ public class WebSocketConnection {
     }
 
     public void registerListener(ResourceType resourceType, String sensorID, WebSocketMessageListener listener) {
-        listeners.put(getListenerId(resourceType, sensorID), listener);
+        getListeners(resourceType).put(sensorID, listener);
     }
 
     public void unregisterListener(ResourceType resourceType, String sensorID) {
-        listeners.remove(getListenerId(resourceType, sensorID));
+        getListeners(resourceType).remove(sensorID);
     }
 
     @SuppressWarnings("unused")
@@ -168,47 +178,99 @@ public class WebSocketConnection {
         logger.trace("{} received raw data: {}", socketName, message);
 
         try {
-            DeconzBaseMessage changedMessage = Objects.requireNonNull(gson.fromJson(message, DeconzBaseMessage.class));
-            if (changedMessage.r == ResourceType.UNKNOWN) {
+            // only read the routing fields, the message is fully deserialized if a listener is registered
+            MessageHeader header = readHeader(message);
+            if (header.resourceType == ResourceType.UNKNOWN) {
                 logger.trace("Received message has unknown resource type. Skipping message.");
                 return;
             }
 
-            ResourceType resourceType = changedMessage.r;
-            String resourceId = changedMessage.id;
+            ResourceType resourceType = header.resourceType;
+            String resourceId = header.id;
 
             if (resourceType == ResourceType.SCENES) {
                 // scene recalls
                 resourceType = ResourceType.GROUPS;
-                resourceId = changedMessage.gid;
+                resourceId = header.gid;
             }
 
-            WebSocketMessageListener listener = listeners.get(getListenerId(resourceType, resourceId));
+            WebSocketMessageListener listener = getListeners(resourceType).get(resourceId);
             if (listener == null) {
                 logger.trace(
                         "Couldn't find listener for id {} with resource type {}. Either no thing for this id has been defined or this is a bug.",
-                        changedMessage.id, changedMessage.r);
+                        header.id, header.resourceType);
                 return;
             }
 
             // we still need the original resource type here
-            Class<? extends DeconzBaseMessage> expectedMessageType = changedMessage.r.getExpectedMessageType();
+            Class<? extends DeconzBaseMessage> expectedMessageType = header.resourceType.getExpectedMessageType();
             if (expectedMessageType == null) {
                 logger.warn(
                         "BUG! Could not get expected message type for resource type {}. Please report this incident.",
-                        changedMessage.r);
+                        header.resourceType);
                 return;
             }
 
             DeconzBaseMessage deconzMessage = Objects.requireNonNull(gson.fromJson(message, expectedMessageType));
             listener.messageReceived(deconzMessage);
-        } catch (RuntimeException e) {
+        } catch (IOException | RuntimeException e) {
             // we need to catch all processing exceptions, otherwise they could affect the connection
             logger.warn("{} encountered an error while processing the message {}: {}", socketName, message,
                     e.getMessage());
         }
     }
 
+    /**
+     * read the fields needed for routing a message, stops as soon as all of them are known
+     *
+     * @param message the raw message
+     * @return the header of the message
+     * @throws IOException if the message is not a valid JSON object
+     */
+    private MessageHeader readHeader(String message) throws IOException {
+        MessageHeader header = new MessageHeader();
+        try (JsonReader reader = new JsonReader(new StringReader(message))) {
+            reader.setLenient(true);
+            reader.beginObject();
+            boolean hasResourceType = false;
+            boolean hasId = false;
+            boolean hasGid = false;
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                JsonToken token = reader.peek();
+                if (token != JsonToken.STRING && token != JsonToken.NUMBER) {
+                    reader.skipValue();
+                    continue;
+                }
+                switch (name) {
+                    case "r":
+                        header.resourceType = ResourceType.fromString(reader.nextString());
+                        hasResourceType = true;
+                        break;
+                    case "id":
+                        header.id = reader.nextString();
+                        hasId = true;
+                        break;
+                    case "gid":
+                        header.gid = reader.nextString();
+                        hasGid = true;
+                        break;
+                    default:
+                        reader.skipValue();
+                        continue;
+                }
+                if (hasResourceType && (header.resourceType == ResourceType.SCENES ? hasGid : hasId)) {
+                    break;
+                }
+            }
+        }
+        return header;
+    }
+
+    private Map<String, WebSocketMessageListener> getListeners(ResourceType resourceType) {
+        return Objects.requireNonNull(listeners.get(resourceType));
+    }
+
     @SuppressWarnings("unused")
     @OnWebSocketError
     public void onError(@Nullable Session session, Throwable cause) {
@@ -258,14 +320,12 @@ public class WebSocketConnection {
     }
 
     /**
-     * create a unique identifier for a listener
-     *
-     * @param resourceType the listener resource-type (LIGHT, SENSOR, ...)
-     * @param id the listener id (same as deconz-id)
-     * @return a unique string for this listener
+     * the fields of a message used for routing it to a listener
      */
-    private String getListenerId(ResourceType resourceType, String id) {
-        return resourceType.name() + "$" + id;
+    private static class MessageHeader {
+        private ResourceType resourceType = ResourceType.UNKNOWN;
+        private String id = "";
+        private String gid = "";
     }
 
     /**
@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.deconz.internal.netutils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.net.InetSocketAddress;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.client.WebSocketClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.binding.deconz.internal.dto.DeconzBaseMessage;
+import org.openhab.binding.deconz.internal.dto.LightMessage;
+import org.openhab.binding.deconz.internal.dto.SensorMessage;
+import org.openhab.binding.deconz.internal.dto.SensorState;
+import org.openhab.binding.deconz.internal.types.LightType;
+import org.openhab.binding.deconz.internal.types.LightTypeDeserializer;
+import org.openhab.binding.deconz.internal.types.ResourceType;
+import org.openhab.binding.deconz.internal.types.ResourceTypeDeserializer;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * Tests for routing websocket messages in {@link WebSocketConnection}
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class WebSocketConnectionTest {
+    private @Mock @NonNullByDefault({}) WebSocketConnectionListener connectionListener;
+    private @Mock @NonNullByDefault({}) WebSocketClient client;
+    private @Mock @NonNullByDefault({}) Session session;
+    private @Mock @NonNullByDefault({}) WebSocketMessageListener sensorListener;
+    private @Mock @NonNullByDefault({}) WebSocketMessageListener lightListener;
+    private @Mock @NonNullByDefault({}) WebSocketMessageListener groupListener;
+    private @NonNullByDefault({}) WebSocketConnection connection;
+
+    @BeforeEach
+    public void initialize() {
+        GsonBuilder gsonBuilder = new GsonBuilder();
+        gsonBuilder.registerTypeAdapter(LightType.class, new LightTypeDeserializer());
+        gsonBuilder.registerTypeAdapter(ResourceType.class, new ResourceTypeDeserializer());
+        Gson gson = gsonBuilder.create();
+
+        when(session.getRemoteAddress()).thenReturn(new InetSocketAddress("127.0.0.1", 443));
+        connection = new WebSocketConnection(connectionListener, client, gson, 120);
+        connection.onConnect(session);
+        connection.registerListener(ResourceType.SENSORS, "3", sensorListener);
+        connection.registerListener(ResourceType.LIGHTS, "3", lightListener);
+        connection.registerListener(ResourceType.GROUPS, "7", groupListener);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        connection.dispose();
+    }
+
+    @Test
+    public void sensorMessageIsRoutedByResourceTypeAndId() {
+        connection.onMessage(session,
+                "{\"e\":\"changed\",\"id\":\"3\",\"r\":\"sensors\",\"state\":{\"lastupdated\":\"2023-01-01T10:00:00.000\",\"presence\":true},\"t\":\"event\",\"uniqueid\":\"00:0b:57:ff:fe:94:6b:dd-01-1000\"}");
+
+        ArgumentCaptor<DeconzBaseMessage> captor = ArgumentCaptor.forClass(DeconzBaseMessage.class);
+        verify(sensorListener).messageReceived(captor.capture());
+        verify(lightListener, never()).messageReceived(any());
+        SensorMessage message = assertInstanceOf(SensorMessage.class, captor.getValue());
+        SensorState state = message.state;
+        assertNotNull(state);
+        assertEquals(Boolean.TRUE, state.presence);
+        assertEquals("00:0b:57:ff:fe:94:6b:dd-01-1000", message.uniqueid);
+    }
+
+    @Test
+    public void fieldOrderDoesNotMatter() {
+        connection.onMessage(session, "{\"state\":{\"on\":true},\"t\":\"event\",\"r\":\"lights\",\"id\":3}");
+
+        ArgumentCaptor<DeconzBaseMessage> captor = ArgumentCaptor.forClass(DeconzBaseMessage.class);
+        verify(lightListener).messageReceived(captor.capture());
+        verify(sensorListener, never()).messageReceived(any());
+        assertInstanceOf(LightMessage.class, captor.getValue());
+    }
+
+    @Test
+    public void sceneRecallIsRoutedToGroup() {
+        connection.onMessage(session, "{\"e\":\"scene-called\",\"gid\":\"7\",\"id\":\"1\",\"r\":\"scenes\",\"scid\":\"1\"}");
+
+        ArgumentCaptor<DeconzBaseMessage> captor = ArgumentCaptor.forClass(DeconzBaseMessage.class);
+        verify(groupListener).messageReceived(captor.capture());
+        assertEquals("1", captor.getValue().scid);
+    }
+
+    @Test
+    public void unknownOrUnregisteredMessagesAreSkipped() {
+        connection.onMessage(session, "{\"e\":\"changed\",\"id\":\"4\",\"r\":\"sensors\",\"state\":{}}");
+        connection.onMessage(session, "{\"e\":\"changed\",\"id\":\"3\",\"r\":\"alarmsystems\"}");
+        connection.onMessage(session, "[\"invalid\"]");
+        connection.unregisterListener(ResourceType.SENSORS, "3");
+        connection.onMessage(session, "{\"e\":\"changed\",\"id\":\"3\",\"r\":\"sensors\",\"state\":{}}");
+
+        verify(sensorListener, never()).messageReceived(any());
+        verify(lightListener, never()).messageReceived(any());
+        verify(groupListener, never()).messageReceived(any());
+    }
+}
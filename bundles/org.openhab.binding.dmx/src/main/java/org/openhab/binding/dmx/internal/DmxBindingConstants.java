@@ -45,6 +45,8 @@ public class DmxBindingConstants {
     public static final String CONFIG_ADDRESS = "address";
     public static final String CONFIG_LOCAL_ADDRESS = "localaddress";
     public static final String CONFIG_REFRESH_MODE = "refreshmode";
+    public static final String CONFIG_SYNC = "sync";
+    public static final String CONFIG_SYNC_UNIVERSE = "syncuniverse";
 
     public static final String CONFIG_DIMMER_TYPE = "dimmertype";
     public static final String CONFIG_DIMMER_FADE_TIME = "fadetime";
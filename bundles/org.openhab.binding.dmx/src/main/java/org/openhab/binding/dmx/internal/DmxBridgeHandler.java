@@ -17,11 +17,10 @@ import static org.openhab.binding.dmx.internal.DmxBindingConstants.CHANNEL_MUTE;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.concurrent.ScheduledFuture;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
-import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.dmx.internal.action.DmxActions;
 import org.openhab.binding.dmx.internal.action.FadeAction;
 import org.openhab.binding.dmx.internal.action.ResumeAction;
@@ -52,16 +51,31 @@ import org.slf4j.LoggerFactory;
 public abstract class DmxBridgeHandler extends BaseBridgeHandler {
     public static final int DEFAULT_REFRESH_RATE = 20;
 
+    private static final long STATISTICS_INTERVAL = TimeUnit.MINUTES.toNanos(1);
+
     private final Logger logger = LoggerFactory.getLogger(DmxBridgeHandler.class);
+    private final DmxFrameClock frameClock;
 
     protected Universe universe = new Universe(0); // default universe
 
-    private @Nullable ScheduledFuture<?> senderJob;
+    private boolean isScheduled = false;
     private boolean isMuted = false;
-    private int refreshTime = 1000 / DEFAULT_REFRESH_RATE;
+    private long refreshPeriod = TimeUnit.SECONDS.toNanos(1) / DEFAULT_REFRESH_RATE;
+
+    // frame statistics, only accessed from the output thread of the bridge
+    private long statisticsStart = System.nanoTime();
+    private int ticks = 0;
+    private int framesSent = 0;
+    private long latenessSum = 0;
+    private long latenessMax = 0;
 
     protected DmxBridgeHandler(Bridge dmxBridge) {
+        this(dmxBridge, new DmxFrameClock());
+    }
+
+    protected DmxBridgeHandler(Bridge dmxBridge, DmxFrameClock frameClock) {
         super(dmxBridge);
+        this.frameClock = frameClock;
     }
 
     @Override
@@ -140,22 +154,52 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
      */
     protected abstract void sendDmxData();
 
+    /**
+     * check if the bridge sends synchronization packets
+     *
+     * @return true if {@link #sendSync(Set)} needs to be called after each tick
+     */
+    protected boolean hasSync() {
+        return false;
+    }
+
+    /**
+     * send a synchronization packet after all bridges sent their data for the current tick
+     *
+     * @param sentSyncs keys of the synchronization packets already sent in this tick
+     */
+    protected void sendSync(Set<String> sentSyncs) {
+    }
+
+    /**
+     * count a frame sent to the receivers (i.e. not suppressed because it was unchanged) for the statistics
+     */
+    protected void frameSent() {
+        framesSent++;
+    }
+
     /**
      * install the sending and updating scheduler
      */
     protected void installScheduler() {
-        if (senderJob != null) {
+        if (isScheduled) {
             uninstallScheduler();
         }
-        if (refreshTime > 0) {
-            senderJob = scheduler.scheduleAtFixedRate(this::refresh, 1, refreshTime, TimeUnit.MILLISECONDS);
+        if (refreshPeriod > 0) {
+            frameClock.register(this, refreshPeriod);
+            isScheduled = true;
             logger.trace("started scheduler for thing {}", this.thing.getUID());
         } else {
             logger.info("refresh disabled for thing {}", this.thing.getUID());
         }
     }
 
-    private void refresh() {
+    /**
+     * refresh the bridge, called by the frame clock
+     *
+     * @param lateness time in ns since the scheduled refresh time
+     */
+    void refresh(long lateness) {
         try {
             logger.trace("runnable packet sender for universe {} called, state {}/{}", universe.getUniverseId(),
                     getThing().getStatus(), isMuted);
@@ -164,20 +208,57 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
             } else {
                 logger.trace("bridge {} is muted", getThing().getUID());
             }
+            updateStatistics(lateness);
         } catch (RuntimeException e) {
             logger.debug("failed to send DMX data: ", e);
         }
     }
 
+    /**
+     * synchronize the receivers, called by the frame clock after all bridges of a tick were refreshed
+     *
+     * @param sentSyncs keys of the synchronization packets already sent in this tick
+     */
+    void sync(Set<String> sentSyncs) {
+        try {
+            if (!isMuted) {
+                sendSync(sentSyncs);
+            }
+        } catch (RuntimeException e) {
+            logger.debug("failed to send DMX synchronization: ", e);
+        }
+    }
+
+    private void updateStatistics(long lateness) {
+        ticks++;
+        latenessSum += lateness;
+        latenessMax = Math.max(latenessMax, lateness);
+
+        long now = System.nanoTime();
+        long elapsed = now - statisticsStart;
+        if (elapsed >= STATISTICS_INTERVAL) {
+            if (logger.isDebugEnabled()) {
+                logger.debug(
+                        "bridge {}: refreshed with {} Hz, sent {} frames/s, jitter average {} ms, maximum {} ms",
+                        thing.getUID(), String.format("%.1f", ticks * 1e9 / elapsed),
+                        String.format("%.1f", framesSent * 1e9 / elapsed),
+                        String.format("%.2f", latenessSum / 1e6 / ticks), String.format("%.2f", latenessMax / 1e6));
+            }
+            statisticsStart = now;
+            ticks = 0;
+            framesSent = 0;
+            latenessSum = 0;
+            latenessMax = 0;
+        }
+    }
+
     /**
      * uninstall the sending and updating scheduler
      */
     protected void uninstallScheduler() {
-        if (senderJob != null) {
-            if (!senderJob.isCancelled()) {
-                senderJob.cancel(true);
-            }
-            senderJob = null;
+        if (isScheduled) {
+            frameClock.unregister(this);
+            isScheduled = false;
             closeConnection();
             logger.trace("stopping scheduler for thing {}", this.thing.getUID());
         }
@@ -200,12 +281,12 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
 
         int refreshRate = configuration.refreshrate;
         if (refreshRate > 0) {
-            refreshTime = (int) (1000.0 / refreshRate);
+            refreshPeriod = TimeUnit.SECONDS.toNanos(1) / refreshRate;
         } else {
-            refreshTime = 0;
+            refreshPeriod = 0;
         }
 
-        logger.debug("set refreshTime to {} ms in thing {}", refreshTime, this.thing.getUID());
+        logger.debug("set refreshPeriod to {} ns in thing {}", refreshPeriod, this.thing.getUID());
 
         installScheduler();
     }
@@ -0,0 +1,224 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.dmx.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link DmxFrameClock} schedules the refresh of all registered bridges from a single thread. Deadlines are
+ * aligned to a common grid, so bridges with the same refresh rate are refreshed in the same tick and can be
+ * synchronized afterwards.
+ *
+ * The output itself runs on an output thread per bridge. A bridge which is still busy with its previous frame (e.g. a
+ * blocking write) skips the tick, the other bridges are not delayed.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class DmxFrameClock {
+    private static final long IDLE_PARK_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Logger logger = LoggerFactory.getLogger(DmxFrameClock.class);
+    private final NamedThreadFactory threadFactory = new NamedThreadFactory("dmx-clock", true);
+    private final List<Registration> registrations = new CopyOnWriteArrayList<>();
+    private final long epoch = System.nanoTime();
+
+    private volatile @Nullable Thread clockThread;
+    private volatile @Nullable ExecutorService outputExecutor;
+
+    /**
+     * register a bridge, replaces an existing registration of the same bridge
+     *
+     * @param bridge the bridge to refresh
+     * @param periodNanos time between two refreshes in ns
+     */
+    public synchronized void register(DmxBridgeHandler bridge, long periodNanos) {
+        registrations.removeIf(registration -> registration.bridge == bridge);
+        long now = System.nanoTime();
+        long deadline = now + periodNanos - Math.floorMod(now - epoch, periodNanos);
+        registrations.add(new Registration(bridge, periodNanos, deadline));
+
+        Thread clockThread = this.clockThread;
+        if (clockThread == null) {
+            // at most one output thread per bridge is busy, idle threads are removed
+            outputExecutor = Executors.newCachedThreadPool(new NamedThreadFactory("dmx-output", true));
+            clockThread = threadFactory.newThread(this::run);
+            clockThread.setPriority(Thread.MAX_PRIORITY);
+            this.clockThread = clockThread;
+            clockThread.start();
+            logger.debug("started frame clock");
+        } else {
+            LockSupport.unpark(clockThread);
+        }
+    }
+
+    /**
+     * unregister a bridge, the clock thread stops when the last bridge is unregistered
+     *
+     * @param bridge the bridge to remove
+     */
+    public synchronized void unregister(DmxBridgeHandler bridge) {
+        registrations.removeIf(registration -> registration.bridge == bridge);
+        Thread clockThread = this.clockThread;
+        if (registrations.isEmpty() && clockThread != null) {
+            this.clockThread = null;
+            LockSupport.unpark(clockThread);
+            ExecutorService outputExecutor = this.outputExecutor;
+            if (outputExecutor != null) {
+                outputExecutor.shutdown();
+                this.outputExecutor = null;
+            }
+            logger.debug("stopped frame clock");
+        }
+    }
+
+    private void run() {
+        Thread currentThread = Thread.currentThread();
+        List<Registration> dueRegistrations = new ArrayList<>();
+
+        while (clockThread == currentThread) {
+            long now = System.nanoTime();
+            long nextDeadline = now + IDLE_PARK_NANOS;
+            dueRegistrations.clear();
+            for (Registration registration : registrations) {
+                if (registration.deadline - now <= 0) {
+                    dueRegistrations.add(registration);
+                } else if (registration.deadline - nextDeadline < 0) {
+                    nextDeadline = registration.deadline;
+                }
+            }
+            if (dueRegistrations.isEmpty()) {
+                LockSupport.parkNanos(this, nextDeadline - now);
+                continue;
+            }
+
+            List<Registration> syncedRegistrations = new ArrayList<>();
+            List<Registration> startedRegistrations = new ArrayList<>();
+            for (Registration registration : dueRegistrations) {
+                long scheduled = registration.deadline;
+                // skip frames that were missed completely, but stay on the grid
+                registration.deadline += ((now - scheduled) / registration.periodNanos + 1) * registration.periodNanos;
+                if (!registration.busy.compareAndSet(false, true)) {
+                    logger.trace("bridge {} is still sending the previous frame, skipping",
+                            registration.bridge.getThing().getUID());
+                    continue;
+                }
+                registration.scheduled = scheduled;
+                startedRegistrations.add(registration);
+                if (registration.bridge.hasSync()) {
+                    syncedRegistrations.add(registration);
+                }
+            }
+            Tick tick = new Tick(syncedRegistrations);
+            for (Registration registration : startedRegistrations) {
+                Tick registrationTick = syncedRegistrations.contains(registration) ? tick : null;
+                try {
+                    execute(() -> refresh(registration, registrationTick));
+                } catch (RejectedExecutionException e) {
+                    // the clock was stopped
+                    if (registrationTick == null) {
+                        registration.busy.set(false);
+                    } else {
+                        // count it as done, otherwise the tick never completes and the other bridges stay busy
+                        registrationTick.skipped(registration);
+                    }
+                }
+            }
+        }
+    }
+
+    private void execute(Runnable task) {
+        ExecutorService outputExecutor = this.outputExecutor;
+        if (outputExecutor == null) {
+            throw new RejectedExecutionException("frame clock stopped");
+        }
+        outputExecutor.execute(task);
+    }
+
+    private void refresh(Registration registration, @Nullable Tick tick) {
+        try {
+            registration.bridge.refresh(System.nanoTime() - registration.scheduled);
+        } finally {
+            if (tick == null) {
+                registration.busy.set(false);
+            } else {
+                tick.refreshed();
+            }
+        }
+    }
+
+    private static class Registration {
+        private final DmxBridgeHandler bridge;
+        private final long periodNanos;
+        private final AtomicBoolean busy = new AtomicBoolean();
+        private long deadline;
+        private long scheduled;
+
+        public Registration(DmxBridgeHandler bridge, long periodNanos, long deadline) {
+            this.bridge = bridge;
+            this.periodNanos = periodNanos;
+            this.deadline = deadline;
+        }
+    }
+
+    /**
+     * the bridges with synchronization refreshed in one tick, the last bridge which finishes its frame sends the
+     * synchronization packets of all of them
+     */
+    private static class Tick {
+        private final List<Registration> registrations;
+        private final AtomicInteger pending;
+        private final Set<String> sentSyncs = ConcurrentHashMap.newKeySet();
+        private final Set<Registration> skippedRegistrations = ConcurrentHashMap.newKeySet();
+
+        public Tick(List<Registration> registrations) {
+            this.registrations = registrations;
+            this.pending = new AtomicInteger(registrations.size());
+        }
+
+        public void skipped(Registration registration) {
+            skippedRegistrations.add(registration);
+            refreshed();
+        }
+
+        public void refreshed() {
+            if (pending.decrementAndGet() == 0) {
+                for (Registration registration : registrations) {
+                    if (!skippedRegistrations.contains(registration)) {
+                        registration.bridge.sync(sentSyncs);
+                    }
+                }
+                for (Registration registration : registrations) {
+                    registration.busy.set(false);
+                }
+            }
+        }
+    }
+}
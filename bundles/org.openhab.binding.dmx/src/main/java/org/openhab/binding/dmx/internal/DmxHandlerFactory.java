@@ -51,6 +51,8 @@ public class DmxHandlerFactory extends BaseThingHandlerFactory {
                     TunableWhiteThingHandler.SUPPORTED_THING_TYPES)
             .flatMap(Set::stream).collect(Collectors.toUnmodifiableSet());
 
+    private final DmxFrameClock frameClock = new DmxFrameClock();
+
     @Override
     public boolean supportsThingType(ThingTypeUID thingTypeUID) {
         return SUPPORTED_THING_TYPES.contains(thingTypeUID);
@@ -60,11 +62,11 @@ public class DmxHandlerFactory extends BaseThingHandlerFactory {
     protected @Nullable ThingHandler createHandler(Thing thing) {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
         if (thingTypeUID.equals(THING_TYPE_ARTNET_BRIDGE)) {
-            return new ArtnetBridgeHandler((Bridge) thing);
+            return new ArtnetBridgeHandler((Bridge) thing, frameClock);
         } else if (thingTypeUID.equals(THING_TYPE_LIB485_BRIDGE)) {
-            return new Lib485BridgeHandler((Bridge) thing);
+            return new Lib485BridgeHandler((Bridge) thing, frameClock);
         } else if (thingTypeUID.equals(THING_TYPE_SACN_BRIDGE)) {
-            return new SacnBridgeHandler((Bridge) thing);
+            return new SacnBridgeHandler((Bridge) thing, frameClock);
         } else if (thingTypeUID.equals(THING_TYPE_DIMMER)) {
             return new DimmerThingHandler(thing);
         } else if (thingTypeUID.equals(THING_TYPE_COLOR)) {
@@ -26,4 +26,5 @@ public class ArtnetBridgeHandlerConfiguration {
     public String address = "";
     public String localaddress = "";
     public String refreshmode = "standard";
+    public boolean sync = false;
 }
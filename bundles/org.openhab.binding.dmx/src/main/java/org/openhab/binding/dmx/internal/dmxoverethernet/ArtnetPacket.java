@@ -26,6 +26,7 @@ import org.slf4j.LoggerFactory;
 public class ArtnetPacket extends DmxOverEthernetPacket {
     public static final int ARTNET_MAX_PACKET_LEN = 530;
     public static final int ARTNET_MAX_PAYLOAD_SIZE = 512;
+    public static final int ARTNET_SYNC_PACKET_LEN = 14;
 
     private final Logger logger = LoggerFactory.getLogger(ArtnetPacket.class);
 
@@ -105,8 +106,37 @@ public class ArtnetPacket extends DmxOverEthernetPacket {
         setPayload(payload);
     }
 
+    @Override
+    protected int getPayloadOffset() {
+        return 18;
+    }
+
     @Override
     public int getPacketLength() {
         return (18 + this.payloadSize);
     }
+
+    /**
+     * create an ArtSync packet, which tells the nodes to output the last received data of all universes
+     *
+     * @return byte array with raw packet data
+     */
+    public static byte[] createSyncPacket() {
+        byte[] syncPacket = new byte[ARTNET_SYNC_PACKET_LEN];
+        syncPacket[0] = 0x41; // packet identifier, 8 bytes
+        syncPacket[1] = 0x72;
+        syncPacket[2] = 0x74;
+        syncPacket[3] = 0x2d;
+        syncPacket[4] = 0x4e;
+        syncPacket[5] = 0x65;
+        syncPacket[6] = 0x74;
+        syncPacket[7] = 0x00;
+        syncPacket[8] = 0x00; // OpCode, 2 bytes
+        syncPacket[9] = 0x52;
+        syncPacket[10] = 0x00; // protocol version, 2 bytes
+        syncPacket[11] = 0x0e;
+        syncPacket[12] = 0x00; // aux1, 1 byte
+        syncPacket[13] = 0x00; // aux2, 1 byte
+        return syncPacket;
+    }
 }
@@ -18,10 +18,12 @@ import java.net.DatagramSocket;
 import java.net.SocketException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.dmx.internal.DmxBridgeHandler;
+import org.openhab.binding.dmx.internal.DmxFrameClock;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
@@ -36,6 +38,9 @@ import org.slf4j.LoggerFactory;
  */
 @NonNullByDefault
 public abstract class DmxOverEthernetHandler extends DmxBridgeHandler {
+    private static final int KEEPALIVE_INTERVAL = 800;
+    private static final int REPEAT_COUNT = 3;
+
     private final Logger logger = LoggerFactory.getLogger(DmxOverEthernetHandler.class);
 
     protected @Nullable DmxOverEthernetPacket packetTemplate;
@@ -44,10 +49,20 @@ public abstract class DmxOverEthernetHandler extends DmxBridgeHandler {
 
     protected boolean refreshAlways = false;
 
+    // synchronization packet sent after each frame (null if disabled), identified by syncKey
+    protected byte @Nullable [] syncPacket = null;
+    protected String syncKey = "";
+    protected int syncSequenceIndex = -1;
+    protected List<IpNode> syncNodes = new ArrayList<>();
+
     protected @Nullable DatagramSocket socket = null;
+    private @Nullable DatagramPacket sendPacket = null;
+    private @Nullable DatagramPacket syncSendPacket = null;
     private long lastSend = 0;
     private int repeatCounter = 0;
     private int sequenceNo = 0;
+    private int syncSequenceNo = 0;
+    private boolean syncPending = false;
 
     @Override
     protected void openConnection() {
@@ -99,9 +114,9 @@ public abstract class DmxOverEthernetHandler extends DmxBridgeHandler {
             if ((universe.getLastBufferChanged() > lastSend) || refreshAlways) {
                 needsSending = true;
                 repeatCounter = 0;
-            } else if (now - lastSend > 800) {
+            } else if (now - lastSend > KEEPALIVE_INTERVAL) {
                 needsSending = true;
-            } else if (repeatCounter < 3) {
+            } else if (repeatCounter < REPEAT_COUNT) {
                 needsSending = true;
                 repeatCounter++;
             }
@@ -112,37 +127,88 @@ public abstract class DmxOverEthernetHandler extends DmxBridgeHandler {
                             thing.getUID());
                     return;
                 }
-                packetTemplate.setPayload(universe.getBuffer(), universe.getBufferSize());
+                packetTemplate.setPayload(universe);
                 packetTemplate.setSequence(sequenceNo);
-                DatagramPacket sendPacket = new DatagramPacket(packetTemplate.getRawPacket(),
-                        packetTemplate.getPacketLength());
+                DatagramPacket sendPacket = this.sendPacket;
+                if (sendPacket == null || sendPacket.getData() != packetTemplate.getRawPacket()) {
+                    sendPacket = new DatagramPacket(packetTemplate.getRawPacket(), packetTemplate.getPacketLength());
+                    this.sendPacket = sendPacket;
+                }
+                sendPacket.setLength(packetTemplate.getPacketLength());
                 for (IpNode receiverNode : receiverNodes) {
                     sendPacket.setAddress(receiverNode.getAddress());
                     sendPacket.setPort(receiverNode.getPort());
                     logger.trace("sending packet with length {} to {}", packetTemplate.getPacketLength(),
                             receiverNode.toString());
-                    try {
-                        DatagramSocket socket = this.socket;
-                        if (socket != null) {
-                            socket.send(sendPacket);
-                        } else {
-                            throw new IOException("Socket for sending not set.");
-                        }
-                    } catch (IOException e) {
-                        logger.debug("Could not send to {} in {}: {}", receiverNode, this.thing.getUID(),
-                                e.getMessage());
-                        closeConnection(ThingStatusDetail.COMMUNICATION_ERROR, "could not send DMX data");
+                    if (!send(sendPacket, receiverNode)) {
+                        return;
                     }
                 }
                 lastSend = now;
                 sequenceNo = (sequenceNo + 1) % 256;
+                syncPending = true;
+                frameSent();
             }
         } else {
             openConnection();
         }
     }
 
+    @Override
+    protected boolean hasSync() {
+        return syncPacket != null;
+    }
+
+    @Override
+    protected void sendSync(Set<String> sentSyncs) {
+        byte[] syncPacket = this.syncPacket;
+        if (syncPacket == null || !syncPending || getThing().getStatus() != ThingStatus.ONLINE) {
+            return;
+        }
+        syncPending = false;
+        if (syncSequenceIndex >= 0) {
+            syncPacket[syncSequenceIndex] = (byte) syncSequenceNo;
+            syncSequenceNo = (syncSequenceNo + 1) % 256;
+        }
+        DatagramPacket sendPacket = this.syncSendPacket;
+        if (sendPacket == null || sendPacket.getData() != syncPacket) {
+            sendPacket = new DatagramPacket(syncPacket, syncPacket.length);
+            this.syncSendPacket = sendPacket;
+        }
+        for (IpNode syncNode : syncNodes) {
+            // bridges sharing a receiver and synchronization only need to send it once per tick
+            if (sentSyncs.add(syncKey + "@" + syncNode)) {
+                sendPacket.setAddress(syncNode.getAddress());
+                sendPacket.setPort(syncNode.getPort());
+                logger.trace("sending sync packet to {}", syncNode);
+                if (!send(sendPacket, syncNode)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private boolean send(DatagramPacket packet, IpNode receiverNode) {
+        try {
+            DatagramSocket socket = this.socket;
+            if (socket != null) {
+                socket.send(packet);
+            } else {
+                throw new IOException("Socket for sending not set.");
+            }
+            return true;
+        } catch (IOException e) {
+            logger.debug("Could not send to {} in {}: {}", receiverNode, this.thing.getUID(), e.getMessage());
+            closeConnection(ThingStatusDetail.COMMUNICATION_ERROR, "could not send DMX data");
+            return false;
+        }
+    }
+
     public DmxOverEthernetHandler(Bridge sacnBridge) {
         super(sacnBridge);
     }
+
+    public DmxOverEthernetHandler(Bridge sacnBridge, DmxFrameClock frameClock) {
+        super(sacnBridge, frameClock);
+    }
 }
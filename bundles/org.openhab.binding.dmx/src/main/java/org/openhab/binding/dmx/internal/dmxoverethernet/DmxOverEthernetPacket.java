@@ -13,6 +13,7 @@
 package org.openhab.binding.dmx.internal.dmxoverethernet;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.dmx.internal.multiverse.Universe;
 
 /**
  * The {@link DmxOverEthernetPacket} is an abstract class for
@@ -62,6 +63,25 @@ public abstract class DmxOverEthernetPacket {
      */
     public abstract void setPayload(byte[] payload, int payloadSize);
 
+    /**
+     * set payload data from the current buffer of a universe
+     *
+     * @param universe the universe to copy the channel data from
+     */
+    public void setPayload(Universe universe) {
+        if (universe.getBufferSize() != payloadSize) {
+            setPayloadSize(universe.getBufferSize());
+        }
+        universe.copyBuffer(rawPacket, getPayloadOffset(), payloadSize);
+    }
+
+    /**
+     * get position of the DMX payload in the packet
+     *
+     * @return offset of the first DMX channel
+     */
+    protected abstract int getPayloadOffset();
+
     /**
      * get packet for transmission
      *
@@ -32,6 +32,8 @@ import org.slf4j.LoggerFactory;
 public class SacnPacket extends DmxOverEthernetPacket {
     public static final int SACN_MAX_PACKET_LEN = 638;
     public static final int SACN_MAX_PAYLOAD_SIZE = 512;
+    public static final int SACN_SYNC_PACKET_LEN = 49;
+    public static final int SACN_SYNC_SEQUENCE_INDEX = 44;
 
     private final Logger logger = LoggerFactory.getLogger(SacnPacket.class);
 
@@ -86,7 +88,7 @@ public class SacnPacket extends DmxOverEthernetPacket {
             rawPacket[i] = 0x00;
         }
         rawPacket[108] = 0x64; // priority (default 100), 1 byte
-        rawPacket[109] = 0x00; // reserved, 2 bytes
+        rawPacket[109] = 0x00; // synchronization address, 2 bytes
         rawPacket[110] = 0x00;
         rawPacket[111] = 0x00; // sequence number, 1 byte
         rawPacket[112] = 0x00; // options, 1 byte
@@ -166,6 +168,17 @@ public class SacnPacket extends DmxOverEthernetPacket {
         logger.debug("set packet priority to {}", priority);
     }
 
+    /**
+     * set synchronization universe
+     *
+     * @param syncUniverse universe of the synchronization packets (1-63999), 0 disables synchronization
+     */
+    public void setSyncUniverse(int syncUniverse) {
+        rawPacket[109] = (byte) (syncUniverse / 256);
+        rawPacket[110] = (byte) (syncUniverse % 256);
+        logger.debug("set packet synchronization universe to {}", syncUniverse);
+    }
+
     @Override
     public void setPayload(byte[] payload) {
         System.arraycopy(payload, 0, rawPacket, 126, payloadSize);
@@ -179,8 +192,69 @@ public class SacnPacket extends DmxOverEthernetPacket {
         setPayload(payload);
     }
 
+    @Override
+    protected int getPayloadOffset() {
+        return 126;
+    }
+
     @Override
     public int getPacketLength() {
         return (126 + this.payloadSize);
     }
+
+    /**
+     * create a synchronization packet, which tells the receivers to output the last received data of all universes
+     * with this synchronization universe
+     *
+     * @param uuid UUID of the sender
+     * @param syncUniverse the synchronization universe (1-63999)
+     * @return byte array with raw packet data, the sequence number is at {@link #SACN_SYNC_SEQUENCE_INDEX}
+     */
+    public static byte[] createSyncPacket(UUID uuid, int syncUniverse) {
+        byte[] syncPacket = new byte[SACN_SYNC_PACKET_LEN];
+
+        /* E1.31 root layer, total length 38 bytes */
+        syncPacket[0] = 0x00; // preamble size, 2 bytes
+        syncPacket[1] = 0x10;
+        syncPacket[2] = 0x00; // postamble size, 2 bytes
+        syncPacket[3] = 0x00;
+        syncPacket[4] = 0x41; // packet identifier, 12 bytes
+        syncPacket[5] = 0x53;
+        syncPacket[6] = 0x43;
+        syncPacket[7] = 0x2d;
+        syncPacket[8] = 0x45;
+        syncPacket[9] = 0x31;
+        syncPacket[10] = 0x2e;
+        syncPacket[11] = 0x31;
+        syncPacket[12] = 0x37;
+        syncPacket[13] = 0x00;
+        syncPacket[14] = 0x00;
+        syncPacket[15] = 0x00;
+        syncPacket[16] = 0x70; // flags & length, 2 bytes
+        syncPacket[17] = 0x21;
+        syncPacket[18] = 0x00; // vector (extended), 4 bytes;
+        syncPacket[19] = 0x00;
+        syncPacket[20] = 0x00;
+        syncPacket[21] = 0x08;
+
+        // UUID 16 bytes
+        ByteBuffer uuidBytes = ByteBuffer.wrap(new byte[16]);
+        uuidBytes.putLong(uuid.getMostSignificantBits());
+        uuidBytes.putLong(uuid.getLeastSignificantBits());
+        System.arraycopy(uuidBytes.array(), 0, syncPacket, 22, 16);
+
+        /* E1.31 synchronization framing layer, total length 11 bytes */
+        syncPacket[38] = 0x70; // flags & length, 2 bytes
+        syncPacket[39] = 0x0b;
+        syncPacket[40] = 0x00; // vector, 4 bytes
+        syncPacket[41] = 0x00;
+        syncPacket[42] = 0x00;
+        syncPacket[43] = 0x01;
+        syncPacket[44] = 0x00; // sequence number, 1 byte
+        syncPacket[45] = (byte) (syncUniverse / 256); // synchronization address, 2 bytes
+        syncPacket[46] = (byte) (syncUniverse % 256);
+        syncPacket[47] = 0x00; // reserved, 2 bytes
+        syncPacket[48] = 0x00;
+        return syncPacket;
+    }
 }
@@ -17,6 +17,7 @@ import static org.openhab.binding.dmx.internal.DmxBindingConstants.THING_TYPE_AR
 import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.dmx.internal.DmxFrameClock;
 import org.openhab.binding.dmx.internal.config.ArtnetBridgeHandlerConfiguration;
 import org.openhab.binding.dmx.internal.dmxoverethernet.ArtnetNode;
 import org.openhab.binding.dmx.internal.dmxoverethernet.ArtnetPacket;
@@ -48,6 +49,10 @@ public class ArtnetBridgeHandler extends DmxOverEthernetHandler {
         super(artnetBridge);
     }
 
+    public ArtnetBridgeHandler(Bridge artnetBridge, DmxFrameClock frameClock) {
+        super(artnetBridge, frameClock);
+    }
+
     @Override
     protected void updateConfiguration() {
         ArtnetBridgeHandlerConfiguration configuration = getConfig().as(ArtnetBridgeHandlerConfiguration.class);
@@ -86,6 +91,15 @@ public class ArtnetBridgeHandler extends DmxOverEthernetHandler {
 
         logger.debug("refresh mode set to always: {}", refreshAlways);
 
+        if (configuration.sync) {
+            syncPacket = ArtnetPacket.createSyncPacket();
+            syncKey = "artnet";
+            syncNodes = receiverNodes;
+        } else {
+            syncPacket = null;
+        }
+        logger.debug("synchronization enabled: {}", configuration.sync);
+
         updateStatus(ThingStatus.UNKNOWN);
         super.updateConfiguration();
 
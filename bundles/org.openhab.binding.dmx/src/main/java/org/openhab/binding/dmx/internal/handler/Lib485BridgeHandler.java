@@ -23,6 +23,7 @@ import java.util.Set;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.dmx.internal.DmxBridgeHandler;
+import org.openhab.binding.dmx.internal.DmxFrameClock;
 import org.openhab.binding.dmx.internal.config.Lib485BridgeHandlerConfiguration;
 import org.openhab.binding.dmx.internal.dmxoverethernet.IpNode;
 import org.openhab.binding.dmx.internal.multiverse.Universe;
@@ -48,11 +49,16 @@ public class Lib485BridgeHandler extends DmxBridgeHandler {
 
     private final Logger logger = LoggerFactory.getLogger(Lib485BridgeHandler.class);
     private final Map<IpNode, @Nullable Socket> receiverNodes = new HashMap<>();
+    private final byte[] frame = new byte[Universe.MAX_UNIVERSE_SIZE];
 
     public Lib485BridgeHandler(Bridge lib485Bridge) {
         super(lib485Bridge);
     }
 
+    public Lib485BridgeHandler(Bridge lib485Bridge, DmxFrameClock frameClock) {
+        super(lib485Bridge, frameClock);
+    }
+
     @Override
     protected void openConnection() {
         if (getThing().getStatus() != ThingStatus.ONLINE) {
@@ -103,11 +109,13 @@ public class Lib485BridgeHandler extends DmxBridgeHandler {
         if (getThing().getStatus() == ThingStatus.ONLINE) {
             long now = System.currentTimeMillis();
             universe.calculateBuffer(now);
+            int frameLength = universe.getBufferSize();
+            universe.copyBuffer(frame, 0, frameLength);
             for (IpNode receiverNode : receiverNodes.keySet()) {
                 Socket socket = receiverNodes.get(receiverNode);
                 if (socket != null && socket.isConnected()) {
                     try {
-                        socket.getOutputStream().write(universe.getBuffer());
+                        socket.getOutputStream().write(frame, 0, frameLength);
                     } catch (IOException e) {
                         logger.debug("Could not send to {} in {}: {}", receiverNode, this.thing.getUID(),
                                 e.getMessage());
@@ -119,6 +127,7 @@ public class Lib485BridgeHandler extends DmxBridgeHandler {
                     return;
                 }
             }
+            frameSent();
         } else {
             openConnection();
         }
@@ -15,10 +15,13 @@ package org.openhab.binding.dmx.internal.handler;
 import static org.openhab.binding.dmx.internal.DmxBindingConstants.THING_TYPE_SACN_BRIDGE;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.dmx.internal.DmxFrameClock;
+import org.openhab.binding.dmx.internal.Util;
 import org.openhab.binding.dmx.internal.config.SacnBridgeHandlerConfiguration;
 import org.openhab.binding.dmx.internal.dmxoverethernet.DmxOverEthernetHandler;
 import org.openhab.binding.dmx.internal.dmxoverethernet.DmxOverEthernetPacket;
@@ -52,6 +55,11 @@ public class SacnBridgeHandler extends DmxOverEthernetHandler {
         senderUUID = UUID.randomUUID();
     }
 
+    public SacnBridgeHandler(Bridge sacnBridge, DmxFrameClock frameClock) {
+        super(sacnBridge, frameClock);
+        senderUUID = UUID.randomUUID();
+    }
+
     @Override
     protected void updateConfiguration() {
         SacnBridgeHandlerConfiguration configuration = getConfig().as(SacnBridgeHandlerConfiguration.class);
@@ -93,6 +101,23 @@ public class SacnBridgeHandler extends DmxOverEthernetHandler {
         refreshAlways = "always".equals(configuration.refreshmode);
         logger.debug("refresh mode set to always: {}", refreshAlways);
 
+        int syncUniverse = configuration.syncuniverse == 0 ? 0
+                : Util.coerceToRange(configuration.syncuniverse, MIN_UNIVERSE_ID, MAX_UNIVERSE_ID, logger,
+                        "syncUniverse");
+        if (packetTemplate instanceof SacnPacket sacnPacket) {
+            sacnPacket.setSyncUniverse(syncUniverse);
+        }
+        if (syncUniverse > 0) {
+            syncPacket = SacnPacket.createSyncPacket(senderUUID, syncUniverse);
+            // receivers only accept synchronization from the source of the data
+            syncKey = "sacn:" + senderUUID + ":" + syncUniverse;
+            syncSequenceIndex = SacnPacket.SACN_SYNC_SEQUENCE_INDEX;
+            syncNodes = "unicast".equals(configuration.mode) ? receiverNodes
+                    : List.of(SacnNode.getBroadcastNode(syncUniverse));
+        } else {
+            syncPacket = null;
+        }
+
         updateStatus(ThingStatus.UNKNOWN);
         super.updateConfiguration();
 
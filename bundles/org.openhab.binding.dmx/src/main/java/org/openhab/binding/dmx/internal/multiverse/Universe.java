@@ -13,6 +13,7 @@
 package org.openhab.binding.dmx.internal.multiverse;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.locks.ReentrantLock;
@@ -40,14 +41,17 @@ public class Universe {
     private int universeId;
     private int bufferSize = MIN_UNIVERSE_SIZE;
 
-    private final short[] buffer = new short[MAX_UNIVERSE_SIZE];
     private final short[] cie1931Curve = new short[DmxChannel.MAX_VALUE << 8 + 1];
 
+    // new values are calculated in the working frame, the bridges read a published copy without taking the lock
+    private final byte[] workingFrame = new byte[MAX_UNIVERSE_SIZE];
+    private volatile byte[] publishedFrame = new byte[MAX_UNIVERSE_SIZE];
+
     private long bufferChanged;
     private int refreshTime = DEFAULT_REFRESH_TIME;
 
     private final List<DmxChannel> channels = new ArrayList<>();
-    private final List<Integer> applyCurve = new ArrayList<>();
+    private final BitSet applyCurve = new BitSet(MAX_UNIVERSE_SIZE + 1);
 
     /**
      * universe constructor
@@ -179,6 +183,7 @@ public class Universe {
      * @param time the timestamp used for calculation
      */
     public void calculateBuffer(long time) {
+        boolean changed = false;
         universeLock.lock();
         try {
             for (DmxChannel channel : channels) {
@@ -186,21 +191,37 @@ public class Universe {
                 int channelId = channel.getChannelId();
                 int vx = channel.getNewHiResValue(time);
                 int value;
-                if (applyCurve.contains(channelId)) {
+                if (applyCurve.get(channelId)) {
                     value = cie1931Curve[vx];
                 } else {
                     value = vx >> 8;
                 }
-                if (buffer[channelId - 1] != value) {
-                    buffer[channelId - 1] = (short) value;
-                    bufferChanged = time;
+                if ((workingFrame[channelId - 1] & 0xff) != value) {
+                    workingFrame[channelId - 1] = (byte) value;
+                    changed = true;
                 }
             }
+            if (changed) {
+                // a published frame is never written again, so readers can copy it while the next one is calculated
+                publishedFrame = workingFrame.clone();
+                bufferChanged = time;
+            }
         } finally {
             universeLock.unlock();
         }
     }
 
+    /**
+     * copy the universe buffer to a given array
+     *
+     * @param target the array to copy the channel values to
+     * @param offset the position of the first channel in the target array
+     * @param length number of channels to copy
+     */
+    public void copyBuffer(byte[] target, int offset, int length) {
+        System.arraycopy(publishedFrame, 0, target, offset, length);
+    }
+
     /**
      * get the full universe buffer
      *
@@ -208,14 +229,7 @@ public class Universe {
      */
     public byte[] getBuffer() {
         byte[] b = new byte[bufferSize];
-        universeLock.lock();
-        try {
-            for (int i = 0; i < bufferSize; i++) {
-                b[i] = (byte) buffer[i];
-            }
-        } finally {
-            universeLock.unlock();
-        }
+        copyBuffer(b, 0, bufferSize);
         return b;
     }
 
@@ -227,7 +241,7 @@ public class Universe {
     public void setDimCurveChannels(String listString) {
         applyCurve.clear();
         for (BaseDmxChannel channel : BaseDmxChannel.fromString(listString, universeId)) {
-            applyCurve.add(channel.getChannelId());
+            applyCurve.set(channel.getChannelId());
         }
         logger.debug("applying dim curve in universe {} to channels {}", universeId, applyCurve);
     }
@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.dmx.internal.multiverse;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.openhab.core.thing.Thing;
+
+/**
+ * Tests cases for Universe
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class UniverseTest {
+    private @NonNullByDefault({}) Universe universe;
+    private @NonNullByDefault({}) DmxChannel channel1;
+    private @NonNullByDefault({}) DmxChannel channel5;
+
+    @BeforeEach
+    public void setup() {
+        Thing thing = Mockito.mock(Thing.class);
+        universe = new Universe(0);
+        channel1 = universe.registerChannel(new BaseDmxChannel(0, 1), thing);
+        channel5 = universe.registerChannel(new BaseDmxChannel(0, 5), thing);
+    }
+
+    @Test
+    public void changedChannelsAreCopied() {
+        long time = System.currentTimeMillis();
+        channel1.setValue(10);
+        channel5.setValue(50);
+        universe.calculateBuffer(time);
+
+        byte[] target = new byte[2 + universe.getBufferSize()];
+        universe.copyBuffer(target, 2, universe.getBufferSize());
+        assertThat(target[2], is((byte) 10));
+        assertThat(target[6], is((byte) 50));
+        assertThat(universe.getLastBufferChanged(), is(time));
+
+        // values set in earlier frames are kept when other channels change
+        channel5.setValue(200);
+        universe.calculateBuffer(time + 1);
+        universe.copyBuffer(target, 2, universe.getBufferSize());
+        assertThat(target[2], is((byte) 10));
+        assertThat(target[6], is((byte) 200));
+
+        channel1.setValue(20);
+        universe.calculateBuffer(time + 2);
+        assertThat(universe.getBuffer()[0], is((byte) 20));
+        assertThat(universe.getBuffer()[4], is((byte) 200));
+    }
+
+    @Test
+    public void unchangedFrameKeepsTimestamp() {
+        long time = System.currentTimeMillis();
+        channel1.setValue(10);
+        universe.calculateBuffer(time);
+        universe.calculateBuffer(time + 1000);
+
+        assertThat(universe.getLastBufferChanged(), is(time));
+        assertThat(universe.getBuffer()[0], is((byte) 10));
+    }
+}
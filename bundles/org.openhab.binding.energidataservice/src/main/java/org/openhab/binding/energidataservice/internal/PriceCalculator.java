@@ -18,6 +18,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -28,6 +29,7 @@ import javax.measure.quantity.Energy;
 import javax.measure.quantity.Power;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.energidataservice.internal.exception.MissingPriceException;
 import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.unit.Units;
@@ -123,57 +125,90 @@ public class PriceCalculator {
     public Map<String, Object> calculateCheapestPeriod(Instant earliestStart, Instant latestEnd,
             Collection<Duration> durationPhases, Collection<QuantityType<Power>> consumptionPhases)
             throws MissingPriceException {
+        return calculateCheapestPeriod(earliestStart, latestEnd, durationPhases, consumptionPhases, true);
+    }
+
+    /**
+     * Calculate cheapest period from list of durations with corresponding list of consumption
+     * per duration.
+     *
+     * All candidate start times are first estimated from cumulative prices (prefix sums), so that
+     * only the candidates which may be the cheapest or most expensive are calculated exactly.
+     * The result is the same as when calculating all candidates exactly.
+     *
+     * @param earliestStart Earliest allowed start time.
+     * @param latestEnd Latest allowed end time.
+     * @param durationPhases List of {@link Duration}'s representing different phases of using power.
+     * @param consumptionPhases Corresponding List of power consumption for the duration of time.
+     * @param estimate Estimate candidates before calculating them exactly.
+     *
+     * @return Map containing resulting values
+     */
+    Map<String, Object> calculateCheapestPeriod(Instant earliestStart, Instant latestEnd,
+            Collection<Duration> durationPhases, Collection<QuantityType<Power>> consumptionPhases, boolean estimate)
+            throws MissingPriceException {
         if (durationPhases.size() != consumptionPhases.size()) {
             throw new IllegalArgumentException("Number of phases do not match");
         }
         Map<String, Object> result = new HashMap<>();
         Duration totalDuration = durationPhases.stream().reduce(Duration.ZERO, Duration::plus);
+        List<Instant> candidates = new ArrayList<>();
         Instant calculationStart = earliestStart;
         Instant calculationEnd = earliestStart.plus(totalDuration);
-        BigDecimal lowestPrice = BigDecimal.valueOf(Double.MAX_VALUE);
-        BigDecimal highestPrice = BigDecimal.ZERO;
-        Instant cheapestStart = Instant.MIN;
-        Instant mostExpensiveStart = Instant.MIN;
 
         while (calculationEnd.compareTo(latestEnd) <= 0) {
-            BigDecimal currentPrice = BigDecimal.ZERO;
+            candidates.add(calculationStart);
             Duration minDurationUntilNextHour = Duration.ofHours(1);
             Instant atomStart = calculationStart;
 
-            Iterator<Duration> durationIterator = durationPhases.iterator();
-            Iterator<QuantityType<Power>> consumptionIterator = consumptionPhases.iterator();
-            while (durationIterator.hasNext()) {
-                Duration atomDuration = durationIterator.next();
-                QuantityType<Power> atomConsumption = consumptionIterator.next();
-
-                Instant atomEnd = atomStart.plus(atomDuration);
-                Instant hourStart = atomStart.truncatedTo(ChronoUnit.HOURS);
-                Instant hourEnd = hourStart.plus(1, ChronoUnit.HOURS);
+            for (Duration atomDuration : durationPhases) {
+                Instant hourEnd = atomStart.truncatedTo(ChronoUnit.HOURS).plus(1, ChronoUnit.HOURS);
 
                 // Get next intersection with hourly rate change.
                 Duration durationUntilNextHour = Duration.between(atomStart, hourEnd);
                 if (durationUntilNextHour.compareTo(minDurationUntilNextHour) < 0) {
                     minDurationUntilNextHour = durationUntilNextHour;
                 }
-
-                BigDecimal atomPrice = calculatePrice(atomStart, atomEnd, atomConsumption);
-                currentPrice = currentPrice.add(atomPrice);
-                atomStart = atomEnd;
+                atomStart = atomStart.plus(atomDuration);
             }
 
+            // Now fast forward to next hourly rate intersection.
+            calculationStart = calculationStart.plus(minDurationUntilNextHour);
+            calculationEnd = calculationStart.plus(totalDuration);
+        }
+
+        if (candidates.isEmpty()) {
+            return result;
+        }
+
+        BitSet selected = new BitSet(candidates.size());
+        Instant lastEnd = candidates.get(candidates.size() - 1).plus(totalDuration);
+        PriceProfile profile = estimate ? PriceProfile.of(priceMap, candidates.get(0), lastEnd) : null;
+        if (profile == null) {
+            selected.set(0, candidates.size());
+        } else {
+            selectCandidates(profile, candidates, durationPhases, consumptionPhases, selected);
+        }
+
+        BigDecimal lowestPrice = BigDecimal.valueOf(Double.MAX_VALUE);
+        BigDecimal highestPrice = BigDecimal.ZERO;
+        Instant cheapestStart = Instant.MIN;
+        Instant mostExpensiveStart = Instant.MIN;
+
+        for (int i = selected.nextSetBit(0); i >= 0; i = selected.nextSetBit(i + 1)) {
+            Instant candidate = candidates.get(i);
+            BigDecimal currentPrice = calculatePrice(candidate, durationPhases, consumptionPhases);
+
             if (currentPrice.compareTo(lowestPrice) < 0) {
                 lowestPrice = currentPrice;
-                cheapestStart = calculationStart;
+                cheapestStart = candidate;
             }
             if (currentPrice.compareTo(highestPrice) > 0) {
                 highestPrice = currentPrice;
-                mostExpensiveStart = calculationStart;
+                mostExpensiveStart = candidate;
             }
-
-            // Now fast forward to next hourly rate intersection.
-            calculationStart = calculationStart.plus(minDurationUntilNextHour);
-            calculationEnd = calculationStart.plus(totalDuration);
         }
+        logger.trace("Calculated {} of {} candidates exactly", selected.cardinality(), candidates.size());
 
         if (!cheapestStart.equals(Instant.MIN)) {
             result.put("CheapestStart", cheapestStart);
@@ -185,6 +220,88 @@ public class PriceCalculator {
         return result;
     }
 
+    /**
+     * Estimate the price of all candidates and select the candidates which may be the
+     * cheapest or the most expensive.
+     *
+     * The estimate differs from the exact price by less than the rounding of the exact
+     * price per hour and the truncation to whole seconds, so every candidate within twice
+     * this error of the lowest or highest estimate is selected. Durations are whole seconds
+     * when the earliest start and all phases are, since candidates start at hour boundaries.
+     */
+    private void selectCandidates(PriceProfile profile, List<Instant> candidates, Collection<Duration> durationPhases,
+            Collection<QuantityType<Power>> consumptionPhases, BitSet selected) {
+        int phases = durationPhases.size();
+        long[] offsets = new long[phases + 1];
+        double[] watts = new double[phases];
+        double maxWatt = 0;
+        boolean wholeSeconds = candidates.get(0).getNano() == 0;
+        Iterator<Duration> durationIterator = durationPhases.iterator();
+        Iterator<QuantityType<Power>> consumptionIterator = consumptionPhases.iterator();
+        for (int i = 0; i < phases; i++) {
+            Duration duration = durationIterator.next();
+            offsets[i + 1] = offsets[i] + duration.toNanos();
+            wholeSeconds &= duration.getNano() == 0;
+            QuantityType<Power> quantityInWatt = consumptionIterator.next().toUnit(Units.WATT);
+            if (quantityInWatt == null) {
+                // Let the exact calculation report the invalid unit.
+                selected.set(0, candidates.size());
+                return;
+            }
+            watts[i] = quantityInWatt.intValue();
+            maxWatt = Math.max(maxWatt, Math.abs(watts[i]));
+        }
+
+        double[] estimates = new double[candidates.size()];
+        double lowest = Double.MAX_VALUE;
+        double highest = -Double.MAX_VALUE;
+        for (int c = 0; c < estimates.length; c++) {
+            Instant candidate = candidates.get(c);
+            long startSecond = candidate.getEpochSecond();
+            long startNano = candidate.getNano();
+            double estimate = 0;
+            double phaseStart = profile.cumulativePrice(startSecond, startNano);
+            for (int i = 0; i < phases; i++) {
+                long end = startNano + offsets[i + 1];
+                double phaseEnd = profile.cumulativePrice(startSecond + end / 1_000_000_000L, end % 1_000_000_000L);
+                estimate += watts[i] * (phaseEnd - phaseStart);
+                phaseStart = phaseEnd;
+            }
+            estimates[c] = estimate / 3600000;
+            lowest = Math.min(lowest, estimates[c]);
+            highest = Math.max(highest, estimates[c]);
+        }
+
+        // Each phase is split at every hour, and each part is rounded and truncated to whole seconds.
+        double parts = 2 * phases + offsets[phases] / 3_600_000_000_000L + 1;
+        double error = parts * profile.getMaxAbsPrice() * maxWatt * (wholeSeconds ? 5e-10 : 1.0 / 3600000 + 5e-10)
+                + 1e-9 * (Math.abs(lowest) + Math.abs(highest));
+        for (int c = 0; c < estimates.length; c++) {
+            if (estimates[c] <= lowest + 2 * error || estimates[c] >= highest - 2 * error) {
+                selected.set(c);
+            }
+        }
+    }
+
+    /**
+     * Calculate total price of the phases starting at 'start'.
+     */
+    private BigDecimal calculatePrice(Instant start, Collection<Duration> durationPhases,
+            Collection<QuantityType<Power>> consumptionPhases) throws MissingPriceException {
+        BigDecimal price = BigDecimal.ZERO;
+        Instant atomStart = start;
+
+        Iterator<Duration> durationIterator = durationPhases.iterator();
+        Iterator<QuantityType<Power>> consumptionIterator = consumptionPhases.iterator();
+        while (durationIterator.hasNext()) {
+            Instant atomEnd = atomStart.plus(durationIterator.next());
+            price = price.add(calculatePrice(atomStart, atomEnd, consumptionIterator.next()));
+            atomStart = atomEnd;
+        }
+
+        return price;
+    }
+
     /**
      * Calculate total price from 'start' to 'end' given linear power consumption.
      *
@@ -235,4 +352,66 @@ public class PriceCalculator {
 
         return result;
     }
+
+    /**
+     * Hourly prices with cumulative sums for estimating the price of any period in constant time.
+     */
+    static class PriceProfile {
+        private final long firstHour;
+        private final double[] prices;
+        private final double[] cumulativePrices;
+        private final double maxAbsPrice;
+
+        private PriceProfile(long firstHour, double[] prices) {
+            this.firstHour = firstHour;
+            this.prices = prices;
+            this.cumulativePrices = new double[prices.length + 1];
+            double max = 0;
+            for (int i = 0; i < prices.length; i++) {
+                cumulativePrices[i + 1] = cumulativePrices[i] + prices[i] * 3600;
+                max = Math.max(max, Math.abs(prices[i]));
+            }
+            this.maxAbsPrice = max;
+        }
+
+        /**
+         * Create profile covering 'start' to 'end'. An 'end' on an hour boundary does not
+         * require the price of the hour starting there.
+         *
+         * @return profile or null if a price is missing
+         */
+        static @Nullable PriceProfile of(Map<Instant, BigDecimal> priceMap, Instant start, Instant end) {
+            Instant hourStart = start.truncatedTo(ChronoUnit.HOURS);
+            Duration span = Duration.between(hourStart, end);
+            int hours = (int) span.toHours();
+            if (span.compareTo(Duration.ofHours(hours)) > 0) {
+                hours++;
+            }
+            double[] prices = new double[hours];
+            for (int i = 0; i < hours; i++) {
+                BigDecimal price = priceMap.get(hourStart.plus(i, ChronoUnit.HOURS));
+                if (price == null) {
+                    return null;
+                }
+                prices[i] = price.doubleValue();
+            }
+            return new PriceProfile(hourStart.getEpochSecond(), prices);
+        }
+
+        /**
+         * Sum of price multiplied by seconds from the first hour until the given time.
+         */
+        double cumulativePrice(long epochSecond, long nano) {
+            long second = epochSecond - firstHour;
+            int hour = (int) Math.min(second / 3600, prices.length);
+            if (hour == prices.length) {
+                return cumulativePrices[hour];
+            }
+            return cumulativePrices[hour] + prices[hour] * ((second - hour * 3600L) + nano / 1e9);
+        }
+
+        double getMaxAbsPrice() {
+            return maxAbsPrice;
+        }
+    }
 }
@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.energidataservice.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import javax.measure.quantity.Power;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.energidataservice.internal.exception.MissingPriceException;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.unit.Units;
+
+/**
+ * Tests for {@link PriceCalculator}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PriceCalculatorTest {
+
+    private static final Instant FIRST_HOUR = Instant.parse("2023-02-05T00:00:00Z");
+
+    @Test
+    void calculateCheapestPeriodEstimatedEqualsExact() throws MissingPriceException {
+        Random random = new Random(42);
+        for (int run = 0; run < 50; run++) {
+            PriceCalculator priceCalculator = new PriceCalculator(createPrices(random, 48, run % 2 == 0));
+
+            List<Duration> durations = new ArrayList<>();
+            List<QuantityType<Power>> consumptions = new ArrayList<>();
+            int phases = 1 + random.nextInt(8);
+            for (int i = 0; i < phases; i++) {
+                durations.add(Duration.ofMinutes(1 + random.nextInt(90)));
+                consumptions.add(QuantityType.valueOf(random.nextInt(4) * 750 + random.nextInt(200), Units.WATT));
+            }
+            Instant earliestStart = FIRST_HOUR.plus(random.nextInt(600), ChronoUnit.MINUTES);
+            Instant latestEnd = FIRST_HOUR.plus(36, ChronoUnit.HOURS);
+
+            Map<String, Object> expected = priceCalculator.calculateCheapestPeriod(earliestStart, latestEnd, durations,
+                    consumptions, false);
+            Map<String, Object> actual = priceCalculator.calculateCheapestPeriod(earliestStart, latestEnd, durations,
+                    consumptions, true);
+            assertThat(actual.isEmpty(), is(false));
+            assertThat(actual, is(equalTo(expected)));
+        }
+    }
+
+    @Test
+    void calculateCheapestPeriodEqualPricesReturnsFirstStart() throws MissingPriceException {
+        Map<Instant, BigDecimal> prices = new HashMap<>();
+        for (int i = 0; i < 24; i++) {
+            prices.put(FIRST_HOUR.plus(i, ChronoUnit.HOURS), new BigDecimal("1.5"));
+        }
+        PriceCalculator priceCalculator = new PriceCalculator(prices);
+
+        Instant earliestStart = FIRST_HOUR.plus(17, ChronoUnit.MINUTES);
+        Map<String, Object> actual = priceCalculator.calculateCheapestPeriod(earliestStart,
+                FIRST_HOUR.plus(20, ChronoUnit.HOURS), List.of(Duration.ofMinutes(30), Duration.ofMinutes(75)),
+                List.of(QuantityType.valueOf(2000, Units.WATT), QuantityType.valueOf(500, Units.WATT)));
+        assertThat(actual.get("CheapestStart"), is(equalTo(earliestStart)));
+        assertThat(actual.get("MostExpensiveStart"), is(equalTo(earliestStart)));
+    }
+
+    @Test
+    void priceProfileEndingAtLastPriceHourIsCreated() {
+        Map<Instant, BigDecimal> prices = createPrices(new Random(7), 10, false);
+
+        assertThat(PriceCalculator.PriceProfile.of(prices, FIRST_HOUR.plus(30, ChronoUnit.MINUTES),
+                FIRST_HOUR.plus(10, ChronoUnit.HOURS)), is(notNullValue()));
+        assertThat(PriceCalculator.PriceProfile.of(prices, FIRST_HOUR.plus(30, ChronoUnit.MINUTES),
+                FIRST_HOUR.plus(10, ChronoUnit.HOURS).plusSeconds(1)), is(nullValue()));
+    }
+
+    @Test
+    void calculateCheapestPeriodEndingAtLastPriceHourEstimatedEqualsExact() throws MissingPriceException {
+        PriceCalculator priceCalculator = new PriceCalculator(createPrices(new Random(3), 10, false));
+        Instant earliestStart = FIRST_HOUR.plus(25, ChronoUnit.MINUTES);
+        Instant latestEnd = FIRST_HOUR.plus(10, ChronoUnit.HOURS);
+        List<Duration> durations = List.of(Duration.ofMinutes(45), Duration.ofMinutes(80));
+        List<QuantityType<Power>> consumptions = List.of(QuantityType.valueOf(1800, Units.WATT),
+                QuantityType.valueOf(400, Units.WATT));
+
+        Map<String, Object> expected = priceCalculator.calculateCheapestPeriod(earliestStart, latestEnd, durations,
+                consumptions, false);
+        Map<String, Object> actual = priceCalculator.calculateCheapestPeriod(earliestStart, latestEnd, durations,
+                consumptions, true);
+        assertThat(actual.isEmpty(), is(false));
+        assertThat(actual, is(equalTo(expected)));
+    }
+
+    @Test
+    void calculateCheapestPeriodMissingPrice() {
+        Map<Instant, BigDecimal> prices = createPrices(new Random(1), 10, false);
+        PriceCalculator priceCalculator = new PriceCalculator(prices);
+
+        assertThrows(MissingPriceException.class,
+                () -> priceCalculator.calculateCheapestPeriod(FIRST_HOUR, FIRST_HOUR.plus(12, ChronoUnit.HOURS),
+                        List.of(Duration.ofMinutes(90)), List.of(QuantityType.valueOf(1000, Units.WATT))));
+    }
+
+    private Map<Instant, BigDecimal> createPrices(Random random, int hours, boolean allowNegative) {
+        Map<Instant, BigDecimal> prices = new HashMap<>();
+        for (int i = 0; i < hours; i++) {
+            int price = random.nextInt(400000) - (allowNegative ? 50000 : 0);
+            prices.put(FIRST_HOUR.plus(i, ChronoUnit.HOURS), BigDecimal.valueOf(price, 5));
+        }
+        return prices;
+    }
+}
@@ -14,8 +14,14 @@ package org.openhab.binding.enocean.internal.eep;
 
 import static org.openhab.binding.enocean.internal.messages.ESP3Packet.*;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -48,34 +54,74 @@ public class EEPFactory {
 
     private static final Logger logger = LoggerFactory.getLogger(EEPFactory.class);
 
-    public static EEP createEEP(EEPType eepType) {
-        try {
+    // constructors of all implemented EEPs, resolved once instead of looking them up for every telegram
+    private static final Map<EEPType, Supplier<EEP>> EEP_CONSTRUCTORS = new EnumMap<>(EEPType.class);
+    private static final Map<EEPType, Function<ERP1Message, EEP>> EEP_MESSAGE_CONSTRUCTORS = new EnumMap<>(
+            EEPType.class);
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        for (EEPType eepType : EEPType.values()) {
             Class<? extends EEP> cl = eepType.getEEPClass();
             if (cl == null) {
-                throw new IllegalArgumentException("Message " + eepType + " not implemented");
+                continue;
+            }
+            try {
+                MethodHandle constructor = lookup.findConstructor(cl, MethodType.methodType(void.class))
+                        .asType(MethodType.methodType(EEP.class));
+                EEP_CONSTRUCTORS.put(eepType, () -> {
+                    try {
+                        return (EEP) constructor.invokeExact();
+                    } catch (RuntimeException | Error e) {
+                        throw e;
+                    } catch (Throwable e) {
+                        throw new IllegalArgumentException(e);
+                    }
+                });
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                // EEP can only be received
+            }
+            try {
+                MethodHandle constructor = lookup
+                        .findConstructor(cl, MethodType.methodType(void.class, ERP1Message.class))
+                        .asType(MethodType.methodType(EEP.class, ERP1Message.class));
+                EEP_MESSAGE_CONSTRUCTORS.put(eepType, packet -> {
+                    try {
+                        return (EEP) constructor.invokeExact(packet);
+                    } catch (RuntimeException | Error e) {
+                        throw e;
+                    } catch (Throwable e) {
+                        throw new IllegalArgumentException(e);
+                    }
+                });
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                // EEP can only be sent
             }
-            return cl.getDeclaredConstructor().newInstance();
-        } catch (IllegalAccessException | InstantiationException | IllegalArgumentException | InvocationTargetException
-                | NoSuchMethodException | SecurityException e) {
-            throw new IllegalArgumentException(e);
         }
     }
 
+    public static EEP createEEP(EEPType eepType) {
+        Supplier<EEP> constructor = EEP_CONSTRUCTORS.get(eepType);
+        if (constructor == null) {
+            throw new IllegalArgumentException("Message " + eepType + " not implemented");
+        }
+        return constructor.get();
+    }
+
     public static EEP buildEEP(EEPType eepType, ERP1Message packet) {
         try {
-            Class<? extends EEP> cl = eepType.getEEPClass();
-            if (cl == null) {
+            Function<ERP1Message, EEP> constructor = EEP_MESSAGE_CONSTRUCTORS.get(eepType);
+            if (constructor == null) {
                 throw new IllegalArgumentException("Message " + eepType + " not implemented");
             }
-            return cl.getConstructor(ERP1Message.class).newInstance(packet);
-        } catch (IllegalAccessException | InstantiationException | IllegalArgumentException | InvocationTargetException
-                | NoSuchMethodException | SecurityException e) {
+            return constructor.apply(packet);
+        } catch (IllegalArgumentException e) {
             logger.error("Cannot instantiate EEP {}-{}-{}: {}",
                     HexUtils.bytesToHex(new byte[] { eepType.getRORG().getValue() }),
                     HexUtils.bytesToHex(new byte[] { (byte) eepType.getFunc() }),
                     HexUtils.bytesToHex(new byte[] { (byte) eepType.getType() }), e.getMessage());
 
-            throw new IllegalArgumentException(e);
+            throw e;
         }
     }
 
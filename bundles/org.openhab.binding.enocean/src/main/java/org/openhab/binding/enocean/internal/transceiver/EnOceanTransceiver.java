@@ -15,11 +15,12 @@ package org.openhab.binding.enocean.internal.transceiver;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
 import java.util.TooManyListenersException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
@@ -156,8 +157,9 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
     @Nullable
     Request currentRequest = null;
 
-    protected Map<Long, HashSet<PacketListener>> listeners;
-    protected HashSet<EventListener> eventListeners;
+    // listeners are read for every received telegram but rarely change, so dispatching needs no lock
+    protected Map<Long, Set<PacketListener>> listeners;
+    protected Set<EventListener> eventListeners;
     protected @Nullable TeachInListener teachInListener;
 
     protected @Nullable InputStream inputStream;
@@ -171,8 +173,8 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
             @Nullable SerialPortManager serialPortManager) {
         requestQueue = new RequestQueue(scheduler);
 
-        listeners = new HashMap<>();
-        eventListeners = new HashSet<>();
+        listeners = new ConcurrentHashMap<>();
+        eventListeners = new CopyOnWriteArraySet<>();
         teachInListener = null;
 
         this.errorListener = errorListener;
@@ -365,12 +367,13 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
                             return;
                         }
 
-                        long s = Long.parseLong(HexUtils.bytesToHex(senderId), 16);
-                        synchronized (this) {
-                            HashSet<PacketListener> pl = listeners.get(s);
-                            if (pl != null) {
-                                pl.forEach(l -> l.packetReceived(msg));
-                            }
+                        long s = 0;
+                        for (byte b : senderId) {
+                            s = (s << 8) | (b & 0xFF);
+                        }
+                        Set<PacketListener> pl = listeners.get(s);
+                        if (pl != null) {
+                            pl.forEach(l -> l.packetReceived(msg));
                         }
                     }
                 } else {
@@ -400,9 +403,7 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
                     }
                 }
 
-                synchronized (this) {
-                    eventListeners.forEach(l -> l.eventReceived(event));
-                }
+                eventListeners.forEach(l -> l.eventReceived(event));
             }
         } catch (Exception e) {
             logger.error("Exception in informListeners", e);
@@ -447,27 +448,28 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
 
     protected abstract byte[] serializePacket(BasePacket packet) throws EnOceanException;
 
-    public synchronized void addPacketListener(PacketListener listener, long senderIdToListenTo) {
-        if (listeners.computeIfAbsent(senderIdToListenTo, k -> new HashSet<>()).add(listener)) {
-            logger.debug("Listener added: {}", senderIdToListenTo);
-        }
+    public void addPacketListener(PacketListener listener, long senderIdToListenTo) {
+        listeners.compute(senderIdToListenTo, (k, pl) -> {
+            Set<PacketListener> result = pl != null ? pl : new CopyOnWriteArraySet<>();
+            if (result.add(listener)) {
+                logger.debug("Listener added: {}", k);
+            }
+            return result;
+        });
     }
 
-    public synchronized void removePacketListener(PacketListener listener, long senderIdToListenTo) {
-        HashSet<PacketListener> pl = listeners.get(senderIdToListenTo);
-        if (pl != null) {
+    public void removePacketListener(PacketListener listener, long senderIdToListenTo) {
+        listeners.computeIfPresent(senderIdToListenTo, (k, pl) -> {
             pl.remove(listener);
-            if (pl.isEmpty()) {
-                listeners.remove(senderIdToListenTo);
-            }
-        }
+            return pl.isEmpty() ? null : pl;
+        });
     }
 
-    public synchronized void addEventMessageListener(EventListener listener) {
+    public void addEventMessageListener(EventListener listener) {
         eventListeners.add(listener);
     }
 
-    public synchronized void removeEventMessageListener(EventListener listener) {
+    public void removeEventMessageListener(EventListener listener) {
         eventListeners.remove(listener);
     }
 
@@ -26,6 +26,7 @@ import java.util.IllegalFormatException;
 import java.util.Objects;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -84,12 +85,24 @@ public class ExecHandler extends BaseThingHandler {
     public static final String COMMAND = "command";
     public static final String TRANSFORM = "transform";
     public static final String AUTORUN = "autorun";
+    public static final String PERSISTENT = "persistent";
+    public static final String DELIMITER = "delimiter";
 
     // RegEx to extract a parse a function String <code>'(.*?)\((.*)\)'</code>
     private static final Pattern EXTRACT_FUNCTION_PATTERN = Pattern.compile("(.*?)\\((.*)\\)");
 
     private @Nullable ScheduledFuture<?> executionJob;
     private @Nullable String lastInput;
+    private @Nullable ExecProcess process;
+
+    // statistics of the persistent process, guarded by this
+    private static final long STATISTICS_LOG_INTERVAL = 60000;
+    private long executions;
+    private long restarts;
+    private long timeouts;
+    private long totalResponseTime;
+    private long firstExecution;
+    private long lastStatisticsLog;
 
     private static Runtime rt = Runtime.getRuntime();
 
@@ -144,6 +157,15 @@ public class ExecHandler extends BaseThingHandler {
             executionJob.cancel(true);
             executionJob = null;
         }
+        stopProcess();
+    }
+
+    private synchronized void stopProcess() {
+        ExecProcess process = this.process;
+        if (process != null) {
+            process.stop();
+            this.process = null;
+        }
     }
 
     public void execute() {
@@ -158,7 +180,9 @@ public class ExecHandler extends BaseThingHandler {
             timeOut = ((BigDecimal) getConfig().get(TIME_OUT)).intValue() * 1000;
         }
 
-        if (commandLine != null && !commandLine.isEmpty()) {
+        if (commandLine != null && !commandLine.isEmpty() && Boolean.TRUE.equals(getConfig().get(PERSISTENT))) {
+            executePersistent(commandLine, timeOut);
+        } else if (commandLine != null && !commandLine.isEmpty()) {
             updateState(RUN, OnOffType.ON);
 
             // For some obscure reason, when using Apache Common Exec, or using a straight implementation of
@@ -186,43 +210,9 @@ public class ExecHandler extends BaseThingHandler {
                 return;
             }
 
-            String[] cmdArray;
-            String[] shell;
-            if (commandLine.contains(CMD_LINE_DELIMITER)) {
-                logger.debug("Splitting by '{}'", CMD_LINE_DELIMITER);
-                try {
-                    cmdArray = commandLine.split(CMD_LINE_DELIMITER);
-                } catch (PatternSyntaxException e) {
-                    logger.warn("An exception occurred while splitting '{}' : '{}'", commandLine, e.getMessage());
-                    updateState(RUN, OnOffType.OFF);
-                    updateState(OUTPUT, new StringType(e.getMessage()));
-                    return;
-                }
-            } else {
-                // Invoke shell with 'c' option and pass string
-                logger.debug("Passing to shell for parsing command.");
-                switch (getOperatingSystemType()) {
-                    case WINDOWS:
-                        shell = SHELL_WINDOWS;
-                        logger.debug("OS: WINDOWS ({})", getOperatingSystemName());
-                        cmdArray = createCmdArray(shell, "/c", commandLine);
-                        break;
-                    case LINUX:
-                    case MAC:
-                    case BSD:
-                    case SOLARIS:
-                        // assume sh is present, should all be POSIX-compliant
-                        shell = SHELL_NIX;
-                        logger.debug("OS: *NIX ({})", getOperatingSystemName());
-                        cmdArray = createCmdArray(shell, "-c", commandLine);
-                        break;
-                    default:
-                        logger.debug("OS: Unknown ({})", getOperatingSystemName());
-                        logger.warn("OS {} not supported, please manually split commands!", getOperatingSystemName());
-                        updateState(RUN, OnOffType.OFF);
-                        updateState(OUTPUT, new StringType("OS not supported, please manually split commands!"));
-                        return;
-                }
+            String[] cmdArray = splitCommandLine(commandLine);
+            if (cmdArray == null) {
+                return;
             }
 
             if (cmdArray.length == 0) {
@@ -279,7 +269,7 @@ public class ExecHandler extends BaseThingHandler {
             }
 
             if (!exitVal) {
-                logger.warn("Forcibly termininating the process ('{}') after a timeout of {} ms", commandLine, timeOut);
+                logger.warn("Forcibly terminating the process ('{}') after a timeout of {} ms", commandLine, timeOut);
                 proc.destroyForcibly();
             }
 
@@ -290,18 +280,181 @@ public class ExecHandler extends BaseThingHandler {
 
             outputBuilder.append(errorBuilder.toString());
 
-            String transformedResponse = Objects.requireNonNull(StringUtils.chomp(outputBuilder.toString()));
-            String transformation = (String) getConfig().get(TRANSFORM);
+            updateOutput(Objects.requireNonNull(StringUtils.chomp(outputBuilder.toString())));
+        }
+    }
+
+    /**
+     * Executes a request against the long-running process, (re)starting it if needed. The last command sent to the
+     * input channel is written to the stdin of the process and its response is used as output.
+     *
+     * @param commandLine the command line used to start the process
+     * @param timeOut the time, in milliseconds, to wait for a response
+     */
+    private void executePersistent(String commandLine, int timeOut) {
+        ExecProcess process = getOrStartProcess(commandLine);
+        if (process == null) {
+            return;
+        }
 
-            if (transformation != null && transformation.length() > 0) {
-                transformedResponse = transformResponse(transformedResponse, transformation);
+        updateState(RUN, OnOffType.ON);
+
+        String input = lastInput;
+        long start = System.currentTimeMillis();
+        // the response is awaited without holding the handler monitor, so stopProcess() is not blocked
+        try {
+            String response = process.execute(input != null ? input : "", timeOut);
+            recordExecution(start, false);
+            updateState(RUN, OnOffType.OFF);
+            updateOutput(response);
+        } catch (TimeoutException e) {
+            logger.warn("Forcibly terminating the process ('{}') after a timeout of {} ms", commandLine, timeOut);
+            recordExecution(start, true);
+            process.stop();
+            updateState(RUN, OnOffType.OFF);
+        } catch (IOException e) {
+            logger.warn("An exception occurred while communicating with the process ('{}') : '{}'", commandLine,
+                    e.getMessage());
+            process.stop();
+            updateState(RUN, OnOffType.OFF);
+            updateState(OUTPUT, new StringType(e.getMessage()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the running process, (re)starting it if needed.
+     *
+     * @param commandLine the command line used to start the process
+     * @return the running process or <code>null</code> if it could not be started
+     */
+    private synchronized @Nullable ExecProcess getOrStartProcess(String commandLine) {
+        ExecProcess process = this.process;
+        if (process != null && process.isAlive()) {
+            return process;
+        }
+        if (process != null) {
+            Integer exitValue = process.exitValue();
+            logger.debug("The process ('{}') terminated with exit value {}, restarting it", commandLine, exitValue);
+            if (exitValue != null) {
+                updateState(EXIT, new DecimalType(exitValue));
             }
+            restarts++;
+        }
+
+        String[] cmdArray = splitCommandLine(commandLine);
+        if (cmdArray == null) {
+            return null;
+        }
 
-            updateState(OUTPUT, new StringType(transformedResponse));
+        if (cmdArray.length == 0) {
+            logger.trace("Empty command received, not executing");
+            return null;
+        }
 
-            DateTimeType stampType = new DateTimeType(ZonedDateTime.now());
-            updateState(LAST_EXECUTION, stampType);
+        logger.trace("The process to be started will be '{}'", Arrays.asList(cmdArray));
+
+        process = new ExecProcess(cmdArray, "OH-binding-" + getThing().getUID(), (String) getConfig().get(DELIMITER));
+        try {
+            process.start();
+        } catch (IOException e) {
+            logger.warn("An exception occurred while starting '{}' : '{}'", Arrays.asList(cmdArray), e.getMessage());
+            updateState(OUTPUT, new StringType(e.getMessage()));
+            return null;
+        }
+        this.process = process;
+        return process;
+    }
+
+    /**
+     * Records the statistics of an execution of the persistent process, they are logged at most once per minute.
+     *
+     * @param start time the request was sent, in milliseconds
+     * @param timedOut true if the process did not answer in time
+     */
+    private synchronized void recordExecution(long start, boolean timedOut) {
+        long now = System.currentTimeMillis();
+        if (firstExecution == 0) {
+            firstExecution = start;
+        }
+        if (timedOut) {
+            timeouts++;
+        } else {
+            executions++;
+            totalResponseTime += now - start;
+        }
+        if (logger.isDebugEnabled() && now - lastStatisticsLog >= STATISTICS_LOG_INTERVAL) {
+            lastStatisticsLog = now;
+            long elapsedMinutes = Math.max(1, (now - firstExecution) / 60000);
+            logger.debug(
+                    "Process statistics for {}: {} executions ({} per minute), average response time {} ms, {} timeouts, {} restarts",
+                    getThing().getUID(), executions, executions / elapsedMinutes,
+                    executions > 0 ? totalResponseTime / executions : 0, timeouts, restarts);
+        }
+    }
+
+    private void updateOutput(String output) {
+        String transformedResponse = output;
+        String transformation = (String) getConfig().get(TRANSFORM);
+
+        if (transformation != null && transformation.length() > 0) {
+            transformedResponse = transformResponse(transformedResponse, transformation);
+        }
+
+        updateState(OUTPUT, new StringType(transformedResponse));
+
+        DateTimeType stampType = new DateTimeType(ZonedDateTime.now());
+        updateState(LAST_EXECUTION, stampType);
+    }
+
+    /**
+     * Splits the command line into a command array, either by the {@link #CMD_LINE_DELIMITER} or by passing it to
+     * the shell of the operating system.
+     *
+     * @param commandLine the formatted command line
+     * @return the command array or <code>null</code> if the command line could not be split
+     */
+    private String @Nullable [] splitCommandLine(String commandLine) {
+        String[] cmdArray;
+        String[] shell;
+        if (commandLine.contains(CMD_LINE_DELIMITER)) {
+            logger.debug("Splitting by '{}'", CMD_LINE_DELIMITER);
+            try {
+                cmdArray = commandLine.split(CMD_LINE_DELIMITER);
+            } catch (PatternSyntaxException e) {
+                logger.warn("An exception occurred while splitting '{}' : '{}'", commandLine, e.getMessage());
+                updateState(RUN, OnOffType.OFF);
+                updateState(OUTPUT, new StringType(e.getMessage()));
+                return null;
+            }
+        } else {
+            // Invoke shell with 'c' option and pass string
+            logger.debug("Passing to shell for parsing command.");
+            switch (getOperatingSystemType()) {
+                case WINDOWS:
+                    shell = SHELL_WINDOWS;
+                    logger.debug("OS: WINDOWS ({})", getOperatingSystemName());
+                    cmdArray = createCmdArray(shell, "/c", commandLine);
+                    break;
+                case LINUX:
+                case MAC:
+                case BSD:
+                case SOLARIS:
+                    // assume sh is present, should all be POSIX-compliant
+                    shell = SHELL_NIX;
+                    logger.debug("OS: *NIX ({})", getOperatingSystemName());
+                    cmdArray = createCmdArray(shell, "-c", commandLine);
+                    break;
+                default:
+                    logger.debug("OS: Unknown ({})", getOperatingSystemName());
+                    logger.warn("OS {} not supported, please manually split commands!", getOperatingSystemName());
+                    updateState(RUN, OnOffType.OFF);
+                    updateState(OUTPUT, new StringType("OS not supported, please manually split commands!"));
+                    return null;
+            }
         }
+        return cmdArray;
     }
 
     protected @Nullable String transformResponse(String response, String transformation) {
@@ -0,0 +1,205 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.exec.internal.handler;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ExecProcess} wraps a long-running child process which is fed requests on its stdin and answers them on
+ * its stdout. A response is either a single line or, if a delimiter is configured, all lines up to a line equal to
+ * the delimiter.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ExecProcess {
+    // queued after the last line of the process output
+    private static final Optional<String> END_OF_STREAM = Optional.empty();
+
+    private final Logger logger = LoggerFactory.getLogger(ExecProcess.class);
+
+    private final String[] cmdArray;
+    private final String threadName;
+    private final @Nullable String delimiter;
+    private final Charset charset = Charset.defaultCharset();
+    // serializes the requests, separate from the monitor so stop() does not wait for a pending response
+    private final Object requestLock = new Object();
+
+    private volatile BlockingQueue<Optional<String>> lines = new LinkedBlockingQueue<>();
+    private volatile @Nullable Process process;
+
+    /**
+     * Create a new process wrapper. The process is not started until {@link #start()} is called.
+     *
+     * @param cmdArray the command array used to start the process
+     * @param threadName the base name of the threads consuming the process output
+     * @param delimiter the line terminating a response, or <code>null</code> for single-line responses
+     */
+    public ExecProcess(String[] cmdArray, String threadName, @Nullable String delimiter) {
+        this.cmdArray = cmdArray;
+        this.threadName = threadName;
+        this.delimiter = delimiter == null || delimiter.isEmpty() ? null : delimiter;
+    }
+
+    /**
+     * Start the child process and the threads draining its stdout and stderr.
+     *
+     * @throws IOException if the process could not be started
+     */
+    public synchronized void start() throws IOException {
+        // a fresh queue per process, so a late end of stream marker of a previous process is not picked up
+        BlockingQueue<Optional<String>> lines = new LinkedBlockingQueue<>();
+        Process process = new ProcessBuilder(cmdArray).start();
+        this.process = process;
+        this.lines = lines;
+
+        Thread stdoutReader = new Thread(() -> {
+            try (BufferedReader br = new BufferedReader(new InputStreamReader(process.getInputStream(), charset))) {
+                String line;
+                while ((line = br.readLine()) != null) {
+                    lines.add(Optional.of(line));
+                }
+            } catch (IOException e) {
+                logger.debug("Reading stdout of '{}' stopped: {}", Arrays.asList(cmdArray), e.getMessage());
+            }
+            lines.add(END_OF_STREAM);
+        }, threadName + "-stdout");
+        stdoutReader.setDaemon(true);
+        stdoutReader.start();
+
+        Thread stderrReader = new Thread(() -> {
+            try (BufferedReader br = new BufferedReader(new InputStreamReader(process.getErrorStream(), charset))) {
+                String line;
+                while ((line = br.readLine()) != null) {
+                    logger.debug("Exec [{}]: '{}'", "ERROR", line);
+                }
+            } catch (IOException e) {
+                logger.debug("Reading stderr of '{}' stopped: {}", Arrays.asList(cmdArray), e.getMessage());
+            }
+        }, threadName + "-stderr");
+        stderrReader.setDaemon(true);
+        stderrReader.start();
+    }
+
+    /**
+     * Check if the child process is running.
+     *
+     * @return true if the process has been started and has not terminated yet
+     */
+    public synchronized boolean isAlive() {
+        Process process = this.process;
+        return process != null && process.isAlive();
+    }
+
+    /**
+     * Get the exit value of the terminated process.
+     *
+     * @return the exit value, or <code>null</code> if the process was never started or is still running
+     */
+    public synchronized @Nullable Integer exitValue() {
+        Process process = this.process;
+        if (process == null || process.isAlive()) {
+            return null;
+        }
+        return process.exitValue();
+    }
+
+    /**
+     * Write a request to the stdin of the process and wait for the framed response.
+     *
+     * @param request the request, a line terminator is appended
+     * @param timeout the maximum time to wait for the complete response, in milliseconds
+     * @return the response, lines separated by <code>\n</code>
+     * @throws IOException if the request could not be written or the process terminated before answering
+     * @throws TimeoutException if the response was not complete within the timeout
+     * @throws InterruptedException if interrupted while waiting for the response
+     */
+    public String execute(String request, long timeout) throws IOException, TimeoutException, InterruptedException {
+        synchronized (requestLock) {
+            Process process = this.process;
+            BlockingQueue<Optional<String>> lines = this.lines;
+            if (process == null || !process.isAlive()) {
+                throw new IOException("Process is not running");
+            }
+
+            // drop unsolicited output left over from a previous request
+            lines.clear();
+
+            OutputStream stdin = process.getOutputStream();
+            stdin.write((request + "\n").getBytes(charset));
+            stdin.flush();
+
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+            StringBuilder responseBuilder = new StringBuilder();
+            while (true) {
+                Optional<String> next = lines.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    throw new TimeoutException("No complete response within " + timeout + " ms");
+                } else if (next.isEmpty()) {
+                    throw new IOException("Process terminated while waiting for a response");
+                }
+                String line = next.get();
+                logger.debug("Exec [{}]: '{}'", "OUTPUT", line);
+                String delimiter = this.delimiter;
+                if (delimiter == null) {
+                    return line;
+                } else if (delimiter.equals(line)) {
+                    return responseBuilder.toString();
+                }
+                if (responseBuilder.length() > 0) {
+                    responseBuilder.append("\n");
+                }
+                responseBuilder.append(line);
+            }
+        }
+    }
+
+    /**
+     * Terminate the process, forcibly if it does not exit after closing its stdin.
+     */
+    public synchronized void stop() {
+        Process process = this.process;
+        if (process == null) {
+            return;
+        }
+        try {
+            process.getOutputStream().close();
+            if (!process.waitFor(1, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (IOException e) {
+            process.destroyForcibly();
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+        this.process = null;
+        // wake up a request still waiting for a response, the output may be held open by a child process
+        lines.add(END_OF_STREAM);
+    }
+}
@@ -0,0 +1,158 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.exec.internal.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+/**
+ * Tests for the lifecycle and the response framing of the {@link ExecProcess}, using scripted child processes.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@DisabledOnOs(OS.WINDOWS)
+public class ExecProcessTest {
+    private static final long TIMEOUT = 5000;
+
+    private @Nullable ExecProcess process;
+
+    @AfterEach
+    public void tearDown() {
+        ExecProcess process = this.process;
+        if (process != null) {
+            process.stop();
+        }
+    }
+
+    @Test
+    public void testSingleLineResponses() throws Exception {
+        ExecProcess process = start(null, "cat");
+
+        assertTrue(process.isAlive());
+        assertNull(process.exitValue());
+        assertEquals("first", process.execute("first", TIMEOUT));
+        assertEquals("second request", process.execute("second request", TIMEOUT));
+    }
+
+    @Test
+    public void testDelimitedResponses() throws Exception {
+        ExecProcess process = start("END", "sh", "-c",
+                "while read -r line; do echo \"$line\"; echo \"$line $line\"; echo END; done");
+
+        assertEquals("a\na a", process.execute("a", TIMEOUT));
+        assertEquals("b\nb b", process.execute("b", TIMEOUT));
+    }
+
+    @Test
+    public void testEmptyDelimiterMeansSingleLine() throws Exception {
+        ExecProcess process = start("", "cat");
+
+        assertEquals("x", process.execute("x", TIMEOUT));
+    }
+
+    @Test
+    public void testUnsolicitedOutputIsDropped() throws Exception {
+        ExecProcess process = start(null, "sh", "-c", "echo banner; while read -r line; do echo \"$line\"; done");
+
+        // wait until the banner has been read, it must not be taken as the response
+        Thread.sleep(500);
+        assertEquals("request", process.execute("request", TIMEOUT));
+    }
+
+    @Test
+    public void testTimeout() throws Exception {
+        ExecProcess process = start("END", "cat");
+
+        // the delimiter is never written, so the response is never complete
+        assertThrows(TimeoutException.class, () -> process.execute("line", 200));
+        assertTrue(process.isAlive());
+    }
+
+    @Test
+    public void testProcessExitWhileWaiting() throws Exception {
+        ExecProcess process = start(null, "sh", "-c", "read -r line; exit 3");
+
+        assertThrows(IOException.class, () -> process.execute("line", TIMEOUT));
+        waitForExit(process);
+        assertEquals(3, process.exitValue());
+    }
+
+    @Test
+    public void testRestartAfterExit() throws Exception {
+        ExecProcess process = start(null, "sh", "-c", "read -r line; echo \"$line\"; exit 0");
+
+        assertEquals("once", process.execute("once", TIMEOUT));
+        waitForExit(process);
+        assertEquals(0, process.exitValue());
+        assertThrows(IOException.class, () -> process.execute("again", TIMEOUT));
+
+        process.start();
+        assertTrue(process.isAlive());
+        assertEquals("again", process.execute("again", TIMEOUT));
+    }
+
+    @Test
+    public void testStop() throws Exception {
+        ExecProcess process = start(null, "cat");
+
+        process.stop();
+        assertFalse(process.isAlive());
+        assertNull(process.exitValue());
+        assertThrows(IOException.class, () -> process.execute("line", TIMEOUT));
+    }
+
+    @Test
+    public void testStopWakesUpPendingRequest() throws Exception {
+        ExecProcess process = start("END", "cat");
+
+        Thread stopper = new Thread(() -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                return;
+            }
+            process.stop();
+        });
+        stopper.start();
+        long start = System.nanoTime();
+        assertThrows(IOException.class, () -> process.execute("line", TIMEOUT));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < TIMEOUT);
+        stopper.join();
+    }
+
+    private ExecProcess start(@Nullable String delimiter, String... cmdArray) throws IOException {
+        ExecProcess process = new ExecProcess(cmdArray, "exec-test", delimiter);
+        this.process = process;
+        process.start();
+        return process;
+    }
+
+    private void waitForExit(ExecProcess process) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (process.isAlive() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertFalse(process.isAlive());
+    }
+}
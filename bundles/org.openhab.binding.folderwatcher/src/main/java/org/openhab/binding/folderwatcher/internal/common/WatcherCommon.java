@@ -17,6 +17,10 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -61,4 +65,13 @@ public class WatcherCommon {
             }
         }
     }
+
+    public static void saveListing(Collection<String> listing, File listingFile, String watchDir) throws IOException {
+        List<String> sortedListing = new ArrayList<>(listing);
+        Collections.sort(sortedListing);
+        File tempFile = new File(listingFile.getPath() + ".tmp");
+        initFile(tempFile, watchDir);
+        saveNewListing(sortedListing, tempFile);
+        Files.move(tempFile.toPath(), listingFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
 }
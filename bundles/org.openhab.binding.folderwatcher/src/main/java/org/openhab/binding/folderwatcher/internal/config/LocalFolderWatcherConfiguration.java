@@ -25,4 +25,6 @@ public class LocalFolderWatcherConfiguration {
     public boolean listHiddenLocal;
     public int pollIntervalLocal;
     public boolean listRecursiveLocal;
+    public boolean watchLocal;
+    public int reconcileIntervalLocal = 3600;
 }
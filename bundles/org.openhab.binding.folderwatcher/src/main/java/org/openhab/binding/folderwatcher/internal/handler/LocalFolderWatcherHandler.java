@@ -16,14 +16,24 @@ import static org.openhab.binding.folderwatcher.internal.FolderWatcherBindingCon
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
 import java.nio.file.FileVisitResult;
 import java.nio.file.FileVisitor;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -50,12 +60,18 @@ import org.slf4j.LoggerFactory;
  */
 @NonNullByDefault
 public class LocalFolderWatcherHandler extends BaseThingHandler {
+    private static final int MIN_STALE_ENTRIES = 1000;
+
     private final Logger logger = LoggerFactory.getLogger(LocalFolderWatcherHandler.class);
     private LocalFolderWatcherConfiguration config = new LocalFolderWatcherConfiguration();
     private File currentLocalListingFile = new File(OpenHAB.getUserDataFolder() + File.separator + "FolderWatcher"
             + File.separator + thing.getUID().getAsString().replace(':', '_') + ".data");
     private @Nullable ScheduledFuture<?> executionJob;
-    private List<String> previousLocalListing = new ArrayList<>();
+    private @Nullable ScheduledFuture<?> reconcileJob;
+    private @Nullable WatchService watchService;
+    private final Map<WatchKey, Path> watchedDirs = new HashMap<>();
+    private Set<String> previousLocalListing = new HashSet<>();
+    private int storedEntries;
 
     public LocalFolderWatcherHandler(Thing thing) {
         super(thing);
@@ -79,22 +95,45 @@ public class LocalFolderWatcherHandler extends BaseThingHandler {
             return;
         }
         try {
-            previousLocalListing = WatcherCommon.initStorage(currentLocalListingFile, config.localDir);
+            List<String> storedListing = WatcherCommon.initStorage(currentLocalListingFile, config.localDir);
+            previousLocalListing = new HashSet<>(storedListing);
+            storedEntries = storedListing.size();
         } catch (IOException e) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
             logger.debug("Can't write file {}: {}", currentLocalListingFile, e.getMessage());
             return;
         }
 
-        if (config.pollIntervalLocal > 0) {
-            updateStatus(ThingStatus.ONLINE);
-            executionJob = scheduler.scheduleWithFixedDelay(this::refreshFolderInformation, config.pollIntervalLocal,
-                    config.pollIntervalLocal, TimeUnit.SECONDS);
-        } else {
+        if (config.pollIntervalLocal <= 0) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
                     "Polling interval can't be null or negative");
             return;
         }
+
+        if (config.watchLocal) {
+            if (config.reconcileIntervalLocal <= 0) {
+                updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
+                        "Reconciliation interval can't be null or negative");
+                return;
+            }
+            try {
+                watchService = FileSystems.getDefault().newWatchService();
+            } catch (IOException e) {
+                updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
+                logger.debug("Can't create watch service for {}: {}", config.localDir, e.getMessage());
+                return;
+            }
+            updateStatus(ThingStatus.ONLINE);
+            // the first reconciliation registers all directories with the watch service
+            reconcileJob = scheduler.scheduleWithFixedDelay(this::refreshFolderInformation, 0,
+                    config.reconcileIntervalLocal, TimeUnit.SECONDS);
+            executionJob = scheduler.scheduleWithFixedDelay(this::processWatchEvents, config.pollIntervalLocal,
+                    config.pollIntervalLocal, TimeUnit.SECONDS);
+        } else {
+            updateStatus(ThingStatus.ONLINE);
+            executionJob = scheduler.scheduleWithFixedDelay(this::refreshFolderInformation, config.pollIntervalLocal,
+                    config.pollIntervalLocal, TimeUnit.SECONDS);
+        }
     }
 
     @Override
@@ -104,60 +143,154 @@ public class LocalFolderWatcherHandler extends BaseThingHandler {
             executionJob.cancel(true);
             this.executionJob = null;
         }
+        ScheduledFuture<?> reconcileJob = this.reconcileJob;
+        if (reconcileJob != null) {
+            reconcileJob.cancel(true);
+            this.reconcileJob = null;
+        }
+        synchronized (this) {
+            WatchService watchService = this.watchService;
+            if (watchService != null) {
+                try {
+                    watchService.close();
+                } catch (IOException e) {
+                    logger.debug("Can't close watch service: {}", e.getMessage());
+                }
+                this.watchService = null;
+            }
+            watchedDirs.clear();
+        }
     }
 
-    private void refreshFolderInformation() {
-        final String rootDir = config.localDir;
+    private synchronized void refreshFolderInformation() {
         try {
-            List<String> currentLocalListing = new ArrayList<>();
-
-            Files.walkFileTree(Paths.get(rootDir), new FileVisitor<@Nullable Path>() {
-                @Override
-                public FileVisitResult preVisitDirectory(@Nullable Path dir, @Nullable BasicFileAttributes attrs)
-                        throws IOException {
-                    if (dir != null) {
-                        if (!dir.equals(Paths.get(rootDir)) && !config.listRecursiveLocal) {
-                            return FileVisitResult.SKIP_SUBTREE;
-                        }
-                    }
-                    return FileVisitResult.CONTINUE;
+            List<String> currentLocalListing = listFiles(Paths.get(config.localDir));
+
+            List<String> diffLocalListing = new ArrayList<>();
+            for (String file : currentLocalListing) {
+                if (!previousLocalListing.contains(file)) {
+                    diffLocalListing.add(file);
                 }
+            }
+            publishNewFiles(diffLocalListing);
+            previousLocalListing = new HashSet<>(currentLocalListing);
+
+            // the listing file is only appended to, compact it once it mostly holds files which are gone
+            int knownEntries = previousLocalListing.size();
+            if (storedEntries - knownEntries > Math.max(MIN_STALE_ENTRIES, knownEntries)) {
+                WatcherCommon.saveListing(previousLocalListing, currentLocalListingFile, config.localDir);
+                storedEntries = previousLocalListing.size();
+            }
+        } catch (IOException e) {
+            logger.debug("File manipulation error: {}", e.getMessage());
+        }
+    }
 
-                @Override
-                public FileVisitResult visitFile(@Nullable Path file, @Nullable BasicFileAttributes attrs)
-                        throws IOException {
-                    if (file != null) {
-                        if (Files.isHidden(file) && !config.listHiddenLocal) {
-                            return FileVisitResult.CONTINUE;
+    private synchronized void processWatchEvents() {
+        WatchService watchService = this.watchService;
+        if (watchService == null) {
+            return;
+        }
+        try {
+            List<String> diffLocalListing = new ArrayList<>();
+            boolean overflow = false;
+            WatchKey key;
+            while ((key = watchService.poll()) != null) {
+                Path dir = watchedDirs.get(key);
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW || dir == null) {
+                        overflow = true;
+                        continue;
+                    }
+                    Path path = dir.resolve((Path) event.context());
+                    if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+                        previousLocalListing.remove(path.toAbsolutePath().toString());
+                    } else if (Files.isDirectory(path)) {
+                        if (config.listRecursiveLocal) {
+                            // files may have been created before the new directory was registered
+                            for (String file : listFiles(path)) {
+                                if (previousLocalListing.add(file)) {
+                                    diffLocalListing.add(file);
+                                }
+                            }
+                        }
+                    } else if (Files.exists(path) && (config.listHiddenLocal || !Files.isHidden(path))) {
+                        String file = path.toAbsolutePath().toString();
+                        if (previousLocalListing.add(file)) {
+                            diffLocalListing.add(file);
                         }
-                        currentLocalListing.add(file.toAbsolutePath().toString());
                     }
-                    return FileVisitResult.CONTINUE;
                 }
+                if (!key.reset()) {
+                    watchedDirs.remove(key);
+                }
+            }
+            publishNewFiles(diffLocalListing);
+            if (overflow) {
+                logger.debug("Watch events for {} were lost, rescanning", config.localDir);
+                refreshFolderInformation();
+            }
+        } catch (ClosedWatchServiceException e) {
+            // handler is being disposed
+        } catch (IOException e) {
+            logger.debug("File manipulation error: {}", e.getMessage());
+        }
+    }
 
-                @Override
-                public FileVisitResult visitFileFailed(@Nullable Path file, @Nullable IOException exc)
-                        throws IOException {
-                    return FileVisitResult.CONTINUE;
+    private void publishNewFiles(List<String> newFiles) throws IOException {
+        if (!newFiles.isEmpty()) {
+            newFiles.forEach(file -> triggerChannel(CHANNEL_NEWFILE, file));
+            WatcherCommon.saveNewListing(newFiles, currentLocalListingFile);
+            storedEntries += newFiles.size();
+        }
+    }
+
+    private List<String> listFiles(Path start) throws IOException {
+        final Path rootDir = Paths.get(config.localDir);
+        final WatchService watchService = this.watchService;
+        List<String> localListing = new ArrayList<>();
+
+        Files.walkFileTree(start, new FileVisitor<@Nullable Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(@Nullable Path dir, @Nullable BasicFileAttributes attrs)
+                    throws IOException {
+                if (dir != null) {
+                    if (!dir.equals(rootDir) && !config.listRecursiveLocal) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    if (watchService != null) {
+                        // registering an already watched directory returns its existing key
+                        watchedDirs.put(dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                                StandardWatchEventKinds.ENTRY_DELETE), dir);
+                    }
                 }
+                return FileVisitResult.CONTINUE;
+            }
 
-                @Override
-                public FileVisitResult postVisitDirectory(@Nullable Path dir, @Nullable IOException exc)
-                        throws IOException {
-                    return FileVisitResult.CONTINUE;
+            @Override
+            public FileVisitResult visitFile(@Nullable Path file, @Nullable BasicFileAttributes attrs)
+                    throws IOException {
+                if (file != null) {
+                    if (Files.isHidden(file) && !config.listHiddenLocal) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                    localListing.add(file.toAbsolutePath().toString());
                 }
-            });
+                return FileVisitResult.CONTINUE;
+            }
 
-            List<String> diffLocalListing = new ArrayList<>(currentLocalListing);
-            diffLocalListing.removeAll(previousLocalListing);
-            diffLocalListing.forEach(file -> triggerChannel(CHANNEL_NEWFILE, file));
+            @Override
+            public FileVisitResult visitFileFailed(@Nullable Path file, @Nullable IOException exc)
+                    throws IOException {
+                return FileVisitResult.CONTINUE;
+            }
 
-            if (!diffLocalListing.isEmpty()) {
-                WatcherCommon.saveNewListing(diffLocalListing, currentLocalListingFile);
+            @Override
+            public FileVisitResult postVisitDirectory(@Nullable Path dir, @Nullable IOException exc)
+                    throws IOException {
+                return FileVisitResult.CONTINUE;
             }
-            previousLocalListing = new ArrayList<>(currentLocalListing);
-        } catch (IOException e) {
-            logger.debug("File manipulation error: {}", e.getMessage());
-        }
+        });
+        return localListing;
     }
 }
@@ -46,6 +46,8 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
         RESPONSE
     }
 
+    private static final int MAX_MESSAGE_SIZE = 64 * 1024 * 1024;
+
     private Object[] messageData;
     private byte[] binRpcData;
     private int offset;
@@ -75,34 +77,42 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
     public BinRpcMessage(InputStream is, boolean methodHeader, Charset encoding) throws IOException {
         this.encoding = encoding;
         byte[] sig = new byte[8];
-        int length = is.read(sig, 0, 4);
+        int length = readFully(is, sig, 0, 4);
         if (length != 4) {
             throw new EOFException("Only " + length + " bytes received reading signature");
         }
         validateBinXSignature(sig);
-        length = is.read(sig, 4, 4);
+        length = readFully(is, sig, 4, 4);
         if (length != 4) {
             throw new EOFException("Only " + length + " bytes received reading message length");
         }
-        int datasize = (new BigInteger(Arrays.copyOfRange(sig, 4, 8))).intValue();
-        byte[] payload = new byte[datasize];
-        int offset = 0;
-        int currentLength;
-
-        while (offset < datasize && (currentLength = is.read(payload, offset, datasize - offset)) != -1) {
-            offset += currentLength;
+        binRpcData = sig;
+        offset = 4;
+        int datasize = readInt();
+        if (datasize < 0 || datasize > MAX_MESSAGE_SIZE) {
+            throw new IOException("Invalid message length " + datasize);
         }
-        if (offset != datasize) {
-            throw new EOFException("Only " + offset + " bytes received while reading message payload, expected "
+
+        // read the payload directly behind the header, so the message is decoded from a single buffer
+        byte[] message = Arrays.copyOf(sig, sig.length + datasize);
+        length = readFully(is, message, sig.length, datasize);
+        if (length != datasize) {
+            throw new EOFException("Only " + length + " bytes received while reading message payload, expected "
                     + datasize + " bytes");
         }
-        byte[] message = new byte[sig.length + payload.length];
-        System.arraycopy(sig, 0, message, 0, sig.length);
-        System.arraycopy(payload, 0, message, sig.length, payload.length);
 
         decodeMessage(message, methodHeader);
     }
 
+    private static int readFully(InputStream is, byte[] buffer, int offset, int length) throws IOException {
+        int read = 0;
+        int currentLength;
+        while (read < length && (currentLength = is.read(buffer, offset + read, length - read)) != -1) {
+            read += currentLength;
+        }
+        return read;
+    }
+
     private void validateBinXSignature(byte[] sig) throws UnsupportedEncodingException {
         if (sig[0] != 'B' || sig[1] != 'i' || sig[2] != 'n') {
             throw new UnsupportedEncodingException("No BinX signature");
@@ -199,23 +209,39 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
         return messageData;
     }
 
-    // read rpc values
-    private int readInt() {
-        byte[] bi = new byte[4];
-        System.arraycopy(binRpcData, offset, bi, 0, 4);
+    // read rpc values, directly from the message buffer
+    private void ensureAvailable(int length) throws IOException {
+        if (length < 0 || offset + length > binRpcData.length) {
+            throw new EOFException("Unexpected end of message at offset " + offset + ", " + length
+                    + " bytes requested, message length is " + binRpcData.length);
+        }
+    }
+
+    private int readInt() throws IOException {
+        ensureAvailable(4);
+        int value = ((binRpcData[offset] & 0xFF) << 24) | ((binRpcData[offset + 1] & 0xFF) << 16)
+                | ((binRpcData[offset + 2] & 0xFF) << 8) | (binRpcData[offset + 3] & 0xFF);
         offset += 4;
-        return (new BigInteger(bi)).intValue();
+        return value;
     }
 
-    private long readInt64() {
-        byte[] bi = new byte[8];
-        System.arraycopy(binRpcData, offset, bi, 0, 8);
-        offset += 8;
-        return (new BigInteger(bi)).longValue();
+    private long readInt64() throws IOException {
+        long high = readInt();
+        long low = readInt() & 0xFFFFFFFFL;
+        return (high << 32) | low;
     }
 
-    private String readString() {
+    private int readLength() throws IOException {
         int len = readInt();
+        if (len < 0) {
+            throw new IOException("Invalid length " + len + " at offset " + (offset - 4));
+        }
+        return len;
+    }
+
+    private String readString() throws IOException {
+        int len = readLength();
+        ensureAvailable(len);
         offset += len;
         return new String(binRpcData, offset - len, len, encoding);
     }
@@ -226,13 +252,18 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
             case 1:
                 return Integer.valueOf(readInt());
             case 2:
+                ensureAvailable(1);
                 return binRpcData[offset++] != 0 ? Boolean.TRUE : Boolean.FALSE;
             case 3:
                 return readString();
             case 4:
                 int mantissa = readInt();
                 int exponent = readInt();
-                BigDecimal bd = new BigDecimal((double) mantissa / (double) (1 << 30) * Math.pow(2, exponent));
+                double value = (double) mantissa / (double) (1 << 30) * Math.pow(2, exponent);
+                if (!Double.isFinite(value)) {
+                    throw new IOException("Invalid double with mantissa " + mantissa + " and exponent " + exponent);
+                }
+                BigDecimal bd = new BigDecimal(value);
                 return bd.setScale(6, RoundingMode.HALF_DOWN).doubleValue();
             case 5:
                 return new Date(readInt() * 1000);
@@ -241,15 +272,19 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
                 return Long.valueOf(readInt64());
             case 0x100:
                 // Array
-                int numElements = readInt();
-                Collection<Object> array = new ArrayList<>();
-                while (numElements-- > 0) {
-                    array.add(readRpcValue());
+                int numElements = readLength();
+                // every element needs at least its type, so a larger count can only be a corrupt message
+                if (numElements > (binRpcData.length - offset) / 4) {
+                    throw new IOException("Invalid number of array elements " + numElements);
+                }
+                Object[] array = new Object[numElements];
+                for (int i = 0; i < numElements; i++) {
+                    array[i] = readRpcValue();
                 }
-                return array.toArray();
+                return array;
             case 0x101:
                 // Struct
-                numElements = readInt();
+                numElements = readLength();
                 Map<String, Object> struct = new TreeMap<>();
                 while (numElements-- > 0) {
                     String name = readString();
@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homematic.internal.communicator.message;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests decoding of BIN-RPC messages, including truncated and corrupted frames.
+ *
+ * @author agent - Initial contribution
+ */
+public class BinRpcMessageTest {
+
+    private static byte[] createEventMessage() {
+        BinRpcMessage request = new BinRpcMessage("event", StandardCharsets.ISO_8859_1);
+        request.addArg("openhab");
+        request.addArg("NEQ0123456:1");
+        request.addArg("LEVEL");
+        request.addArg(0.75);
+        return request.createMessage();
+    }
+
+    private static byte[] createMulticallMessage() {
+        BinRpcMessage request = new BinRpcMessage("system.multicall", StandardCharsets.ISO_8859_1);
+        Map<String, Object> event = Map.of("methodName", "event", "params",
+                List.of("openhab", "NEQ0123456:1", "STATE", Boolean.TRUE));
+        Map<String, Object> counter = Map.of("methodName", "event", "params",
+                List.of("openhab", "NEQ0123456:2", "COUNTER", 4711));
+        request.addArg(List.of(event, counter));
+        return request.createMessage();
+    }
+
+    @Test
+    public void eventMessageIsDecoded() throws IOException, ParseException {
+        BinRpcMessage message = new BinRpcMessage(createEventMessage(), true, StandardCharsets.ISO_8859_1);
+
+        assertThat(message.getMethodName(), is("event"));
+        Object[] data = message.getResponseData();
+        assertThat(data.length, is(4));
+        assertThat(data[0], is("openhab"));
+        assertThat(data[1], is("NEQ0123456:1"));
+        assertThat(data[2], is("LEVEL"));
+        assertThat(data[3], is(0.75));
+    }
+
+    @Test
+    public void multicallMessageIsDecodedFromStream() throws IOException {
+        byte[] frame = createMulticallMessage();
+        BinRpcMessage message = new BinRpcMessage(new ByteArrayInputStream(frame), true,
+                StandardCharsets.ISO_8859_1);
+
+        assertThat(message.getMethodName(), is("system.multicall"));
+        Object[] calls = (Object[]) message.getResponseData()[0];
+        assertThat(calls.length, is(2));
+        Map<?, ?> counter = (Map<?, ?>) calls[1];
+        assertThat(counter.get("methodName"), is("event"));
+        Object[] params = (Object[]) counter.get("params");
+        assertThat(params[2], is("COUNTER"));
+        assertThat(params[3], is(4711));
+    }
+
+    @Test
+    public void truncatedFramesAreRejected() {
+        byte[] frame = createMulticallMessage();
+        for (int length = 0; length < frame.length; length++) {
+            byte[] truncated = Arrays.copyOf(frame, length);
+            assertThrows(IOException.class, () -> new BinRpcMessage(new ByteArrayInputStream(truncated), true,
+                    StandardCharsets.ISO_8859_1), "truncated to " + length + " bytes");
+        }
+    }
+
+    @Test
+    public void corruptedFramesOnlyFailWithIOException() {
+        byte[] frame = createMulticallMessage();
+        Random random = new Random(4711);
+        for (int i = 0; i < 2000; i++) {
+            byte[] corrupted = frame.clone();
+            // keep the signature intact, so the payload decoder is exercised
+            int position = 4 + random.nextInt(corrupted.length - 4);
+            corrupted[position] = (byte) random.nextInt(256);
+            try {
+                new BinRpcMessage(corrupted, true, StandardCharsets.ISO_8859_1);
+            } catch (IOException | ParseException e) {
+                // expected for most corruptions
+            } catch (RuntimeException e) {
+                fail("Corruption at offset " + position + " caused " + e);
+            }
+        }
+    }
+}
@@ -20,6 +20,9 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
+import org.openhab.binding.http.internal.http.RequestScheduler;
+import org.openhab.binding.http.internal.http.SharedRequestRegistry;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.i18n.TimeZoneProvider;
 import org.openhab.core.io.net.http.HttpClientFactory;
 import org.openhab.core.thing.Thing;
@@ -51,6 +54,9 @@ public class HttpHandlerFactory extends BaseThingHandlerFactory implements HttpC
 
     private final HttpDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider;
     private final TimeZoneProvider timeZoneProvider;
+    private final SharedRequestRegistry sharedRequestRegistry = new SharedRequestRegistry();
+    private final RequestScheduler requestScheduler = new RequestScheduler(
+            ThreadPoolManager.getScheduledPool(ThingHandler.THING_HANDLER_THREADPOOL_NAME));
 
     @Activate
     public HttpHandlerFactory(@Reference HttpClientFactory httpClientFactory,
@@ -75,6 +81,7 @@ public class HttpHandlerFactory extends BaseThingHandlerFactory implements HttpC
 
     @Deactivate
     public void deactivate() {
+        requestScheduler.shutdown();
         try {
             secureClient.stop();
             insecureClient.stop();
@@ -94,7 +101,8 @@ public class HttpHandlerFactory extends BaseThingHandlerFactory implements HttpC
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
 
         if (THING_TYPE_URL.equals(thingTypeUID)) {
-            return new HttpThingHandler(thing, this, httpDynamicStateDescriptionProvider, timeZoneProvider);
+            return new HttpThingHandler(thing, this, httpDynamicStateDescriptionProvider, timeZoneProvider,
+                    sharedRequestRegistry, requestScheduler);
         }
 
         return null;
@@ -28,6 +28,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
@@ -43,7 +44,9 @@ import org.openhab.binding.http.internal.http.HttpAuthException;
 import org.openhab.binding.http.internal.http.HttpResponseListener;
 import org.openhab.binding.http.internal.http.HttpStatusListener;
 import org.openhab.binding.http.internal.http.RateLimitedHttpClient;
+import org.openhab.binding.http.internal.http.RequestScheduler;
 import org.openhab.binding.http.internal.http.RefreshingUrlCache;
+import org.openhab.binding.http.internal.http.SharedRequestRegistry;
 import org.openhab.core.i18n.TimeZoneProvider;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.PointType;
@@ -85,12 +88,16 @@ import org.slf4j.LoggerFactory;
 public class HttpThingHandler extends BaseThingHandler implements HttpStatusListener {
     private static final Set<Character> URL_PART_DELIMITER = Set.of('/', '?', '&');
 
+    private static final int STATISTICS_INTERVAL = 60; // in s
+
     private final Logger logger = LoggerFactory.getLogger(HttpThingHandler.class);
     private final HttpClientProvider httpClientProvider;
     private final RateLimitedHttpClient rateLimitedHttpClient;
     private final HttpDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider;
     private final TimeZoneProvider timeZoneProvider;
+    private final SharedRequestRegistry sharedRequestRegistry;
 
+    private @Nullable ScheduledFuture<?> statisticsJob;
     private HttpThingConfig config = new HttpThingConfig();
     private final Map<String, RefreshingUrlCache> urlHandlers = new HashMap<>();
     private final Map<ChannelUID, ChannelHandler> channels = new HashMap<>();
@@ -98,12 +105,15 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
 
     public HttpThingHandler(Thing thing, HttpClientProvider httpClientProvider,
             HttpDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider,
-            TimeZoneProvider timeZoneProvider) {
+            TimeZoneProvider timeZoneProvider, SharedRequestRegistry sharedRequestRegistry,
+            RequestScheduler requestScheduler) {
         super(thing);
         this.httpClientProvider = httpClientProvider;
-        this.rateLimitedHttpClient = new RateLimitedHttpClient(httpClientProvider.getSecureClient(), scheduler);
+        this.rateLimitedHttpClient = new RateLimitedHttpClient(httpClientProvider.getSecureClient(),
+                requestScheduler);
         this.httpDynamicStateDescriptionProvider = httpDynamicStateDescriptionProvider;
         this.timeZoneProvider = timeZoneProvider;
+        this.sharedRequestRegistry = sharedRequestRegistry;
     }
 
     @Override
@@ -166,6 +176,8 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
             logger.info("Using the secure client for thing '{}'.", thing.getUID());
             rateLimitedHttpClient.setHttpClient(httpClientProvider.getSecureClient());
         }
+        rateLimitedHttpClient.setBurst(Math.max(1, config.burst));
+        rateLimitedHttpClient.setMaxConcurrentRequests(Math.max(0, config.maxConcurrentRequests));
         rateLimitedHttpClient.setDelay(config.delay);
 
         // remove empty headers
@@ -237,6 +249,10 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
         }
 
         urlHandlers.values().forEach(urlHandler -> urlHandler.start(scheduler, config.refresh));
+        if (!urlHandlers.isEmpty()) {
+            statisticsJob = scheduler.scheduleWithFixedDelay(this::logStatistics, STATISTICS_INTERVAL,
+                    STATISTICS_INTERVAL, TimeUnit.SECONDS);
+        }
 
         updateStatus(ThingStatus.UNKNOWN);
     }
@@ -244,6 +260,11 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
     @Override
     public void dispose() {
         // stop update tasks
+        ScheduledFuture<?> statisticsJob = this.statisticsJob;
+        if (statisticsJob != null) {
+            statisticsJob.cancel(true);
+            this.statisticsJob = null;
+        }
         urlHandlers.values().forEach(RefreshingUrlCache::stop);
         rateLimitedHttpClient.shutdown();
 
@@ -335,7 +356,7 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
             Objects.requireNonNull(
                     urlHandlers.computeIfAbsent(key,
                             k -> new RefreshingUrlCache(rateLimitedHttpClient, stateUrl, config,
-                                    channelConfig.stateContent, config.contentType, this)))
+                                    channelConfig.stateContent, config.contentType, this, sharedRequestRegistry)))
                     .addConsumer(itemValueConverter::process);
         }
 
@@ -347,6 +368,17 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
         }
     }
 
+    private void logStatistics() {
+        long collapsedRequests = 0;
+        long bytesSaved = 0;
+        for (RefreshingUrlCache urlHandler : urlHandlers.values()) {
+            collapsedRequests += urlHandler.getCollapsedRequests();
+            bytesSaved += urlHandler.getBytesSaved();
+        }
+        logger.debug("Thing '{}': {} requests collapsed, {} bytes saved by unmodified content", getThing().getUID(),
+                collapsedRequests, bytesSaved);
+    }
+
     @Override
     public void onHttpError(@Nullable String message) {
         updateState(CHANNEL_LAST_FAILURE, new DateTimeType(Instant.now().atZone(timeZoneProvider.getTimeZone())));
@@ -37,6 +37,8 @@ public class HttpThingConfig {
     public int refresh = 30;
     public int timeout = 3000;
     public int delay = 0;
+    public int burst = 1;
+    public int maxConcurrentRequests = 0;
 
     public String username = "";
     public String password = "";
@@ -39,6 +39,7 @@ public class HttpResponseListener extends BufferingResponseListener {
     private final CompletableFuture<@Nullable ChannelHandlerContent> future;
     private final HttpStatusListener httpStatusListener;
     private final String fallbackEncoding;
+    private final boolean conditionalRequest;
 
     /**
      * the HttpResponseListener is responsible
@@ -49,10 +50,26 @@ public class HttpResponseListener extends BufferingResponseListener {
      */
     public HttpResponseListener(CompletableFuture<@Nullable ChannelHandlerContent> future,
             @Nullable String fallbackEncoding, int bufferSize, HttpStatusListener httpStatusListener) {
+        this(future, fallbackEncoding, bufferSize, httpStatusListener, false);
+    }
+
+    /**
+     * the HttpResponseListener is responsible
+     *
+     * @param future Content future to complete with the result of the request
+     * @param fallbackEncoding a fallback encoding for the content (UTF-8 if null)
+     * @param bufferSize the buffer size for the content in kB (default 2048 kB)
+     * @param conditionalRequest true if the request was sent with validators, a 304 response completes the future
+     *            with a {@link HttpNotModifiedException}, otherwise it is an error
+     */
+    public HttpResponseListener(CompletableFuture<@Nullable ChannelHandlerContent> future,
+            @Nullable String fallbackEncoding, int bufferSize, HttpStatusListener httpStatusListener,
+            boolean conditionalRequest) {
         super(bufferSize * 1024);
         this.future = future;
         this.fallbackEncoding = fallbackEncoding != null ? fallbackEncoding : StandardCharsets.UTF_8.name();
         this.httpStatusListener = httpStatusListener;
+        this.conditionalRequest = conditionalRequest;
     }
 
     @Override
@@ -92,6 +109,15 @@ public class HttpResponseListener extends BufferingResponseListener {
                             request.getURI(), request.getMethod(), request.getContent());
                     future.completeExceptionally(new HttpAuthException());
                     break;
+                case HttpStatus.NOT_MODIFIED_304:
+                    if (conditionalRequest) {
+                        logger.trace("Requesting '{}' (method='{}'): content not modified", request.getURI(),
+                                request.getMethod());
+                        future.completeExceptionally(new HttpNotModifiedException());
+                        httpStatusListener.onHttpSuccess();
+                        break;
+                    }
+                    // without validators a 304 response is unexpected and handled as an error
                 default:
                     logger.debug("Requesting '{}' (method='{}', content='{}') failed: {} {}", request.getURI(),
                             request.getMethod(), request.getContent(), response.getStatus(), response.getReason());
@@ -13,13 +13,7 @@
 package org.openhab.binding.http.internal.http;
 
 import java.net.URI;
-import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.RejectedExecutionException;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -34,35 +28,36 @@ import org.slf4j.LoggerFactory;
 
 /**
  * The {@link RateLimitedHttpClient} is a wrapper for a Jetty HTTP client that limits the number of requests by delaying
- * the request creation
+ * the request creation.
+ *
+ * The requests of all clients are scheduled by the shared {@link RequestScheduler}, which queues them per destination
+ * host and serves the clients of a destination round-robin. Each client has a delay (one token per delay, up to the
+ * burst size) and an optional limit for concurrent requests per host. If several clients send requests to the same
+ * host, the strictest of their settings applies to all of them. Pending state requests for the same URL are
+ * coalesced, the older request is cancelled. A client without any limit creates its requests immediately.
  *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
 public class RateLimitedHttpClient {
-    private static final int MAX_QUEUE_SIZE = 1000; // maximum queue size
     private final Logger logger = LoggerFactory.getLogger(RateLimitedHttpClient.class);
 
     private HttpClient httpClient;
-    private int delay = 0; // in ms
-    private final ScheduledExecutorService scheduler;
-    private final LinkedBlockingQueue<RequestQueueEntry> requestQueue = new LinkedBlockingQueue<>(MAX_QUEUE_SIZE);
-    private final LinkedBlockingQueue<RequestQueueEntry> priorityRequestQueue = new LinkedBlockingQueue<>(
-            MAX_QUEUE_SIZE);
-
-    private @Nullable ScheduledFuture<?> processJob;
+    private volatile int delay = 0; // in ms
+    private volatile int burst = 1;
+    private volatile int maxConcurrentRequests = 0; // per host, 0 = unlimited
+    private final RequestScheduler requestScheduler;
 
-    public RateLimitedHttpClient(HttpClient httpClient, ScheduledExecutorService scheduler) {
+    public RateLimitedHttpClient(HttpClient httpClient, RequestScheduler requestScheduler) {
         this.httpClient = httpClient;
-        this.scheduler = scheduler;
+        this.requestScheduler = requestScheduler;
     }
 
     /**
-     * Stop processing the queue and clear it
+     * Cancel all pending requests of this client
      */
     public void shutdown() {
-        stopProcessJob();
-        requestQueue.forEach(RequestQueueEntry::cancel);
+        requestScheduler.remove(this);
     }
 
     /**
@@ -75,10 +70,45 @@ public class RateLimitedHttpClient {
             throw new IllegalArgumentException("Delay needs to be larger or equal to zero");
         }
         this.delay = delay;
-        stopProcessJob();
-        if (delay != 0) {
-            processJob = scheduler.scheduleWithFixedDelay(this::processQueue, 0, delay, TimeUnit.MILLISECONDS);
+        requestScheduler.limitsChanged(this);
+    }
+
+    /**
+     * Set the number of requests to a host that may be sent without delay
+     *
+     * @param burst the maximum number of tokens per host (at least 1)
+     */
+    public void setBurst(int burst) {
+        if (burst < 1) {
+            throw new IllegalArgumentException("Burst needs to be larger or equal to one");
         }
+        this.burst = burst;
+        requestScheduler.limitsChanged(this);
+    }
+
+    /**
+     * Set the maximum number of concurrent requests to a host
+     *
+     * @param maxConcurrentRequests the maximum number of requests in progress per host, 0 for no limit
+     */
+    public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+        if (maxConcurrentRequests < 0) {
+            throw new IllegalArgumentException("Maximum concurrent requests need to be larger or equal to zero");
+        }
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        requestScheduler.limitsChanged(this);
+    }
+
+    int getDelay() {
+        return delay;
+    }
+
+    int getBurst() {
+        return burst;
+    }
+
+    int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
     }
 
     /**
@@ -91,7 +121,8 @@ public class RateLimitedHttpClient {
     }
 
     /**
-     * Create a new request to the given URL respecting rate-limits
+     * Create a new request to the given URL respecting rate-limits. A pending request with the same URL, method and
+     * content is replaced.
      *
      * @param finalUrl the request URL
      * @param method http request method GET/PUT/POST
@@ -100,7 +131,7 @@ public class RateLimitedHttpClient {
      */
     public CompletableFuture<Request> newRequest(URI finalUrl, HttpMethod method, String content,
             @Nullable String contentType) {
-        return queueRequest(finalUrl, method, content, contentType, requestQueue);
+        return queueRequest(finalUrl, method, content, contentType, false);
     }
 
     /**
@@ -113,23 +144,22 @@ public class RateLimitedHttpClient {
      */
     public CompletableFuture<Request> newPriorityRequest(URI finalUrl, HttpMethod method, String content,
             @Nullable String contentType) {
-        return queueRequest(finalUrl, method, content, contentType, priorityRequestQueue);
+        return queueRequest(finalUrl, method, content, contentType, true);
     }
 
     private CompletableFuture<Request> queueRequest(URI finalUrl, HttpMethod method, String content,
-            @Nullable String contentType, LinkedBlockingQueue<RequestQueueEntry> queue) {
-        // if no delay is set, return a completed CompletableFuture
-        CompletableFuture<Request> future = new CompletableFuture<>();
-        RequestQueueEntry queueEntry = new RequestQueueEntry(finalUrl, method, content, contentType, future);
-        if (delay == 0) {
-            queueEntry.completeFuture(httpClient);
-        } else {
-            if (!queue.offer(queueEntry)) {
-                future.completeExceptionally(new RejectedExecutionException("Maximum queue size exceeded."));
+            @Nullable String contentType, boolean priority) {
+        if (delay == 0 && maxConcurrentRequests == 0) {
+            // if no limit is set, return a completed CompletableFuture
+            CompletableFuture<Request> future = new CompletableFuture<>();
+            try {
+                future.complete(createRequest(finalUrl, method, content, contentType));
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
             }
-
+            return future;
         }
-        return future;
+        return requestScheduler.queueRequest(this, finalUrl, method, content, contentType, priority);
     }
 
     /**
@@ -160,66 +190,15 @@ public class RateLimitedHttpClient {
         }
     }
 
-    private void stopProcessJob() {
-        ScheduledFuture<?> processJob = this.processJob;
-        if (processJob != null) {
-            processJob.cancel(false);
-            this.processJob = null;
-        }
-    }
-
-    /**
-     * Gets a request from either the priority queue or tge regular queue and creates the request
-     */
-    private void processQueue() {
-        RequestQueueEntry queueEntry = priorityRequestQueue.poll();
-        if (queueEntry == null) {
-            // no entry in priorityRequestQueue, try the regular queue
-            queueEntry = requestQueue.poll();
-        }
-        if (queueEntry != null) {
-            queueEntry.completeFuture(httpClient);
-        }
-    }
-
-    private static class RequestQueueEntry {
-        private final URI finalUrl;
-        private final HttpMethod method;
-        private final String content;
-        private final @Nullable String contentType;
-        private final CompletableFuture<Request> future;
-
-        public RequestQueueEntry(URI finalUrl, HttpMethod method, String content, @Nullable String contentType,
-                CompletableFuture<Request> future) {
-            this.finalUrl = finalUrl;
-            this.method = method;
-            this.content = content;
-            this.contentType = contentType;
-            this.future = future;
-        }
-
-        /**
-         * complete the future with a request
-         *
-         * @param httpClient the client to create the request
-         */
-        public void completeFuture(HttpClient httpClient) {
-            Request request = httpClient.newRequest(finalUrl).method(method);
-            if ((method == HttpMethod.POST || method == HttpMethod.PUT) && !content.isEmpty()) {
-                if (contentType == null) {
-                    request.content(new StringContentProvider(content));
-                } else {
-                    request.content(new StringContentProvider(content), contentType);
-                }
+    Request createRequest(URI finalUrl, HttpMethod method, String content, @Nullable String contentType) {
+        Request request = httpClient.newRequest(finalUrl).method(method);
+        if ((method == HttpMethod.POST || method == HttpMethod.PUT) && !content.isEmpty()) {
+            if (contentType == null) {
+                request.content(new StringContentProvider(content));
+            } else {
+                request.content(new StringContentProvider(content), contentType);
             }
-            future.complete(request);
-        }
-
-        /**
-         * cancel this request and complete the future with a {@link CancellationException}
-         */
-        public void cancel() {
-            future.completeExceptionally(new CancellationException());
         }
+        return request;
     }
 }
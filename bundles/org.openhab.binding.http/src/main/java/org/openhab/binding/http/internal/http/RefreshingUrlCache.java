@@ -21,24 +21,32 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.http.HttpFields;
+import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpMethod;
 import org.openhab.binding.http.internal.Util;
 import org.openhab.binding.http.internal.config.HttpThingConfig;
+import org.openhab.binding.http.internal.http.SharedRequestRegistry.RequestKey;
+import org.openhab.binding.http.internal.http.SharedRequestRegistry.SharedRequest;
 import org.openhab.core.thing.binding.generic.ChannelHandlerContent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * The {@link RefreshingUrlCache} is responsible for requesting from a single URL and passing the content to the
- * channels
+ * channels. Identical requests of several caches are collapsed by the {@link SharedRequestRegistry}, unchanged
+ * content is detected by conditional requests.
  *
  * @author Jan N. Klug - Initial contribution
  */
@@ -59,11 +67,25 @@ public class RefreshingUrlCache {
     private final @Nullable String httpContentType;
     private final HttpStatusListener httpStatusListener;
 
+    private final SharedRequestRegistry sharedRequestRegistry;
+    private final RequestKey requestKey;
+    private final AtomicLong collapsedRequests = new AtomicLong();
+    private final AtomicLong bytesSaved = new AtomicLong();
+
     private @Nullable ScheduledFuture<?> future;
-    private @Nullable ChannelHandlerContent lastContent;
+    private @Nullable SharedRequest sharedRequest;
+    private long maxSharedAge = 0; // in ns
+    private volatile @Nullable ChannelHandlerContent lastContent;
 
     public RefreshingUrlCache(RateLimitedHttpClient httpClient, String url, HttpThingConfig thingConfig,
             String httpContent, @Nullable String httpContentType, HttpStatusListener httpStatusListener) {
+        this(httpClient, url, thingConfig, httpContent, httpContentType, httpStatusListener,
+                new SharedRequestRegistry());
+    }
+
+    public RefreshingUrlCache(RateLimitedHttpClient httpClient, String url, HttpThingConfig thingConfig,
+            String httpContent, @Nullable String httpContentType, HttpStatusListener httpStatusListener,
+            SharedRequestRegistry sharedRequestRegistry) {
         this.httpClient = httpClient;
         this.url = url;
         this.strictErrorHandling = thingConfig.strictErrorHandling;
@@ -74,7 +96,10 @@ public class RefreshingUrlCache {
         this.httpContent = httpContent;
         this.httpContentType = httpContentType;
         this.httpStatusListener = httpStatusListener;
+        this.sharedRequestRegistry = sharedRequestRegistry;
         fallbackEncoding = thingConfig.encoding;
+        requestKey = new RequestKey(url, httpMethod, headers, httpContent, httpContentType, fallbackEncoding,
+                thingConfig.username + ":" + thingConfig.password, thingConfig.ignoreSSLErrors);
     }
 
     public void start(ScheduledExecutorService executor, int refreshTime) {
@@ -82,6 +107,9 @@ public class RefreshingUrlCache {
             logger.warn("Starting refresh task requested but it is already started. This is bug.");
             return;
         }
+        // responses of other caches are re-used if they are younger than half of our refresh time
+        maxSharedAge = TimeUnit.SECONDS.toNanos(refreshTime) / 2;
+        sharedRequest = sharedRequestRegistry.register(requestKey);
         future = executor.scheduleWithFixedDelay(this::refresh, 1, refreshTime, TimeUnit.SECONDS);
         logger.trace("Started refresh task for URL '{}' with interval {}s", url, refreshTime);
     }
@@ -94,6 +122,10 @@ public class RefreshingUrlCache {
             future.cancel(true);
             logger.trace("Stopped refresh task for URL '{}'", url);
         }
+        if (sharedRequest != null) {
+            sharedRequestRegistry.unregister(requestKey);
+            sharedRequest = null;
+        }
     }
 
     private void refresh() {
@@ -109,44 +141,126 @@ public class RefreshingUrlCache {
         // format URL
         try {
             URI uri = Util.uriFromString(String.format(this.url, new Date()));
-            logger.trace("Requesting refresh (retry={}) from '{}' with timeout {}ms", isRetry, uri, timeout);
-
-            httpClient.newRequest(uri, httpMethod, httpContent, httpContentType).thenAccept(request -> {
-                request.timeout(timeout, TimeUnit.MILLISECONDS);
-                headers.forEach(request::header);
-
-                CompletableFuture<@Nullable ChannelHandlerContent> responseContentFuture = new CompletableFuture<>();
-                responseContentFuture.exceptionally(t -> {
-                    if (t instanceof HttpAuthException) {
-                        if (isRetry || !httpClient.reAuth(uri)) {
-                            logger.debug("Authentication failed for '{}', retry={}", uri, isRetry);
-                            httpStatusListener.onHttpError("Authentication failed");
-                        } else {
-                            refresh(true);
-                        }
-                    }
-                    return null;
-                }).thenAccept(this::processResult);
 
-                if (logger.isTraceEnabled()) {
-                    logger.trace("Sending to '{}': {}", uri, Util.requestToLogString(request));
-                }
+            SharedRequest sharedRequest = this.sharedRequest;
+            if (isRetry || sharedRequest == null) {
+                send(uri, isRetry, null, null);
+                return;
+            }
+
+            CompletableFuture<@Nullable ChannelHandlerContent> ownResult = new CompletableFuture<>();
+            CompletableFuture<@Nullable ChannelHandlerContent> sharedResult = sharedRequest.joinOrBegin(uri,
+                    maxSharedAge, ownResult);
+            if (sharedResult == null) {
+                send(uri, false, sharedRequest, ownResult);
+                return;
+            }
 
-                request.send(new HttpResponseListener(responseContentFuture, fallbackEncoding, bufferSize,
-                        httpStatusListener));
-            }).exceptionally(e -> {
-                if (e instanceof CancellationException) {
-                    logger.debug("Request to URL {} was cancelled by thing handler.", uri);
+            logger.trace("Using shared request for refresh from '{}'", uri);
+            collapsedRequests.incrementAndGet();
+            sharedResult.thenAccept(content -> {
+                if (content != null) {
+                    httpStatusListener.onHttpSuccess();
+                    if (content != lastContent) {
+                        processResult(content);
+                    }
                 } else {
-                    logger.warn("Request to URL {} failed: {}", uri, e.getMessage());
+                    // the shared request failed, we need the error handling of our own request
+                    send(uri, false, null, null);
                 }
-                return null;
             });
         } catch (IllegalArgumentException | URISyntaxException | MalformedURLException e) {
             logger.warn("Creating request for '{}' failed: {}", url, e.getMessage());
         }
     }
 
+    private void send(URI uri, boolean isRetry, @Nullable SharedRequest sharedRequest,
+            @Nullable CompletableFuture<@Nullable ChannelHandlerContent> sharedResult) {
+        logger.trace("Requesting refresh (retry={}) from '{}' with timeout {}ms", isRetry, uri, timeout);
+
+        httpClient.newRequest(uri, httpMethod, httpContent, httpContentType).thenAccept(request -> {
+            request.timeout(timeout, TimeUnit.MILLISECONDS);
+            headers.forEach(request::header);
+
+            AtomicReference<@Nullable HttpFields> responseHeaders = new AtomicReference<>();
+            boolean conditionalRequest = false;
+            if (sharedRequest != null && sharedResult != null) {
+                // conditional request, the server answers with 304 if the content did not change
+                String eTag = sharedRequest.getETag();
+                if (eTag != null) {
+                    request.header(HttpHeader.IF_NONE_MATCH, eTag);
+                    conditionalRequest = true;
+                }
+                String lastModified = sharedRequest.getLastModified();
+                if (lastModified != null) {
+                    request.header(HttpHeader.IF_MODIFIED_SINCE, lastModified);
+                    conditionalRequest = true;
+                }
+                request.onResponseHeaders(response -> responseHeaders.set(response.getHeaders()));
+            }
+
+            CompletableFuture<@Nullable ChannelHandlerContent> responseContentFuture = new CompletableFuture<>();
+            responseContentFuture.whenComplete((content, t) -> {
+                if (t instanceof HttpNotModifiedException) {
+                    @Nullable ChannelHandlerContent unchanged = sharedRequest != null && sharedResult != null
+                            ? sharedRequest.notModified(sharedResult)
+                            : null;
+                    if (unchanged != null) {
+                        logger.trace("Content of '{}' not modified, skipping processing", uri);
+                        bytesSaved.addAndGet(unchanged.getRawContent().length);
+                        if (unchanged != lastContent) {
+                            processResult(unchanged);
+                        }
+                    } else {
+                        logger.debug("'{}' reported as not modified, but no content is cached, requesting it again",
+                                uri);
+                        send(uri, isRetry, null, null);
+                    }
+                    return;
+                }
+
+                if (sharedRequest != null && sharedResult != null) {
+                    if (content != null) {
+                        HttpFields fields = responseHeaders.get();
+                        sharedRequest.update(sharedResult, content,
+                                fields != null ? fields.get(HttpHeader.ETAG) : null,
+                                fields != null ? fields.get(HttpHeader.LAST_MODIFIED) : null);
+                    } else {
+                        sharedRequest.fail(sharedResult);
+                    }
+                }
+
+                if (t instanceof HttpAuthException) {
+                    if (isRetry || !httpClient.reAuth(uri)) {
+                        logger.debug("Authentication failed for '{}', retry={}", uri, isRetry);
+                        httpStatusListener.onHttpError("Authentication failed");
+                    } else {
+                        refresh(true);
+                    }
+                }
+                processResult(content);
+            });
+
+            if (logger.isTraceEnabled()) {
+                logger.trace("Sending to '{}': {}", uri, Util.requestToLogString(request));
+            }
+
+            request.send(new HttpResponseListener(responseContentFuture, fallbackEncoding, bufferSize,
+                    httpStatusListener, conditionalRequest));
+        }).exceptionally(e -> {
+            if (sharedRequest != null && sharedResult != null) {
+                sharedRequest.fail(sharedResult);
+            }
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof CancellationException) {
+                logger.debug("Request to URL {} was cancelled by thing handler.", uri);
+            } else {
+                logger.warn("Request to URL {} failed: {}", uri, cause.getMessage());
+            }
+            return null;
+        });
+    }
+
     public void addConsumer(Consumer<@Nullable ChannelHandlerContent> consumer) {
         consumers.add(consumer);
     }
@@ -155,6 +269,24 @@ public class RefreshingUrlCache {
         return Optional.ofNullable(lastContent);
     }
 
+    /**
+     * Get the number of refreshes that were served by a request of another cache
+     *
+     * @return the number of collapsed requests
+     */
+    public long getCollapsedRequests() {
+        return collapsedRequests.get();
+    }
+
+    /**
+     * Get the number of bytes that were not transferred because the server reported unmodified content
+     *
+     * @return the number of saved bytes
+     */
+    public long getBytesSaved() {
+        return bytesSaved.get();
+    }
+
     private void processResult(@Nullable ChannelHandlerContent content) {
         if (content != null || strictErrorHandling) {
             for (Consumer<@Nullable ChannelHandlerContent> consumer : consumers) {
@@ -0,0 +1,409 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.http.internal.http;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.http.HttpMethod;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link RequestScheduler} schedules the rate-limited requests of all {@link RateLimitedHttpClient}s of the
+ * binding.
+ *
+ * Requests are queued per destination (host and port). Each destination has a token bucket (one token per delay, up
+ * to the burst size) and an optional limit for concurrent requests. If several clients send requests to the same
+ * destination, the strictest of their settings applies. Destinations are served round-robin, so a slow host only
+ * delays its own requests. Within a destination the clients are served round-robin, priority requests first, so a
+ * thing with many requests can not starve other things using the same destination.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RequestScheduler {
+    private static final int MAX_QUEUE_SIZE = 1000; // maximum queue size per client and destination
+    private final Logger logger = LoggerFactory.getLogger(RequestScheduler.class);
+
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, Destination> destinations = new HashMap<>();
+    private final Deque<Destination> pendingDestinations = new ArrayDeque<>();
+
+    private @Nullable ScheduledFuture<?> processJob;
+
+    public RequestScheduler(ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Stop processing the queues and clear them
+     */
+    public void shutdown() {
+        List<RequestQueueEntry> entries = new ArrayList<>();
+        synchronized (this) {
+            stopProcessJob();
+            destinations.values().forEach(destination -> destination.clientQueues.values()
+                    .forEach(clientQueue -> clientQueue.drainTo(entries)));
+            destinations.clear();
+            pendingDestinations.clear();
+        }
+        entries.forEach(RequestQueueEntry::cancel);
+    }
+
+    /**
+     * Remove a client and cancel its pending requests
+     *
+     * @param client the client
+     */
+    void remove(RateLimitedHttpClient client) {
+        List<RequestQueueEntry> entries = new ArrayList<>();
+        synchronized (this) {
+            for (Destination destination : List.copyOf(destinations.values())) {
+                ClientQueue clientQueue = destination.clientQueues.remove(client);
+                if (clientQueue != null) {
+                    clientQueue.drainTo(entries);
+                    destination.pendingClients.remove(clientQueue);
+                    if (!destination.hasPending()) {
+                        pendingDestinations.remove(destination);
+                    }
+                    removeIfUnused(destination);
+                }
+            }
+        }
+        entries.forEach(RequestQueueEntry::cancel);
+        processQueues();
+    }
+
+    /**
+     * Apply changed settings of a client to the destinations it sends requests to
+     *
+     * @param client the client
+     */
+    void limitsChanged(RateLimitedHttpClient client) {
+        synchronized (this) {
+            destinations.values().stream().filter(destination -> destination.clientQueues.containsKey(client))
+                    .forEach(Destination::resetTokens);
+        }
+        processQueues();
+    }
+
+    /**
+     * Queue a new request of a client. A pending request of the client with the same URL, method and content is
+     * replaced.
+     *
+     * @param client the client which creates the request
+     * @param finalUrl the request URL
+     * @param method http request method GET/PUT/POST
+     * @param content the content (if method PUT/POST)
+     * @param contentType the content type of the content
+     * @param priority true if the request shall be sent before all non-priority requests of the client
+     * @return a {@link CompletableFuture} that completes with the request
+     */
+    CompletableFuture<Request> queueRequest(RateLimitedHttpClient client, URI finalUrl, HttpMethod method,
+            String content, @Nullable String contentType, boolean priority) {
+        CompletableFuture<Request> future = new CompletableFuture<>();
+        RequestQueueEntry queueEntry = new RequestQueueEntry(client, finalUrl, method, content, contentType, future);
+
+        @Nullable CompletableFuture<Request> replacedFuture = null;
+        synchronized (this) {
+            Destination destination = Objects.requireNonNull(
+                    destinations.computeIfAbsent(String.valueOf(finalUrl.getAuthority()), Destination::new));
+            ClientQueue clientQueue = Objects
+                    .requireNonNull(destination.clientQueues.computeIfAbsent(client, c -> new ClientQueue()));
+            if (priority) {
+                clientQueue.priorityRequests.addLast(queueEntry);
+            } else {
+                RequestQueueEntry pendingEntry = clientQueue.findPending(queueEntry);
+                if (pendingEntry != null) {
+                    // keep the queue position, but only send the newest request
+                    replacedFuture = pendingEntry.future;
+                    pendingEntry.future = future;
+                    logger.trace("Replaced pending request to '{}'", finalUrl);
+                } else if (clientQueue.requests.size() < MAX_QUEUE_SIZE) {
+                    clientQueue.requests.addLast(queueEntry);
+                } else {
+                    future.completeExceptionally(new RejectedExecutionException("Maximum queue size exceeded."));
+                }
+            }
+            if (clientQueue.hasPending() && !destination.pendingClients.contains(clientQueue)) {
+                destination.pendingClients.addLast(clientQueue);
+            }
+            if (destination.hasPending() && !pendingDestinations.contains(destination)) {
+                pendingDestinations.addLast(destination);
+            }
+        }
+
+        if (replacedFuture != null) {
+            replacedFuture.cancel(false);
+        }
+        processQueues();
+        return future;
+    }
+
+    private void stopProcessJob() {
+        ScheduledFuture<?> processJob = this.processJob;
+        if (processJob != null) {
+            processJob.cancel(false);
+            this.processJob = null;
+        }
+    }
+
+    private void removeIfUnused(Destination destination) {
+        if (destination.clientQueues.isEmpty() && destination.inFlight == 0) {
+            destinations.remove(destination.host, destination);
+        }
+    }
+
+    /**
+     * Gets requests from the destinations in round-robin order and creates the requests
+     */
+    private void processQueues() {
+        Map<RequestQueueEntry, Destination> granted = new LinkedHashMap<>();
+        synchronized (this) {
+            long now = System.nanoTime();
+            long nextProcessing = Long.MAX_VALUE;
+            boolean progress = true;
+            while (progress && !pendingDestinations.isEmpty()) {
+                progress = false;
+                nextProcessing = Long.MAX_VALUE;
+                for (int i = pendingDestinations.size(); i > 0; i--) {
+                    Destination destination = pendingDestinations.removeFirst();
+                    long waitTime = destination.getWaitTime(now);
+                    if (waitTime == 0) {
+                        granted.put(destination.take(), destination);
+                        progress = true;
+                    } else {
+                        nextProcessing = Math.min(nextProcessing, waitTime);
+                    }
+                    if (destination.hasPending()) {
+                        pendingDestinations.addLast(destination);
+                    }
+                }
+            }
+
+            // destinations waiting for a free slot are processed when a request completes
+            stopProcessJob();
+            if (nextProcessing != Long.MAX_VALUE) {
+                processJob = scheduler.schedule(this::processQueues, nextProcessing, TimeUnit.NANOSECONDS);
+            }
+        }
+        granted.forEach((entry, destination) -> entry.completeFuture(destination));
+    }
+
+    private void requestCompleted(Destination destination) {
+        synchronized (this) {
+            destination.inFlight--;
+            removeIfUnused(destination);
+        }
+        processQueues();
+    }
+
+    private class Destination {
+        private final String host;
+        private final Map<RateLimitedHttpClient, ClientQueue> clientQueues = new LinkedHashMap<>();
+        private final Deque<ClientQueue> pendingClients = new ArrayDeque<>();
+        private double tokens;
+        private long lastRefill = System.nanoTime();
+        private int inFlight = 0;
+
+        public Destination(String host) {
+            this.host = host;
+            // a new destination starts with a full bucket, the tokens are limited to the burst size when refilled
+            this.tokens = Double.POSITIVE_INFINITY;
+        }
+
+        public boolean hasPending() {
+            return !pendingClients.isEmpty();
+        }
+
+        private int delay() {
+            return clientQueues.keySet().stream().mapToInt(RateLimitedHttpClient::getDelay).max().orElse(0);
+        }
+
+        private int burst() {
+            return clientQueues.keySet().stream().mapToInt(RateLimitedHttpClient::getBurst).min().orElse(1);
+        }
+
+        private int maxConcurrentRequests() {
+            return clientQueues.keySet().stream().mapToInt(RateLimitedHttpClient::getMaxConcurrentRequests)
+                    .filter(max -> max > 0).min().orElse(0);
+        }
+
+        public void resetTokens() {
+            tokens = burst();
+            lastRefill = System.nanoTime();
+        }
+
+        /**
+         * get the time until the next request to this destination may be sent
+         *
+         * @param now the current time
+         * @return the time to wait in ns, 0 if a request can be sent, Long.MAX_VALUE if all slots are in use
+         */
+        public long getWaitTime(long now) {
+            int maxConcurrentRequests = maxConcurrentRequests();
+            if (maxConcurrentRequests > 0 && inFlight >= maxConcurrentRequests) {
+                return Long.MAX_VALUE;
+            }
+            int delay = delay();
+            if (delay == 0) {
+                return 0;
+            }
+            long delayNanos = TimeUnit.MILLISECONDS.toNanos(delay);
+            tokens = Math.min(burst(), tokens + (double) (now - lastRefill) / delayNanos);
+            lastRefill = now;
+            return tokens >= 1 ? 0 : Math.max(1, (long) ((1 - tokens) * delayNanos));
+        }
+
+        /**
+         * take the next request, from the first client with a priority request or else from the next client
+         *
+         * @return the request
+         */
+        public RequestQueueEntry take() {
+            ClientQueue clientQueue = pendingClients.stream().filter(ClientQueue::hasPriorityRequest).findFirst()
+                    .orElse(pendingClients.getFirst());
+            pendingClients.remove(clientQueue);
+            RequestQueueEntry queueEntry = clientQueue.take();
+            if (clientQueue.hasPending()) {
+                pendingClients.addLast(clientQueue);
+            }
+            if (delay() != 0) {
+                tokens -= 1;
+            }
+            inFlight++;
+            logger.trace("Sending request to '{}' ({} in progress)", host, inFlight);
+            return queueEntry;
+        }
+    }
+
+    private static class ClientQueue {
+        private final Deque<RequestQueueEntry> priorityRequests = new ArrayDeque<>();
+        private final Deque<RequestQueueEntry> requests = new ArrayDeque<>();
+
+        public boolean hasPending() {
+            return !priorityRequests.isEmpty() || !requests.isEmpty();
+        }
+
+        public boolean hasPriorityRequest() {
+            return !priorityRequests.isEmpty();
+        }
+
+        public @Nullable RequestQueueEntry findPending(RequestQueueEntry queueEntry) {
+            for (RequestQueueEntry pendingEntry : requests) {
+                if (pendingEntry.isSameRequest(queueEntry)) {
+                    return pendingEntry;
+                }
+            }
+            return null;
+        }
+
+        public RequestQueueEntry take() {
+            RequestQueueEntry queueEntry = priorityRequests.pollFirst();
+            if (queueEntry == null) {
+                queueEntry = Objects.requireNonNull(requests.pollFirst());
+            }
+            return queueEntry;
+        }
+
+        public void drainTo(List<RequestQueueEntry> entries) {
+            entries.addAll(priorityRequests);
+            entries.addAll(requests);
+            priorityRequests.clear();
+            requests.clear();
+        }
+    }
+
+    private class RequestQueueEntry {
+        private final RateLimitedHttpClient client;
+        private final URI finalUrl;
+        private final HttpMethod method;
+        private final String content;
+        private final @Nullable String contentType;
+        private CompletableFuture<Request> future;
+
+        public RequestQueueEntry(RateLimitedHttpClient client, URI finalUrl, HttpMethod method, String content,
+                @Nullable String contentType, CompletableFuture<Request> future) {
+            this.client = client;
+            this.finalUrl = finalUrl;
+            this.method = method;
+            this.content = content;
+            this.contentType = contentType;
+            this.future = future;
+        }
+
+        public boolean isSameRequest(RequestQueueEntry other) {
+            return finalUrl.equals(other.finalUrl) && method == other.method && content.equals(other.content)
+                    && Objects.equals(contentType, other.contentType);
+        }
+
+        /**
+         * complete the future with a request
+         *
+         * @param destination the destination which is notified when the request completes
+         */
+        public void completeFuture(Destination destination) {
+            // the slot is released exactly once, either when the request completes or if it is never sent
+            AtomicBoolean released = new AtomicBoolean();
+            Runnable release = () -> {
+                if (released.compareAndSet(false, true)) {
+                    requestCompleted(destination);
+                }
+            };
+            boolean handedOut = false;
+            try {
+                Request request = client.createRequest(finalUrl, method, content, contentType);
+                request.onComplete(result -> release.run());
+                future.whenComplete((r, e) -> {
+                    if (e != null) {
+                        // cancelled or failed before the request could be sent
+                        release.run();
+                    }
+                });
+                handedOut = future.complete(request);
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            } finally {
+                if (!handedOut) {
+                    // the request was cancelled in the meantime or could not be created and will never be sent
+                    release.run();
+                }
+            }
+        }
+
+        /**
+         * cancel this request, the future completes with a {@link CancellationException}
+         */
+        public void cancel() {
+            future.cancel(false);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.http.internal.http;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.http.HttpMethod;
+import org.openhab.core.thing.binding.generic.ChannelHandlerContent;
+
+/**
+ * The {@link SharedRequestRegistry} is used by all {@link RefreshingUrlCache}s of the binding to collapse identical
+ * state requests into a single request. It also keeps the validators needed for conditional requests.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SharedRequestRegistry {
+    private final Map<RequestKey, SharedRequest> requests = new ConcurrentHashMap<>();
+
+    /**
+     * Register a user of a request
+     *
+     * @param key the request key
+     * @return the {@link SharedRequest} for this key
+     */
+    public SharedRequest register(RequestKey key) {
+        return Objects.requireNonNull(requests.compute(key, (k, v) -> {
+            SharedRequest request = v == null ? new SharedRequest() : v;
+            request.users++;
+            return request;
+        }));
+    }
+
+    /**
+     * Unregister a user of a request, the request is removed if it was the last user
+     *
+     * @param key the request key
+     */
+    public void unregister(RequestKey key) {
+        requests.computeIfPresent(key, (k, v) -> --v.users == 0 ? null : v);
+    }
+
+    /**
+     * Get the number of distinct requests
+     *
+     * @return the number of registered requests
+     */
+    public int size() {
+        return requests.size();
+    }
+
+    /**
+     * The {@link RequestKey} identifies a request, only requests with equal keys are collapsed
+     */
+    public record RequestKey(String url, HttpMethod method, Map<String, String> headers, String content,
+            @Nullable String contentType, @Nullable String fallbackEncoding, String credentials,
+            boolean ignoreSSLErrors) {
+    }
+
+    /**
+     * The {@link SharedRequest} holds the request in progress and the last received content of a request
+     */
+    public static class SharedRequest {
+        private int users = 0;
+        private @Nullable URI uri;
+        private @Nullable CompletableFuture<@Nullable ChannelHandlerContent> pending;
+        private @Nullable ChannelHandlerContent content;
+        private long contentTimestamp = 0; // System.nanoTime() of last response
+        private @Nullable String eTag;
+        private @Nullable String lastModified;
+
+        /**
+         * Join a request to the given URI which is in progress or was completed less than the given age ago
+         *
+         * @param uri the (formatted) request URI
+         * @param maxAgeNanos the maximum age of a completed response that may be re-used
+         * @param own the future of the caller, installed as request in progress if nothing can be joined
+         * @return the future to join or <code>null</code> if the caller has to send the request itself
+         */
+        public synchronized @Nullable CompletableFuture<@Nullable ChannelHandlerContent> joinOrBegin(URI uri,
+                long maxAgeNanos, CompletableFuture<@Nullable ChannelHandlerContent> own) {
+            if (uri.equals(this.uri)) {
+                CompletableFuture<@Nullable ChannelHandlerContent> pending = this.pending;
+                if (pending != null) {
+                    return pending;
+                }
+                ChannelHandlerContent content = this.content;
+                if (content != null && System.nanoTime() - contentTimestamp < maxAgeNanos) {
+                    return CompletableFuture.completedFuture(content);
+                }
+            } else {
+                // validators are only valid for the URI they were received for
+                this.uri = uri;
+                content = null;
+                eTag = null;
+                lastModified = null;
+            }
+            pending = own;
+            return null;
+        }
+
+        /**
+         * Get the entity tag of the last response
+         *
+         * @return the value for a <code>If-None-Match</code> header or <code>null</code> if not available
+         */
+        public synchronized @Nullable String getETag() {
+            return content != null ? eTag : null;
+        }
+
+        /**
+         * Get the modification date of the last response
+         *
+         * @return the value for a <code>If-Modified-Since</code> header or <code>null</code> if not available
+         */
+        public synchronized @Nullable String getLastModified() {
+            return content != null ? lastModified : null;
+        }
+
+        /**
+         * Complete the request in progress with new content
+         *
+         * @param own the future of the request
+         * @param content the received content
+         * @param eTag the entity tag of the response (if any)
+         * @param lastModified the modification date of the response (if any)
+         */
+        public void update(CompletableFuture<@Nullable ChannelHandlerContent> own, ChannelHandlerContent content,
+                @Nullable String eTag, @Nullable String lastModified) {
+            synchronized (this) {
+                this.content = content;
+                this.contentTimestamp = System.nanoTime();
+                this.eTag = eTag;
+                this.lastModified = lastModified;
+                clearPending(own);
+            }
+            own.complete(content);
+        }
+
+        /**
+         * Complete the request in progress after the server reported that the content was not modified
+         *
+         * @param own the future of the request
+         * @return the unchanged content or <code>null</code> if no content is available
+         */
+        public @Nullable ChannelHandlerContent notModified(CompletableFuture<@Nullable ChannelHandlerContent> own) {
+            @Nullable ChannelHandlerContent content;
+            synchronized (this) {
+                content = this.content;
+                if (content != null) {
+                    contentTimestamp = System.nanoTime();
+                }
+                clearPending(own);
+            }
+            own.complete(content);
+            return content;
+        }
+
+        /**
+         * Complete the request in progress after a failure, users joining it have to send their own request
+         *
+         * @param own the future of the request
+         */
+        public void fail(CompletableFuture<@Nullable ChannelHandlerContent> own) {
+            synchronized (this) {
+                clearPending(own);
+            }
+            own.complete(null);
+        }
+
+        private void clearPending(CompletableFuture<@Nullable ChannelHandlerContent> own) {
+            // joining users are notified outside the lock when the future is completed
+            if (pending == own) {
+                pending = null;
+            }
+        }
+    }
+}
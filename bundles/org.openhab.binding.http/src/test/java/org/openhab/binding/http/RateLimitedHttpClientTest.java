@@ -23,7 +23,9 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.lessThan;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.net.URI;
 import java.util.List;
@@ -38,6 +40,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.openhab.binding.http.internal.http.RateLimitedHttpClient;
+import org.openhab.binding.http.internal.http.RequestScheduler;
 
 /**
  * The {@link RateLimitedHttpClientTest} implements tests for the {@link RateLimitedHttpClient}
@@ -99,10 +102,83 @@ public class RateLimitedHttpClientTest extends AbstractWireMockTest {
         assertThat((int) msBetween, allOf(greaterThanOrEqualTo(1000), lessThan(1100)));
     }
 
+    @Test
+    public void testWithLimitAndBurst() {
+        doLimitTest(500, 2, List.of(false, false, false));
+
+        // we expect the first two requests without delay, but less than 100ms
+        long msBetween = responses.get(1).time - responses.get(0).time;
+        assertThat((int) msBetween, allOf(greaterThanOrEqualTo(0), lessThan(100)));
+
+        // we expect at least 500ms delay before the third request, but less than 500+100=600ms
+        msBetween = responses.get(2).time - responses.get(0).time;
+        assertThat((int) msBetween, allOf(greaterThanOrEqualTo(500), lessThan(600)));
+    }
+
+    @Test
+    public void testPendingRequestIsReplaced() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
+
+        RateLimitedHttpClient rateLimitedHttpClient = new RateLimitedHttpClient(httpClient,
+                new RequestScheduler(scheduler));
+        rateLimitedHttpClient.setDelay(500);
+
+        URI url = URI.create("http://localhost:" + port + TEST_LOCATION);
+        List<CompletableFuture<Request>> requestFutures = List.of(
+                rateLimitedHttpClient.newRequest(url, HttpMethod.GET, "", null),
+                rateLimitedHttpClient.newRequest(url, HttpMethod.GET, "", null),
+                rateLimitedHttpClient.newRequest(url, HttpMethod.GET, "", null));
+
+        // the first request is created immediately, the second is replaced by the third while waiting
+        waitForAssert(() -> assertTrue(requestFutures.get(2).isDone()));
+        rateLimitedHttpClient.shutdown();
+
+        assertFalse(requestFutures.get(0).isCompletedExceptionally());
+        assertTrue(requestFutures.get(1).isCompletedExceptionally());
+        assertTrue(requestFutures.get(1).isCancelled());
+        assertFalse(requestFutures.get(2).isCompletedExceptionally());
+    }
+
+    @Test
+    public void testThingsOfTheSameHostAreServedRoundRobin() {
+        RequestScheduler requestScheduler = new RequestScheduler(scheduler);
+        RateLimitedHttpClient thing1 = new RateLimitedHttpClient(httpClient, requestScheduler);
+        RateLimitedHttpClient thing2 = new RateLimitedHttpClient(httpClient, requestScheduler);
+        thing1.setDelay(100);
+        thing2.setDelay(100);
+
+        List<String> order = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            queueNamedRequest(thing1, "thing1-" + i, order);
+        }
+        for (int i = 0; i < 2; i++) {
+            queueNamedRequest(thing2, "thing2-" + i, order);
+        }
+
+        // the first request of thing1 is created immediately, then the things take turns
+        waitForAssert(() -> assertEquals(6, order.size()));
+        assertEquals(List.of("thing1-0", "thing1-1", "thing2-0", "thing1-2", "thing2-1", "thing1-3"), order);
+
+        thing1.shutdown();
+        thing2.shutdown();
+        requestScheduler.shutdown();
+    }
+
+    private void queueNamedRequest(RateLimitedHttpClient client, String name, List<String> order) {
+        URI url = URI.create("http://localhost:" + port + TEST_LOCATION + "/" + name);
+        client.newRequest(url, HttpMethod.GET, "", null).thenRun(() -> order.add(name));
+    }
+
     private void doLimitTest(int setDelay, List<Boolean> config) {
+        doLimitTest(setDelay, 1, config);
+    }
+
+    private void doLimitTest(int setDelay, int setBurst, List<Boolean> config) {
         stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
 
-        RateLimitedHttpClient rateLimitedHttpClient = new RateLimitedHttpClient(httpClient, scheduler);
+        RateLimitedHttpClient rateLimitedHttpClient = new RateLimitedHttpClient(httpClient,
+                new RequestScheduler(scheduler));
+        rateLimitedHttpClient.setBurst(setBurst);
         rateLimitedHttpClient.setDelay(setDelay);
 
         URI url = URI.create("http://localhost:" + port + TEST_LOCATION);
@@ -13,6 +13,7 @@
 package org.openhab.binding.http;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
@@ -45,7 +46,9 @@ import org.junit.jupiter.api.TestInstance;
 import org.openhab.binding.http.internal.config.HttpThingConfig;
 import org.openhab.binding.http.internal.http.HttpStatusListener;
 import org.openhab.binding.http.internal.http.RateLimitedHttpClient;
+import org.openhab.binding.http.internal.http.RequestScheduler;
 import org.openhab.binding.http.internal.http.RefreshingUrlCache;
+import org.openhab.binding.http.internal.http.SharedRequestRegistry;
 import org.openhab.core.thing.binding.generic.ChannelHandlerContent;
 
 /**
@@ -72,7 +75,7 @@ public class RefreshingUrlCacheTest extends AbstractWireMockTest {
         httpClient.setUserAgentField(null);
 
         // create a RateLimitedHttpClient
-        rateLimitedHttpClient = new RateLimitedHttpClient(httpClient, scheduler);
+        rateLimitedHttpClient = new RateLimitedHttpClient(httpClient, new RequestScheduler(scheduler));
         rateLimitedHttpClient.setDelay(0);
         statusListener = mock(HttpStatusListener.class);
 
@@ -245,6 +248,71 @@ public class RefreshingUrlCacheTest extends AbstractWireMockTest {
         assertTrue(returnedQueryValue.matches("\\d{4}-\\d{2}-\\d{2}"));
     }
 
+    @Test
+    public void testNoUpdateOnNotModified() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).atPriority(2)
+                .willReturn(aResponse().withHeader("ETag", "\"v1\"").withBody(TEST_CONTENT)));
+        stubFor(get(urlEqualTo(TEST_LOCATION)).atPriority(1).withHeader("If-None-Match", equalTo("\"v1\""))
+                .willReturn(aResponse().withStatus(304)));
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+
+        // wait until we got at least one "not modified" response
+        waitForAssert(() -> assertTrue(urlCache.getBytesSaved() >= TEST_CONTENT.length()));
+        urlCache.stop();
+
+        // verify the content was only processed once and the unchanged content is still available
+        verify(statusListener, never()).onHttpError(any());
+        assertEquals(1, contentWrappers.size());
+        assertEquals(TEST_CONTENT, urlCache.get().map(ChannelHandlerContent::getAsString).orElse(""));
+    }
+
+    @Test
+    public void testNotModifiedWithoutValidatorsIsError() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withStatus(304)));
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+
+        // the request had no validators, so the response is not treated as unmodified content
+        verify(statusListener, timeout(1000)).onHttpError(any());
+        urlCache.stop();
+
+        assertEquals(0, urlCache.getBytesSaved());
+        assertTrue(urlCache.get().isEmpty());
+    }
+
+    @Test
+    public void testIdenticalRequestsAreCollapsed() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
+
+        SharedRequestRegistry sharedRequestRegistry = new SharedRequestRegistry();
+        List<@Nullable ChannelHandlerContent> otherContentWrappers = new CopyOnWriteArrayList<>();
+        RefreshingUrlCache urlCache = new RefreshingUrlCache(rateLimitedHttpClient, url, thingConfig, TEST_CONTENT,
+                null, statusListener, sharedRequestRegistry);
+        urlCache.addConsumer(contentWrappers::add);
+        RefreshingUrlCache otherUrlCache = new RefreshingUrlCache(rateLimitedHttpClient, url, thingConfig,
+                TEST_CONTENT, null, statusListener, sharedRequestRegistry);
+        otherUrlCache.addConsumer(otherContentWrappers::add);
+        assertEquals(0, sharedRequestRegistry.size());
+
+        urlCache.start(scheduler, thingConfig.refresh);
+        otherUrlCache.start(scheduler, thingConfig.refresh);
+        assertEquals(1, sharedRequestRegistry.size());
+
+        // both caches need to receive the content, at least one refresh uses the request of the other cache
+        waitForAssert(() -> {
+            assertFalse(contentWrappers.isEmpty());
+            assertFalse(otherContentWrappers.isEmpty());
+            assertTrue(urlCache.getCollapsedRequests() + otherUrlCache.getCollapsedRequests() > 0);
+        });
+        urlCache.stop();
+        otherUrlCache.stop();
+        assertEquals(0, sharedRequestRegistry.size());
+
+        verify(statusListener, never()).onHttpError(any());
+        assertEquals(TEST_CONTENT, Objects.requireNonNull(otherContentWrappers.get(0)).getAsString());
+    }
+
     /**
      * helper method to create a {@link RefreshingUrlCache} and add a test listener
      *
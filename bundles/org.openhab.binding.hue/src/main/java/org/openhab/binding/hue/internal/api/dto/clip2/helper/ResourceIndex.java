@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.api.dto.clip2.helper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.hue.internal.api.dto.clip2.Resource;
+
+/**
+ * Index which maps the IDs of incoming resources to the consumers (i.e. thing handlers) that depend on them, so that
+ * each incoming resource is only offered to its consumers.
+ *
+ * @param <T> the type of the consumers.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ResourceIndex<T> {
+    private final Map<String, Set<T>> consumersById = new ConcurrentHashMap<>();
+    private final Map<T, Set<String>> idsByConsumer = new HashMap<>();
+
+    /**
+     * Set the IDs of the resources that the given consumer depends on, replacing any previously set IDs.
+     *
+     * @param consumer the consumer.
+     * @param resourceIds the IDs of the resources the consumer depends on.
+     */
+    public synchronized void update(T consumer, Set<String> resourceIds) {
+        remove(consumer);
+        resourceIds.forEach(id -> consumersById.computeIfAbsent(id, k -> new CopyOnWriteArraySet<>()).add(consumer));
+        idsByConsumer.put(consumer, Set.copyOf(resourceIds));
+    }
+
+    /**
+     * Remove the given consumer from the index.
+     *
+     * @param consumer the consumer to be removed.
+     */
+    public synchronized void remove(T consumer) {
+        Set<String> resourceIds = idsByConsumer.remove(consumer);
+        if (Objects.nonNull(resourceIds)) {
+            resourceIds.forEach(id -> consumersById.computeIfPresent(id, (k, consumers) -> {
+                consumers.remove(consumer);
+                return consumers.isEmpty() ? null : consumers;
+            }));
+        }
+    }
+
+    /**
+     * Distribute the given resources to their consumers. Each consumer receives its resources in their original
+     * order, and resources which have no consumer are dropped.
+     *
+     * @param resources the incoming resources.
+     * @return a map of each consumer to the list of resources it depends on, in the order of first appearance.
+     */
+    public Map<T, List<Resource>> route(List<Resource> resources) {
+        Map<T, List<Resource>> resourcesPerConsumer = new LinkedHashMap<>();
+        for (Resource resource : resources) {
+            Set<T> consumers = consumersById.get(resource.getId());
+            if (Objects.nonNull(consumers)) {
+                consumers.forEach(consumer -> resourcesPerConsumer.computeIfAbsent(consumer, c -> new ArrayList<>())
+                        .add(resource));
+            }
+        }
+        return resourcesPerConsumer;
+    }
+}
@@ -12,7 +12,6 @@
  */
 package org.openhab.binding.hue.internal.connection;
 
-import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.IOException;
@@ -40,7 +39,6 @@ import java.util.concurrent.TimeoutException;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.stream.Collectors;
 
 import javax.ws.rs.core.MediaType;
 
@@ -89,11 +87,9 @@ import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
 import com.google.gson.JsonParseException;
-import com.google.gson.JsonParser;
-import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 /**
  * This class handles HTTP and SSE connections to/from a Hue Bridge running CLIP 2.
@@ -233,12 +229,13 @@ public class Clip2Bridge implements Closeable {
     /**
      * Class to collect incoming ByteBuffer data from HTTP 2 Data frames.
      */
-    private static class DataFrameCollector {
+    static class DataFrameCollector {
         private byte[] buffer = new byte[512];
         private int usedSize = 0;
+        private int scannedSize = 0;
 
         public void append(ByteBuffer data) {
-            int dataCapacity = data.capacity();
+            int dataCapacity = data.remaining();
             int neededSize = usedSize + dataCapacity;
             if (neededSize > buffer.length) {
                 int newSize = (dataCapacity < 4096) ? neededSize : Math.max(2 * buffer.length, neededSize);
@@ -248,6 +245,93 @@ public class Clip2Bridge implements Closeable {
             usedSize += dataCapacity;
         }
 
+        public void append(byte[] data, int offset, int length) {
+            int neededSize = usedSize + length;
+            if (neededSize > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(2 * buffer.length, neededSize));
+            }
+            System.arraycopy(data, offset, buffer, usedSize, length);
+            usedSize += length;
+        }
+
+        /**
+         * Find the end of the first complete SSE message i.e. a line feed followed by an empty line. Data which has
+         * already been scanned by a previous call is not scanned again.
+         *
+         * @return the index after the empty line, or -1 if the content does not yet contain a complete message.
+         */
+        private int findEndOfMessage() {
+            // back up one line terminator in case the empty line was split across data frames
+            int index = Math.max(0, scannedSize - 2);
+            while (index < usedSize) {
+                if (buffer[index++] == '\n') {
+                    if (index < usedSize && buffer[index] == '\r') {
+                        index++;
+                    }
+                    if (index < usedSize && buffer[index] == '\n') {
+                        scannedSize = 0;
+                        return index + 1;
+                    }
+                }
+            }
+            scannedSize = usedSize;
+            return -1;
+        }
+
+        /**
+         * Extract the 'data' field values of the first complete SSE message into the target collector, replacing its
+         * previous content, and remove the message from the content.
+         *
+         * @param target the collector to receive the data.
+         * @return true if a complete message was extracted, or false if there is no complete message yet.
+         */
+        public boolean extractNextMessage(DataFrameCollector target) {
+            int endOfMessage = findEndOfMessage();
+            if (endOfMessage < 0) {
+                return false;
+            }
+            target.reset();
+            extractMessageData(endOfMessage, target);
+            return true;
+        }
+
+        /**
+         * Append the values of the 'data' fields of the SSE message ending at the given index to the target collector,
+         * and remove the message from the content.
+         *
+         * @param endOfMessage the index after the end of the message.
+         * @param target the collector to receive the data.
+         */
+        private void extractMessageData(int endOfMessage, DataFrameCollector target) {
+            int lineStart = 0;
+            while (lineStart < endOfMessage) {
+                int lineEnd = lineStart;
+                while (lineEnd < endOfMessage && buffer[lineEnd] != '\n' && buffer[lineEnd] != '\r') {
+                    lineEnd++;
+                }
+                if (lineEnd - lineStart >= 5 && buffer[lineStart] == 'd' && buffer[lineStart + 1] == 'a'
+                        && buffer[lineStart + 2] == 't' && buffer[lineStart + 3] == 'a'
+                        && buffer[lineStart + 4] == ':') {
+                    int valueStart = lineStart + 5;
+                    while (valueStart < lineEnd && Character.isWhitespace(buffer[valueStart])) {
+                        valueStart++;
+                    }
+                    target.append(buffer, valueStart, lineEnd - valueStart);
+                }
+                lineStart = lineEnd + 1;
+            }
+            System.arraycopy(buffer, endOfMessage, buffer, 0, usedSize - endOfMessage);
+            usedSize -= endOfMessage;
+        }
+
+        public boolean isEmpty() {
+            return usedSize == 0;
+        }
+
+        public int size() {
+            return usedSize;
+        }
+
         public String contentAsString() {
             return new String(buffer, 0, usedSize, StandardCharsets.UTF_8);
         }
@@ -264,10 +348,10 @@ public class Clip2Bridge implements Closeable {
     /**
      * Adapter for listening to SSE event stream events.
      *
-     * It receives the incoming text lines. Receipt of the first data line causes the CompletableFuture to complete. It
-     * then parses subsequent data according to the SSE specification. If the line starts with a 'data:' message, it
-     * adds the data to the list of strings. And if the line is empty (i.e. the last line of an event), it passes the
-     * full set of strings to the owner via a call-back method.
+     * It receives the incoming data frames. Receipt of the first complete message causes the CompletableFuture to
+     * complete. It scans the raw bytes according to the SSE specification, without converting them to strings. When a
+     * message is complete (i.e. terminated by an empty line), it collects the values of the 'data' fields of the
+     * message and passes them to the owner via a call-back method.
      *
      * The stream must be permanently connected, so it ignores onIdleTimeout() events.
      *
@@ -279,6 +363,7 @@ public class Clip2Bridge implements Closeable {
      */
     private class EventStreamListenerAdapter extends BaseStreamListenerAdapter<Boolean> {
         private final DataFrameCollector eventData = new DataFrameCollector();
+        private final DataFrameCollector eventContent = new DataFrameCollector();
 
         @Override
         public void onClosed(@Nullable Stream stream) {
@@ -292,29 +377,15 @@ public class Clip2Bridge implements Closeable {
             Objects.requireNonNull(callback);
             synchronized (this) {
                 eventData.append(frame.getData());
-                BufferedReader reader = new BufferedReader(eventData.contentStreamReader());
-                @SuppressWarnings("null")
-                List<String> receivedLines = reader.lines().collect(Collectors.toList());
 
-                // a blank line marks the end of an SSE message
-                boolean endOfMessage = !receivedLines.isEmpty()
-                        && receivedLines.get(receivedLines.size() - 1).isBlank();
-
-                if (endOfMessage) {
-                    eventData.reset();
+                // a blank line marks the end of an SSE message, collect any 'data' field values of the message
+                while (eventData.extractNextMessage(eventContent)) {
                     // receipt of ANY message means the event stream is established
                     if (!completable.isDone()) {
                         completable.complete(Boolean.TRUE);
                     }
-                    // append any 'data' field values to the event message
-                    StringBuilder eventContent = new StringBuilder();
-                    for (String receivedLine : receivedLines) {
-                        if (receivedLine.startsWith("data:")) {
-                            eventContent.append(receivedLine.substring(5).stripLeading());
-                        }
-                    }
-                    if (eventContent.length() > 0) {
-                        onEventData(eventContent.toString().trim());
+                    if (!eventContent.isEmpty()) {
+                        onEventData(eventContent);
                     }
                 }
             }
@@ -883,37 +954,30 @@ public class Clip2Bridge implements Closeable {
     }
 
     /**
-     * The event stream calls this method when it has received text data. It parses the text as JSON into a list of
-     * Event entries, converts the list of events to a list of resources, and forwards that list to the bridge
-     * handler.
+     * The event stream calls this method when it has received event data. It parses the raw (UTF-8) data as a JSON
+     * stream into a list of Event entries, converts the list of events to a list of resources, and forwards that list
+     * to the bridge handler.
      *
-     * @param data the incoming (presumed to be JSON) text.
+     * @param data the incoming (presumed to be JSON) data.
      */
-    protected void onEventData(String data) {
+    private void onEventData(DataFrameCollector data) {
         if (onlineState != State.ACTIVE && !recreatingSession) {
             return;
         }
         if (LOGGER.isTraceEnabled()) {
-            LOGGER.trace("onEventData() data:{}", data);
+            LOGGER.trace("onEventData() data:{}", data.contentAsString());
         } else {
-            LOGGER.debug("onEventData() data length:{}", data.length());
-        }
-        JsonElement jsonElement;
-        try {
-            jsonElement = JsonParser.parseString(data);
-        } catch (JsonSyntaxException e) {
-            LOGGER.debug("onEventData() invalid data '{}'", data, e);
-            return;
-        }
-        if (!(jsonElement instanceof JsonArray)) {
-            LOGGER.debug("onEventData() data is not a JsonArray {}", data);
-            return;
+            LOGGER.debug("onEventData() data length:{}", data.size());
         }
         List<Event> events;
-        try {
-            events = jsonParser.fromJson(jsonElement, Event.EVENT_LIST_TYPE);
-        } catch (JsonParseException e) {
-            LOGGER.debug("onEventData() parsing error json:{}", data, e);
+        try (JsonReader reader = new JsonReader(data.contentStreamReader())) {
+            if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+                LOGGER.debug("onEventData() data is not a JsonArray {}", data.contentAsString());
+                return;
+            }
+            events = jsonParser.fromJson(reader, Event.EVENT_LIST_TYPE);
+        } catch (IOException | JsonParseException e) {
+            LOGGER.debug("onEventData() parsing error json:{}", data.contentAsString(), e);
             return;
         }
         if (Objects.isNull(events) || events.isEmpty()) {
@@ -37,6 +37,7 @@ import org.openhab.binding.hue.internal.api.dto.clip2.ResourceReference;
 import org.openhab.binding.hue.internal.api.dto.clip2.Resources;
 import org.openhab.binding.hue.internal.api.dto.clip2.enums.Archetype;
 import org.openhab.binding.hue.internal.api.dto.clip2.enums.ResourceType;
+import org.openhab.binding.hue.internal.api.dto.clip2.helper.ResourceIndex;
 import org.openhab.binding.hue.internal.api.dto.clip2.helper.Setters;
 import org.openhab.binding.hue.internal.config.Clip2BridgeConfig;
 import org.openhab.binding.hue.internal.connection.Clip2Bridge;
@@ -116,6 +117,7 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
     private @Nullable Future<?> updateOnlineStateTask;
     private @Nullable ScheduledFuture<?> scheduledUpdateTask;
     private Map<Integer, Future<?>> resourcesEventTasks = new ConcurrentHashMap<>();
+    private final ResourceIndex<Clip2ThingHandler> resourceIndex = new ResourceIndex<>();
 
     private boolean assetsLoaded;
     private int applKeyRetriesRemaining;
@@ -535,11 +537,31 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         if (numberOfResources != resources.size()) {
             logger.debug("onResourcesEventTask() merged to {} resources", resources.size());
         }
-        getThing().getThings().forEach(thing -> {
-            if (thing.getHandler() instanceof Clip2ThingHandler clip2ThingHandler) {
-                clip2ThingHandler.onResources(resources);
-            }
-        });
+        resourceIndex.route(resources).forEach((handler, handlerResources) -> handler.onResources(handlerResources));
+    }
+
+    /**
+     * Update the index which maps the IDs of incoming resources to the thing handlers that consume them. This avoids
+     * offering every event to every thing handler.
+     *
+     * @param handler the thing handler whose resource IDs have changed.
+     */
+    public void updateResourceIndex(Clip2ThingHandler handler) {
+        resourceIndex.update(handler, handler.getResourceIds());
+    }
+
+    @Override
+    public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof Clip2ThingHandler clip2ThingHandler) {
+            updateResourceIndex(clip2ThingHandler);
+        }
+    }
+
+    @Override
+    public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof Clip2ThingHandler clip2ThingHandler) {
+            resourceIndex.remove(clip2ThingHandler);
+        }
     }
 
     /**
@@ -284,6 +284,30 @@ public class Clip2ThingHandler extends BaseThingHandler {
         throw new AssetNotLoadedException("Bridge handler missing");
     }
 
+    /**
+     * Get the IDs of all resources which contribute to the state of this thing, i.e. the thing's own resource, its
+     * services and its scenes.
+     *
+     * @return the set of resource IDs.
+     */
+    public Set<String> getResourceIds() {
+        Set<String> resourceIds = new HashSet<>(serviceContributorsCache.keySet());
+        resourceIds.addAll(sceneContributorsCache.keySet());
+        resourceIds.add(resourceId);
+        return resourceIds;
+    }
+
+    /**
+     * Inform the bridge handler that the set of resources contributing to this thing has changed, so that it routes
+     * the respective events to this handler.
+     */
+    private void updateResourceIndex() {
+        Bridge bridge = getBridge();
+        if (Objects.nonNull(bridge) && bridge.getHandler() instanceof Clip2BridgeHandler bridgeHandler) {
+            bridgeHandler.updateResourceIndex(this);
+        }
+    }
+
     /**
      * Do a double lookup to get the cached resource that matches the given ResourceType.
      *
@@ -1108,6 +1132,7 @@ public class Clip2ThingHandler extends BaseThingHandler {
             serviceContributorsCache.clear();
             serviceContributorsCache.putAll(services.stream()
                     .collect(Collectors.toMap(ResourceReference::getId, r -> new Resource(r.getType()))));
+            updateResourceIndex();
 
             // add supported services to commandResourceIds
             commandResourceIds.clear();
@@ -1236,6 +1261,7 @@ public class Clip2ThingHandler extends BaseThingHandler {
             if (!scenes.isEmpty()) {
                 sceneContributorsCache.putAll(scenes.stream().collect(Collectors.toMap(s -> s.getId(), s -> s)));
                 sceneResourceEntries.putAll(scenes.stream().collect(Collectors.toMap(s -> s.getName(), s -> s)));
+                updateResourceIndex();
 
                 State state = scenes.stream().filter(s -> s.getSceneActive().orElse(false)).map(s -> s.getSceneState())
                         .findAny().orElse(UnDefType.UNDEF);
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.clip2;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.hue.internal.api.dto.clip2.Resource;
+import org.openhab.binding.hue.internal.api.dto.clip2.enums.ResourceType;
+import org.openhab.binding.hue.internal.api.dto.clip2.helper.ResourceIndex;
+
+/**
+ * Tests for the routing of incoming resources by {@link ResourceIndex}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ResourceIndexTest {
+    private final ResourceIndex<String> index = new ResourceIndex<>();
+
+    @Test
+    public void testResourcesAreRoutedToTheirConsumersInOrder() {
+        index.update("lamp", Set.of("light-1", "zigbee-1"));
+        index.update("room", Set.of("grouped-1", "scene-1"));
+
+        Resource light = resource(ResourceType.LIGHT, "light-1");
+        Resource scene = resource(ResourceType.SCENE, "scene-1");
+        Resource connectivity = resource(ResourceType.ZIGBEE_CONNECTIVITY, "zigbee-1");
+        Resource unknown = resource(ResourceType.LIGHT, "light-2");
+
+        Map<String, List<Resource>> routed = index.route(List.of(light, scene, unknown, connectivity));
+
+        assertEquals(List.of("lamp", "room"), List.copyOf(routed.keySet()));
+        assertEquals(List.of(light, connectivity), routed.get("lamp"));
+        assertEquals(List.of(scene), routed.get("room"));
+    }
+
+    @Test
+    public void testSharedResourceIsRoutedToAllConsumers() {
+        index.update("lamp", Set.of("light-1"));
+        index.update("zone", Set.of("light-1", "grouped-1"));
+
+        Resource light = resource(ResourceType.LIGHT, "light-1");
+        Map<String, List<Resource>> routed = index.route(List.of(light));
+
+        assertEquals(Set.of("lamp", "zone"), routed.keySet());
+        assertEquals(List.of(light), routed.get("lamp"));
+        assertEquals(List.of(light), routed.get("zone"));
+    }
+
+    @Test
+    public void testUpdateReplacesResourceIds() {
+        index.update("room", Set.of("scene-1"));
+        index.update("room", Set.of("scene-2"));
+
+        assertTrue(index.route(List.of(resource(ResourceType.SCENE, "scene-1"))).isEmpty());
+        assertEquals(Set.of("room"), index.route(List.of(resource(ResourceType.SCENE, "scene-2"))).keySet());
+    }
+
+    @Test
+    public void testRemovedConsumerReceivesNothing() {
+        index.update("lamp", Set.of("light-1"));
+        index.update("zone", Set.of("light-1"));
+        index.remove("lamp");
+
+        assertEquals(Set.of("zone"), index.route(List.of(resource(ResourceType.LIGHT, "light-1"))).keySet());
+
+        index.remove("zone");
+        assertTrue(index.route(List.of(resource(ResourceType.LIGHT, "light-1"))).isEmpty());
+    }
+
+    private Resource resource(ResourceType type, String id) {
+        return new Resource(type).setId(id);
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.connection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.hue.internal.connection.Clip2Bridge.DataFrameCollector;
+
+/**
+ * Tests for the incremental decoding of the SSE event stream of a {@link Clip2Bridge}, with messages split across
+ * arbitrary data frame boundaries.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class Clip2BridgeEventStreamTest {
+    private static final String EVENT_1 = "[{\"creationtime\":\"2024-01-01T00:00:00Z\",\"data\":[{\"id\":\"1\","
+            + "\"type\":\"light\",\"on\":{\"on\":true}}],\"id\":\"e1\",\"type\":\"update\"}]";
+    private static final String EVENT_2 = "[{\"data\":[{\"id\":\"2\",\"type\":\"light\","
+            + "\"metadata\":{\"name\":\"Küche ☀\"}}],\"id\":\"e2\",\"type\":\"update\"}]";
+    private static final String EVENT_3 = "[{\"data\":[{\"id\":\"3\",\"type\":\"button\"}],\"id\":\"e3\","
+            + "\"type\":\"update\"}]";
+
+    // a comment message, as sent by the bridge when the stream is opened, and three events with different line endings
+    private static final String STREAM = ": hi\n\n" //
+            + "id: 1:0\ndata: " + EVENT_1 + "\n\n" //
+            + "id: 2:0\r\ndata: " + EVENT_2 + "\r\n\r\n" //
+            + "id: 3:0\ndata:" + EVENT_3 + "\n\n";
+
+    private static final List<String> EXPECTED = List.of("", EVENT_1, EVENT_2, EVENT_3);
+
+    @Test
+    public void testSingleFrame() {
+        assertEquals(EXPECTED, decode(STREAM.getBytes(StandardCharsets.UTF_8), new int[0]));
+    }
+
+    @Test
+    public void testEverySplitPosition() {
+        byte[] stream = STREAM.getBytes(StandardCharsets.UTF_8);
+        for (int split = 1; split < stream.length; split++) {
+            assertEquals(EXPECTED, decode(stream, new int[] { split }), "split at " + split);
+        }
+    }
+
+    @Test
+    public void testSingleByteFrames() {
+        byte[] stream = STREAM.getBytes(StandardCharsets.UTF_8);
+        int[] splits = new int[stream.length - 1];
+        for (int i = 0; i < splits.length; i++) {
+            splits[i] = i + 1;
+        }
+        assertEquals(EXPECTED, decode(stream, splits));
+    }
+
+    @Test
+    public void testRandomSplits() {
+        byte[] stream = STREAM.getBytes(StandardCharsets.UTF_8);
+        Random random = new Random(42);
+        for (int run = 0; run < 500; run++) {
+            int[] splits = random.ints(random.nextInt(20), 1, stream.length).sorted().distinct().toArray();
+            assertEquals(EXPECTED, decode(stream, splits), "splits at " + Arrays.toString(splits));
+        }
+    }
+
+    @Test
+    public void testMultipleDataLines() {
+        String stream = "data: [{\"a\":\ndata: 1}]\n\n";
+        assertEquals(List.of("[{\"a\":1}]"), decode(stream.getBytes(StandardCharsets.UTF_8), new int[] { 12 }));
+    }
+
+    @Test
+    public void testIncompleteMessageIsKept() {
+        DataFrameCollector eventData = new DataFrameCollector();
+        DataFrameCollector eventContent = new DataFrameCollector();
+
+        eventData.append(ByteBuffer.wrap(("data: " + EVENT_1 + "\n").getBytes(StandardCharsets.UTF_8)));
+        assertFalse(eventData.extractNextMessage(eventContent));
+        eventData.append(ByteBuffer.wrap("\ndata: [".getBytes(StandardCharsets.UTF_8)));
+        assertTrue(eventData.extractNextMessage(eventContent));
+        assertEquals(EVENT_1, eventContent.contentAsString());
+        assertFalse(eventData.extractNextMessage(eventContent));
+        assertEquals("data: [", eventData.contentAsString());
+    }
+
+    /**
+     * Feed the stream to a collector in data frames split at the given positions, and return the data of all
+     * extracted messages.
+     */
+    private List<String> decode(byte[] stream, int[] splits) {
+        DataFrameCollector eventData = new DataFrameCollector();
+        DataFrameCollector eventContent = new DataFrameCollector();
+        List<String> messages = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= splits.length; i++) {
+            int end = i < splits.length ? splits[i] : stream.length;
+            // a frame which is a slice of a larger buffer
+            eventData.append(ByteBuffer.wrap(stream, start, end - start).slice());
+            while (eventData.extractNextMessage(eventContent)) {
+                messages.add(eventContent.contentAsString());
+            }
+            start = end;
+        }
+        assertTrue(eventData.isEmpty());
+        return messages;
+    }
+}
@@ -17,10 +17,14 @@ import java.io.InputStream;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.TimeZone;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -61,13 +65,38 @@ import biweekly.util.com.google.ical.compat.javautil.DateIterator;
  * @author Michael Wodniok - Added logic for events moved with "RECURRENCE-ID" (issue 9647)
  * @author Michael Wodniok - Extended logic for defined behavior with parallel current events
  *         (issue 10808)
+ * @author agent - Added occurrence index for lookups near the current time
  */
 @NonNullByDefault
 class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
     private static final Duration ONE_DAY = Duration.ofDays(1).minusNanos(1);
+    private static final Duration INDEX_BEHIND = Duration.ofDays(1);
+    private static final Duration INDEX_AHEAD = Duration.ofDays(30);
+    private static final int MAX_INDEXED_OCCURRENCES = 500_000;
+    // e.g. one window around the current time and one per filter looking ahead
+    private static final int MAX_INDEXES = 3;
     private final ICalendar usedCalendar;
+    private final List<VEvent> positiveEvents = new ArrayList<>();
+    private final Map<String, List<VEvent>> negativeEventsByUid = new HashMap<>();
+    private final Duration indexBehind;
+    private final Duration indexAhead;
+    // the most recently built index first, replaced as a whole so readers need no lock
+    private volatile List<OccurrenceIndex> occurrenceIndexes = List.of();
 
     BiweeklyPresentableCalendar(InputStream streamed) throws IOException, CalendarException {
+        this(streamed, INDEX_BEHIND, INDEX_AHEAD);
+    }
+
+    /**
+     * Creates a calendar with a custom occurrence index window.
+     *
+     * @param streamed A Stream containing the iCal data.
+     * @param indexBehind How far the occurrence index reaches before the first looked up instant.
+     * @param indexAhead How far the occurrence index reaches after the first looked up instant. Set to
+     *            {@link Duration#ZERO} to disable the index.
+     */
+    BiweeklyPresentableCalendar(InputStream streamed, Duration indexBehind, Duration indexAhead)
+            throws IOException, CalendarException {
         try (final ICalReader reader = new ICalReader(streamed)) {
             final ICalendar currentCalendar = reader.readNext();
             if (currentCalendar == null) {
@@ -75,6 +104,17 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
             }
             this.usedCalendar = currentCalendar;
         }
+        this.indexBehind = indexBehind;
+        this.indexAhead = indexAhead;
+        final List<VEvent> negativeEvents = new ArrayList<>();
+        classifyEvents(positiveEvents, negativeEvents);
+        for (final VEvent negativeEvent : negativeEvents) {
+            final Uid negativeEventUid = negativeEvent.getUid();
+            if (negativeEventUid != null && negativeEventUid.getValue() != null) {
+                negativeEventsByUid.computeIfAbsent(negativeEventUid.getValue(), uid -> new ArrayList<>())
+                        .add(negativeEvent);
+            }
+        }
     }
 
     @Override
@@ -101,23 +141,33 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
 
     @Override
     public @Nullable Event getNextEvent(Instant instant) {
+        Instant searchFrom = instant;
+        final OccurrenceIndex index = getOccurrenceIndex(instant, instant);
+        if (index != null) {
+            final VEventWPeriod indexedNextEvent = index.getNext(instant);
+            if (indexedNextEvent != null) {
+                return indexedNextEvent.toEvent();
+            }
+            // there is no occurrence up to the end of the index, only search behind it
+            searchFrom = index.end.minusNanos(1);
+        }
+
         final Collection<VEventWPeriod> candidates = new ArrayList<>();
-        final Collection<VEvent> negativeEvents = new ArrayList<>();
-        final Collection<VEvent> positiveEvents = new ArrayList<>();
-        classifyEvents(positiveEvents, negativeEvents);
-        for (final VEvent currentEvent : positiveEvents) {
+        for (int series = 0; series < positiveEvents.size(); series++) {
+            final VEvent currentEvent = positiveEvents.get(series);
             final DateIterator startDates = this.getRecurredEventDateIterator(currentEvent);
             final Duration duration = getEventLength(currentEvent);
             if (duration == null) {
                 continue;
             }
-            startDates.advanceTo(Date.from(instant));
+            startDates.advanceTo(Date.from(searchFrom));
             while (startDates.hasNext()) {
                 final Instant startInstant = startDates.next().toInstant();
-                if (startInstant.isAfter(instant)) {
+                if (startInstant.isAfter(searchFrom)) {
                     final Uid currentEventUid = currentEvent.getUid();
-                    if (currentEventUid == null || !isCounteredBy(startInstant, currentEventUid, negativeEvents)) {
-                        candidates.add(new VEventWPeriod(currentEvent, startInstant, startInstant.plus(duration)));
+                    if (currentEventUid == null || !isCounteredBy(startInstant, currentEventUid)) {
+                        candidates.add(new VEventWPeriod(currentEvent, series, startInstant,
+                                startInstant.plus(duration)));
                         break;
                     }
                 }
@@ -221,12 +271,14 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
      */
     private List<VEventWPeriod> getVEventWPeriodsBetween(Instant frameBegin, Instant frameEnd, int maximumPerSeries,
             boolean searchByEnd) {
-        final List<VEvent> positiveEvents = new ArrayList<>();
-        final List<VEvent> negativeEvents = new ArrayList<>();
-        classifyEvents(positiveEvents, negativeEvents);
+        final OccurrenceIndex index = getOccurrenceIndex(frameBegin, frameEnd);
+        if (index != null) {
+            return index.getBetween(frameBegin, frameEnd, maximumPerSeries, searchByEnd);
+        }
 
         final List<VEventWPeriod> eventList = new ArrayList<>();
-        for (final VEvent positiveEvent : positiveEvents) {
+        for (int series = 0; series < positiveEvents.size(); series++) {
+            final VEvent positiveEvent = positiveEvents.get(series);
             final DateIterator positiveBeginDates = getRecurredEventDateIterator(positiveEvent);
             Duration duration = getEventLength(positiveEvent);
             if (duration == null) {
@@ -246,10 +298,11 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
                     continue;
                 }
 
-                final VEventWPeriod resultingVEWP = new VEventWPeriod(positiveEvent, begInst, begInst.plus(duration));
+                final VEventWPeriod resultingVEWP = new VEventWPeriod(positiveEvent, series, begInst,
+                        begInst.plus(duration));
                 final Uid eventUid = positiveEvent.getUid();
                 if (eventUid != null) {
-                    if (!isCounteredBy(begInst, eventUid, negativeEvents)) {
+                    if (!isCounteredBy(begInst, eventUid)) {
                         eventList.add(resultingVEWP);
                         foundInSeries++;
                         if (maximumPerSeries != 0 && foundInSeries >= maximumPerSeries) {
@@ -298,13 +351,15 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
      * @return A VEventWPeriod describing the event or null if there is none.
      */
     private @Nullable VEventWPeriod getCurrentComponentWPeriod(Instant instant) {
-        final List<VEvent> negativeEvents = new ArrayList<>();
-        final List<VEvent> positiveEvents = new ArrayList<>();
-        classifyEvents(positiveEvents, negativeEvents);
+        final OccurrenceIndex index = getOccurrenceIndex(instant, instant);
+        if (index != null) {
+            return index.getCurrent(instant);
+        }
 
         VEventWPeriod earliestEndingEvent = null;
 
-        for (final VEvent currentEvent : positiveEvents) {
+        for (int series = 0; series < positiveEvents.size(); series++) {
+            final VEvent currentEvent = positiveEvents.get(series);
             final DateIterator startDates = this.getRecurredEventDateIterator(currentEvent);
             final Duration duration = getEventLength(currentEvent);
             if (duration == null) {
@@ -316,9 +371,9 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
                 final Instant endInstant = startInstant.plus(duration);
                 if (startInstant.isBefore(instant) && endInstant.isAfter(instant)) {
                     final Uid eventUid = currentEvent.getUid();
-                    if (eventUid == null || !isCounteredBy(startInstant, eventUid, negativeEvents)) {
+                    if (eventUid == null || !isCounteredBy(startInstant, eventUid)) {
                         if (earliestEndingEvent == null || endInstant.isBefore(earliestEndingEvent.end)) {
-                            earliestEndingEvent = new VEventWPeriod(currentEvent, startInstant, endInstant);
+                            earliestEndingEvent = new VEventWPeriod(currentEvent, series, startInstant, endInstant);
                         }
                     }
                 }
@@ -331,6 +386,85 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
         return earliestEndingEvent;
     }
 
+    /**
+     * Returns an occurrence index covering the given time frame. Up to {@link #MAX_INDEXES} windows are indexed, so
+     * lookups around the current time and filters looking ahead do not rebuild each other's index. When no window
+     * covers the frame a new one is built, replacing the oldest one.
+     *
+     * @param frameBegin Begin of the time frame.
+     * @param frameEnd End of the time frame.
+     * @return The index or null if the time frame has to be searched without index.
+     */
+    private @Nullable OccurrenceIndex getOccurrenceIndex(Instant frameBegin, Instant frameEnd) {
+        final List<OccurrenceIndex> currentIndexes = occurrenceIndexes;
+        for (final OccurrenceIndex currentIndex : currentIndexes) {
+            if (currentIndex.covers(frameBegin, frameEnd)) {
+                return currentIndex;
+            }
+        }
+        if (indexAhead.isZero() || Duration.between(frameBegin, frameEnd).compareTo(indexAhead.dividedBy(2)) > 0) {
+            // long frames are rare, searching them directly is cheaper than indexing them
+            return null;
+        }
+        final OccurrenceIndex newIndex = buildOccurrenceIndex(frameBegin.minus(indexBehind),
+                frameBegin.plus(indexAhead));
+        if (newIndex != null) {
+            final List<OccurrenceIndex> newIndexes = new ArrayList<>(MAX_INDEXES);
+            newIndexes.add(newIndex);
+            newIndexes.addAll(currentIndexes.subList(0, Math.min(currentIndexes.size(), MAX_INDEXES - 1)));
+            occurrenceIndexes = List.copyOf(newIndexes);
+        }
+        return newIndex;
+    }
+
+    /**
+     * Checks whether lookups in the given time frame are answered by an occurrence index.
+     *
+     * @param frameBegin Begin of the time frame.
+     * @param frameEnd End of the time frame.
+     * @return true if an index covers the frame, building it if needed.
+     */
+    boolean isIndexed(Instant frameBegin, Instant frameEnd) {
+        return getOccurrenceIndex(frameBegin, frameEnd) != null;
+    }
+
+    /**
+     * Expands all occurrences overlapping the given window, leaving out the ones cancelled or moved by counter
+     * events.
+     *
+     * @param begin Begin of the window.
+     * @param end End of the window.
+     * @return The index or null if the window contains too many occurrences.
+     */
+    private @Nullable OccurrenceIndex buildOccurrenceIndex(Instant begin, Instant end) {
+        final List<VEventWPeriod> occurrences = new ArrayList<>();
+        for (int series = 0; series < positiveEvents.size(); series++) {
+            final VEvent positiveEvent = positiveEvents.get(series);
+            final Duration duration = getEventLength(positiveEvent);
+            if (duration == null) {
+                continue;
+            }
+            final Uid eventUid = positiveEvent.getUid();
+            final DateIterator startDates = getRecurredEventDateIterator(positiveEvent);
+            startDates.advanceTo(Date.from(begin.minus(duration)));
+            while (startDates.hasNext()) {
+                final Instant startInstant = startDates.next().toInstant();
+                if (!startInstant.isBefore(end)) {
+                    break;
+                }
+                final Instant endInstant = startInstant.plus(duration);
+                if (endInstant.isBefore(begin) || (eventUid != null && isCounteredBy(startInstant, eventUid))) {
+                    continue;
+                }
+                occurrences.add(new VEventWPeriod(positiveEvent, series, startInstant, endInstant));
+                if (occurrences.size() > MAX_INDEXED_OCCURRENCES) {
+                    return null;
+                }
+            }
+        }
+        return new OccurrenceIndex(begin, end, occurrences);
+    }
+
     /**
      * Finds a duration of the event.
      *
@@ -379,39 +513,39 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
      *
      * @param startInstant The start of the event.
      * @param eventUid The uid of the event.
-     * @param counterEvents Events that may counter.
      * @return True if a counter event exists that matches uid and start, else false.
      */
-    private boolean isCounteredBy(Instant startInstant, Uid eventUid, Collection<VEvent> counterEvents) {
+    private boolean isCounteredBy(Instant startInstant, Uid eventUid) {
+        final List<VEvent> counterEvents = negativeEventsByUid.get(eventUid.getValue());
+        if (counterEvents == null) {
+            return false;
+        }
         for (final VEvent counterEvent : counterEvents) {
-            final Uid counterEventUid = counterEvent.getUid();
-            if (counterEventUid != null && eventUid.getValue().contentEquals(counterEventUid.getValue())) {
-                final RecurrenceId counterRecurrenceId = counterEvent.getRecurrenceId();
-                if (counterRecurrenceId != null) {
-                    ICalDate recurrenceDate = counterRecurrenceId.getValue();
-                    if (recurrenceDate != null) {
-                        Instant recurrenceInstant = Instant.ofEpochMilli(recurrenceDate.getTime());
-                        if (recurrenceInstant.equals(startInstant)) {
-                            return true;
-                        }
-                        Range futureOrPast = counterRecurrenceId.getRange();
-                        if (futureOrPast != null && futureOrPast.equals(Range.THIS_AND_FUTURE)
-                                && startInstant.isAfter(recurrenceInstant)) {
-                            return true;
-                        }
-                        if (futureOrPast != null && futureOrPast.equals(Range.THIS_AND_PRIOR)
-                                && startInstant.isBefore(recurrenceInstant)) {
-                            return true;
-                        }
+            final RecurrenceId counterRecurrenceId = counterEvent.getRecurrenceId();
+            if (counterRecurrenceId != null) {
+                ICalDate recurrenceDate = counterRecurrenceId.getValue();
+                if (recurrenceDate != null) {
+                    Instant recurrenceInstant = Instant.ofEpochMilli(recurrenceDate.getTime());
+                    if (recurrenceInstant.equals(startInstant)) {
+                        return true;
                     }
-                } else {
-                    final DateIterator counterStartDates = getRecurredEventDateIterator(counterEvent);
-                    counterStartDates.advanceTo(Date.from(startInstant));
-                    if (counterStartDates.hasNext()) {
-                        final Instant counterStartInstant = counterStartDates.next().toInstant();
-                        if (counterStartInstant.equals(startInstant)) {
-                            return true;
-                        }
+                    Range futureOrPast = counterRecurrenceId.getRange();
+                    if (futureOrPast != null && futureOrPast.equals(Range.THIS_AND_FUTURE)
+                            && startInstant.isAfter(recurrenceInstant)) {
+                        return true;
+                    }
+                    if (futureOrPast != null && futureOrPast.equals(Range.THIS_AND_PRIOR)
+                            && startInstant.isBefore(recurrenceInstant)) {
+                        return true;
+                    }
+                }
+            } else {
+                final DateIterator counterStartDates = getRecurredEventDateIterator(counterEvent);
+                counterStartDates.advanceTo(Date.from(startInstant));
+                if (counterStartDates.hasNext()) {
+                    final Instant counterStartInstant = counterStartDates.next().toInstant();
+                    if (counterStartInstant.equals(startInstant)) {
+                        return true;
                     }
                 }
             }
@@ -426,11 +560,13 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
      */
     private static class VEventWPeriod {
         final VEvent vEvent;
+        final int series;
         final Instant start;
         final Instant end;
 
-        public VEventWPeriod(VEvent vEvent, Instant start, Instant end) {
+        public VEventWPeriod(VEvent vEvent, int series, Instant start, Instant end) {
             this.vEvent = vEvent;
+            this.series = series;
             this.start = start;
             this.end = end;
         }
@@ -443,4 +579,154 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
             return new Event(title, start, end, description);
         }
     }
+
+    /**
+     * An interval tree over all occurrences overlapping a time window. The occurrences are sorted by start and
+     * form an implicit balanced tree (the middle element of every range is its root), which is augmented with the
+     * latest end of every subtree.
+     *
+     * @author agent - Initial contribution
+     */
+    private static class OccurrenceIndex {
+        // the order of the lookups without index: by series, then chronologically
+        private static final Comparator<VEventWPeriod> SERIES_ORDER = Comparator
+                .<VEventWPeriod> comparingInt(o -> o.series).thenComparing(o -> o.start);
+
+        final Instant begin;
+        final Instant end;
+        private final VEventWPeriod[] byStart;
+        private final Instant[] subtreeEnd;
+        private final VEventWPeriod[] byEnd;
+
+        OccurrenceIndex(Instant begin, Instant end, List<VEventWPeriod> occurrences) {
+            this.begin = begin;
+            this.end = end;
+            byStart = occurrences.toArray(new VEventWPeriod[0]);
+            Arrays.sort(byStart, Comparator.<VEventWPeriod, Instant> comparing(o -> o.start)
+                    .thenComparingInt(o -> o.series));
+            subtreeEnd = new Instant[byStart.length];
+            computeSubtreeEnd(0, byStart.length);
+            byEnd = occurrences.toArray(new VEventWPeriod[0]);
+            Arrays.sort(byEnd, Comparator.<VEventWPeriod, Instant> comparing(o -> o.end)
+                    .thenComparingInt(o -> o.series));
+        }
+
+        private @Nullable Instant computeSubtreeEnd(int from, int to) {
+            if (from >= to) {
+                return null;
+            }
+            final int mid = (from + to) >>> 1;
+            Instant latestEnd = byStart[mid].end;
+            final Instant leftEnd = computeSubtreeEnd(from, mid);
+            if (leftEnd != null && leftEnd.isAfter(latestEnd)) {
+                latestEnd = leftEnd;
+            }
+            final Instant rightEnd = computeSubtreeEnd(mid + 1, to);
+            if (rightEnd != null && rightEnd.isAfter(latestEnd)) {
+                latestEnd = rightEnd;
+            }
+            subtreeEnd[mid] = latestEnd;
+            return latestEnd;
+        }
+
+        /**
+         * Checks whether all occurrences needed for a lookup in the given time frame are part of the index.
+         */
+        boolean covers(Instant frameBegin, Instant frameEnd) {
+            return !frameBegin.isBefore(begin) && frameEnd.isBefore(end);
+        }
+
+        /**
+         * Finds the current occurrence ending first, see
+         * {@link BiweeklyPresentableCalendar#getCurrentComponentWPeriod(Instant)}.
+         */
+        @Nullable
+        VEventWPeriod getCurrent(Instant instant) {
+            return findCurrent(0, byStart.length, instant, null);
+        }
+
+        private @Nullable VEventWPeriod findCurrent(int from, int to, Instant instant,
+                @Nullable VEventWPeriod found) {
+            if (from >= to) {
+                return found;
+            }
+            final int mid = (from + to) >>> 1;
+            if (!subtreeEnd[mid].isAfter(instant)) {
+                return found;
+            }
+            VEventWPeriod result = findCurrent(from, mid, instant, found);
+            final VEventWPeriod candidate = byStart[mid];
+            if (candidate.start.isBefore(instant)) {
+                if (candidate.end.isAfter(instant) && (result == null || candidate.end.isBefore(result.end)
+                        || (candidate.end.equals(result.end) && SERIES_ORDER.compare(candidate, result) < 0))) {
+                    result = candidate;
+                }
+                result = findCurrent(mid + 1, to, instant, result);
+            }
+            return result;
+        }
+
+        /**
+         * Finds the first occurrence starting after the given instant.
+         */
+        @Nullable
+        VEventWPeriod getNext(Instant instant) {
+            final int next = firstIndexAfter(byStart, instant, false, false);
+            return next < byStart.length ? byStart[next] : null;
+        }
+
+        /**
+         * Finds the occurrences beginning (or ending) in the given time frame, see
+         * {@link BiweeklyPresentableCalendar#getVEventWPeriodsBetween(Instant, Instant, int, boolean)}.
+         */
+        List<VEventWPeriod> getBetween(Instant frameBegin, Instant frameEnd, int maximumPerSeries,
+                boolean searchByEnd) {
+            final VEventWPeriod[] sorted = searchByEnd ? byEnd : byStart;
+            final int from = firstIndexAfter(sorted, frameBegin, searchByEnd, true);
+            final int to = firstIndexAfter(sorted, frameEnd, searchByEnd, !searchByEnd);
+            final List<VEventWPeriod> found = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                found.add(sorted[i]);
+            }
+            found.sort(SERIES_ORDER);
+            if (maximumPerSeries == 0) {
+                return found;
+            }
+            final List<VEventWPeriod> limited = new ArrayList<>(found.size());
+            int foundInSeries = 0;
+            for (int i = 0; i < found.size(); i++) {
+                final VEventWPeriod occurrence = found.get(i);
+                foundInSeries = (i > 0 && found.get(i - 1).series == occurrence.series) ? foundInSeries + 1 : 1;
+                if (foundInSeries <= maximumPerSeries) {
+                    limited.add(occurrence);
+                }
+            }
+            return limited;
+        }
+
+        /**
+         * Binary search for the first occurrence after the given instant.
+         *
+         * @param sorted The occurrences sorted by start or end.
+         * @param instant The instant to search for.
+         * @param byEnd Whether to compare the end instead of the start.
+         * @param inclusive Whether an occurrence at the instant itself counts as after it.
+         * @return The index of the first occurrence after the instant, the length of the array if there is none.
+         */
+        private static int firstIndexAfter(VEventWPeriod[] sorted, Instant instant, boolean byEnd,
+                boolean inclusive) {
+            int low = 0;
+            int high = sorted.length;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                final int comparison = (byEnd ? sorted[mid].end : sorted[mid].start).compareTo(instant);
+                if (comparison < 0 || (comparison == 0 && !inclusive)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
 }
@@ -16,6 +16,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
@@ -42,6 +43,7 @@ import org.openhab.core.types.Command;
  * @author Andrew Fiddian-Green - Tests for Command Tag code
  * @author Michael Wodniok - Extended Tests for filtered Events
  * @author Michael Wodniok - Extended Test for parallel current events
+ * @author agent - Test for occurrence index
  */
 public class BiweeklyPresentableCalendarTest {
     private AbstractPresentableCalendar calendar;
@@ -647,4 +649,63 @@ public class BiweeklyPresentableCalendarTest {
                 Instant.parse("2021-08-16T16:45:00.123456Z"), Instant.parse("2021-08-16T16:46:00.768643Z"), null, 3);
         assertEquals(0, realFilteredEvents9.size());
     }
+
+    /**
+     * Checks that lookups using the occurrence index return the same results as lookups searching the calendar
+     * directly.
+     */
+    @Test
+    public void testOccurrenceIndexMatchesDirectSearch() throws IOException, CalendarException {
+        assertIndexMatchesDirectSearch("src/test/resources/test.ics", Instant.parse("2019-09-07T00:00:00Z"),
+                Instant.parse("2019-09-16T00:00:00Z"));
+        assertIndexMatchesDirectSearch("src/test/resources/test2.ics", Instant.parse("2019-11-01T00:00:00Z"),
+                Instant.parse("2019-12-10T00:00:00Z"));
+        assertIndexMatchesDirectSearch("src/test/resources/test-issue10808.ics",
+                Instant.parse("2021-06-05T16:00:00Z"), Instant.parse("2021-06-05T19:00:00Z"));
+    }
+
+    /**
+     * Checks that filter lookups ahead of the current time get an index of their own and do not push the lookups
+     * around the current time out of the index.
+     */
+    @Test
+    public void testFutureFilterDoesNotReplaceCurrentIndex() throws IOException, CalendarException {
+        final String file = "src/test/resources/test2.ics";
+        BiweeklyPresentableCalendar indexed = new BiweeklyPresentableCalendar(new FileInputStream(file),
+                Duration.ofDays(1), Duration.ofDays(7));
+        AbstractPresentableCalendar direct = new BiweeklyPresentableCalendar(new FileInputStream(file), Duration.ZERO,
+                Duration.ZERO);
+        Instant end = Instant.parse("2019-12-10T00:00:00Z");
+        for (Instant now = Instant.parse("2019-11-01T00:00:00Z"); now.isBefore(end); now = now
+                .plus(Duration.ofHours(5))) {
+            Instant filterBegin = now.plus(Duration.ofDays(10));
+            Instant filterEnd = filterBegin.plus(Duration.ofDays(1));
+            assertEquals(direct.getFilteredEventsBetween(filterBegin, filterEnd, null, 5),
+                    indexed.getFilteredEventsBetween(filterBegin, filterEnd, null, 5));
+            assertEquals(direct.getCurrentEvent(now), indexed.getCurrentEvent(now));
+            assertEquals(direct.getNextEvent(now), indexed.getNextEvent(now));
+
+            assertTrue(indexed.isIndexed(now, now));
+            assertTrue(indexed.isIndexed(filterBegin, filterEnd));
+        }
+    }
+
+    private void assertIndexMatchesDirectSearch(String file, Instant begin, Instant end)
+            throws IOException, CalendarException {
+        AbstractPresentableCalendar indexed = new BiweeklyPresentableCalendar(new FileInputStream(file),
+                Duration.ofDays(1), Duration.ofDays(7));
+        AbstractPresentableCalendar direct = new BiweeklyPresentableCalendar(new FileInputStream(file), Duration.ZERO,
+                Duration.ZERO);
+        Duration step = Duration.ofMinutes(17);
+        for (Instant instant = begin; instant.isBefore(end); instant = instant.plus(step)) {
+            Instant frameEnd = instant.plus(step);
+            assertEquals(direct.isEventPresent(instant), indexed.isEventPresent(instant));
+            assertEquals(direct.getCurrentEvent(instant), indexed.getCurrentEvent(instant));
+            assertEquals(direct.getNextEvent(instant), indexed.getNextEvent(instant));
+            assertEquals(direct.getJustBegunEvents(instant, frameEnd), indexed.getJustBegunEvents(instant, frameEnd));
+            assertEquals(direct.getJustEndedEvents(instant, frameEnd), indexed.getJustEndedEvents(instant, frameEnd));
+            assertEquals(direct.getFilteredEventsBetween(instant, instant.plus(Duration.ofDays(1)), null, 3),
+                    indexed.getFilteredEventsBetween(instant, instant.plus(Duration.ofDays(1)), null, 3));
+        }
+    }
 }
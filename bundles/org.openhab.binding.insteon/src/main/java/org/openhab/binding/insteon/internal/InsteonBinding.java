@@ -45,6 +45,7 @@ import org.openhab.binding.insteon.internal.driver.DriverListener;
 import org.openhab.binding.insteon.internal.driver.ModemDBEntry;
 import org.openhab.binding.insteon.internal.driver.Poller;
 import org.openhab.binding.insteon.internal.driver.Port;
+import org.openhab.binding.insteon.internal.driver.WriteQueue;
 import org.openhab.binding.insteon.internal.handler.InsteonDeviceHandler;
 import org.openhab.binding.insteon.internal.handler.InsteonNetworkHandler;
 import org.openhab.binding.insteon.internal.message.FieldException;
@@ -349,6 +350,15 @@ public class InsteonBinding {
         }
     }
 
+    public Map<String, String> getQueueLatencyInfo() {
+        Map<String, String> latencyInfo = new HashMap<>();
+        for (Entry<InsteonAddress, WriteQueue.Latency> entry : driver.getQueueLatencies().entrySet()) {
+            String a = entry.getKey().toString();
+            latencyInfo.put(a, a + ": " + entry.getValue());
+        }
+        return latencyInfo;
+    }
+
     public boolean reconnect() {
         driver.stop();
         return startPolling();
@@ -20,6 +20,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -59,6 +61,9 @@ public class InsteonDevice {
     /** how far to space out poll messages */
     private static final int TIME_BETWEEN_POLL_MESSAGES = 1500;
 
+    // on/fast on (with level), off/fast off, status request and instant change, a newer one replaces an older one
+    private static final Set<Integer> ABSOLUTE_COMMANDS = Set.of(0x11, 0x12, 0x13, 0x14, 0x19, 0x21);
+
     private InsteonAddress address = new InsteonAddress();
     private long pollInterval = -1L; // in milliseconds
     private @Nullable Driver driver = null;
@@ -261,7 +266,7 @@ public class InsteonDevice {
                 if (i.hasListeners()) {
                     Msg m = i.makePollMsg();
                     if (m != null) {
-                        l.add(new QEntry(i, m, now + delay + spacing));
+                        l.add(new QEntry(i, m, now + delay + spacing, getQueueKey(address, m, i), true));
                         spacing += TIME_BETWEEN_POLL_MESSAGES;
                     }
                 }
@@ -458,7 +463,7 @@ public class InsteonDevice {
                     logger.debug("gave up waiting for query reply from device {}", address);
                 }
             }
-            QEntry qe = mrequestQueue.poll(); // take it off the queue!
+            QEntry qe = takeNextEntry(mrequestQueue, timeNow); // take it off the queue!
             if (qe == null) {
                 return 0L;
             }
@@ -475,7 +480,7 @@ public class InsteonDevice {
             long quietTime = qe.getMsg().getQuietTime();
             qe.getMsg().setQuietTime(500L); // rate limiting downstream!
             try {
-                writeMessage(qe.getMsg());
+                writeMessage(qe);
             } catch (IOException e) {
                 logger.warn("message write failed for msg {}", qe.getMsg(), e);
             }
@@ -488,6 +493,51 @@ public class InsteonDevice {
         }
     }
 
+    /**
+     * Takes the next entry off a request queue. Commands that are due are sent before polls, in the order of their
+     * expiration time.
+     *
+     * @param queue the request queue
+     * @param timeNow
+     * @return the next entry
+     */
+    static @Nullable QEntry takeNextEntry(PriorityQueue<@Nullable QEntry> queue, long timeNow) {
+        QEntry head = queue.peek();
+        if (head != null && head.isPoll()) {
+            // the iteration order of a priority queue is arbitrary, so the earliest command has to be searched
+            @Nullable
+            QEntry next = null;
+            for (QEntry qe : queue) {
+                if (qe != null && !qe.isPoll() && qe.getExpirationTime() <= timeNow
+                        && (next == null || qe.compareTo(next) < 0)) {
+                    next = qe;
+                }
+            }
+            if (next != null) {
+                queue.remove(next);
+                return next;
+            }
+        }
+        return queue.poll();
+    }
+
+    /**
+     * Removes a waiting command from a request queue
+     *
+     * @param queue the request queue
+     * @param key the key of the command
+     * @return the removed entry or null if no command with this key is waiting
+     */
+    static @Nullable QEntry removeCommand(PriorityQueue<@Nullable QEntry> queue, String key) {
+        for (QEntry qe : queue) {
+            if (qe != null && !qe.isPoll() && key.equals(qe.getKey())) {
+                queue.remove(qe);
+                return qe;
+            }
+        }
+        return null;
+    }
+
     /**
      * Enqueues message to be sent at the next possible time
      *
@@ -507,12 +557,21 @@ public class InsteonDevice {
      */
     public void enqueueDelayedMessage(Msg m, DeviceFeature f, long delay) {
         long now = System.currentTimeMillis();
-        synchronized (mrequestQueue) {
-            mrequestQueue.add(new QEntry(f, m, now + delay));
-        }
         if (!m.isBroadcast()) {
             m.setQuietTime(QUIET_TIME_DIRECT_MESSAGE);
         }
+        String key = getQueueKey(address, m, f);
+        synchronized (mrequestQueue) {
+            if (delay == 0 && key != null) {
+                // a newer command replaces a waiting command for the same feature, e.g. during a dimmer ramp.
+                // It is queued behind the commands sent in the meantime, so the last command always wins.
+                QEntry superseded = removeCommand(mrequestQueue, key);
+                if (superseded != null) {
+                    logger.debug("superseding queued msg {} for {}", superseded.getMsg(), address);
+                }
+            }
+            mrequestQueue.add(new QEntry(f, m, now + delay, key, false));
+        }
         logger.trace("enqueing direct message with delay {}", delay);
         RequestQueueManager instance = RequestQueueManager.instance();
         if (instance != null) {
@@ -522,10 +581,41 @@ public class InsteonDevice {
         }
     }
 
-    private void writeMessage(Msg m) throws IOException {
+    private void writeMessage(QEntry qe) throws IOException {
         Driver driver = this.driver;
         if (driver != null) {
-            driver.writeMessage(m);
+            driver.writeMessage(qe.getMsg(), qe.getKey(), qe.isPoll(), qe.getEnqueueTime());
+        }
+    }
+
+    /**
+     * Returns the key identifying messages that supersede each other: standard direct messages
+     * to the same feature with the same command that sets an absolute state, or identical extended messages.
+     * Relative commands like brighten/dim steps or manual change start/stop must all be sent.
+     *
+     * @param address address of the device
+     * @param m message to be sent
+     * @param f device feature that sent this message
+     * @return the key, or null if the message must always be sent
+     */
+    static @Nullable String getQueueKey(InsteonAddress address, Msg m, DeviceFeature f) {
+        if (m.isBroadcast() || m.isX10() || m.getAddr("toAddress") == null) {
+            return null;
+        }
+        try {
+            String command;
+            if (m.isExtended()) {
+                command = m.toHexString();
+            } else {
+                int command1 = m.getByte("command1") & 0xFF;
+                if (!ABSOLUTE_COMMANDS.contains(command1)) {
+                    return null;
+                }
+                command = String.format("%02X", command1);
+            }
+            return address + ":" + f.getName() + ":" + command;
+        } catch (FieldException e) {
+            return null;
         }
     }
 
@@ -625,9 +715,16 @@ public class InsteonDevice {
      * @author Bernd Pfrommer - Initial contribution
      */
     public static class QEntry implements Comparable<QEntry> {
+        private static final AtomicLong SEQUENCE = new AtomicLong();
+
         private DeviceFeature feature;
         private Msg msg;
         private long expirationTime;
+        private long enqueueTime;
+        private @Nullable String key;
+        private boolean poll;
+        // entries with the same expiration time are taken in the order they were created
+        private final long sequence = SEQUENCE.getAndIncrement();
 
         public DeviceFeature getFeature() {
             return feature;
@@ -641,15 +738,31 @@ public class InsteonDevice {
             return expirationTime;
         }
 
-        QEntry(DeviceFeature f, Msg m, long t) {
+        public long getEnqueueTime() {
+            return enqueueTime;
+        }
+
+        public @Nullable String getKey() {
+            return key;
+        }
+
+        public boolean isPoll() {
+            return poll;
+        }
+
+        QEntry(DeviceFeature f, Msg m, long t, @Nullable String k, boolean p) {
             feature = f;
             msg = m;
             expirationTime = t;
+            enqueueTime = System.currentTimeMillis();
+            key = k;
+            poll = p;
         }
 
         @Override
         public int compareTo(QEntry a) {
-            return (int) (expirationTime - a.expirationTime);
+            int result = Long.compare(expirationTime, a.expirationTime);
+            return result != 0 ? result : Long.compare(sequence, a.sequence);
         }
     }
 }
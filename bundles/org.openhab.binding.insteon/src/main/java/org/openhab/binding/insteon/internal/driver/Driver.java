@@ -80,6 +80,14 @@ public class Driver {
         port.writeMessage(m);
     }
 
+    public void writeMessage(Msg m, @Nullable String key, boolean poll, long enqueueTime) throws IOException {
+        port.writeMessage(m, key, poll, enqueueTime);
+    }
+
+    public Map<InsteonAddress, WriteQueue.Latency> getQueueLatencies() {
+        return port.getQueueLatencies();
+    }
+
     public String getPortName() {
         return portName;
     }
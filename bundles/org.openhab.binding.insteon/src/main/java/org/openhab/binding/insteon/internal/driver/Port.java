@@ -16,7 +16,6 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -49,7 +48,8 @@ import org.slf4j.LoggerFactory;
  * for further processing by the upper layers (MsgListeners).
  *
  * A write queue is maintained to pace the flow of outgoing messages. Sending messages back-to-back
- * can lead to dropped messages.
+ * can lead to dropped messages. Commands are written before polls, superseded commands are dropped,
+ * and the pacing is slowed down while the modem answers with NACKs.
  *
  *
  * @author Bernd Pfrommer - Initial contribution
@@ -84,7 +84,7 @@ public class Port {
     private Driver driver;
     private ModemDBBuilder mdbb;
     private ArrayList<MsgListener> listeners = new ArrayList<>();
-    private LinkedBlockingQueue<Msg> writeQueue = new LinkedBlockingQueue<>();
+    private WriteQueue writeQueue = new WriteQueue();
     private AtomicBoolean disconnected = new AtomicBoolean(false);
 
     /**
@@ -248,6 +248,20 @@ public class Port {
      * @throws IOException
      */
     public void writeMessage(@Nullable Msg m) throws IOException {
+        writeMessage(m, null, false, System.currentTimeMillis());
+    }
+
+    /**
+     * Adds message to the write queue
+     *
+     * @param m message to be added to the write queue
+     * @param key a queued message with the same key is replaced by this message, null to never replace
+     * @param poll true if the message polls a device, commands are written first
+     * @param enqueueTime time (in milliseconds) when the message was queued by the device
+     * @throws IOException
+     */
+    public void writeMessage(@Nullable Msg m, @Nullable String key, boolean poll, long enqueueTime)
+            throws IOException {
         if (m == null) {
             logger.warn("trying to write null message!");
             throw new IOException("trying to write null message!");
@@ -256,12 +270,17 @@ public class Port {
             logger.warn("trying to write message without data!");
             throw new IOException("trying to write message without data!");
         }
-        try {
-            writeQueue.add(m);
-            logger.trace("enqueued msg: {}", m);
-        } catch (IllegalStateException e) {
-            logger.warn("cannot write message {}, write queue is full!", m);
-        }
+        writeQueue.add(m, key, poll, enqueueTime);
+        logger.trace("enqueued msg: {}", m);
+    }
+
+    /**
+     * Returns the time messages waited before the modem acknowledged them
+     *
+     * @return map with the latency statistics of each device
+     */
+    public Map<InsteonAddress, WriteQueue.Latency> getQueueLatencies() {
+        return writeQueue.getLatencies();
     }
 
     /**
@@ -420,6 +439,10 @@ public class Port {
      */
     class IOStreamWriter implements Runnable {
         private static final int WAIT_TIME = 200; // milliseconds
+        private static final int MAX_WAIT_TIME = 3200; // milliseconds
+
+        // grows while the modem is busy and answers with nacks, shrinks again with every ack
+        private long backoff = WAIT_TIME;
 
         @Override
         public void run() {
@@ -428,7 +451,8 @@ public class Port {
                 try {
                     // this call blocks until the lock on the queue is released
                     logger.trace("writer checking message queue");
-                    Msg msg = writeQueue.take();
+                    WriteQueue.Entry entry = writeQueue.take();
+                    Msg msg = entry.getMsg();
                     if (msg.getData() == null) {
                         logger.warn("found null message in write queue!");
                     } else {
@@ -440,15 +464,18 @@ public class Port {
                         synchronized (reader.getRequestReplyLock()) {
                             ioStream.write(msg.getData());
                             while (reader.waitForReply()) {
-                                Thread.sleep(WAIT_TIME);
+                                Thread.sleep(backoff);
+                                backoff = Math.min(backoff * 2, MAX_WAIT_TIME);
                                 logger.trace("retransmitting msg: {}", msg);
                                 ioStream.write(msg.getData());
                             }
-
+                            backoff = Math.max(backoff / 2, WAIT_TIME);
                         }
-                        // if rate limited, need to sleep now.
-                        if (msg.getQuietTime() > 0) {
-                            Thread.sleep(msg.getQuietTime());
+                        writeQueue.written(entry, System.currentTimeMillis());
+                        // if rate limited or the modem was busy recently, need to sleep now.
+                        long quietTime = msg.getQuietTime() + backoff - WAIT_TIME;
+                        if (quietTime > 0) {
+                            Thread.sleep(quietTime);
                         }
                     }
                 } catch (InterruptedException e) {
@@ -0,0 +1,189 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.insteon.internal.driver;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.insteon.internal.device.InsteonAddress;
+import org.openhab.binding.insteon.internal.message.Msg;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The WriteQueue holds the messages waiting to be written to the modem.
+ *
+ * Messages for commands are always written before poll messages. If a message is added while
+ * a message with the same key is still waiting, the waiting message is dropped and the new one
+ * is queued at the end, so that only the latest command for a device feature gets written and
+ * commands are never reordered. The time between adding a message and the modem acknowledging
+ * it is recorded for each device.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class WriteQueue {
+    private final Logger logger = LoggerFactory.getLogger(WriteQueue.class);
+
+    private final ArrayDeque<Entry> commands = new ArrayDeque<>();
+    private final ArrayDeque<Entry> polls = new ArrayDeque<>();
+    private final Map<String, Entry> pending = new HashMap<>();
+    private final Map<InsteonAddress, Latency> latencies = new HashMap<>();
+
+    /**
+     * Adds a message to the queue
+     *
+     * @param msg the message to write
+     * @param key messages with the same key supersede each other, null if the message must always be written
+     * @param poll true if the message polls a device and can wait for commands
+     * @param enqueueTime time (in milliseconds) when the message was first queued
+     */
+    public synchronized void add(Msg msg, @Nullable String key, boolean poll, long enqueueTime) {
+        Entry entry = key == null ? null : pending.get(key);
+        if (entry != null && (entry.poll || !poll)) {
+            logger.trace("superseding queued msg: {}", entry.msg);
+            if (entry.poll) {
+                polls.remove(entry);
+            } else {
+                commands.remove(entry);
+            }
+        }
+        entry = new Entry(msg, key, poll, enqueueTime);
+        if (key != null) {
+            pending.put(key, entry);
+        }
+        if (poll) {
+            polls.add(entry);
+        } else {
+            commands.add(entry);
+        }
+        notifyAll();
+    }
+
+    /**
+     * Takes the next message from the queue, blocks until a message is available
+     *
+     * @return the next queue entry
+     * @throws InterruptedException
+     */
+    public synchronized Entry take() throws InterruptedException {
+        Entry entry;
+        while ((entry = commands.isEmpty() ? polls.poll() : commands.poll()) == null) {
+            wait();
+        }
+        String key = entry.key;
+        if (key != null) {
+            pending.remove(key);
+        }
+        return entry;
+    }
+
+    /**
+     * Records the latency of a message that has been acknowledged by the modem
+     *
+     * @param entry the queue entry of the message
+     * @param now current time (in milliseconds)
+     */
+    public synchronized void written(Entry entry, long now) {
+        InsteonAddress address = entry.msg.getAddr("toAddress");
+        if (address != null) {
+            latencies.computeIfAbsent(address, k -> new Latency()).add(now - entry.enqueueTime);
+        }
+    }
+
+    public synchronized int size() {
+        return commands.size() + polls.size();
+    }
+
+    public synchronized void clear() {
+        commands.clear();
+        polls.clear();
+        pending.clear();
+    }
+
+    /**
+     * Returns the queue latencies per device
+     *
+     * @return map with a copy of the latency statistics of each device
+     */
+    public synchronized Map<InsteonAddress, Latency> getLatencies() {
+        Map<InsteonAddress, Latency> result = new HashMap<>();
+        latencies.forEach((address, latency) -> result.put(address, new Latency(latency)));
+        return result;
+    }
+
+    /**
+     * Entry of the write queue
+     */
+    public static class Entry {
+        private final Msg msg;
+        private final @Nullable String key;
+        private final boolean poll;
+        private final long enqueueTime;
+
+        Entry(Msg msg, @Nullable String key, boolean poll, long enqueueTime) {
+            this.msg = msg;
+            this.key = key;
+            this.poll = poll;
+            this.enqueueTime = enqueueTime;
+        }
+
+        public Msg getMsg() {
+            return msg;
+        }
+    }
+
+    /**
+     * Latency statistics of the messages written to a device
+     */
+    public static class Latency {
+        private int count = 0;
+        private long total = 0;
+        private long max = 0;
+
+        Latency() {
+        }
+
+        Latency(Latency latency) {
+            count = latency.count;
+            total = latency.total;
+            max = latency.max;
+        }
+
+        void add(long latency) {
+            count++;
+            total += latency;
+            max = Math.max(max, latency);
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public long getAverage() {
+            return count == 0 ? 0 : total / count;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("msgs: %d avg: %d ms max: %d ms", count, getAverage(), max);
+        }
+    }
+}
@@ -254,6 +254,13 @@ public class InsteonNetworkHandler extends BaseBridgeHandler {
         }
     }
 
+    public void displayQueueLatency(Console console) {
+        InsteonBinding insteonBinding = this.insteonBinding;
+        if (insteonBinding != null) {
+            display(console, insteonBinding.getQueueLatencyInfo());
+        }
+    }
+
     public void initialized(ThingUID uid, String msg) {
         deviceInfo.put(uid.getAsString(), msg);
     }
@@ -25,6 +25,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.insteon.internal.device.InsteonAddress;
 import org.openhab.binding.insteon.internal.utils.Utils;
 import org.openhab.binding.insteon.internal.utils.Utils.ParsingException;
+import org.osgi.framework.Bundle;
 import org.osgi.framework.FrameworkUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -122,7 +123,10 @@ public class Msg {
     static {
         // Use xml msg loader to load configs
         try {
-            InputStream stream = FrameworkUtil.getBundle(Msg.class).getResource("/msg_definitions.xml").openStream();
+            Bundle bundle = FrameworkUtil.getBundle(Msg.class);
+            // outside of OSGi (e.g. in unit tests) the definitions are loaded from the class path
+            InputStream stream = bundle != null ? bundle.getResource("/msg_definitions.xml").openStream()
+                    : Msg.class.getResourceAsStream("/msg_definitions.xml");
             if (stream != null) {
                 Map<String, Msg> msgs = XMLMessageReader.readMessageDefinitions(stream);
                 MSG_MAP.putAll(msgs);
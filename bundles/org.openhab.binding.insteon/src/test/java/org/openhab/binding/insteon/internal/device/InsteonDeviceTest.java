@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.insteon.internal.device;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.PriorityQueue;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.insteon.internal.device.InsteonDevice.QEntry;
+import org.openhab.binding.insteon.internal.message.FieldException;
+import org.openhab.binding.insteon.internal.message.Msg;
+
+/**
+ * Tests for the order of the request queue of an {@link InsteonDevice}
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class InsteonDeviceTest {
+    private static final String ON = "aa.bb.cc:switch:11";
+    private static final String OFF = "aa.bb.cc:switch:13";
+    private static final long NOW = 10000L;
+    private static final InsteonAddress ADDRESS = new InsteonAddress("AA.BB.CC");
+
+    private final DeviceFeature feature = mock(DeviceFeature.class);
+    private final PriorityQueue<@Nullable QEntry> queue = new PriorityQueue<>();
+
+    @Test
+    public void testLatestCommandWins() {
+        Msg on1 = mock(Msg.class);
+        Msg off = mock(Msg.class);
+        Msg on2 = mock(Msg.class);
+
+        enqueueCommand(on1, ON);
+        enqueueCommand(off, OFF);
+        enqueueCommand(on2, ON);
+
+        // the first ON is dropped, the newest ON is sent after the OFF although all expire at the same time
+        assertEquals(2, queue.size());
+        assertSame(off, take().getMsg());
+        assertSame(on2, take().getMsg());
+        assertNull(InsteonDevice.takeNextEntry(queue, NOW));
+    }
+
+    @Test
+    public void testDueCommandsBeforePollsInTimeOrder() {
+        Msg poll1 = mock(Msg.class);
+        Msg poll2 = mock(Msg.class);
+        Msg early = mock(Msg.class);
+        Msg late = mock(Msg.class);
+        Msg future = mock(Msg.class);
+
+        queue.add(new QEntry(feature, poll1, NOW - 3000, null, true));
+        queue.add(new QEntry(feature, poll2, NOW - 2000, null, true));
+        queue.add(new QEntry(feature, future, NOW + 1000, null, false));
+        queue.add(new QEntry(feature, late, NOW - 1000, null, false));
+        queue.add(new QEntry(feature, early, NOW - 1500, null, false));
+
+        assertSame(early, take().getMsg());
+        assertSame(late, take().getMsg());
+        // no command is due, so the polls are sent in their order
+        assertSame(poll1, take().getMsg());
+        assertSame(poll2, take().getMsg());
+        assertSame(future, take().getMsg());
+    }
+
+    @Test
+    public void testPollIsNotSuperseded() {
+        Msg poll = mock(Msg.class);
+
+        queue.add(new QEntry(feature, poll, NOW, ON, true));
+        assertNull(InsteonDevice.removeCommand(queue, ON));
+        assertSame(poll, take().getMsg());
+    }
+
+    @Test
+    public void testRelativeCommandsAreAllSent() throws FieldException {
+        when(feature.getName()).thenReturn("dimmer");
+        Msg brighten1 = makeStandardMessage(0x15);
+        Msg brighten2 = makeStandardMessage(0x15);
+
+        // brighten steps add up, so both have to be sent
+        assertNull(InsteonDevice.getQueueKey(ADDRESS, brighten1, feature));
+        assertNull(InsteonDevice.getQueueKey(ADDRESS, makeStandardMessage(0x16), feature));
+        assertNull(InsteonDevice.getQueueKey(ADDRESS, makeStandardMessage(0x17), feature));
+        assertNull(InsteonDevice.getQueueKey(ADDRESS, makeStandardMessage(0x18), feature));
+        enqueueMessage(brighten1);
+        enqueueMessage(brighten2);
+
+        assertEquals(2, queue.size());
+        assertSame(brighten1, take().getMsg());
+        assertSame(brighten2, take().getMsg());
+    }
+
+    @Test
+    public void testAbsoluteCommandsAreMerged() throws FieldException {
+        when(feature.getName()).thenReturn("dimmer");
+        Msg on1 = makeStandardMessage(0x11);
+        Msg on2 = makeStandardMessage(0x11);
+
+        assertEquals("AA.BB.CC:dimmer:11", InsteonDevice.getQueueKey(ADDRESS, on1, feature));
+        assertEquals("AA.BB.CC:dimmer:13", InsteonDevice.getQueueKey(ADDRESS, makeStandardMessage(0x13), feature));
+        assertEquals("AA.BB.CC:dimmer:19", InsteonDevice.getQueueKey(ADDRESS, makeStandardMessage(0x19), feature));
+        enqueueMessage(on1);
+        enqueueMessage(on2);
+
+        assertEquals(1, queue.size());
+        assertSame(on2, take().getMsg());
+    }
+
+    private Msg makeStandardMessage(int command1) throws FieldException {
+        Msg msg = mock(Msg.class);
+        when(msg.getAddr("toAddress")).thenReturn(ADDRESS);
+        when(msg.getByte("command1")).thenReturn((byte) command1);
+        return msg;
+    }
+
+    private void enqueueMessage(Msg msg) {
+        String key = InsteonDevice.getQueueKey(ADDRESS, msg, feature);
+        if (key != null) {
+            InsteonDevice.removeCommand(queue, key);
+        }
+        queue.add(new QEntry(feature, msg, NOW, key, false));
+    }
+
+    private void enqueueCommand(Msg msg, String key) {
+        InsteonDevice.removeCommand(queue, key);
+        queue.add(new QEntry(feature, msg, NOW, key, false));
+    }
+
+    private QEntry take() {
+        QEntry entry = InsteonDevice.takeNextEntry(queue, NOW);
+        assertNotNull(entry);
+        return entry;
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.insteon.internal.driver;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.insteon.internal.message.Msg;
+
+/**
+ * Tests for the order of the {@link WriteQueue}
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class WriteQueueTest {
+    private static final String ON = "aa.bb.cc:switch:11";
+    private static final String OFF = "aa.bb.cc:switch:13";
+    private static final String POLL = "aa.bb.cc:switch:19";
+
+    private final WriteQueue queue = new WriteQueue();
+
+    @Test
+    public void testLatestCommandWins() throws InterruptedException {
+        Msg on1 = mock(Msg.class);
+        Msg off = mock(Msg.class);
+        Msg on2 = mock(Msg.class);
+
+        queue.add(on1, ON, false, 0);
+        queue.add(off, OFF, false, 1);
+        queue.add(on2, ON, false, 2);
+
+        // the first ON is dropped, the newest ON is written after the OFF
+        assertEquals(2, queue.size());
+        assertSame(off, queue.take().getMsg());
+        assertSame(on2, queue.take().getMsg());
+    }
+
+    @Test
+    public void testCommandsBeforePolls() throws InterruptedException {
+        Msg poll1 = mock(Msg.class);
+        Msg poll2 = mock(Msg.class);
+        Msg on = mock(Msg.class);
+        Msg off = mock(Msg.class);
+
+        queue.add(poll1, POLL, true, 0);
+        queue.add(on, ON, false, 1);
+        queue.add(poll2, null, true, 2);
+        queue.add(off, OFF, false, 3);
+
+        // commands in the order they were added, then polls in the order they were added
+        assertSame(on, queue.take().getMsg());
+        assertSame(off, queue.take().getMsg());
+        assertSame(poll1, queue.take().getMsg());
+        assertSame(poll2, queue.take().getMsg());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void testCommandReplacesPoll() throws InterruptedException {
+        Msg poll = mock(Msg.class);
+        Msg other = mock(Msg.class);
+        Msg command = mock(Msg.class);
+
+        queue.add(poll, ON, true, 0);
+        queue.add(other, OFF, false, 1);
+        queue.add(command, ON, false, 2);
+
+        assertEquals(2, queue.size());
+        assertSame(other, queue.take().getMsg());
+        assertSame(command, queue.take().getMsg());
+    }
+
+    @Test
+    public void testPollDoesNotReplaceCommand() throws InterruptedException {
+        Msg command = mock(Msg.class);
+        Msg poll = mock(Msg.class);
+
+        queue.add(command, ON, false, 0);
+        queue.add(poll, ON, true, 1);
+
+        assertSame(command, queue.take().getMsg());
+        assertSame(poll, queue.take().getMsg());
+    }
+}
@@ -24,11 +24,18 @@ import org.openhab.core.thing.ThingTypeUID;
 import org.openhab.core.thing.binding.BaseThingHandlerFactory;
 import org.openhab.core.thing.binding.ThingHandler;
 import org.openhab.core.thing.binding.ThingHandlerFactory;
+import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.http.HttpService;
 
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.util.concurrent.DefaultEventExecutorGroup;
+import io.netty.util.concurrent.EventExecutorGroup;
+
 /**
  * The {@link IpCameraHandlerFactory} is responsible for creating things and thing
  * handlers.
@@ -42,6 +49,11 @@ public class IpCameraHandlerFactory extends BaseThingHandlerFactory {
     private final GroupTracker groupTracker = new GroupTracker();
     private final IpCameraDynamicStateDescriptionProvider stateDescriptionProvider;
     private final HttpService httpService;
+    // shared by the HTTP connections of all cameras, so thread count does not grow with the number of cameras
+    private final EventLoopGroup eventLoopGroup = new NioEventLoopGroup(Runtime.getRuntime().availableProcessors());
+    // parses camera replies and updates channels, which may block, off the event loop
+    private final EventExecutorGroup handlerExecutorGroup = new DefaultEventExecutorGroup(
+            Runtime.getRuntime().availableProcessors());
 
     @Activate
     public IpCameraHandlerFactory(final @Reference NetworkAddressService networkAddressService,
@@ -52,6 +64,14 @@ public class IpCameraHandlerFactory extends BaseThingHandlerFactory {
         this.httpService = httpService;
     }
 
+    @Deactivate
+    @Override
+    protected void deactivate(ComponentContext componentContext) {
+        super.deactivate(componentContext);
+        eventLoopGroup.shutdownGracefully();
+        handlerExecutorGroup.shutdownGracefully();
+    }
+
     @Override
     public boolean supportsThingType(ThingTypeUID thingTypeUID) {
         return (SUPPORTED_THING_TYPES.contains(thingTypeUID) || GROUP_SUPPORTED_THING_TYPES.contains(thingTypeUID));
@@ -62,7 +82,8 @@ public class IpCameraHandlerFactory extends BaseThingHandlerFactory {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
 
         if (SUPPORTED_THING_TYPES.contains(thingTypeUID)) {
-            return new IpCameraHandler(thing, openhabIpAddress, groupTracker, stateDescriptionProvider, httpService);
+            return new IpCameraHandler(thing, openhabIpAddress, groupTracker, stateDescriptionProvider, httpService,
+                    eventLoopGroup, handlerExecutorGroup);
         } else if (GROUP_SUPPORTED_THING_TYPES.contains(thingTypeUID)) {
             return new IpCameraGroupHandler(thing, openhabIpAddress, groupTracker, httpService);
         }
@@ -28,17 +28,20 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -97,7 +100,6 @@ import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.DefaultChannelGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.base64.Base64;
@@ -109,6 +111,7 @@ import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpMessage;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.codec.http.LastHttpContent;
 import io.netty.handler.timeout.IdleState;
@@ -116,6 +119,7 @@ import io.netty.handler.timeout.IdleStateEvent;
 import io.netty.handler.timeout.IdleStateHandler;
 import io.netty.util.CharsetUtil;
 import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.EventExecutorGroup;
 import io.netty.util.concurrent.GlobalEventExecutor;
 
 /**
@@ -152,7 +156,14 @@ public class IpCameraHandler extends BaseThingHandler {
     private @Nullable ScheduledFuture<?> snapshotJob = null;
     private @Nullable ScheduledFuture<?> authenticationJob = null;
     private @Nullable Bootstrap mainBootstrap;
-    private EventLoopGroup mainEventLoopGroup = new NioEventLoopGroup(1);
+    private final EventLoopGroup mainEventLoopGroup;
+    // runs the pipeline handlers that parse replies and update channels, so they do not block the shared event loop
+    private final EventExecutorGroup handlerExecutorGroup;
+    private static final int MAX_IDLE_CHANNELS = 2;
+    // idle keep-alive connections per port that can be re-used for the next GET request
+    private final Map<Integer, Deque<Channel>> idleChannels = new ConcurrentHashMap<>();
+    private final AtomicLong connectionsOpened = new AtomicLong();
+    private final AtomicLong connectionsReused = new AtomicLong();
     private FullHttpRequest putRequestWithBody = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.PUT, "");
     private FullHttpRequest postRequestWithBody = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "");
     private String gifFilename = "ipcamera";
@@ -167,6 +178,7 @@ public class IpCameraHandler extends BaseThingHandler {
     private int snapCount;
     private boolean updateImageChannel = false;
     private byte lowPriorityCounter = 0;
+    private int pollCounter = 0;
     public String hostIp;
     public Map<String, ChannelTracking> channelTrackingMap = new ConcurrentHashMap<>();
     public List<String> lowPriorityRequests = new ArrayList<>(0);
@@ -208,9 +220,23 @@ public class IpCameraHandler extends BaseThingHandler {
         private Object reply = new Object();
         private String requestUrl = "";
         private boolean isChunked = false;
+        private boolean reusable = false;
+        private boolean keepAlive = false;
 
-        public void setURL(String url) {
+        public void setURL(String url, boolean reusable) {
             requestUrl = url;
+            this.reusable = reusable;
+        }
+
+        private void reset() {
+            bytesToRecieve = 0;
+            bytesAlreadyRecieved = 0;
+            incomingJpeg = new byte[0];
+            incomingMessage = "";
+            contentType = "empty";
+            boundary = "";
+            isChunked = false;
+            keepAlive = false;
         }
 
         @Override
@@ -221,6 +247,7 @@ public class IpCameraHandler extends BaseThingHandler {
             try {
                 if (msg instanceof HttpResponse response) {
                     if (response.status().code() == 200) {
+                        keepAlive = reusable && HttpUtil.isKeepAlive(response);
                         if (!response.headers().isEmpty()) {
                             for (String name : response.headers().names()) {
                                 // Some cameras use first letter uppercase and others dont.
@@ -281,7 +308,12 @@ public class IpCameraHandler extends BaseThingHandler {
                             }
                             if (content instanceof LastHttpContent) {
                                 processSnapshot(incomingJpeg);
-                                ctx.close();
+                                if (keepAlive) {
+                                    reset();
+                                    releaseChannel(ctx.channel());
+                                } else {
+                                    ctx.close();
+                                }
                             }
                         } else { // incomingMessage that is not an IMAGE
                             if (incomingMessage.isEmpty()) {
@@ -296,6 +328,11 @@ public class IpCameraHandler extends BaseThingHandler {
                                     reply = incomingMessage;
                                     super.channelRead(ctx, reply);
                                 }
+                                // the brand handler runs on the same executor, so the reply has been handled here
+                                if (keepAlive) {
+                                    reset();
+                                    releaseChannel(ctx.channel());
+                                }
                             }
                             // Alarm Streams never have a LastHttpContent as they always stay open//
                             else if (contentType.contains("multipart")) {
@@ -393,8 +430,11 @@ public class IpCameraHandler extends BaseThingHandler {
     }
 
     public IpCameraHandler(Thing thing, @Nullable String ipAddress, GroupTracker groupTracker,
-            IpCameraDynamicStateDescriptionProvider stateDescriptionProvider, HttpService httpService) {
+            IpCameraDynamicStateDescriptionProvider stateDescriptionProvider, HttpService httpService,
+            EventLoopGroup eventLoopGroup, EventExecutorGroup handlerExecutorGroup) {
         super(thing);
+        this.mainEventLoopGroup = eventLoopGroup;
+        this.handlerExecutorGroup = handlerExecutorGroup;
         this.stateDescriptionProvider = stateDescriptionProvider;
         if (ipAddress != null) {
             hostIp = ipAddress;
@@ -563,37 +603,40 @@ public class IpCameraHandler extends BaseThingHandler {
                     // HIK Alarm stream needs > 9sec idle to stop stream closing
                     socketChannel.pipeline().addLast(new IdleStateHandler(18, 0, 0));
                     socketChannel.pipeline().addLast(new HttpClientCodec());
-                    socketChannel.pipeline().addLast(AUTH_HANDLER,
+                    socketChannel.pipeline().addLast(handlerExecutorGroup, AUTH_HANDLER,
                             new MyNettyAuthHandler(cameraConfig.getUser(), cameraConfig.getPassword(), getHandle()));
-                    socketChannel.pipeline().addLast(COMMON_HANDLER, new CommonCameraHandler());
+                    socketChannel.pipeline().addLast(handlerExecutorGroup, COMMON_HANDLER, new CommonCameraHandler());
 
                     switch (thing.getThingTypeUID().getId()) {
                         case AMCREST_THING:
-                            socketChannel.pipeline().addLast(AMCREST_HANDLER, new AmcrestHandler(getHandle()));
+                            socketChannel.pipeline().addLast(handlerExecutorGroup, AMCREST_HANDLER,
+                                    new AmcrestHandler(getHandle()));
                             break;
                         case DAHUA_THING:
-                            socketChannel.pipeline()
-                                    .addLast(new DahuaHandler(getHandle(), cameraConfig.getNvrChannel()));
+                            socketChannel.pipeline().addLast(handlerExecutorGroup,
+                                    new DahuaHandler(getHandle(), cameraConfig.getNvrChannel()));
                             break;
                         case DOORBIRD_THING:
-                            socketChannel.pipeline().addLast(new DoorBirdHandler(getHandle()));
+                            socketChannel.pipeline().addLast(handlerExecutorGroup, new DoorBirdHandler(getHandle()));
                             break;
                         case FOSCAM_THING:
-                            socketChannel.pipeline().addLast(
+                            socketChannel.pipeline().addLast(handlerExecutorGroup,
                                     new FoscamHandler(getHandle(), cameraConfig.getUser(), cameraConfig.getPassword()));
                             break;
                         case HIKVISION_THING:
-                            socketChannel.pipeline().addLast(HIKVISION_HANDLER,
+                            socketChannel.pipeline().addLast(handlerExecutorGroup, HIKVISION_HANDLER,
                                     new HikvisionHandler(getHandle(), cameraConfig.getNvrChannel()));
                             break;
                         case INSTAR_THING:
-                            socketChannel.pipeline().addLast(INSTAR_HANDLER, new InstarHandler(getHandle()));
+                            socketChannel.pipeline().addLast(handlerExecutorGroup, INSTAR_HANDLER,
+                                    new InstarHandler(getHandle()));
                             break;
                         case REOLINK_THING:
-                            socketChannel.pipeline().addLast(REOLINK_HANDLER, new ReolinkHandler(getHandle()));
+                            socketChannel.pipeline().addLast(handlerExecutorGroup, REOLINK_HANDLER,
+                                    new ReolinkHandler(getHandle()));
                             break;
                         default:
-                            socketChannel.pipeline().addLast(new HttpOnlyHandler(getHandle()));
+                            socketChannel.pipeline().addLast(handlerExecutorGroup, new HttpOnlyHandler(getHandle()));
                             break;
                     }
                 }
@@ -604,7 +647,11 @@ public class IpCameraHandler extends BaseThingHandler {
         if ("GET".equals(httpMethod) || (useDigestAuth && digestString == null)) {
             request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, new HttpMethod(httpMethod), httpRequestURL);
             request.headers().set("Host", cameraConfig.getIp() + ":" + port);
-            request.headers().set("Connection", HttpHeaderValues.CLOSE);
+            if ("GET".equals(httpMethod)) {
+                request.headers().set("Connection", HttpHeaderValues.KEEP_ALIVE);
+            } else {
+                request.headers().set("Connection", HttpHeaderValues.CLOSE);
+            }
         } else if ("PUT".equals(httpMethod)) {
             request = putRequestWithBody;
         } else {
@@ -626,6 +673,18 @@ public class IpCameraHandler extends BaseThingHandler {
             }
         }
 
+        Deque<Channel> idlePortChannels = idleChannels.get(port);
+        if ("GET".equals(httpMethod) && idlePortChannels != null) {
+            Channel idleChannel;
+            while ((idleChannel = idlePortChannels.poll()) != null) {
+                if (idleChannel.isActive()) {
+                    connectionsReused.incrementAndGet();
+                    writeRequest(idleChannel, httpMethod, httpRequestURLFull, request);
+                    return;
+                }
+            }
+        }
+
         mainBootstrap.connect(new InetSocketAddress(cameraConfig.getIp(), port))
                 .addListener(new ChannelFutureListener() {
 
@@ -637,35 +696,11 @@ public class IpCameraHandler extends BaseThingHandler {
                         if (future.isDone() && future.isSuccess()) {
                             Channel ch = future.channel();
                             openChannels.add(ch);
+                            connectionsOpened.incrementAndGet();
                             if (cameraConnectionJob != null && !isOnline.get()) {
                                 bringCameraOnline();
                             }
-                            openChannel(ch, httpRequestURL);
-                            CommonCameraHandler commonHandler = (CommonCameraHandler) ch.pipeline().get(COMMON_HANDLER);
-                            commonHandler.setURL(httpRequestURLFull);
-                            MyNettyAuthHandler authHandler = (MyNettyAuthHandler) ch.pipeline().get(AUTH_HANDLER);
-                            authHandler.setURL(httpMethod, httpRequestURL);
-
-                            switch (thing.getThingTypeUID().getId()) {
-                                case AMCREST_THING:
-                                    AmcrestHandler amcrestHandler = (AmcrestHandler) ch.pipeline().get(AMCREST_HANDLER);
-                                    amcrestHandler.setURL(httpRequestURL);
-                                    break;
-                                case HIKVISION_THING:
-                                    HikvisionHandler hikvisionHandler = (HikvisionHandler) ch.pipeline()
-                                            .get(HIKVISION_HANDLER);
-                                    hikvisionHandler.setURL(httpRequestURL);
-                                    break;
-                                case INSTAR_THING:
-                                    InstarHandler instarHandler = (InstarHandler) ch.pipeline().get(INSTAR_HANDLER);
-                                    instarHandler.setURL(httpRequestURL);
-                                    break;
-                                case REOLINK_THING:
-                                    ReolinkHandler reolinkHandler = (ReolinkHandler) ch.pipeline().get(REOLINK_HANDLER);
-                                    reolinkHandler.setURL(httpRequestURL);
-                                    break;
-                            }
-                            ch.writeAndFlush(request);
+                            writeRequest(ch, httpMethod, httpRequestURLFull, request);
                         } else { // an error occurred
                             cameraCommunicationError(
                                     "Connection Timeout: Check your IP and PORT are correct and the camera can be reached.");
@@ -674,6 +709,54 @@ public class IpCameraHandler extends BaseThingHandler {
                 });
     }
 
+    @SuppressWarnings("null")
+    private void writeRequest(Channel ch, String httpMethod, String httpRequestURLFull, FullHttpRequest request) {
+        String httpRequestURL = getTinyUrl(httpRequestURLFull);
+        openChannel(ch, httpRequestURL);
+        CommonCameraHandler commonHandler = (CommonCameraHandler) ch.pipeline().get(COMMON_HANDLER);
+        commonHandler.setURL(httpRequestURLFull, "GET".equals(httpMethod));
+        MyNettyAuthHandler authHandler = (MyNettyAuthHandler) ch.pipeline().get(AUTH_HANDLER);
+        authHandler.setURL(httpMethod, httpRequestURL);
+
+        switch (thing.getThingTypeUID().getId()) {
+            case AMCREST_THING:
+                AmcrestHandler amcrestHandler = (AmcrestHandler) ch.pipeline().get(AMCREST_HANDLER);
+                amcrestHandler.setURL(httpRequestURL);
+                break;
+            case HIKVISION_THING:
+                HikvisionHandler hikvisionHandler = (HikvisionHandler) ch.pipeline().get(HIKVISION_HANDLER);
+                hikvisionHandler.setURL(httpRequestURL);
+                break;
+            case INSTAR_THING:
+                InstarHandler instarHandler = (InstarHandler) ch.pipeline().get(INSTAR_HANDLER);
+                instarHandler.setURL(httpRequestURL);
+                break;
+            case REOLINK_THING:
+                ReolinkHandler reolinkHandler = (ReolinkHandler) ch.pipeline().get(REOLINK_HANDLER);
+                reolinkHandler.setURL(httpRequestURL);
+                break;
+        }
+        ch.writeAndFlush(request);
+    }
+
+    /**
+     * Keeps a channel that completed a GET request open for the next GET request to the same port. The channel is
+     * closed by the IdleStateHandler if it is not used again.
+     */
+    private void releaseChannel(Channel channel) {
+        if (!(channel.remoteAddress() instanceof InetSocketAddress address)) {
+            channel.close();
+            return;
+        }
+        Deque<Channel> idlePortChannels = idleChannels.computeIfAbsent(address.getPort(),
+                p -> new ConcurrentLinkedDeque<>());
+        if (idlePortChannels.size() < MAX_IDLE_CHANNELS) {
+            idlePortChannels.offer(channel);
+        } else {
+            channel.close();
+        }
+    }
+
     public void processSnapshot(byte[] incommingSnapshot) {
         lockCurrentSnapshot.lock();
         try {
@@ -1644,13 +1727,22 @@ public class IpCameraHandler extends BaseThingHandler {
             logger.debug("There are {} open Channels being tracked.", openChannels.size());
             cleanChannels();
         }
+        if (++pollCounter >= 8) { // roughly every minute
+            pollCounter = 0;
+            logConnectionStatistics();
+        }
+    }
+
+    private void logConnectionStatistics() {
+        logger.debug("Camera at {}: {} connections opened, {} requests re-used a connection, {} connections idle",
+                cameraConfig.getIp(), connectionsOpened.get(), connectionsReused.get(),
+                idleChannels.values().stream().mapToInt(Deque::size).sum());
     }
 
     @Override
     public void initialize() {
         cameraConfig = getConfigAs(CameraConfig.class);
         threadPool = Executors.newScheduledThreadPool(2);
-        mainEventLoopGroup = new NioEventLoopGroup(3);
         snapshotUri = getCorrectUrlFormat(cameraConfig.getSnapshotUrl());
         mjpegUri = getCorrectUrlFormat(cameraConfig.getMjpegUrl());
         rtspUri = cameraConfig.getFfmpegInput();
@@ -1856,6 +1948,7 @@ public class IpCameraHandler extends BaseThingHandler {
         if (!thing.getThingTypeUID().getId().equals(GENERIC_THING)) { // generic cameras do not have ONVIF support
             onvifCamera.disconnect();
         }
+        idleChannels.clear();
         openChannels.close();
     }
 
@@ -1876,7 +1969,6 @@ public class IpCameraHandler extends BaseThingHandler {
         }
         basicAuth = ""; // clear out stored Password hash
         useDigestAuth = false;
-        mainEventLoopGroup.shutdownGracefully();
         mainBootstrap = null;
         channelTrackingMap.clear();
     }
@@ -202,7 +202,7 @@ public class CameraServlet extends IpCameraServlet {
                 openStreams.addStream(output);
                 do {
                     try {
-                        output.sendFrame();
+                        output.sendFrame(openStreams);
                     } catch (InterruptedException | IOException e) {
                         // Never stop streaming until IOException. Occurs when browser stops the stream.
                         openStreams.removeStream(output);
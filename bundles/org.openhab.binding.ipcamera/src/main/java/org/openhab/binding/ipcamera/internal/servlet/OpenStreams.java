@@ -12,29 +12,44 @@
  */
 package org.openhab.binding.ipcamera.internal.servlet;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 
 /**
- * The {@link OpenStreams} Keeps track of all open mjpeg streams so the byte[] can be given to all FIFO buffers to allow
- * 1 to many streams without needing to open more than 1 source stream.
+ * The {@link OpenStreams} Keeps track of all open mjpeg streams so the byte[] can be given to all streams to allow
+ * 1 to many streams without needing to open more than 1 source stream. Frames are stored once in a ring buffer and
+ * every stream only keeps the position of the next frame it has to send.
  *
  * @author Matthew Skinner - Initial contribution
  */
 @NonNullByDefault
 public class OpenStreams {
+    static final int BUFFER_SIZE = 50;
     private List<StreamOutput> openStreams = Collections.synchronizedList(new ArrayList<>());
+    private final @Nullable Frame[] frames = new Frame[BUFFER_SIZE];
+    private long nextSequence = 0; // sequence number the next queued frame will get
     public String boundary = "thisMjpegStream";
 
     public synchronized void addStream(StreamOutput stream) {
+        // a new stream starts with the next frame that is queued
+        stream.cursor = nextSequence;
         openStreams.add(stream);
     }
 
     public synchronized void removeStream(StreamOutput stream) {
+        // a removed stream must not wait for or be given any further frames
+        stream.markClosed();
         openStreams.remove(stream);
+        if (openStreams.isEmpty()) {
+            releaseFrames();
+        }
+        notifyAll();
     }
 
     public synchronized int getNumberOfStreams() {
@@ -53,9 +68,48 @@ public class OpenStreams {
     }
 
     public synchronized void queueFrame(byte[] frame) {
-        for (StreamOutput stream : openStreams) {
-            stream.queueFrame(frame);
+        if (openStreams.isEmpty()) {
+            return;
         }
+        frames[(int) (nextSequence % BUFFER_SIZE)] = new Frame(frame);
+        nextSequence++;
+        notifyAll();
+    }
+
+    /**
+     * Waits for the next frame a stream has to send.
+     *
+     * @param stream the stream that sends the frame
+     * @param skipToNewest <code>true</code> if the stream contains complete frames and older frames can be skipped,
+     *            <code>false</code> if all buffered data has to be sent in order
+     * @return the frame to send
+     * @throws InterruptedException if interrupted while waiting
+     * @throws IOException if the stream was closed while waiting
+     */
+    public synchronized Frame nextFrame(StreamOutput stream, boolean skipToNewest)
+            throws InterruptedException, IOException {
+        while (true) {
+            if (stream.isClosed()) {
+                throw new IOException("Stream was closed");
+            }
+            if (stream.cursor < nextSequence) {
+                break;
+            }
+            wait();
+        }
+        long sequence;
+        if (skipToNewest) {
+            sequence = nextSequence - 1;
+        } else {
+            // a stream that fell behind more than the buffer loses the oldest data
+            sequence = Math.max(stream.cursor, nextSequence - BUFFER_SIZE);
+        }
+        stream.cursor = sequence + 1;
+        Frame frame = frames[(int) (sequence % BUFFER_SIZE)];
+        if (frame == null) {
+            throw new IOException("Frame " + sequence + " is missing");
+        }
+        return frame;
     }
 
     public synchronized void closeAllStreams() {
@@ -63,5 +117,45 @@ public class OpenStreams {
             stream.close();
         }
         openStreams.clear();
+        releaseFrames();
+        notifyAll();
+    }
+
+    /**
+     * Once no stream is left, nobody can read the buffered frames anymore as a new stream starts with the next queued
+     * frame, so they are dropped instead of being kept until they are overwritten.
+     */
+    private void releaseFrames() {
+        Arrays.fill(frames, null);
+    }
+
+    synchronized int getBufferedFrames() {
+        return (int) Arrays.stream(frames).filter(frame -> frame != null).count();
+    }
+
+    /**
+     * The {@link Frame} is a single frame (or chunk of a camera's stream) that is shared by all streams.
+     */
+    public static class Frame {
+        public final byte[] data;
+        private volatile byte @Nullable [] multipartHeader;
+
+        public Frame(byte[] data) {
+            this.data = data;
+        }
+
+        /**
+         * Get the multipart header for this frame, it is only created once for all snapshot based streams.
+         *
+         * @return the header
+         */
+        public byte[] getMultipartHeader() {
+            byte[] header = multipartHeader;
+            if (header == null) {
+                header = StreamOutput.createMultipartHeader(data.length);
+                multipartHeader = header;
+            }
+            return header;
+        }
     }
 }
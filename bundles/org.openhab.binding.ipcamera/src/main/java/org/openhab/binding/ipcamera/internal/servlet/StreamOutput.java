@@ -13,13 +13,13 @@
 package org.openhab.binding.ipcamera.internal.servlet;
 
 import java.io.IOException;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.nio.charset.StandardCharsets;
 
 import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServletResponse;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.ipcamera.internal.servlet.OpenStreams.Frame;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,25 +30,25 @@ import org.slf4j.LoggerFactory;
  */
 @NonNullByDefault
 public class StreamOutput {
+    private static final String SNAPSHOT_BOUNDARY = "thisMjpegStream";
+    private static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.US_ASCII);
     public final Logger logger = LoggerFactory.getLogger(getClass());
     private final HttpServletResponse response;
-    private final String boundary;
     private String contentType;
     private final ServletOutputStream output;
-    private BlockingQueue<byte[]> fifo = new ArrayBlockingQueue<>(50);
     private boolean connected = false;
+    private volatile boolean closed = false;
     public boolean isSnapshotBased = false;
+    long cursor = 0; // sequence number of the next frame in OpenStreams, guarded by OpenStreams
 
     public StreamOutput(HttpServletResponse response) throws IOException {
-        boundary = "thisMjpegStream";
-        contentType = "multipart/x-mixed-replace; boundary=" + boundary;
+        contentType = "multipart/x-mixed-replace; boundary=" + SNAPSHOT_BOUNDARY;
         this.response = response;
         output = response.getOutputStream();
         isSnapshotBased = true;
     }
 
     public StreamOutput(HttpServletResponse response, String contentType) throws IOException {
-        boundary = "";
         this.contentType = contentType;
         this.response = response;
         output = response.getOutputStream();
@@ -58,30 +58,27 @@ public class StreamOutput {
         }
     }
 
+    static byte[] createMultipartHeader(int contentLength) {
+        return ("--" + SNAPSHOT_BOUNDARY + "\r\nContent-Type: image/jpeg\r\nContent-Length: " + contentLength
+                + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+    }
+
     public void sendSnapshotBasedFrame(byte[] currentSnapshot) throws IOException {
-        String header = "--" + boundary + "\r\n" + "Content-Type: image/jpeg" + "\r\n" + "Content-Length: "
-                + currentSnapshot.length + "\r\n\r\n";
+        sendSnapshotBasedFrame(createMultipartHeader(currentSnapshot.length), currentSnapshot);
+    }
+
+    private void sendSnapshotBasedFrame(byte[] header, byte[] currentSnapshot) throws IOException {
         if (!connected) {
             sendInitialHeaders();
             // iOS needs to have two jpgs sent for the picture to appear instantly.
-            output.write(header.getBytes());
+            output.write(header);
             output.write(currentSnapshot);
-            output.write("\r\n".getBytes());
+            output.write(CRLF);
             connected = true;
         }
-        output.write(header.getBytes());
+        output.write(header);
         output.write(currentSnapshot);
-        output.write("\r\n".getBytes());
-    }
-
-    public void queueFrame(byte[] frame) {
-        try {
-            fifo.add(frame);
-        } catch (IllegalStateException e) {
-            logger.debug("FIFO buffer has run out of space: {}", e.getMessage());
-            fifo.remove();
-            fifo.add(frame);
-        }
+        output.write(CRLF);
     }
 
     public void updateContentType(String contentType) {
@@ -92,21 +89,35 @@ public class StreamOutput {
         }
     }
 
-    public void sendFrame() throws IOException, InterruptedException {
+    public void sendFrame(OpenStreams streams) throws IOException, InterruptedException {
         if (isSnapshotBased) {
-            sendSnapshotBasedFrame(fifo.take());
-        } else if (connected) {
-            output.write(fifo.take());
+            // complete frames, so a slow client skips to the newest frame instead of sending old ones
+            Frame frame = streams.nextFrame(this, true);
+            sendSnapshotBasedFrame(frame.getMultipartHeader(), frame.data);
+        } else {
+            Frame frame = streams.nextFrame(this, false);
+            if (connected) {
+                output.write(frame.data);
+            }
         }
     }
 
+    public boolean isClosed() {
+        return closed;
+    }
+
     private void sendInitialHeaders() {
         response.setContentType(contentType);
         response.setHeader("Access-Control-Allow-Origin", "*");
         response.setHeader("Access-Control-Expose-Headers", "*");
     }
 
+    void markClosed() {
+        closed = true;
+    }
+
     public void close() {
+        markClosed();
         try {
             output.close();
         } catch (IOException e) {
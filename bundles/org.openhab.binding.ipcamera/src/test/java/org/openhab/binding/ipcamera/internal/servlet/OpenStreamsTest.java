@@ -0,0 +1,173 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal.servlet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.ipcamera.internal.servlet.OpenStreams.Frame;
+
+/**
+ * Tests cases for {@link OpenStreams} with multiple viewers.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class OpenStreamsTest {
+
+    private final OpenStreams streams = new OpenStreams();
+
+    private StreamOutput newViewer() throws IOException {
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        when(response.getOutputStream()).thenReturn(mock(ServletOutputStream.class));
+        return new StreamOutput(response);
+    }
+
+    private void queueFrames(int first, int count) {
+        for (int i = first; i < first + count; i++) {
+            streams.queueFrame(new byte[] { (byte) i });
+        }
+    }
+
+    @Test
+    public void viewersShareFramesWithOwnCursors() throws Exception {
+        StreamOutput first = newViewer();
+        StreamOutput second = newViewer();
+        streams.addStream(first);
+        streams.addStream(second);
+        queueFrames(0, 3);
+
+        Frame frame = streams.nextFrame(first, false);
+        assertEquals(0, frame.data[0]);
+        assertEquals(1, streams.nextFrame(first, false).data[0]);
+        // the second viewer has not read anything yet and gets the same frame instances
+        assertSame(frame, streams.nextFrame(second, false));
+        assertEquals(2, streams.nextFrame(first, false).data[0]);
+        assertEquals(1, streams.nextFrame(second, false).data[0]);
+        assertEquals(2, streams.nextFrame(second, false).data[0]);
+    }
+
+    @Test
+    public void newViewerStartsWithNextQueuedFrame() throws Exception {
+        StreamOutput first = newViewer();
+        streams.addStream(first);
+        queueFrames(0, 3);
+
+        StreamOutput second = newViewer();
+        streams.addStream(second);
+        queueFrames(3, 1);
+
+        assertEquals(3, streams.nextFrame(second, false).data[0]);
+        assertEquals(0, streams.nextFrame(first, false).data[0]);
+    }
+
+    @Test
+    public void skipToNewestOnlySendsTheNewestFrame() throws Exception {
+        StreamOutput slow = newViewer();
+        StreamOutput inOrder = newViewer();
+        streams.addStream(slow);
+        streams.addStream(inOrder);
+        queueFrames(0, 5);
+
+        assertEquals(4, streams.nextFrame(slow, true).data[0]);
+        queueFrames(5, 2);
+        assertEquals(6, streams.nextFrame(slow, true).data[0]);
+        // skipping does not move the cursor of the other viewer
+        assertEquals(0, streams.nextFrame(inOrder, false).data[0]);
+    }
+
+    @Test
+    public void viewerThatFellBehindLosesTheOldestFrames() throws Exception {
+        StreamOutput viewer = newViewer();
+        streams.addStream(viewer);
+        queueFrames(0, OpenStreams.BUFFER_SIZE + 5);
+
+        assertEquals(5, streams.nextFrame(viewer, false).data[0]);
+        assertEquals(6, streams.nextFrame(viewer, false).data[0]);
+    }
+
+    @Test
+    public void removedViewerIsClosedAndStopsWaiting() throws Exception {
+        StreamOutput waiting = newViewer();
+        StreamOutput other = newViewer();
+        streams.addStream(waiting);
+        streams.addStream(other);
+
+        CompletableFuture<Frame> frame = CompletableFuture.supplyAsync(() -> {
+            try {
+                return streams.nextFrame(waiting, false);
+            } catch (InterruptedException | IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        streams.removeStream(waiting);
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> frame.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IOException.class, e.getCause().getCause());
+        assertTrue(waiting.isClosed());
+        assertFalse(other.isClosed());
+        assertEquals(1, streams.getNumberOfStreams());
+
+        // frames queued after the removal are not handed to the removed viewer
+        queueFrames(0, 1);
+        assertThrows(IOException.class, () -> streams.nextFrame(waiting, false));
+        assertEquals(0, streams.nextFrame(other, false).data[0]);
+    }
+
+    @Test
+    public void framesAreReleasedWhenTheLastViewerIsRemoved() throws Exception {
+        StreamOutput first = newViewer();
+        StreamOutput second = newViewer();
+        streams.addStream(first);
+        streams.addStream(second);
+        queueFrames(0, 3);
+
+        streams.removeStream(first);
+        assertEquals(3, streams.getBufferedFrames());
+        assertEquals(0, streams.nextFrame(second, false).data[0]);
+
+        streams.removeStream(second);
+        assertTrue(streams.isEmpty());
+        assertEquals(0, streams.getBufferedFrames());
+
+        // without viewers nothing is buffered
+        queueFrames(3, 2);
+        assertEquals(0, streams.getBufferedFrames());
+    }
+
+    @Test
+    public void closeAllStreamsClosesViewersAndReleasesFrames() throws Exception {
+        StreamOutput first = newViewer();
+        StreamOutput second = newViewer();
+        streams.addStream(first);
+        streams.addStream(second);
+        queueFrames(0, 2);
+
+        streams.closeAllStreams();
+
+        assertTrue(first.isClosed());
+        assertTrue(second.isClosed());
+        assertEquals(0, streams.getBufferedFrames());
+        assertThrows(IOException.class, () -> streams.nextFrame(first, false));
+    }
+}
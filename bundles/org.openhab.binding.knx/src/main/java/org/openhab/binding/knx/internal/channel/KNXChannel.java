@@ -56,6 +56,7 @@ public abstract class KNXChannel {
     private final ChannelUID channelUID;
     private final boolean isControl;
     private final Class<? extends Type> preferredType;
+    private final List<ListenSpecImpl> listenSpecs;
 
     KNXChannel(List<Class<? extends Type>> acceptedTypes, Channel channel) {
         this(Set.of(GA), acceptedTypes, channel);
@@ -91,6 +92,11 @@ public abstract class KNXChannel {
                 writeAddresses.add(groupAddressConfiguration.getMainGA());
             }
         });
+
+        // the listen specs hold the decoders for received telegrams, they are only created once per channel
+        this.listenSpecs = groupAddressConfigurations.entrySet().stream()
+                .map(entry -> new ListenSpecImpl(entry.getValue(), getDefaultDPT(entry.getKey()), preferredType))
+                .toList();
     }
 
     public String getChannelType() {
@@ -157,10 +163,9 @@ public abstract class KNXChannel {
                 .filter(spec -> !spec.getGroupAddresses().isEmpty()).collect(toList());
     }
 
-    public final @Nullable InboundSpec getListenSpec(GroupAddress groupAddress) {
-        return groupAddressConfigurations.entrySet().stream()
-                .map(entry -> new ListenSpecImpl(entry.getValue(), getDefaultDPT(entry.getKey())))
-                .filter(spec -> spec.getGroupAddresses().contains(groupAddress)).findFirst().orElse(null);
+    public final @Nullable ListenSpecImpl getListenSpec(GroupAddress groupAddress) {
+        return listenSpecs.stream().filter(spec -> spec.getGroupAddresses().contains(groupAddress)).findFirst()
+                .orElse(null);
     }
 
     public final @Nullable OutboundSpec getResponseSpec(GroupAddress groupAddress, Type value) {
@@ -16,7 +16,12 @@ import java.util.Objects;
 import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.knx.internal.client.InboundSpec;
+import org.openhab.binding.knx.internal.dpt.DPTDecoder;
+import org.openhab.binding.knx.internal.dpt.DPTUtil;
+import org.openhab.binding.knx.internal.dpt.ValueDecoder;
+import org.openhab.core.types.Type;
 
 import tuwien.auto.calimero.GroupAddress;
 
@@ -30,10 +35,15 @@ import tuwien.auto.calimero.GroupAddress;
 public class ListenSpecImpl implements InboundSpec {
     private final String dpt;
     private final Set<GroupAddress> listenAddresses;
+    private final boolean supported;
+    private final DPTDecoder decoder;
 
-    public ListenSpecImpl(GroupAddressConfiguration groupAddressConfiguration, String defaultDPT) {
+    public ListenSpecImpl(GroupAddressConfiguration groupAddressConfiguration, String defaultDPT,
+            Class<? extends Type> preferredType) {
         this.dpt = Objects.requireNonNullElse(groupAddressConfiguration.getDPT(), defaultDPT);
         this.listenAddresses = groupAddressConfiguration.getListenGAs();
+        this.supported = !DPTUtil.getAllowedTypes(dpt).isEmpty();
+        this.decoder = supported ? ValueDecoder.createDecoder(dpt, preferredType) : data -> null;
     }
 
     @Override
@@ -45,4 +55,21 @@ public class ListenSpecImpl implements InboundSpec {
     public Set<GroupAddress> getGroupAddresses() {
         return listenAddresses;
     }
+
+    /**
+     * @return true if the DPT can be converted to an openHAB type
+     */
+    public boolean isSupported() {
+        return supported;
+    }
+
+    /**
+     * convert the raw value received to the preferred openHAB type of the channel
+     *
+     * @param data a byte array containing the value
+     * @return the data converted to an openHAB Type (or null if conversion failed)
+     */
+    public @Nullable Type decode(byte[] data) {
+        return decoder.decode(data);
+    }
 }
@@ -19,7 +19,6 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -82,6 +81,10 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private ClientState state = ClientState.INIT;
 
     private static final int MAX_SEND_ATTEMPTS = 2;
+    private static final int MAX_PAUSE_FACTOR = 8;
+    private static final long STATISTICS_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+    // share of the gap to the average latency the baseline rises with each read
+    private static final double BASELINE_DECAY = 0.02;
 
     private final Logger logger = LoggerFactory.getLogger(AbstractKNXClient.class);
 
@@ -104,7 +107,14 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private @Nullable ScheduledFuture<?> connectJob;
 
     private final Set<GroupAddressListener> groupAddressListeners = new CopyOnWriteArraySet<>();
-    private final LinkedBlockingQueue<ReadDatapoint> readDatapoints = new LinkedBlockingQueue<>();
+    private final ReadDatapointQueue readDatapoints = new ReadDatapointQueue();
+
+    // read pacing and statistics, only accessed by the job reading queued datapoints and reset before it is started
+    private long nextReadNanos;
+    private double baselineReadNanos;
+    private double averageReadNanos;
+    private long readsSinceStatistics;
+    private long lastStatisticsNanos = System.nanoTime();
 
     @FunctionalInterface
     private interface ListenerNotification {
@@ -243,7 +253,8 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
             // register this class, callbacks will be triggered
             link.addLinkListener(this);
 
-            // create a job carrying out read requests
+            // create a job carrying out read requests, the latency of the new connection is learned from scratch
+            resetReadPacing();
             busJob = knxScheduler.scheduleWithFixedDelay(this::readNextQueuedDatapoint, 0, readingPause,
                     TimeUnit.MILLISECONDS);
 
@@ -359,12 +370,22 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         if (processCommunicator == null) {
             return;
         }
+        long now = System.nanoTime();
+        if (now - lastStatisticsNanos >= STATISTICS_INTERVAL_NANOS) {
+            updateReadStatistics(now);
+        }
+        if (now - nextReadNanos < 0) {
+            // backing off, the bus answers slower than usual
+            return;
+        }
         ReadDatapoint datapoint = readDatapoints.poll();
         if (datapoint != null) {
             datapoint.incrementRetries();
             try {
                 logger.trace("Sending a Group Read Request telegram for {}", datapoint.getDatapoint().getMainAddress());
+                long start = System.nanoTime();
                 processCommunicator.read(datapoint.getDatapoint());
+                adaptReadingPause(System.nanoTime() - start);
             } catch (KNXException e) {
                 // Note: KnxException does not cover KnxRuntimeException and subclasses KnxSecureException,
                 // KnxIllegArgumentException
@@ -388,6 +409,43 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         }
     }
 
+    /**
+     * Adapt the pause between two read requests to the load of the bus. The average latency of successful reads is
+     * compared with a baseline, a decaying minimum of the latency: if the bus answers n times slower, the pause is
+     * extended by (n - 1) times the configured reading pause, up to {@link #MAX_PAUSE_FACTOR} times.
+     * The baseline follows the fastest reads at once and rises slowly towards the average latency, so a single fast
+     * outlier does not extend the pause for long.
+     *
+     * @param readNanos the duration of the last successful read
+     */
+    private void adaptReadingPause(long readNanos) {
+        readsSinceStatistics++;
+        long latency = Math.max(1, readNanos);
+        averageReadNanos = averageReadNanos == 0 ? latency : 0.9 * averageReadNanos + 0.1 * latency;
+        baselineReadNanos = baselineReadNanos == 0 ? latency
+                : Math.min(latency, baselineReadNanos + BASELINE_DECAY * (averageReadNanos - baselineReadNanos));
+        double factor = Math.min(MAX_PAUSE_FACTOR, averageReadNanos / baselineReadNanos);
+        long extraPauseNanos = (long) ((factor - 1) * TimeUnit.MILLISECONDS.toNanos(readingPause));
+        nextReadNanos = System.nanoTime() + extraPauseNanos;
+    }
+
+    private void resetReadPacing() {
+        nextReadNanos = System.nanoTime();
+        baselineReadNanos = 0;
+        averageReadNanos = 0;
+    }
+
+    private void updateReadStatistics(long now) {
+        long readsPerMinute = readsSinceStatistics * TimeUnit.MINUTES.toNanos(1) / (now - lastStatisticsNanos);
+        logger.debug(
+                "Bridge {} read queue: {} refresh, {} periodic, {} initial reads, average latency {} ms, {} reads per minute",
+                thingUID, readDatapoints.size(ReadPriority.HIGH), readDatapoints.size(ReadPriority.NORMAL),
+                readDatapoints.size(ReadPriority.LOW), TimeUnit.NANOSECONDS.toMillis((long) averageReadNanos),
+                readsPerMinute);
+        readsSinceStatistics = 0;
+        lastStatisticsNanos = now;
+    }
+
     public void dispose() {
         state = ClientState.DISPOSE;
 
@@ -456,13 +514,8 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     }
 
     @Override
-    public void readDatapoint(Datapoint datapoint) {
-        synchronized (this) {
-            ReadDatapoint retryDatapoint = new ReadDatapoint(datapoint, readRetriesLimit);
-            if (!readDatapoints.contains(retryDatapoint)) {
-                readDatapoints.add(retryDatapoint);
-            }
-        }
+    public void readDatapoint(Datapoint datapoint, ReadPriority priority) {
+        readDatapoints.add(new ReadDatapoint(datapoint, readRetriesLimit, priority));
     }
 
     @Override
@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import tuwien.auto.calimero.GroupAddress;
+
+/**
+ * Queue of data points to be read from the KNX bus, with one lane per {@link ReadPriority}.
+ *
+ * A group address is queued at most once. Queuing an address which is already waiting in a lane of lower priority
+ * moves it to the end of the lane of the higher priority.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ReadDatapointQueue {
+    private final Map<ReadPriority, ArrayDeque<ReadDatapoint>> lanes = new EnumMap<>(ReadPriority.class);
+    private final Map<GroupAddress, ReadDatapoint> queued = new HashMap<>();
+
+    public ReadDatapointQueue() {
+        for (ReadPriority priority : ReadPriority.values()) {
+            lanes.put(priority, new ArrayDeque<>());
+        }
+    }
+
+    /**
+     * Add a data point to the end of the lane of its priority.
+     *
+     * @param datapoint the data point to be read
+     * @return true if the data point was queued or promoted, false if it was already queued with the same or a
+     *         higher priority
+     */
+    public synchronized boolean add(ReadDatapoint datapoint) {
+        GroupAddress address = datapoint.getDatapoint().getMainAddress();
+        ReadDatapoint existing = queued.get(address);
+        if (existing != null) {
+            if (existing.getPriority().compareTo(datapoint.getPriority()) <= 0) {
+                return false;
+            }
+            lane(existing.getPriority()).remove(existing);
+        }
+        queued.put(address, datapoint);
+        lane(datapoint.getPriority()).add(datapoint);
+        return true;
+    }
+
+    /**
+     * Remove the next data point to be read, i.e. the head of the lane with the highest priority.
+     *
+     * @return the data point or null if the queue is empty
+     */
+    public synchronized @Nullable ReadDatapoint poll() {
+        for (ArrayDeque<ReadDatapoint> lane : lanes.values()) {
+            ReadDatapoint datapoint = lane.poll();
+            if (datapoint != null) {
+                queued.remove(datapoint.getDatapoint().getMainAddress());
+                return datapoint;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the number of data points waiting in the given lane.
+     *
+     * @param priority the priority of the lane
+     * @return the number of queued data points
+     */
+    public synchronized int size(ReadPriority priority) {
+        return lane(priority).size();
+    }
+
+    public synchronized int size() {
+        return queued.size();
+    }
+
+    public synchronized void clear() {
+        lanes.values().forEach(ArrayDeque::clear);
+        queued.clear();
+    }
+
+    private ArrayDeque<ReadDatapoint> lane(ReadPriority priority) {
+        ArrayDeque<ReadDatapoint> lane = lanes.get(priority);
+        if (lane == null) {
+            throw new IllegalStateException("No lane for priority " + priority);
+        }
+        return lane;
+    }
+}
@@ -0,0 +1,298 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.dpt;
+
+import static org.openhab.binding.knx.internal.KNXBindingConstants.disableUoM;
+
+import java.math.BigDecimal;
+import java.util.Calendar;
+import java.util.Locale;
+import java.util.Set;
+
+import javax.measure.Unit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.knx.internal.dpt.ValueDecoder.DptId;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.types.Type;
+import org.openhab.core.util.ColorUtil;
+import org.openhab.core.util.HexUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tuwien.auto.calimero.KNXException;
+import tuwien.auto.calimero.KNXFormatException;
+import tuwien.auto.calimero.KNXIllegalArgumentException;
+import tuwien.auto.calimero.dptxlator.DPTXlator;
+import tuwien.auto.calimero.dptxlator.DPTXlator1BitControlled;
+import tuwien.auto.calimero.dptxlator.DPTXlator64BitSigned;
+import tuwien.auto.calimero.dptxlator.DPTXlatorSceneControl;
+import tuwien.auto.calimero.dptxlator.TranslatorTypes;
+
+/**
+ * This class creates the {@link DPTDecoder}s for the DPT main types.
+ *
+ * The translator of a DPT and the conversion for its main type are resolved once per decoder. Received data is still
+ * passed through the translator, which validates it exactly like {@link ValueDecoder#decode(String, byte[], Class)},
+ * but the value is then taken from the typed getters of the translator or from the raw data instead of being parsed
+ * from the string representation of the translator.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+final class DPTDecoders {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DPTDecoders.class);
+
+    private DPTDecoders() {
+        // prevent instantiation
+    }
+
+    /**
+     * Conversion of validated data of a main type to an openHAB type.
+     */
+    @FunctionalInterface
+    private interface Conversion {
+        @Nullable
+        Type convert(DPTXlator translator, byte[] data) throws KNXFormatException;
+    }
+
+    /**
+     * A decoder which owns a translator. Translators are not thread-safe, so decoding is synchronized.
+     */
+    private static class TranslatingDecoder implements DPTDecoder {
+        private final String dptId;
+        private final DPTXlator translator;
+        private final Conversion conversion;
+
+        private TranslatingDecoder(String dptId, DPTXlator translator, Conversion conversion) {
+            this.dptId = dptId;
+            this.translator = translator;
+            this.conversion = conversion;
+        }
+
+        @Override
+        public synchronized @Nullable Type decode(byte[] data) {
+            try {
+                translator.setData(data);
+                return conversion.convert(translator, data);
+            } catch (NumberFormatException | KNXFormatException | KNXIllegalArgumentException e) {
+                LOGGER.info("Translator couldn't parse data '{}' for datapoint type '{}' ({}).",
+                        HexUtils.bytesToHex(data), dptId, e.getClass());
+            }
+            return null;
+        }
+    }
+
+    static DPTDecoder create(String dptId, Class<? extends Type> preferredType) {
+        DPTDecoder genericDecoder = data -> ValueDecoder.decode(dptId, data, preferredType);
+        DPTXlator translator;
+        try {
+            translator = TranslatorTypes.createTranslator(0, DPTUtil.NORMALIZED_DPT.getOrDefault(dptId, dptId));
+        } catch (KNXException e) {
+            // DPTs not supported by Calimero need special handling, which is done by the generic decoder
+            return genericDecoder;
+        }
+        DptId id = ValueDecoder.parseDptId(dptId); // prefer using the user-supplied DPT
+        if (id == null) {
+            id = ValueDecoder.parseDptId(translator.getType().getID());
+            if (id == null) {
+                return genericDecoder;
+            }
+        }
+        return new TranslatingDecoder(dptId, translator, createConversion(id, translator, preferredType));
+    }
+
+    private static Conversion createConversion(DptId id, DPTXlator translator, Class<? extends Type> preferredType) {
+        String subType = id.subType();
+        switch (id.mainType()) {
+            case "1":
+                return (t, data) -> ValueDecoder.handleDpt1(subType, t, preferredType);
+            case "2":
+                return (t, data) -> {
+                    DPTXlator1BitControlled translator1BitControlled = (DPTXlator1BitControlled) t;
+                    return new DecimalType((translator1BitControlled.getControlBit() ? 2 : 0)
+                            + (translator1BitControlled.getValueBit() ? 1 : 0));
+                };
+            case "3":
+                return (t, data) -> ValueDecoder.handleDpt3(subType, t);
+            case "10":
+                return (t, data) -> decodeDpt10(data);
+            case "11":
+                return (t, data) -> decodeDpt11(data);
+            case "18":
+                return (t, data) -> new DecimalType(((DPTXlatorSceneControl) t).getSceneNumber() + (data[0] & 0x80));
+            case "19":
+                return ValueDecoder::handleDpt19;
+            case "20":
+            case "21":
+                return decimalOrString(preferredType, 1);
+            case "22":
+                return decimalOrString(preferredType, 2);
+            case "16":
+            case "28":
+            case "250":
+            case "252":
+            case "253":
+            case "254":
+                return (t, data) -> StringType.valueOf(t.getValue());
+            case "243":
+            case "249":
+                return (t, data) -> StringType.valueOf(t.getValue().replace(',', '.').replace(". ", ", "));
+            case "232":
+                return (t, data) -> ValueDecoder.handleDpt232(data, subType);
+            case "242":
+                return (t, data) -> decodeDpt242(data);
+            case "251":
+                return (t, data) -> decodeDpt251(data, subType, preferredType);
+            default:
+                return numeric(id, translator, preferredType);
+        }
+    }
+
+    private static Type decodeDpt10(byte[] data) {
+        // same date as parsed by ValueDecoder: 1970-01-01, or the given day of the first week of 1970
+        int day = (data[0] >> 5) & 0x07;
+        Calendar cal = Calendar.getInstance(Locale.US);
+        cal.clear();
+        if (day != 0) {
+            // KNX counts from Monday = 1 to Sunday = 7
+            cal.set(Calendar.DAY_OF_WEEK, day % 7 + 1);
+        }
+        cal.set(Calendar.HOUR_OF_DAY, data[0] & 0x1F);
+        cal.set(Calendar.MINUTE, data[1] & 0x3F);
+        cal.set(Calendar.SECOND, data[2] & 0x3F);
+        return ValueDecoder.toDateTimeType(cal);
+    }
+
+    private static Type decodeDpt11(byte[] data) {
+        int year = data[2] & 0x7F;
+        Calendar cal = Calendar.getInstance();
+        cal.clear();
+        cal.set(year < 90 ? 2000 + year : 1900 + year, (data[1] & 0x0F) - 1, data[0] & 0x1F);
+        return ValueDecoder.toDateTimeType(cal);
+    }
+
+    private static Conversion decimalOrString(Class<? extends Type> preferredType, int bytes) {
+        if (DecimalType.class.equals(preferredType)) {
+            // decimal values are unsigned, independent of the actual DPT
+            if (bytes == 1) {
+                return (t, data) -> new DecimalType(data[0] & 0xFF);
+            }
+            return (t, data) -> new DecimalType(((data[0] & 0xFF) << 8) | (data[1] & 0xFF));
+        }
+        return (t, data) -> StringType.valueOf(t.getValue());
+    }
+
+    private static @Nullable Type decodeDpt242(byte[] data) {
+        // x and y in 1/65535, Y in 1/255, with the precision of the values printed by Calimero
+        if ((data[5] & 0x02) == 0) {
+            LOGGER.warn("Failed to convert '{}' (DPT 242): no valid color", HexUtils.bytesToHex(data));
+            return null;
+        }
+        double x = Math.round((((data[0] & 0xFF) << 8) | (data[1] & 0xFF)) * 10000 / 65535.0) / 10000.0;
+        double y = Math.round((((data[2] & 0xFF) << 8) | (data[3] & 0xFF)) * 10000 / 65535.0) / 10000.0;
+        if ((data[5] & 0x01) == 0) {
+            return ColorUtil.xyToHsb(new double[] { x, y });
+        }
+        double pY = Math.round((data[4] & 0xFF) * 1000 / 255.0) / 10.0;
+        return ColorUtil.xyToHsb(new double[] { x, y, pY / 100.0 });
+    }
+
+    private static @Nullable Type decodeDpt251(byte[] data, String subType, Class<? extends Type> preferredType) {
+        // r, g, b and w in 1/255, valid if the corresponding bit of the last byte is set
+        boolean rgbValid = (data[5] & 0x0E) == 0x0E;
+        boolean wValid = (data[5] & 0x01) != 0;
+        switch (subType) {
+            case "600":
+                if (rgbValid && HSBType.class.equals(preferredType)) {
+                    // does not support PercentType and r,g,b valid -> HSBType
+                    return HSBType.fromRGB(toRgb(data[0]), toRgb(data[1]), toRgb(data[2]));
+                } else if (wValid && PercentType.class.equals(preferredType)) {
+                    // does support PercentType and w valid -> PercentType
+                    return new PercentType(BigDecimal.valueOf(toPercent(data[3])));
+                }
+            case "60600":
+                // special type used by OH for .600 indicating that RGBW should be handled with a single HSBType,
+                // typically we use HSBType for RGB and PercentType for W.
+                if (rgbValid && wValid && HSBType.class.equals(preferredType)) {
+                    return ColorUtil
+                            .rgbToHsb(new int[] { toRgb(data[0]), toRgb(data[1]), toRgb(data[2]), toRgb(data[3]) });
+                }
+            default:
+                LOGGER.warn("Unknown subtype '251.{}', no conversion possible.", subType);
+                return null;
+        }
+    }
+
+    private static double toPercent(byte value) {
+        // Calimero prints the percent value with one decimal
+        return Math.round((value & 0xFF) * 1000 / 255.0) / 10.0;
+    }
+
+    private static int toRgb(byte value) {
+        return ValueDecoder.coerceToRange((int) (toPercent(value) * 2.55), 0, 255);
+    }
+
+    private static Conversion numeric(DptId id, DPTXlator translator, Class<? extends Type> preferredType) {
+        Set<Class<? extends Type>> allowedTypes = id.allowedTypes();
+        boolean signed64Bit = translator instanceof DPTXlator64BitSigned;
+
+        if (allowedTypes.contains(PercentType.class)
+                && (HSBType.class.equals(preferredType) || PercentType.class.equals(preferredType))) {
+            return (t, data) -> new PercentType(BigDecimal.valueOf(Math.round(t.getNumericValue())));
+        }
+
+        @Nullable Unit<?> unit = null;
+        if (allowedTypes.contains(QuantityType.class)) {
+            String unitString = DPTUnits.getUnitForDpt(id.id());
+            if (unitString != null) {
+                unit = new QuantityType<>("1 " + unitString).getUnit();
+            }
+        }
+        @Nullable Unit<?> quantityUnit = unit;
+        boolean decimal = allowedTypes.contains(DecimalType.class);
+
+        return (t, data) -> {
+            // disableUoM is a binding setting and may change while the decoder is in use
+            if (allowedTypes.contains(QuantityType.class) && !disableUoM) {
+                Unit<?> localUnit = quantityUnit;
+                if (localUnit != null) {
+                    if (signed64Bit) {
+                        // prevent loss of precision, do not represent 64bit decimal using double
+                        return quantity(((DPTXlator64BitSigned) t).getValueSigned(), localUnit);
+                    }
+                    return quantity(t.getNumericValue(), localUnit);
+                }
+                LOGGER.trace("Could not determine unit for DPT '{}', fallback to plain decimal", id.id());
+            }
+            if (decimal) {
+                if (signed64Bit) {
+                    return new DecimalType(((DPTXlator64BitSigned) t).getValueSigned());
+                }
+                return new DecimalType(t.getNumericValue());
+            }
+            LOGGER.warn("Failed to convert '{}' (DPT '{}'): no matching type found", t.getNumericValue(), id.id());
+            return null;
+        };
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static QuantityType<?> quantity(Number value, Unit unit) {
+        return new QuantityType(value, unit);
+    }
+}
@@ -17,10 +17,14 @@ import static org.openhab.binding.knx.internal.KNXBindingConstants.disableUoM;
 import java.math.BigDecimal;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -40,6 +44,7 @@ import org.openhab.core.library.types.UpDownType;
 import org.openhab.core.types.Type;
 import org.openhab.core.types.UnDefType;
 import org.openhab.core.util.ColorUtil;
+import org.openhab.core.util.HexUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -71,8 +76,6 @@ public class ValueDecoder {
     private static final String TIME_DAY_FORMAT = "EEE, HH:mm:ss";
     private static final String TIME_FORMAT = "HH:mm:ss";
     private static final String DATE_FORMAT = "yyyy-MM-dd";
-    // RGB: "r:123 g:123 b:123" value-range: 0-255
-    private static final Pattern RGB_PATTERN = Pattern.compile("r:(?<r>\\d+) g:(?<g>\\d+) b:(?<b>\\d+)");
     // RGBW: "100 27 25 12 %", value range: 0-100, invalid values: "-"
     private static final Pattern RGBW_PATTERN = Pattern
             .compile("(?:(?<r>[\\d,.]+)|-)\\s(?:(?<g>[\\d,.]+)|-)\\s(?:(?<b>[\\d,.]+)|-)\\s(?:(?<w>[\\d,.]+)|-)\\s%");
@@ -81,6 +84,28 @@ public class ValueDecoder {
     public static final Pattern XYY_PATTERN = Pattern
             .compile("(?:\\((?<x>\\d+(?:[,.]\\d+)?) (?<y>\\d+(?:[,.]\\d+)?)\\))?\\s*(?:(?<Y>\\d+(?:[,.]\\d+)?)\\s%)?");
 
+    // parsed DPT ids, a DPT is only parsed once instead of on every telegram
+    private static final Map<String, DptId> DPT_ID_CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * A DPT id, split into main and sub type, along with the openHAB types it can be converted to.
+     */
+    record DptId(String id, String mainType, String subType, Set<Class<? extends Type>> allowedTypes) {
+    }
+
+    static @Nullable DptId parseDptId(String id) {
+        DptId dptId = DPT_ID_CACHE.get(id);
+        if (dptId == null) {
+            Matcher m = DPTUtil.DPT_PATTERN.matcher(id);
+            if (!m.matches() || m.groupCount() != 2) {
+                return null;
+            }
+            dptId = new DptId(id, m.group("main"), m.group("sub"), DPTUtil.getAllowedTypes(id));
+            DPT_ID_CACHE.put(id, dptId);
+        }
+        return dptId;
+    }
+
     private static boolean check235001(byte[] data) throws KNXException {
         if (data.length != 6) {
             throw new KNXFormatException("DPT235 broken frame");
@@ -103,6 +128,21 @@ public class ValueDecoder {
         return true;
     }
 
+    /**
+     * create a decoder for the given DPT, which converts raw values to the preferred openHAB type
+     *
+     * The conversion for the main type of the DPT is resolved once, so that a decoder can be created when a channel
+     * is set up and then be used for all telegrams received for it. The result is the same as that of
+     * {@link #decode(String, byte[], Class)}.
+     *
+     * @param dptId the DPT of the data to be decoded
+     * @param preferredType the preferred datatype for the conversion
+     * @return a decoder for the DPT
+     */
+    public static DPTDecoder createDecoder(String dptId, Class<? extends Type> preferredType) {
+        return DPTDecoders.create(dptId, preferredType);
+    }
+
     /**
      * convert the raw value received to the corresponding openHAB value
      *
@@ -146,23 +186,20 @@ public class ValueDecoder {
                     throw e;
                 }
             }
-            String id = dptId; // prefer using the user-supplied DPT
-
-            Matcher m = DPTUtil.DPT_PATTERN.matcher(id);
-            if (!m.matches() || m.groupCount() != 2) {
+            DptId id = parseDptId(dptId); // prefer using the user-supplied DPT
+            if (id == null) {
                 LOGGER.trace("User-Supplied DPT '{}' did not match for sub-type, using DPT returned from Translator",
-                        id);
-                id = translatorDptId;
-                m = DPTUtil.DPT_PATTERN.matcher(id);
-                if (!m.matches() || m.groupCount() != 2) {
-                    LOGGER.warn("Couldn't identify main/sub number in dptID '{}'", id);
+                        dptId);
+                id = parseDptId(translatorDptId);
+                if (id == null) {
+                    LOGGER.warn("Couldn't identify main/sub number in dptID '{}'", translatorDptId);
                     return null;
                 }
             }
-            LOGGER.trace("Finally using datapoint DPT = {}", id);
+            LOGGER.trace("Finally using datapoint DPT = {}", id.id());
 
-            String mainType = m.group("main");
-            String subType = m.group("sub");
+            String mainType = id.mainType();
+            String subType = id.subType();
 
             switch (mainType) {
                 case "1":
@@ -204,7 +241,7 @@ public class ValueDecoder {
                 case "249": // settings
                     return StringType.valueOf(value.replace(',', '.').replace(". ", ", "));
                 case "232":
-                    return handleDpt232(value, subType);
+                    return handleDpt232(data, subType);
                 case "242":
                     return handleDpt242(value);
                 case "251":
@@ -214,7 +251,8 @@ public class ValueDecoder {
                 // TODO 6.001 is mapped to PercentType, which can only cover 0-100%, not -128..127%
             }
         } catch (NumberFormatException | KNXFormatException | KNXIllegalArgumentException | ParseException e) {
-            LOGGER.info("Translator couldn't parse data '{}' for datapoint type '{}' ({}).", data, dptId, e.getClass());
+            LOGGER.info("Translator couldn't parse data '{}' for datapoint type '{}' ({}).",
+                    HexUtils.bytesToHex(data), dptId, e.getClass());
         } catch (KNXException e) {
             LOGGER.warn("Failed creating a translator for datapoint type '{}'.", dptId, e);
         }
@@ -222,7 +260,7 @@ public class ValueDecoder {
         return null;
     }
 
-    private static Type handleDpt1(String subType, DPTXlator translator, Class<? extends Type> preferredType) {
+    static Type handleDpt1(String subType, DPTXlator translator, Class<? extends Type> preferredType) {
         DPTXlatorBoolean translatorBoolean = (DPTXlatorBoolean) translator;
         switch (subType) {
             case "008":
@@ -252,7 +290,7 @@ public class ValueDecoder {
         }
     }
 
-    private static @Nullable Type handleDpt3(String subType, DPTXlator translator) {
+    static @Nullable Type handleDpt3(String subType, DPTXlator translator) {
         DPTXlator3BitControlled translator3BitControlled = (DPTXlator3BitControlled) translator;
         if (translator3BitControlled.getStepCode() == 0) {
             LOGGER.debug("convertRawDataToType: KNX DPT_Control_Dimming: break received.");
@@ -284,7 +322,7 @@ public class ValueDecoder {
         return DateTimeType.valueOf(new SimpleDateFormat(DateTimeType.DATE_PATTERN).format(date));
     }
 
-    private static @Nullable Type handleDpt19(DPTXlator translator, byte[] data) throws KNXFormatException {
+    static @Nullable Type handleDpt19(DPTXlator translator, byte[] data) throws KNXFormatException {
         DPTXlatorDateTime translatorDateTime = (DPTXlatorDateTime) translator;
         if (translatorDateTime.isFaultyClock()) {
             // Not supported: faulty clock
@@ -313,8 +351,7 @@ public class ValueDecoder {
                 && !translatorDateTime.isValidField(DPTXlatorDateTime.TIME)) {
             // Pure date format, no time information
             cal.setTimeInMillis(translatorDateTime.getValueMilliseconds());
-            String value = new SimpleDateFormat(DateTimeType.DATE_PATTERN).format(cal.getTime());
-            return DateTimeType.valueOf(value);
+            return toDateTimeType(cal);
         } else if (!translatorDateTime.isValidField(DPTXlatorDateTime.YEAR)
                 && translatorDateTime.isValidField(DPTXlatorDateTime.TIME)) {
             // Pure time format, no date information
@@ -322,8 +359,7 @@ public class ValueDecoder {
             cal.set(Calendar.HOUR_OF_DAY, translatorDateTime.getHour());
             cal.set(Calendar.MINUTE, translatorDateTime.getMinute());
             cal.set(Calendar.SECOND, translatorDateTime.getSecond());
-            String value = new SimpleDateFormat(DateTimeType.DATE_PATTERN).format(cal.getTime());
-            return DateTimeType.valueOf(value);
+            return toDateTimeType(cal);
         } else if (translatorDateTime.isValidField(DPTXlatorDateTime.YEAR)
                 && translatorDateTime.isValidField(DPTXlatorDateTime.TIME)) {
             // Date format and time information
@@ -339,14 +375,23 @@ public class ValueDecoder {
                 translator.setData(data, 0);
                 cal.setTimeInMillis(translatorDateTime.getValueMilliseconds());
             }
-            String value = new SimpleDateFormat(DateTimeType.DATE_PATTERN).format(cal.getTime());
-            return DateTimeType.valueOf(value);
+            return toDateTimeType(cal);
         } else {
             LOGGER.warn("Failed to convert '{}'", translator.getValue());
             return null;
         }
     }
 
+    /**
+     * Convert a calendar to a {@link DateTimeType} in the system time zone.
+     *
+     * @param cal the calendar
+     * @return the local date and time of the calendar
+     */
+    static DateTimeType toDateTimeType(Calendar cal) {
+        return new DateTimeType(ZonedDateTime.ofInstant(cal.toInstant(), ZoneId.systemDefault()));
+    }
+
     private static @Nullable Type handleStringOrDecimal(byte[] data, String value, Class<? extends Type> preferredType,
             int bits) {
         if (DecimalType.class.equals(preferredType)) {
@@ -371,12 +416,12 @@ public class ValueDecoder {
         }
     }
 
-    private static @Nullable Type handleDpt232(String value, String subType) {
-        Matcher rgb = RGB_PATTERN.matcher(value);
-        if (rgb.matches()) {
-            int r = Integer.parseInt(rgb.group("r"));
-            int g = Integer.parseInt(rgb.group("g"));
-            int b = Integer.parseInt(rgb.group("b"));
+    static @Nullable Type handleDpt232(byte[] data, String subType) {
+        // the translator has already validated the length, decode r, g and b directly instead of parsing its string
+        if (data.length >= 3) {
+            int r = data[0] & 0xFF;
+            int g = data[1] & 0xFF;
+            int b = data[2] & 0xFF;
 
             switch (subType) {
                 case "600":
@@ -392,7 +437,7 @@ public class ValueDecoder {
                     return null;
             }
         }
-        LOGGER.warn("Failed to convert '{}' (DPT 232): Pattern does not match", value);
+        LOGGER.warn("Failed to convert '{}' (DPT 232): not enough data", HexUtils.bytesToHex(data));
         return null;
     }
 
@@ -464,9 +509,10 @@ public class ValueDecoder {
         return null;
     }
 
-    private static @Nullable Type handleNumericDpt(String id, DPTXlator translator, Class<? extends Type> preferredType)
-            throws KNXFormatException {
-        Set<Class<? extends Type>> allowedTypes = DPTUtil.getAllowedTypes(id);
+    private static @Nullable Type handleNumericDpt(DptId dptId, DPTXlator translator,
+            Class<? extends Type> preferredType) throws KNXFormatException {
+        String id = dptId.id();
+        Set<Class<? extends Type>> allowedTypes = dptId.allowedTypes();
 
         double value = translator.getNumericValue();
         if (allowedTypes.contains(PercentType.class)
@@ -503,7 +549,7 @@ public class ValueDecoder {
         return Math.min(Math.max(value, min), max);
     }
 
-    private static int coerceToRange(int value, int min, int max) {
+    static int coerceToRange(int value, int min, int max) {
         return Math.min(Math.max(value, min), max);
     }
 }
@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.KNXFormatException;
+import tuwien.auto.calimero.datapoint.CommandDP;
+
+/**
+ *
+ * @author agent - Initial contribution
+ *
+ */
+@NonNullByDefault
+class ReadDatapointQueueTest {
+
+    private static ReadDatapoint readDatapoint(String groupAddress, ReadPriority priority) throws KNXFormatException {
+        return new ReadDatapoint(new CommandDP(new GroupAddress(groupAddress), "test", 0, "1.001"), 3, priority);
+    }
+
+    private static String pollAddress(ReadDatapointQueue queue) {
+        return Objects.requireNonNull(queue.poll()).getDatapoint().getMainAddress().toString();
+    }
+
+    @Test
+    void higherPriorityIsReadFirst() throws KNXFormatException {
+        ReadDatapointQueue queue = new ReadDatapointQueue();
+        queue.add(readDatapoint("1/0/1", ReadPriority.LOW));
+        queue.add(readDatapoint("1/0/2", ReadPriority.NORMAL));
+        queue.add(readDatapoint("1/0/3", ReadPriority.HIGH));
+        queue.add(readDatapoint("1/0/4", ReadPriority.LOW));
+
+        assertEquals("1/0/3", pollAddress(queue));
+        assertEquals("1/0/2", pollAddress(queue));
+        assertEquals("1/0/1", pollAddress(queue));
+        assertEquals("1/0/4", pollAddress(queue));
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void duplicateReadsAreQueuedOnce() throws KNXFormatException {
+        ReadDatapointQueue queue = new ReadDatapointQueue();
+        assertTrue(queue.add(readDatapoint("1/0/1", ReadPriority.NORMAL)));
+        assertFalse(queue.add(readDatapoint("1/0/1", ReadPriority.NORMAL)));
+        assertFalse(queue.add(readDatapoint("1/0/1", ReadPriority.LOW)));
+
+        assertEquals(1, queue.size());
+        assertEquals(1, queue.size(ReadPriority.NORMAL));
+    }
+
+    @Test
+    void queuedReadIsPromoted() throws KNXFormatException {
+        ReadDatapointQueue queue = new ReadDatapointQueue();
+        queue.add(readDatapoint("1/0/1", ReadPriority.LOW));
+        queue.add(readDatapoint("1/0/2", ReadPriority.LOW));
+        assertTrue(queue.add(readDatapoint("1/0/2", ReadPriority.HIGH)));
+
+        assertEquals(1, queue.size(ReadPriority.HIGH));
+        assertEquals(1, queue.size(ReadPriority.LOW));
+        assertEquals("1/0/2", pollAddress(queue));
+        assertEquals("1/0/1", pollAddress(queue));
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void promotedReadIsQueuedBehindPendingRefreshes() throws KNXFormatException {
+        ReadDatapointQueue queue = new ReadDatapointQueue();
+        queue.add(readDatapoint("1/0/1", ReadPriority.LOW));
+        queue.add(readDatapoint("1/0/2", ReadPriority.HIGH));
+        assertTrue(queue.add(readDatapoint("1/0/1", ReadPriority.HIGH)));
+
+        assertEquals("1/0/2", pollAddress(queue));
+        assertEquals("1/0/1", pollAddress(queue));
+    }
+
+    @Test
+    void polledAddressCanBeQueuedAgain() throws KNXFormatException {
+        ReadDatapointQueue queue = new ReadDatapointQueue();
+        queue.add(readDatapoint("1/0/1", ReadPriority.NORMAL));
+        pollAddress(queue);
+
+        assertTrue(queue.add(readDatapoint("1/0/1", ReadPriority.NORMAL)));
+    }
+}
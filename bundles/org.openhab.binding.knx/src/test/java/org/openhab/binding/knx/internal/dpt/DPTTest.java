@@ -24,13 +24,21 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.IncreaseDecreaseType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
 import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.types.UpDownType;
 import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.library.unit.Units;
+import org.openhab.core.types.Type;
 import org.openhab.core.util.ColorUtil;
 
 import tuwien.auto.calimero.dptxlator.DPTXlator2ByteUnsigned;
@@ -312,6 +320,24 @@ class DPTTest {
         assertEquals(expected, ValueDecoder.decode("232.600", data, HSBType.class));
     }
 
+    @Test
+    public void dpt232RgbValueAbove127() {
+        // bytes are decoded directly, they must be treated as unsigned
+        byte[] data = new byte[] { (byte) 200, (byte) 150, (byte) 255 };
+
+        assertEquals(HSBType.fromRGB(200, 150, 255), ValueDecoder.decode("232.600", data, HSBType.class));
+    }
+
+    @Test
+    public void repeatedDecodingDependsOnPreferredType() {
+        // the parsed DPT is cached, the result must still depend on the preferred type of each call
+        byte[] data = new byte[] { (byte) 0x80 };
+
+        assertEquals(new PercentType(50), ValueDecoder.decode("5.001", data, PercentType.class));
+        assertTrue(ValueDecoder.decode("5.001", data, QuantityType.class) instanceof QuantityType);
+        assertEquals(new PercentType(50), ValueDecoder.decode("5.001", data, PercentType.class));
+    }
+
     @Test
     public void dpt232HsbValue() {
         // input data
@@ -535,4 +561,70 @@ class DPTTest {
             Assertions.assertEquals(String.format("(%.4f %.4f) %.1f %%", dx, dy, dY), result);
         }
     }
+
+    private static Stream<Arguments> decoderValueProvider() {
+        Stream<Arguments> edgeCases = Stream.of( //
+                Arguments.of("1.001", new byte[] { 1 }, OpenClosedType.class),
+                Arguments.of("1.009", new byte[] { 1 }, OnOffType.class),
+                Arguments.of("2.001", new byte[] { 3 }, DecimalType.class),
+                // break, step 0
+                Arguments.of("3.007", new byte[] { 8 }, IncreaseDecreaseType.class),
+                Arguments.of("3.008", new byte[] { 9 }, UpDownType.class),
+                Arguments.of("5.001", new byte[] { (byte) 0x80 }, PercentType.class),
+                Arguments.of("5.001", new byte[] { (byte) 0x80 }, QuantityType.class),
+                Arguments.of("9.001", new byte[] { (byte) 0x8a, 0x24 }, DecimalType.class),
+                Arguments.of("14.019", new byte[] { 0x4b, 0x74, 0x24, 0x00 }, QuantityType.class),
+                Arguments.of("29.010", new byte[] { 0x7f, 0, 0, 0, 0, 0, 0, 1 }, QuantityType.class),
+                Arguments.of("29.010", new byte[] { (byte) 0x80, 0, 0, 0, 0, 0, 0, 1 }, DecimalType.class),
+                // no day, Monday, Thursday, Sunday
+                Arguments.of("10.001", new byte[] { 0x11, 0x1e, 0x05 }, DateTimeType.class),
+                Arguments.of("10.001", new byte[] { 0x31, 0x1e, 0x05 }, DateTimeType.class),
+                Arguments.of("10.001", new byte[] { (byte) 0x91, 0x1e, 0x05 }, DateTimeType.class),
+                Arguments.of("10.001", new byte[] { (byte) 0xf7, 0x3b, 0x3b }, DateTimeType.class),
+                Arguments.of("11.001", new byte[] { 0x1f, 0x0c, 0x59 }, DateTimeType.class),
+                Arguments.of("11.001", new byte[] { 0x01, 0x01, 0x5a }, DateTimeType.class),
+                // learn and activate
+                Arguments.of("18.001", new byte[] { (byte) 0x85 }, DecimalType.class),
+                Arguments.of("18.001", new byte[] { 0x3f }, DecimalType.class),
+                Arguments.of("19.001", new byte[] { 0x7b, 0x0c, 0x1f, 0x17, 0x3b, 0x3b, 0x20, 0x00 },
+                        DateTimeType.class),
+                Arguments.of("20.102", new byte[] { 2 }, DecimalType.class),
+                Arguments.of("20.102", new byte[] { 2 }, StringType.class),
+                Arguments.of("22.101", new byte[] { 0, 2 }, DecimalType.class),
+                Arguments.of("22.101", new byte[] { 0, 2 }, StringType.class),
+                Arguments.of("16.000", new byte[] { 0x4b, 0x4e, 0x58, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0 },
+                        StringType.class),
+                // color, brightness and both invalid
+                Arguments.of("242.600", new byte[] { 0x2e, 0x14, 0x40, 0x00, (byte) 0xff, 0x02 }, HSBType.class),
+                Arguments.of("242.600", new byte[] { 0x2e, 0x14, 0x40, 0x00, (byte) 0xff, 0x01 }, HSBType.class),
+                Arguments.of("242.600", new byte[] { 0x2e, 0x14, 0x40, 0x00, (byte) 0xff, 0x00 }, HSBType.class),
+                // rgb valid, w valid and all valid for both sub-types
+                Arguments.of("251.600", new byte[] { 0x26, 0x2b, 0x31, 0x1a, 0, 0x0e }, HSBType.class),
+                Arguments.of("251.600", new byte[] { 0x26, 0x2b, 0x31, 0x1a, 0, 0x01 }, PercentType.class),
+                Arguments.of("251.600", new byte[] { 0x26, 0x2b, 0x31, 0x1a, 0, 0x01 }, HSBType.class),
+                Arguments.of("251.60600", new byte[] { 0x26, 0x2b, 0x31, 0x1a, 0, 0x0f }, HSBType.class),
+                Arguments.of("251.60600", new byte[] { 0x26, 0x2b, 0x31, 0x1a, 0, 0x0e }, HSBType.class),
+                // not supported by Calimero
+                Arguments.of("235.001", new byte[] { 0, 0, 0x03, (byte) 0xff, 0x00, 0x02 }, QuantityType.class),
+                Arguments.of("235.61001", new byte[] { 0, 0, 0x03, (byte) 0xff, 0x0a, 0x01 }, DecimalType.class));
+        Stream<Arguments> rgb = rgbValueProvider().flatMap(value -> Stream.of(
+                Arguments.of("232.600", value, HSBType.class), Arguments.of("232.60000", value, HSBType.class)));
+        Stream<Arguments> xyY = xyYValueProvider().map(value -> Arguments.of("242.600", value, HSBType.class));
+        Stream<Arguments> rgbw = IntStream.range(0, 256).mapToObj(i -> Arguments.of("251.60600",
+                new byte[] { (byte) i, (byte) (255 - i), (byte) (i / 2), (byte) (i / 3), 0, 0x0f }, HSBType.class));
+        return Stream.of(edgeCases, rgb, xyY, rgbw).flatMap(s -> s);
+    }
+
+    @ParameterizedTest
+    @MethodSource("decoderValueProvider")
+    public void decoderMatchesValueDecoder(String dpt, byte[] value, Class<? extends Type> preferredType) {
+        Type expected = ValueDecoder.decode(dpt, value.clone(), preferredType);
+        Type decoded = ValueDecoder.createDecoder(dpt, preferredType).decode(value.clone());
+
+        if (expected instanceof HSBType expectedHsb && decoded instanceof HSBType decodedHsb) {
+            assertTrue(expectedHsb.closeTo(decodedHsb, 0.001), expectedHsb + " != " + decodedHsb);
+        } else {
+            assertEquals(expected, decoded);
+        }
+    }
 }
@@ -145,6 +145,16 @@ public class Back2BackTest {
                         + ", check ValueEncoder.decode()");
             }
 
+            // the decoder resolved for a channel must yield the same value as ValueDecoder.decode()
+            Type decodedData = ValueDecoder.createDecoder(dpt, ohReferenceData.getClass()).decode(rawData.clone());
+            assertNotNull(decodedData, "decoder could not decode frame data for DPT " + dpt);
+            if ((ohData instanceof HSBType hsbData) && (decodedData instanceof HSBType hsbDecodedData)) {
+                assertTrue(hsbData.closeTo(hsbDecodedData, 0.001), "comparing decoders for DPT " + dpt);
+            } else {
+                assertEquals(ohData, decodedData, "comparing decoders: failed for DPT " + dpt
+                        + ", check ValueDecoder.createDecoder()");
+            }
+
             // 2) check the encoding (ohData to raw data)
             //
             // Test approach is to a) encode the value into String format using ValueEncoder.encode(),
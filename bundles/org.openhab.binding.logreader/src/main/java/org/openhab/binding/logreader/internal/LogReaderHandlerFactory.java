@@ -15,11 +15,13 @@ package org.openhab.binding.logreader.internal;
 import static org.openhab.binding.logreader.internal.LogReaderBindingConstants.THING_READER;
 
 import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.logreader.internal.filereader.FileTailer;
 import org.openhab.binding.logreader.internal.handler.LogHandler;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingTypeUID;
 import org.openhab.core.thing.binding.BaseThingHandlerFactory;
@@ -39,6 +41,10 @@ public class LogReaderHandlerFactory extends BaseThingHandlerFactory {
 
     private static final Set<ThingTypeUID> SUPPORTED_THING_TYPES_UIDS = Set.of(THING_READER);
 
+    // the files of all things are polled on the shared thing handler pool
+    private final ScheduledExecutorService scheduler = ThreadPoolManager
+            .getScheduledPool(ThingHandler.THING_HANDLER_THREADPOOL_NAME);
+
     @Override
     public boolean supportsThingType(ThingTypeUID thingTypeUID) {
         return SUPPORTED_THING_TYPES_UIDS.contains(thingTypeUID);
@@ -49,7 +55,7 @@ public class LogReaderHandlerFactory extends BaseThingHandlerFactory {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
 
         if (thingTypeUID.equals(THING_READER)) {
-            return new LogHandler(thing, new FileTailer());
+            return new LogHandler(thing, new FileTailer(scheduler));
         }
 
         return null;
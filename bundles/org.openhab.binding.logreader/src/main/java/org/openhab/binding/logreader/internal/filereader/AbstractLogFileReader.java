@@ -61,16 +61,19 @@ public abstract class AbstractLogFileReader implements LogFileReader {
     }
 
     /**
-     * Send read log line to all registered listeners.
+     * Send a batch of read log lines to all registered listeners.
      *
+     * @param lines the lines in the order they were read.
      */
-    public void sendLineToListeners(String line) {
+    public void sendLinesToListeners(List<String> lines) {
         for (FileReaderListener fileReaderListener : fileReaderListeners) {
-            try {
-                fileReaderListener.handle(line);
-            } catch (Exception e) {
-                // catch all exceptions give all handlers a fair chance of handling the messages
-                logger.debug("An exception occurred while calling the FileReaderListener. ", e);
+            for (String line : lines) {
+                try {
+                    fileReaderListener.handle(line);
+                } catch (Exception e) {
+                    // catch all exceptions per line, so a failing line does not drop the rest of the batch
+                    logger.debug("An exception occurred while calling the FileReaderListener. ", e);
+                }
             }
         }
     }
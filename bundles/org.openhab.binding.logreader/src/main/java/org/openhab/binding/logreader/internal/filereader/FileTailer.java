@@ -12,13 +12,22 @@
  */
 package org.openhab.binding.logreader.internal.filereader;
 
-import java.io.File;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
-import org.apache.commons.io.input.Tailer;
-import org.apache.commons.io.input.TailerListener;
-import org.apache.commons.io.input.TailerListenerAdapter;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.logreader.internal.filereader.api.FileReaderException;
@@ -27,71 +36,223 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Apache Tailer based log file reader implementation.
+ * {@link FileChannel} based log file reader implementation.
+ *
+ * The file is polled on a scheduler which is shared by all readers, so a single poll reads at most
+ * {@link #MAX_CHUNKS_PER_POLL} chunks and leaves the rest of the new data to the next poll. New data is read in large
+ * chunks and the lines of every chunk are delivered to the listeners as one batch. A rotation is detected if the file key (the inode on unix like systems) of
+ * the file changes or if the file gets smaller.
  *
  * @author Pauli Anttila - Initial contribution
  */
 @NonNullByDefault
 public class FileTailer extends AbstractLogFileReader implements LogFileReader {
+    static final int BUFFER_SIZE = 64 * 1024;
+    static final int MAX_CHUNKS_PER_POLL = 16;
+
     private final Logger logger = LoggerFactory.getLogger(FileTailer.class);
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final ScheduledExecutorService scheduler;
+
+    private @Nullable Path path;
+    private @Nullable ScheduledFuture<?> job;
+    private @Nullable FileChannel channel;
+    private @Nullable Object fileKey;
+    private long position;
+    private boolean firstOpen;
+
+    // bytes of a line which spans more than one chunk
+    private byte[] lineBuffer = new byte[256];
+    private int lineLength;
+    private boolean seenCR;
+
+    /**
+     * Create a reader.
+     *
+     * @param scheduler the scheduler which polls the file, it is not shut down by the reader.
+     */
+    public FileTailer(ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public synchronized void start(String filePath, long refreshRate) throws FileReaderException {
+        try {
+            logger.debug("Start tailing {}", filePath);
+            path = Path.of(filePath);
+            firstOpen = true;
+            job = scheduler.scheduleWithFixedDelay(this::poll, 0, refreshRate, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            throw new FileReaderException(e);
+        }
+    }
 
-    private @Nullable Tailer tailer;
-    private @Nullable ExecutorService executor;
+    @Override
+    public synchronized void stop() {
+        logger.debug("Shutdown");
+        ScheduledFuture<?> localJob = job;
+        if (localJob != null) {
+            localJob.cancel(false);
+            job = null;
+        }
+        closeChannel();
+        path = null;
+        logger.debug("Shutdown complete");
+    }
 
-    TailerListener logListener = new TailerListenerAdapter() {
+    synchronized void poll() {
+        Path localPath = path;
+        if (localPath == null) {
+            return;
+        }
+        try {
+            FileChannel localChannel = channel;
+            if (localChannel == null) {
+                Object previousKey = fileKey;
+                localChannel = openChannel(localPath);
+                if (localChannel == null) {
+                    return;
+                }
+                if (firstOpen) {
+                    // like tail, start at the end of the file which exists when the reader is started
+                    position = localChannel.size();
+                    firstOpen = false;
+                } else if ((previousKey != null && !previousKey.equals(fileKey)) || localChannel.size() < position) {
+                    // the file was replaced or truncated while it was closed
+                    logger.debug("Log file {} rotated", localPath);
+                    sendFileRotationToListeners();
+                    position = 0;
+                }
+                // otherwise reading continues where it stopped when the file was closed
+            }
 
-        @Override
-        public void handle(@Nullable String line) {
-            if (line == null) {
+            BasicFileAttributes attributes;
+            try {
+                attributes = Files.readAttributes(localPath, BasicFileAttributes.class);
+            } catch (NoSuchFileException e) {
+                // the file was moved away, read what was written to it until the new file is created
+                readLines(localChannel, Integer.MAX_VALUE);
+                sendFileNotFoundToListeners();
                 return;
             }
 
-            sendLineToListeners(line);
+            Object currentKey = attributes.fileKey();
+            boolean replaced = currentKey != null && fileKey != null && !currentKey.equals(fileKey);
+            if (replaced || attributes.size() < position) {
+                if (replaced) {
+                    // finish reading the old file before switching to the new one
+                    readLines(localChannel, Integer.MAX_VALUE);
+                }
+                logger.debug("Log file {} rotated", localPath);
+                closeChannel();
+                sendFileRotationToListeners();
+                localChannel = openChannel(localPath);
+                if (localChannel == null) {
+                    return;
+                }
+                position = 0;
+            }
+            if (localChannel.size() > position) {
+                readLines(localChannel, MAX_CHUNKS_PER_POLL);
+            }
+        } catch (IOException e) {
+            // the file is opened again on the next poll, the position and file key are kept to detect a rotation
+            closeChannel();
+            sendExceptionToListeners(e);
         }
+    }
 
-        @Override
-        public void fileNotFound() {
+    private @Nullable FileChannel openChannel(Path path) throws IOException {
+        try {
+            FileChannel localChannel = FileChannel.open(path, StandardOpenOption.READ);
+            fileKey = Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+            channel = localChannel;
+            return localChannel;
+        } catch (NoSuchFileException e) {
             sendFileNotFoundToListeners();
+            return null;
         }
+    }
 
-        @Override
-        public void handle(@Nullable Exception e) {
-            if (e == null) {
-                return;
+    private void closeChannel() {
+        FileChannel localChannel = channel;
+        if (localChannel != null) {
+            try {
+                localChannel.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close log file: {}", e.getMessage());
             }
+            channel = null;
+        }
+        // an incomplete line of the closed file is dropped
+        lineLength = 0;
+        seenCR = false;
+    }
 
-            sendExceptionToListeners(e);
+    private void readLines(FileChannel channel, int maxChunks) throws IOException {
+        int read;
+        int chunks = 0;
+        buffer.clear();
+        while (chunks++ < maxChunks && (read = channel.read(buffer, position)) > 0) {
+            position += read;
+            List<String> lines = splitLines(buffer.array(), read);
+            if (!lines.isEmpty()) {
+                sendLinesToListeners(lines);
+            }
+            buffer.clear();
         }
+    }
 
-        @Override
-        public void fileRotated() {
-            sendFileRotationToListeners();
+    /**
+     * Split a chunk into lines. A line is terminated by LF, CR LF or CR, an incomplete line at the end of the chunk is
+     * kept until the rest is read.
+     */
+    private List<String> splitLines(byte[] data, int length) {
+        List<String> lines = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            byte b = data[i];
+            if (b == '\n') {
+                if (seenCR) {
+                    // LF of a CR LF terminator, the line was already completed by the CR
+                    seenCR = false;
+                } else {
+                    lines.add(completeLine(data, start, i));
+                }
+                start = i + 1;
+            } else if (b == '\r') {
+                lines.add(completeLine(data, start, i));
+                seenCR = true;
+                start = i + 1;
+            } else {
+                seenCR = false;
+            }
         }
-    };
+        appendToLine(data, start, length);
+        return lines;
+    }
 
-    @Override
-    public void start(String filePath, long refreshRate) throws FileReaderException {
-        Tailer localTailer = new Tailer(new File(filePath), logListener, refreshRate, true, false, true);
-        executor = Executors.newSingleThreadExecutor();
-        try {
-            logger.debug("Start executor");
-            executor.execute(localTailer);
-            logger.debug("Executor started");
-            this.tailer = localTailer;
-        } catch (Exception e) {
-            throw new FileReaderException(e);
+    private String completeLine(byte[] data, int start, int end) {
+        String line;
+        if (lineLength == 0) {
+            line = new String(data, start, end - start, StandardCharsets.UTF_8);
+        } else {
+            appendToLine(data, start, end);
+            line = new String(lineBuffer, 0, lineLength, StandardCharsets.UTF_8);
+            lineLength = 0;
         }
+        return line;
     }
 
-    @Override
-    public void stop() {
-        logger.debug("Shutdown");
-        if (tailer != null) {
-            tailer.stop();
+    private void appendToLine(byte[] data, int start, int end) {
+        int count = end - start;
+        if (count <= 0) {
+            return;
         }
-        if (executor != null) {
-            executor.shutdown();
+        if (lineLength + count > lineBuffer.length) {
+            lineBuffer = Arrays.copyOf(lineBuffer, Math.max(lineBuffer.length * 2, lineLength + count));
         }
-        logger.debug("Shutdown complite");
+        System.arraycopy(data, start, lineBuffer, lineLength, count);
+        lineLength += count;
     }
 }
@@ -0,0 +1,385 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.searchengine;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * This class finds the patterns that can possibly match a line with a single pass over the line.
+ *
+ * For every pattern a literal text is extracted that has to be contained in every match of the pattern. All literals
+ * are searched at once with an Aho-Corasick automaton. Only patterns whose literal was found (and patterns without a
+ * usable literal) are candidates for the full regular expression match.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class LiteralPrefilter {
+
+    private final Node root = new Node();
+    private final BitSet unconditional = new BitSet();
+
+    /**
+     * Build the prefilter for the given patterns.
+     *
+     * @param patterns patterns, the index in the list is used as pattern index.
+     */
+    LiteralPrefilter(List<Pattern> patterns) {
+        for (int i = 0; i < patterns.size(); i++) {
+            String literal = requiredLiteral(patterns.get(i));
+            if (literal.isEmpty()) {
+                unconditional.set(i);
+            } else {
+                addLiteral(literal, i);
+            }
+        }
+        buildFailureLinks();
+    }
+
+    /**
+     * Find the patterns that can match the data.
+     *
+     * @param data data against search will be done.
+     * @return indexes of the patterns which need a full match.
+     */
+    BitSet findCandidates(CharSequence data) {
+        BitSet candidates = (BitSet) unconditional.clone();
+        Node node = root;
+        for (int i = 0; i < data.length(); i++) {
+            char c = data.charAt(i);
+            Node next = node.get(c);
+            while (next == null && node != root) {
+                node = node.failure;
+                next = node.get(c);
+            }
+            if (next != null) {
+                node = next;
+                for (int output : node.outputs) {
+                    candidates.set(output);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private void addLiteral(String literal, int index) {
+        Node node = root;
+        for (int i = 0; i < literal.length(); i++) {
+            node = node.getOrAdd(literal.charAt(i));
+        }
+        node.addOutput(index);
+    }
+
+    private void buildFailureLinks() {
+        Deque<Node> queue = new ArrayDeque<>();
+        for (Node child : root.children) {
+            child.failure = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            for (int i = 0; i < node.keys.length; i++) {
+                char c = node.keys[i];
+                Node child = node.children[i];
+                Node failure = node.failure;
+                Node next = failure.get(c);
+                while (next == null && failure != root) {
+                    failure = failure.failure;
+                    next = failure.get(c);
+                }
+                child.failure = next != null ? next : root;
+                for (int output : child.failure.outputs) {
+                    child.addOutput(output);
+                }
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Extract the longest literal text which is part of every match of the pattern.
+     *
+     * The extraction is conservative: everything inside groups and character classes, quantified characters and
+     * escape sequences other than escaped punctuation end a literal. Escape sequences are skipped completely, so the
+     * digits of e.g. {@code \x41} or {@code \0101} never become part of a literal.
+     *
+     * @param pattern the pattern.
+     * @return the literal or an empty string if the pattern has no usable literal.
+     */
+    static String requiredLiteral(Pattern pattern) {
+        if (pattern.flags() != 0) {
+            return "";
+        }
+        String regex = pattern.pattern();
+        String best = "";
+        StringBuilder run = new StringBuilder();
+        boolean lastWasLiteral = false;
+        int i = 0;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            char literal;
+            switch (c) {
+                case '\\':
+                    int end = skipEscape(regex, i);
+                    if (end < 0) {
+                        return "";
+                    }
+                    char escaped = regex.charAt(i + 1);
+                    if (escaped == 'Q' && isEmptyQuote(regex.substring(i + 2, end))) {
+                        // an empty quote matches nothing, a following quantifier applies to the previous literal
+                        i = end;
+                        continue;
+                    }
+                    if (end != i + 2 || Character.isLetterOrDigit(escaped)) {
+                        // quotes, character classes, boundaries, back references and character codes
+                        i = end;
+                        best = longest(best, run);
+                        lastWasLiteral = false;
+                        continue;
+                    }
+                    i = end;
+                    literal = escaped;
+                    break;
+                case '[':
+                    i = skipCharacterClass(regex, i);
+                    if (i < 0) {
+                        return "";
+                    }
+                    best = longest(best, run);
+                    lastWasLiteral = false;
+                    continue;
+                case '(':
+                    if (regex.startsWith("(?", i) && i + 2 < regex.length()
+                            && ":=!<>".indexOf(regex.charAt(i + 2)) < 0) {
+                        // inline flags change the meaning of the following literals
+                        return "";
+                    }
+                    i = skipGroup(regex, i);
+                    if (i < 0) {
+                        return "";
+                    }
+                    best = longest(best, run);
+                    lastWasLiteral = false;
+                    continue;
+                case '?':
+                case '*':
+                case '+':
+                case '{':
+                    if (lastWasLiteral) {
+                        // the quantified character is not (or not only once) part of the match
+                        run.setLength(run.length() - 1);
+                    }
+                    if (c == '{') {
+                        int close = regex.indexOf('}', i);
+                        if (close < 0) {
+                            return "";
+                        }
+                        i = close;
+                    }
+                    i++;
+                    // lazy or possessive quantifier
+                    if (i < regex.length() && (regex.charAt(i) == '?' || regex.charAt(i) == '+')) {
+                        i++;
+                    }
+                    best = longest(best, run);
+                    lastWasLiteral = false;
+                    continue;
+                case '.':
+                case '^':
+                case '$':
+                    i++;
+                    best = longest(best, run);
+                    lastWasLiteral = false;
+                    continue;
+                case ')':
+                case '|':
+                    return "";
+                default:
+                    literal = c;
+                    i++;
+                    break;
+            }
+            run.append(literal);
+            lastWasLiteral = true;
+        }
+        return longest(best, run);
+    }
+
+    private static String longest(String best, StringBuilder run) {
+        String result = run.length() > best.length() ? run.toString() : best;
+        run.setLength(0);
+        return result;
+    }
+
+    /**
+     * Skip an escape sequence including all of its arguments, e.g. the digits of a character code.
+     *
+     * @param regex the regular expression.
+     * @param start the index of the backslash.
+     * @return the index after the escape sequence or -1 if it is incomplete.
+     */
+    private static int skipEscape(String regex, int start) {
+        int length = regex.length();
+        int i = start + 1;
+        if (i >= length) {
+            return -1;
+        }
+        char c = regex.charAt(i++);
+        switch (c) {
+            case 'Q':
+                int end = regex.indexOf("\\E", i);
+                return end < 0 ? length : end + 2;
+            case 'x':
+                return regex.startsWith("{", i) ? skipPast(regex, i, '}') : Math.min(i + 2, length);
+            case 'u':
+                return Math.min(i + 4, length);
+            case 'c':
+                return i < length ? i + 1 : -1;
+            case 'k':
+                return skipPast(regex, i, '>');
+            case 'p':
+            case 'P':
+                return regex.startsWith("{", i) ? skipPast(regex, i, '}') : Math.min(i + 1, length);
+            case 'b':
+            case 'N':
+                return regex.startsWith("{", i) ? skipPast(regex, i, '}') : i;
+            case '0':
+                // octal value with up to three digits
+                while (i < length && i < start + 5 && regex.charAt(i) >= '0' && regex.charAt(i) <= '7') {
+                    i++;
+                }
+                return i;
+            default:
+                if (c >= '1' && c <= '9') {
+                    // back reference, following digits may belong to the group number
+                    while (i < length && Character.isDigit(regex.charAt(i))) {
+                        i++;
+                    }
+                }
+                return i;
+        }
+    }
+
+    private static boolean isEmptyQuote(String quoted) {
+        return quoted.isEmpty() || "\\E".equals(quoted);
+    }
+
+    private static int skipPast(String regex, int start, char close) {
+        int end = regex.indexOf(close, start);
+        return end < 0 ? -1 : end + 1;
+    }
+
+    private static int skipCharacterClass(String regex, int start) {
+        int depth = 0;
+        int i = start;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i = skipEscape(regex, i);
+                if (i < 0) {
+                    return -1;
+                }
+                continue;
+            }
+            if (c == '[') {
+                depth++;
+                // a closing bracket directly after the opening bracket (or negation) is a literal
+                if (regex.startsWith("^]", i + 1)) {
+                    i += 2;
+                } else if (regex.startsWith("]", i + 1)) {
+                    i++;
+                }
+            } else if (c == ']' && --depth == 0) {
+                return i + 1;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    private static int skipGroup(String regex, int start) {
+        int depth = 0;
+        int i = start;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i = skipEscape(regex, i);
+                if (i < 0) {
+                    return -1;
+                }
+                continue;
+            }
+            if (c == '[') {
+                i = skipCharacterClass(regex, i);
+                if (i < 0) {
+                    return -1;
+                }
+                continue;
+            }
+            if (c == '(') {
+                depth++;
+            } else if (c == ')' && --depth == 0) {
+                return i + 1;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    private static class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private int[] outputs = new int[0];
+        private Node failure = this;
+
+        private @Nullable Node get(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private Node getOrAdd(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insert = -index - 1;
+            Node child = new Node();
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insert);
+            System.arraycopy(children, 0, newChildren, 0, insert);
+            newKeys[insert] = c;
+            newChildren[insert] = child;
+            System.arraycopy(keys, insert, newKeys, insert + 1, keys.length - insert);
+            System.arraycopy(children, insert, newChildren, insert + 1, children.length - insert);
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+
+        private void addOutput(int output) {
+            if (Arrays.stream(outputs).noneMatch(o -> o == output)) {
+                outputs = Arrays.copyOf(outputs, outputs.length + 1);
+                outputs[outputs.length - 1] = output;
+            }
+        }
+    }
+}
@@ -13,6 +13,7 @@
 package org.openhab.binding.logreader.internal.searchengine;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -31,6 +32,7 @@ public class SearchEngine {
 
     private List<Pattern> matchers;
     private List<Pattern> blacklistingMatchers;
+    private LiteralPrefilter prefilter;
 
     private long matchCount;
 
@@ -44,6 +46,11 @@ public class SearchEngine {
     public SearchEngine(String patterns, @Nullable String blacklistingPatterns) throws PatternSyntaxException {
         matchers = compilePatterns(patterns);
         blacklistingMatchers = compilePatterns(blacklistingPatterns);
+
+        // all patterns share one prefilter, matchers first and blacklisting matchers after them
+        List<Pattern> allPatterns = new ArrayList<>(matchers);
+        allPatterns.addAll(blacklistingMatchers);
+        prefilter = new LiteralPrefilter(allPatterns);
     }
 
     /**
@@ -53,8 +60,9 @@ public class SearchEngine {
      * @return true if one of the search patterns found.
      */
     public boolean isMatching(String data) {
-        if (isMatching(matchers, data)) {
-            if (notBlacklisted(data)) {
+        BitSet candidates = prefilter.findCandidates(data);
+        if (isMatching(matchers, 0, candidates, data)) {
+            if (notBlacklisted(candidates, data)) {
                 matchCount++;
                 return true;
             }
@@ -93,18 +101,27 @@ public class SearchEngine {
         return patternsList;
     }
 
-    private boolean notBlacklisted(String data) {
-        return !isMatching(blacklistingMatchers, data);
+    private boolean notBlacklisted(BitSet candidates, String data) {
+        return !isMatching(blacklistingMatchers, matchers.size(), candidates, data);
     }
 
-    private boolean isMatching(@Nullable List<Pattern> patterns, String data) {
-        if (patterns != null) {
-            for (Pattern pattern : patterns) {
-                Matcher matcher = pattern.matcher(data);
-                if (matcher.find()) {
-                    return true;
-                }
+    /**
+     * Check if data is matching to one of the patterns, only patterns found by the prefilter are matched.
+     *
+     * @param patterns patterns to check.
+     * @param offset index of the first pattern in the prefilter.
+     * @param candidates candidate patterns found by the prefilter.
+     * @param data data against search will be done.
+     * @return true if one of the patterns found.
+     */
+    private boolean isMatching(List<Pattern> patterns, int offset, BitSet candidates, String data) {
+        int index = candidates.nextSetBit(offset);
+        while (index >= 0 && index < offset + patterns.size()) {
+            Matcher matcher = patterns.get(index - offset).matcher(data);
+            if (matcher.find()) {
+                return true;
             }
+            index = candidates.nextSetBit(index + 1);
         }
         return false;
     }
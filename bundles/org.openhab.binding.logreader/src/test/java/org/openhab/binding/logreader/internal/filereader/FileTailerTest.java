@@ -0,0 +1,218 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.filereader;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openhab.binding.logreader.internal.filereader.api.FileReaderListener;
+
+/**
+ * The {@link FileTailerTest} tests the line splitting and the rotation detection of the {@link FileTailer}. The
+ * file is polled directly by the test instead of the scheduler.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class FileTailerTest {
+
+    private @TempDir @Nullable Path tempDir;
+    private @Nullable Path file;
+    private final FileTailer tailer = new FileTailer(mock(ScheduledExecutorService.class));
+    private final RecordingListener listener = new RecordingListener();
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        Path localFile = getTempDir().resolve("openhab.log");
+        Files.writeString(localFile, "written before the start\n");
+        file = localFile;
+        tailer.registerListener(listener);
+        tailer.start(localFile.toString(), 1000);
+        // like tail, the existing content is skipped
+        tailer.poll();
+        assertEquals(List.of(), listener.lines);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        tailer.stop();
+    }
+
+    @Test
+    public void testLineTerminators() throws IOException {
+        append("lf\ncrlf\r\ncr\rincomplete");
+        tailer.poll();
+        assertEquals(List.of("lf", "crlf", "cr"), listener.lines);
+
+        append(" line\n\n");
+        tailer.poll();
+        assertEquals(List.of("lf", "crlf", "cr", "incomplete line", ""), listener.lines);
+    }
+
+    @Test
+    public void testCrLfSplitBetweenPolls() throws IOException {
+        append("first\r");
+        tailer.poll();
+        assertEquals(List.of("first"), listener.lines);
+
+        append("\nsecond\r\n");
+        tailer.poll();
+        assertEquals(List.of("first", "second"), listener.lines);
+    }
+
+    @Test
+    public void testCrLfSplitBetweenChunks() throws IOException {
+        String longLine = "x".repeat(FileTailer.BUFFER_SIZE - 1);
+        // the CR is the last byte of the first chunk and the LF the first byte of the second chunk
+        append(longLine + "\r\nnext\n");
+        tailer.poll();
+        assertEquals(List.of(longLine, "next"), listener.lines);
+    }
+
+    @Test
+    public void testLineLongerThanChunk() throws IOException {
+        String longLine = "y".repeat(FileTailer.BUFFER_SIZE * 3 + 7);
+        append(longLine + "\n");
+        tailer.poll();
+        assertEquals(List.of(longLine), listener.lines);
+    }
+
+    @Test
+    public void testLargeAppendIsReadOverSeveralPolls() throws IOException {
+        String line = "z".repeat(1023);
+        int count = FileTailer.MAX_CHUNKS_PER_POLL * FileTailer.BUFFER_SIZE / 1024 + 10;
+        append((line + "\n").repeat(count));
+
+        tailer.poll();
+        assertTrue(listener.lines.size() < count);
+        tailer.poll();
+        assertEquals(count, listener.lines.size());
+    }
+
+    @Test
+    public void testTruncation() throws IOException {
+        append("before truncation\n");
+        tailer.poll();
+
+        Files.writeString(getFile(), "new\n", StandardOpenOption.TRUNCATE_EXISTING);
+        tailer.poll();
+
+        assertEquals(1, listener.rotations);
+        assertEquals(List.of("before truncation", "new"), listener.lines);
+    }
+
+    @Test
+    public void testRotation() throws IOException {
+        append("before rotation\n");
+        tailer.poll();
+
+        append("last line of the old file\n");
+        Files.move(getFile(), getTempDir().resolve("openhab.log.1"));
+        Files.writeString(getFile(), "first line of the new file\n");
+        tailer.poll();
+
+        assertEquals(1, listener.rotations);
+        assertEquals(List.of("before rotation", "last line of the old file", "first line of the new file"),
+                listener.lines);
+
+        append("second line of the new file\n");
+        tailer.poll();
+        assertEquals("second line of the new file", listener.lines.get(listener.lines.size() - 1));
+    }
+
+    @Test
+    public void testFileMovedAway() throws IOException {
+        append("last line\n");
+        Files.move(getFile(), getTempDir().resolve("openhab.log.1"));
+        tailer.poll();
+
+        assertEquals(List.of("last line"), listener.lines);
+        assertEquals(1, listener.notFound);
+
+        Files.writeString(getFile(), "new file\n");
+        tailer.poll();
+        assertEquals(1, listener.rotations);
+        assertEquals(List.of("last line", "new file"), listener.lines);
+    }
+
+    @Test
+    public void testFailingLineDoesNotDropOtherLines() throws IOException {
+        listener.failOn = "bad";
+        append("good\nbad\nalso good\n");
+        tailer.poll();
+        assertEquals(List.of("good", "bad", "also good"), listener.lines);
+    }
+
+    private void append(String data) throws IOException {
+        Files.writeString(getFile(), data, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+    }
+
+    private Path getFile() {
+        Path localFile = file;
+        assertNotNull(localFile);
+        return localFile;
+    }
+
+    private Path getTempDir() {
+        Path localTempDir = tempDir;
+        assertNotNull(localTempDir);
+        return localTempDir;
+    }
+
+    private static class RecordingListener implements FileReaderListener {
+        private final List<String> lines = new ArrayList<>();
+        private int rotations;
+        private int notFound;
+        private @Nullable String failOn;
+
+        @Override
+        public void fileNotFound() {
+            notFound++;
+        }
+
+        @Override
+        public void fileRotated() {
+            rotations++;
+        }
+
+        @Override
+        public void handle(@Nullable String line) {
+            if (line != null) {
+                lines.add(line);
+                if (line.equals(failOn)) {
+                    throw new IllegalStateException("listener failed on " + line);
+                }
+            }
+        }
+
+        @Override
+        public void handle(@Nullable Exception ex) {
+            fail(ex);
+        }
+    }
+}
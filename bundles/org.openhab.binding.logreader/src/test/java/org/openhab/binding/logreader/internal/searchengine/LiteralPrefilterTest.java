@@ -0,0 +1,147 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.searchengine;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link LiteralPrefilterTest} tests the literal extraction and candidate search of the {@link LiteralPrefilter}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class LiteralPrefilterTest {
+
+    @Test
+    public void testPlainText() {
+        assertLiteral("ERROR", "ERROR", "2024-01-01 ERROR something");
+        assertLiteral("Connection refused", ".*Connection refused.*", "x Connection refused y");
+    }
+
+    @Test
+    public void testEscapedPunctuation() {
+        assertLiteral("a.b", "a\\.b", "a.b");
+        assertLiteral("[WARN]", "\\[WARN\\]", "[WARN] x");
+    }
+
+    @Test
+    public void testHexAndUnicodeEscapes() {
+        assertLiteral("BC", "\\x41BC", "ABC");
+        assertLiteral("BC", "\\x{41}BC", "ABC");
+        assertLiteral("BCD", "\\u0041BCD", "ABCD");
+    }
+
+    @Test
+    public void testOctalAndControlEscapes() {
+        assertLiteral("BC", "\\0101BC", "ABC");
+        assertLiteral("BC", "\\07BC", "\u0007BC");
+        assertLiteral("BC", "\\cIBC", "\tBC");
+    }
+
+    @Test
+    public void testNamedGroupAndPropertyEscapes() {
+        assertLiteral("end", "(?<word>ab)x\\k<word>end", "abxabend");
+        assertLiteral("Value", "\\p{Lu}\\p{L}Value", "AbValue");
+        assertLiteral("Value", "\\pLValue", "bValue");
+    }
+
+    @Test
+    public void testBackReferences() {
+        assertLiteral("after", "(a)\\1after", "aaafter");
+        assertLiteral("after", "(a)\\10after", "aa0after");
+    }
+
+    @Test
+    public void testCharacterClassEscapes() {
+        assertLiteral(" ms", "\\d+ ms", "42 ms");
+        assertLiteral("took", "took\\s\\w+", "took 5ms");
+    }
+
+    @Test
+    public void testQuotedText() {
+        assertLiteral("after", "\\Q(x)\\Eafter", "(x)after");
+        assertLiteral("after", "(\\Q)\\E)after", ")after");
+        assertLiteral("after", "[\\Q]\\E]after", "]after");
+        assertLiteral("a", "ab\\Q\\E*", "a");
+        assertLiteral("a", "ab\\Q\\E?c", "ac");
+        assertLiteral("abcd", "ab\\Q\\Ecd", "abcd");
+        assertLiteral("ab", "ab\\Q", "ab");
+    }
+
+    @Test
+    public void testCharacterClasses() {
+        assertLiteral(" level", "[A-Z]+ level", "WARN level");
+        assertLiteral("x", "[]a]x", "]x");
+        assertLiteral("x", "[^]a]x", "bx");
+        assertLiteral("x", "[a[bc]]x", "cx");
+    }
+
+    @Test
+    public void testAlternation() {
+        assertLiteral("", "ERROR|WARN", "WARN");
+        assertLiteral(" Thing", "(ERROR|WARN) Thing", "WARN Thing");
+    }
+
+    @Test
+    public void testQuantifiers() {
+        assertLiteral("abc", "abcd?", "abc");
+        assertLiteral("abc", "abcd*", "abc");
+        assertLiteral("abc", "abcd+", "abcdd");
+        assertLiteral("ab", "abc{2}", "abcc");
+        assertLiteral("ab", "abc??de", "abde");
+        assertLiteral("ab", "abc*+de", "abde");
+    }
+
+    @Test
+    public void testFlags() {
+        assertEquals("", LiteralPrefilter.requiredLiteral(Pattern.compile("error", Pattern.CASE_INSENSITIVE)));
+        assertLiteral("", "(?i)error", "ERROR");
+        assertLiteral("", "abc(?i)error", "abcERROR");
+        assertLiteral("after", "(?:a|b)after", "bafter");
+    }
+
+    @Test
+    public void testFindCandidates() {
+        List<Pattern> patterns = List.of(Pattern.compile(".*ERROR.*"), Pattern.compile("\\x41BC"),
+                Pattern.compile(".*"), Pattern.compile("WARN \\d+"));
+        LiteralPrefilter prefilter = new LiteralPrefilter(patterns);
+
+        assertCandidates(prefilter, "2024 ERROR x", 0, 2);
+        assertCandidates(prefilter, "ABC", 1, 2);
+        assertCandidates(prefilter, "WARN 5", 2, 3);
+        assertCandidates(prefilter, "nothing", 2);
+    }
+
+    private void assertLiteral(String expected, String regex, String matchingLine) {
+        Pattern pattern = Pattern.compile(regex);
+        assertTrue(pattern.matcher(matchingLine).find(), "test line has to contain a match of " + regex);
+        String literal = LiteralPrefilter.requiredLiteral(pattern);
+        assertEquals(expected, literal, regex);
+        assertTrue(matchingLine.contains(literal), "literal of " + regex + " is not part of the match");
+    }
+
+    private void assertCandidates(LiteralPrefilter prefilter, String line, int... expected) {
+        BitSet candidates = prefilter.findCandidates(line);
+        assertEquals(expected.length, candidates.cardinality(), line);
+        for (int index : expected) {
+            assertTrue(candidates.get(index), line + " should match pattern " + index);
+        }
+    }
+}
@@ -14,6 +14,7 @@ package org.openhab.binding.mqtt.generic;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.IllegalFormatException;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -33,7 +34,6 @@ import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.State;
 import org.openhab.core.types.Type;
-import org.openhab.core.types.TypeParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -64,6 +64,10 @@ public class ChannelState implements MqttMessageSubscriber {
     private @Nullable ScheduledFuture<?> scheduledFuture;
     private CompletableFuture<@Nullable Void> future = CompletableFuture.completedFuture(null);
     private final Object futureLock = new Object();
+    // the last payload which was parsed to a state independent of the previous state, and that state. Only used
+    // without incoming transformations, as a transformation may return different values for the same payload.
+    private byte @Nullable [] lastPayload;
+    private @Nullable State lastPayloadState;
 
     /**
      * Creates a new channel state.
@@ -95,6 +99,7 @@ public class ChannelState implements MqttMessageSubscriber {
      */
     public void addTransformation(ChannelStateTransformation transformation) {
         transformationsIn.add(transformation);
+        lastPayload = null;
     }
 
     public void addTransformation(String transformation, TransformationServiceProvider transformationServiceProvider) {
@@ -127,6 +132,7 @@ public class ChannelState implements MqttMessageSubscriber {
      * Clear transformations
      */
     public void clearTransformations() {
+        lastPayload = null;
         transformationsIn.clear();
         transformationsOut.clear();
     }
@@ -171,6 +177,17 @@ public class ChannelState implements MqttMessageSubscriber {
             return;
         }
 
+        // Same payload as before: Parsing would result in the same state
+        final byte @Nullable [] lastPayload = this.lastPayload;
+        final @Nullable State lastPayloadState = this.lastPayloadState;
+        if (!config.trigger && transformationsIn.isEmpty() && lastPayload != null && lastPayloadState != null
+                && Arrays.equals(lastPayload, payload)) {
+            cachedValue.update(lastPayloadState);
+            postState(channelStateUpdateListener, cachedValue.getChannelState());
+            receivedOrTimeout();
+            return;
+        }
+
         // String value: Apply transformations
         String strValue = new String(payload, StandardCharsets.UTF_8);
         for (ChannelStateTransformation t : transformationsIn) {
@@ -191,7 +208,7 @@ public class ChannelState implements MqttMessageSubscriber {
             return;
         }
 
-        Command command = TypeParser.parseCommand(cachedValue.getSupportedCommandTypes(), strValue);
+        Command command = cachedValue.parseMessageValue(strValue);
         if (command == null) {
             logger.warn("Incoming payload '{}' on '{}' not supported by type '{}'", strValue, topic,
                     cachedValue.getClass().getSimpleName());
@@ -212,6 +229,12 @@ public class ChannelState implements MqttMessageSubscriber {
 
         if (parsedType instanceof State parsedState) {
             cachedValue.update(parsedState);
+            if (transformationsIn.isEmpty() && cachedValue.isStateIndependent(command)) {
+                this.lastPayload = payload.clone();
+                this.lastPayloadState = parsedState;
+            } else {
+                this.lastPayload = null;
+            }
         } else {
             // things that are only Commands _must_ be posted as a command (like STOP)
             channelStateUpdateListener.postChannelCommand(channelUID, (Command) parsedType);
@@ -219,7 +242,11 @@ public class ChannelState implements MqttMessageSubscriber {
             return;
         }
 
-        State newState = cachedValue.getChannelState();
+        postState(channelStateUpdateListener, cachedValue.getChannelState());
+        receivedOrTimeout();
+    }
+
+    private void postState(ChannelStateUpdateListener channelStateUpdateListener, State newState) {
         // If the user explicitly wants a command sent, not an update, do that. But
         // we have to check that the state is even possible to send as a command
         // (i.e. not UNDEF)
@@ -228,7 +255,6 @@ public class ChannelState implements MqttMessageSubscriber {
         } else {
             channelStateUpdateListener.updateChannelState(channelUID, newState);
         }
-        receivedOrTimeout();
     }
 
     /**
@@ -280,6 +306,7 @@ public class ChannelState implements MqttMessageSubscriber {
         this.connection = null;
         this.channelStateUpdateListener = null;
         hasSubscribed = false;
+        lastPayload = null;
         cachedValue.resetState();
     }
 
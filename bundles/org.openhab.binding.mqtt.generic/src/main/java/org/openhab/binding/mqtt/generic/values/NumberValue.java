@@ -119,6 +119,32 @@ public class NumberValue extends Value {
         }
     }
 
+    @Override
+    public Command parseMessageValue(String value) {
+        if (isNumberCandidate(value)) {
+            try {
+                return new QuantityType<>(value);
+            } catch (RuntimeException e) {
+                // not a number, same as TypeParser try the next command type
+            }
+        }
+        if (IncreaseDecreaseType.INCREASE.name().equals(value)) {
+            return IncreaseDecreaseType.INCREASE;
+        } else if (IncreaseDecreaseType.DECREASE.name().equals(value)) {
+            return IncreaseDecreaseType.DECREASE;
+        } else if (UpDownType.UP.name().equals(value)) {
+            return UpDownType.UP;
+        } else if (UpDownType.DOWN.name().equals(value)) {
+            return UpDownType.DOWN;
+        }
+        return new StringType(value);
+    }
+
+    @Override
+    public boolean isStateIndependent(Command command) {
+        return !(command instanceof IncreaseDecreaseType || command instanceof UpDownType);
+    }
+
     @Override
     public Type parseMessage(Command command) throws IllegalArgumentException {
         if (command instanceof StringType) {
@@ -111,6 +111,21 @@ public class OnOffValue extends Value {
         }
     }
 
+    @Override
+    public Command parseMessageValue(String value) {
+        if (OnOffType.ON.name().equals(value)) {
+            return OnOffType.ON;
+        } else if (OnOffType.OFF.name().equals(value)) {
+            return OnOffType.OFF;
+        }
+        return new StringType(value);
+    }
+
+    @Override
+    public boolean isStateIndependent(Command command) {
+        return true;
+    }
+
     @Override
     public String getMQTTpublishValue(Command command, @Nullable String pattern) {
         String formatPattern = pattern;
@@ -68,6 +68,21 @@ public class OpenCloseValue extends Value {
         }
     }
 
+    @Override
+    public Command parseMessageValue(String value) {
+        if (OpenClosedType.OPEN.name().equals(value)) {
+            return OpenClosedType.OPEN;
+        } else if (OpenClosedType.CLOSED.name().equals(value)) {
+            return OpenClosedType.CLOSED;
+        }
+        return new StringType(value);
+    }
+
+    @Override
+    public boolean isStateIndependent(Command command) {
+        return true;
+    }
+
     @Override
     public String getMQTTpublishValue(Command command, @Nullable String pattern) {
         String formatPattern = pattern;
@@ -133,6 +133,42 @@ public class PercentageValue extends Value {
         }
     }
 
+    @Override
+    public Command parseMessageValue(String value) {
+        if (isNumberCandidate(value)) {
+            try {
+                return new DecimalType(value);
+            } catch (RuntimeException e) {
+                // not a plain number, same as TypeParser try the next command type
+            }
+            try {
+                return new QuantityType<>(value);
+            } catch (RuntimeException e) {
+                // not a number, same as TypeParser try the next command type
+            }
+        }
+        if (IncreaseDecreaseType.INCREASE.name().equals(value)) {
+            return IncreaseDecreaseType.INCREASE;
+        } else if (IncreaseDecreaseType.DECREASE.name().equals(value)) {
+            return IncreaseDecreaseType.DECREASE;
+        } else if (OnOffType.ON.name().equals(value)) {
+            return OnOffType.ON;
+        } else if (OnOffType.OFF.name().equals(value)) {
+            return OnOffType.OFF;
+        } else if (UpDownType.UP.name().equals(value)) {
+            return UpDownType.UP;
+        } else if (UpDownType.DOWN.name().equals(value)) {
+            return UpDownType.DOWN;
+        }
+        return new StringType(value);
+    }
+
+    @Override
+    public boolean isStateIndependent(Command command) {
+        // quantities which can't be converted to percent result in the current state
+        return command instanceof DecimalType || command instanceof OnOffType || command instanceof StringType;
+    }
+
     @Override
     public String getMQTTpublishValue(Command command, @Nullable String pattern) {
         // Formula: From percentage to custom min/max: value*span/100+min
@@ -97,6 +97,16 @@ public class TextValue extends Value {
         return new StringType(valueStr);
     }
 
+    @Override
+    public Command parseMessageValue(String value) {
+        return new StringType(value);
+    }
+
+    @Override
+    public boolean isStateIndependent(Command command) {
+        return true;
+    }
+
     @Override
     public State parseMessage(Command command) throws IllegalArgumentException {
         if (command instanceof StringType string && string.toString().equals(nullValue)) {
@@ -21,6 +21,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.library.CoreItemFactory;
 import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.IncreaseDecreaseType;
 import org.openhab.core.library.types.PercentType;
 import org.openhab.core.library.types.RawType;
 import org.openhab.core.library.types.StringType;
@@ -29,6 +30,7 @@ import org.openhab.core.types.CommandDescriptionBuilder;
 import org.openhab.core.types.State;
 import org.openhab.core.types.StateDescriptionFragmentBuilder;
 import org.openhab.core.types.Type;
+import org.openhab.core.types.TypeParser;
 import org.openhab.core.types.UnDefType;
 
 /**
@@ -154,6 +156,49 @@ public abstract class Value {
         return parseCommand(command);
     }
 
+    /**
+     * Parses an incoming MQTT value into one of the supported command types, see
+     * {@link #getSupportedCommandTypes()}.
+     * <p>
+     * The default implementation tries all supported command types in order. Values may override this with a
+     * parser for their command types, which must return the same command as the default implementation.
+     * </p>
+     *
+     * @param value The (transformed) MQTT value
+     * @return The command or null if no supported command type can be parsed from the value
+     */
+    public @Nullable Command parseMessageValue(String value) {
+        return TypeParser.parseCommand(commandTypes, value);
+    }
+
+    /**
+     * Returns true if {@link #parseMessage(Command)} does not depend on the current state for the given command.
+     * <p>
+     * A repeated MQTT value is then known to result in the same state and does not need to be parsed again.
+     * Relative commands like {@link IncreaseDecreaseType} depend on the current state.
+     * </p>
+     *
+     * @param command A command returned by {@link #parseMessageValue(String)}
+     */
+    public boolean isStateIndependent(Command command) {
+        return false;
+    }
+
+    /**
+     * Checks if a value may be a number, to avoid the cost of a failing number parser for other values.
+     *
+     * @param value The MQTT value
+     * @return false if the value can't be a number
+     */
+    protected static boolean isNumberCandidate(String value) {
+        String trimmed = value.strip();
+        if (trimmed.isEmpty()) {
+            return false;
+        }
+        char c = trimmed.charAt(0);
+        return Character.isDigit(c) || c == '-' || c == '+' || c == '.';
+    }
+
     /**
      * Updates the internal value state with the given binary payload.
      *
@@ -120,4 +120,23 @@ public class ChannelStateTransformationTests {
         verify(callbackMock).stateUpdated(eq(TEXT_CHANNEL_UID), argThat(arg -> "23.2".equals(arg.toString())));
         assertThat(channelConfig.getCache().getChannelState().toString(), is("23.2"));
     }
+
+    @SuppressWarnings("null")
+    @Test
+    public void repeatedPayloadIsTransformedAgain() throws Exception {
+        // the transformation result may change for the same payload, e.g. for scripts
+        when(jsonPathServiceMock.transform(JSON_PATH_PATTERN, JSON_PATH_JSON)).thenReturn("23.2", "24.5");
+
+        thingHandler.initialize();
+        ChannelState channelConfig = thingHandler.getChannelState(TEXT_CHANNEL_UID);
+        channelConfig.setChannelStateUpdateListener(thingHandler);
+
+        byte[] payload = JSON_PATH_JSON.getBytes();
+        channelConfig.processMessage(channelConfig.getStateTopic(), payload);
+        channelConfig.processMessage(channelConfig.getStateTopic(), payload);
+
+        verify(jsonPathServiceMock, times(2)).transform(JSON_PATH_PATTERN, JSON_PATH_JSON);
+        verify(callbackMock).stateUpdated(eq(TEXT_CHANNEL_UID), argThat(arg -> "24.5".equals(arg.toString())));
+        assertThat(channelConfig.getCache().getChannelState().toString(), is("24.5"));
+    }
 }
@@ -422,4 +422,18 @@ public class ValueTests {
         assertThat(v.parseMessage(new StringType("NULL")), is(UnDefType.NULL));
         assertThat(v.parseMessage(new StringType("")), is(new StringType("")));
     }
+
+    @Test
+    public void parseMessageValueMatchesTypeParser() {
+        String[] payloads = { "15", "-2.5", "12.5 °C", "INCREASE", "DECREASE", "UP", "ON", "OFF", "OPEN", "CLOSED",
+                "foo", "", "NaN" };
+        Value[] values = { new TextValue(), new OnOffValue(), new OpenCloseValue(),
+                new NumberValue(null, null, null, null), new PercentageValue(null, null, null, null, null) };
+        for (Value v : values) {
+            for (String payload : payloads) {
+                assertEquals(TypeParser.parseCommand(v.getSupportedCommandTypes(), payload),
+                        v.parseMessageValue(payload), v.getClass().getSimpleName() + ": " + payload);
+            }
+        }
+    }
 }
@@ -14,16 +14,15 @@ package org.openhab.binding.mqtt.homeassistant.internal.discovery;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
@@ -76,9 +75,11 @@ import com.google.gson.GsonBuilder;
 public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
     private final Logger logger = LoggerFactory.getLogger(HomeAssistantDiscovery.class);
     private HomeAssistantConfiguration configuration;
-    protected final Map<String, Set<HaID>> componentsPerThingID = new TreeMap<>();
-    protected final Map<String, ThingUID> thingIDPerTopic = new TreeMap<>();
-    protected final Map<String, DiscoveryResult> results = new ConcurrentHashMap<>();
+    // all maps are guarded by componentsPerThingID
+    protected final Map<String, Set<HaID>> componentsPerThingID = new HashMap<>();
+    protected final Map<String, TopicEntry> entryPerTopic = new HashMap<>();
+    // things that need a new discovery result, with the most recently received entry of each thing
+    private final Map<String, TopicEntry> pendingThings = new HashMap<>();
 
     private @Nullable ScheduledFuture<?> future;
     private final Gson gson;
@@ -190,15 +191,41 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
 
         // Reset the found-component timer.
         // We will collect components for the thing label description for another 2 seconds.
-        final ScheduledFuture<?> future = this.future;
-        if (future != null) {
-            future.cancel(false);
+        schedulePublishResults();
+
+        // Retained config topics are delivered again on every subscription, only changed payloads are parsed again.
+        final int payloadHash = Arrays.hashCode(payload);
+        TopicEntry entry;
+        synchronized (componentsPerThingID) {
+            entry = entryPerTopic.get(topic);
+        }
+        if (entry == null || !entry.hasPayload(payloadHash, payload, connectionBridge)) {
+            entry = parseEntry(connectionBridge, topic, payload, payloadHash);
+            if (entry == null) {
+                return;
+            }
         }
-        this.future = scheduler.schedule(this::publishResults, 2, TimeUnit.SECONDS);
 
         // We will of course find multiple of the same unique Thing IDs, for each different component another one.
         // Therefore the components are assembled into a list and given to the DiscoveryResult label for the user to
         // easily recognize object capabilities.
+        @Nullable
+        ThingUID removedThingUID = null;
+        synchronized (componentsPerThingID) {
+            TopicEntry previous = entryPerTopic.put(topic, entry);
+            if (previous != null && !previous.thingUID.equals(entry.thingUID) && removeComponent(previous)) {
+                removedThingUID = previous.thingUID;
+            }
+            final String thingID = entry.thingUID.getId();
+            componentsPerThingID.computeIfAbsent(thingID, key -> new HashSet<>()).add(entry.haID);
+            pendingThings.put(thingID, entry);
+        }
+        if (removedThingUID != null) {
+            thingRemoved(removedThingUID);
+        }
+    }
+
+    private @Nullable TopicEntry parseEntry(ThingUID connectionBridge, String topic, byte[] payload, int payloadHash) {
         HaID haID = new HaID(topic);
 
         try {
@@ -212,47 +239,58 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
 
             final ThingUID thingUID = new ThingUID(typeID, connectionBridge, thingID);
 
-            thingIDPerTopic.put(topic, thingUID);
-
-            // We need to keep track of already found component topics for a specific thing
-            final List<HaID> components;
-            {
-                Set<HaID> componentsUnordered = componentsPerThingID.computeIfAbsent(thingID,
-                        key -> ConcurrentHashMap.newKeySet());
-
-                // Invariant. For compiler, computeIfAbsent above returns always
-                // non-null
-                Objects.requireNonNull(componentsUnordered);
-                componentsUnordered.add(haID);
-
-                components = componentsUnordered.stream().collect(Collectors.toList());
-                // We sort the components for consistent jsondb serialization order of 'topics' thing property
-                // Sorting key is HaID::toString, i.e. using the full topic string
-                components.sort(Comparator.comparing(HaID::toString));
-            }
-
-            final String componentNames = getComponentNamesSummary(
-                    components.stream().map(id -> id.component).map(c -> HA_COMP_TO_NAME.getOrDefault(c, c)));
-
-            final List<String> topics = components.stream().map(HaID::toShortTopic).collect(Collectors.toList());
-
-            Map<String, Object> properties = new HashMap<>();
-            HandlerConfiguration handlerConfig = new HandlerConfiguration(haID.baseTopic, topics);
-            properties = handlerConfig.appendToProperties(properties);
-            properties = config.appendToProperties(properties);
-            properties.put("deviceId", thingID);
-
-            // Because we need the new properties map with the updated "components" list
-            results.put(thingUID.getAsString(),
-                    DiscoveryResultBuilder.create(thingUID).withProperties(properties)
-                            .withRepresentationProperty("deviceId").withBridge(connectionBridge)
-                            .withLabel(config.getThingName() + " (" + componentNames + ")").build());
+            return new TopicEntry(haID, payloadHash, payload.clone(), connectionBridge, thingUID, config);
         } catch (ConfigurationException e) {
             logger.warn("HomeAssistant discover error: invalid configuration of thing {} component {}: {}",
                     haID.objectID, haID.component, e.getMessage());
         } catch (Exception e) {
             logger.warn("HomeAssistant discover error: {}", e.getMessage());
         }
+        return null;
+    }
+
+    /**
+     * Remove the component of an entry from its thing, must be called while holding the lock
+     *
+     * @param entry the entry of the component
+     * @return <code>true</code> if the thing has no components left
+     */
+    private boolean removeComponent(TopicEntry entry) {
+        final String thingID = entry.thingUID.getId();
+        Set<HaID> components = componentsPerThingID.get(thingID);
+        if (components != null) {
+            components.remove(entry.haID);
+            if (!components.isEmpty()) {
+                // publish the result again with the remaining components
+                pendingThings.putIfAbsent(thingID, entry);
+                return false;
+            }
+            componentsPerThingID.remove(thingID);
+        }
+        pendingThings.remove(thingID);
+        return true;
+    }
+
+    private DiscoveryResult createResult(TopicEntry entry, Set<HaID> componentsUnordered) {
+        // We sort the components for consistent jsondb serialization order of 'topics' thing property
+        // Sorting key is HaID::toString, i.e. using the full topic string
+        final List<HaID> components = componentsUnordered.stream().sorted(Comparator.comparing(HaID::toString))
+                .collect(Collectors.toList());
+
+        final String componentNames = getComponentNamesSummary(
+                components.stream().map(id -> id.component).map(c -> HA_COMP_TO_NAME.getOrDefault(c, c)));
+
+        final List<String> topics = components.stream().map(HaID::toShortTopic).collect(Collectors.toList());
+
+        Map<String, Object> properties = new HashMap<>();
+        HandlerConfiguration handlerConfig = new HandlerConfiguration(entry.haID.baseTopic, topics);
+        properties = handlerConfig.appendToProperties(properties);
+        properties = entry.config.appendToProperties(properties);
+        properties.put("deviceId", entry.thingUID.getId());
+
+        return DiscoveryResultBuilder.create(entry.thingUID).withProperties(properties)
+                .withRepresentationProperty("deviceId").withBridge(entry.connectionBridge)
+                .withLabel(entry.config.getThingName() + " (" + componentNames + ")").build();
     }
 
     @Override
@@ -275,12 +313,34 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
         getDiscoveryService().publish(BIRTH_TOPIC, ONLINE_STATUS.getBytes(), 1, false);
     }
 
+    private synchronized void schedulePublishResults() {
+        final ScheduledFuture<?> future = this.future;
+        if (future != null) {
+            future.cancel(false);
+        }
+        this.future = scheduler.schedule(this::publishResults, 2, TimeUnit.SECONDS);
+    }
+
     protected void publishResults() {
-        Collection<DiscoveryResult> localResults;
+        Collection<DiscoveryResult> localResults = new ArrayList<>();
+
+        // All things that changed during the settle time are published in one pass
+        synchronized (componentsPerThingID) {
+            for (TopicEntry entry : pendingThings.values()) {
+                Set<HaID> components = componentsPerThingID.get(entry.thingUID.getId());
+                if (components == null || components.isEmpty()) {
+                    continue;
+                }
+                try {
+                    localResults.add(createResult(entry, components));
+                } catch (Exception e) {
+                    logger.warn("HomeAssistant discover error: {}", e.getMessage());
+                }
+            }
+            pendingThings.clear();
+        }
 
-        localResults = new ArrayList<>(results.values());
-        results.clear();
-        componentsPerThingID.clear();
+        logger.debug("Publishing {} HomeAssistant discovery results", localResults.size());
         for (DiscoveryResult result : localResults) {
             final ThingTypeUID typeID = result.getThingTypeUID();
             ThingType type = typeProvider.derive(typeID, MqttBindingConstants.HOMEASSISTANT_MQTT_THING).build();
@@ -295,19 +355,47 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
         if (!topic.endsWith("/config")) {
             return;
         }
-        if (thingIDPerTopic.containsKey(topic)) {
-            ThingUID thingUID = thingIDPerTopic.remove(topic);
-            if (thingUID != null) {
-                final String thingID = thingUID.getId();
+        final TopicEntry entry;
+        final boolean removed;
+        synchronized (componentsPerThingID) {
+            entry = entryPerTopic.remove(topic);
+            if (entry == null) {
+                return;
+            }
+            removed = removeComponent(entry);
+        }
+        if (removed) {
+            thingRemoved(entry.thingUID);
+        } else {
+            schedulePublishResults();
+        }
+    }
 
-                HaID haID = new HaID(topic);
+    /**
+     * The {@link TopicEntry} keeps the parsed configuration of a config topic together with the payload it was parsed
+     * from
+     */
+    protected static class TopicEntry {
+        private final HaID haID;
+        private final int payloadHash;
+        private final byte[] payload;
+        private final ThingUID connectionBridge;
+        private final ThingUID thingUID;
+        private final AbstractChannelConfiguration config;
+
+        private TopicEntry(HaID haID, int payloadHash, byte[] payload, ThingUID connectionBridge, ThingUID thingUID,
+                AbstractChannelConfiguration config) {
+            this.haID = haID;
+            this.payloadHash = payloadHash;
+            this.payload = payload;
+            this.connectionBridge = connectionBridge;
+            this.thingUID = thingUID;
+            this.config = config;
+        }
 
-                Set<HaID> components = componentsPerThingID.getOrDefault(thingID, Collections.emptySet());
-                components.remove(haID);
-                if (components.isEmpty()) {
-                    thingRemoved(thingUID);
-                }
-            }
+        private boolean hasPayload(int payloadHash, byte[] payload, ThingUID connectionBridge) {
+            return this.payloadHash == payloadHash && this.connectionBridge.equals(connectionBridge)
+                    && Arrays.equals(this.payload, payload);
         }
     }
 }
@@ -93,6 +93,29 @@ public class HomeAssistantDiscoveryTests extends AbstractHomeAssistantTests {
                 "climate/0x847127fffe11dd6a_climate_zigbee2mqtt", "switch/0x847127fffe11dd6a_auto_lock_zigbee2mqtt"));
     }
 
+    @Test
+    public void testRepeatedConfigIsPublishedOnce() throws Exception {
+        var discoveryListener = new LatchDiscoveryListener();
+        var latch = discoveryListener.createWaitForThingsDiscoveredLatch(1);
+
+        // When the same retained config is received again (e.g. after a re-subscription)
+        discovery.addDiscoveryListener(discoveryListener);
+        for (int i = 0; i < 3; i++) {
+            discovery.receivedMessage(HA_UID, bridgeConnection,
+                    "homeassistant/climate/0x847127fffe11dd6a_climate_zigbee2mqtt/config",
+                    getResourceAsByteArray("component/configTS0601ClimateThermostat.json"));
+            discovery.receivedMessage(HA_UID, bridgeConnection,
+                    "homeassistant/switch/0x847127fffe11dd6a_auto_lock_zigbee2mqtt/config",
+                    getResourceAsByteArray("component/configTS0601AutoLock.json"));
+        }
+
+        // Then one result with both components is published
+        assert latch.await(3, TimeUnit.SECONDS);
+        var discoveryResults = discoveryListener.getDiscoveryResults();
+        assertThat(discoveryResults.size(), is(1));
+        assertThat(discoveryResults.get(0).getLabel(), is("th1 (Climate Control, Switch)"));
+    }
+
     private static class TestHomeAssistantDiscovery extends HomeAssistantDiscovery {
         public TestHomeAssistantDiscovery(MqttChannelTypeProvider typeProvider) {
             super(null);
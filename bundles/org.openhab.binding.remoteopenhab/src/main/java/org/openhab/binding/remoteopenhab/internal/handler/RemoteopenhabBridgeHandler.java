@@ -20,9 +20,12 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -75,6 +78,7 @@ import org.openhab.core.thing.type.ChannelTypeBuilder;
 import org.openhab.core.thing.type.ChannelTypeUID;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.CommandOption;
+import org.openhab.core.types.RefreshType;
 import org.openhab.core.types.State;
 import org.openhab.core.types.StateDescriptionFragmentBuilder;
 import org.openhab.core.types.StateOption;
@@ -120,7 +124,11 @@ public class RemoteopenhabBridgeHandler extends BaseBridgeHandler
     private @Nullable ScheduledFuture<?> checkConnectionJob;
     private RemoteopenhabRestClient restClient;
 
-    private Map<ChannelUID, State> channelsLastStates = new HashMap<>();
+    /**
+     * Last state pushed for each item, keyed by item name (which is also the channel id).
+     * Accessed from both the event stream and the connection check job.
+     */
+    private final Map<String, State> itemsLastStates = new ConcurrentHashMap<>();
 
     public RemoteopenhabBridgeHandler(Bridge bridge, HttpClient httpClient, HttpClient httpClientTrustingCert,
             ClientBuilder clientBuilder, SseEventSourceFactory eventSourceFactory,
@@ -190,7 +198,7 @@ public class RemoteopenhabBridgeHandler extends BaseBridgeHandler
         logger.debug("Disposing remote openHAB handler for bridge {}", getThing().getUID());
         stopStreamingUpdates(false);
         stopCheckConnectionJob();
-        channelsLastStates.clear();
+        itemsLastStates.clear();
     }
 
     @Override
@@ -199,8 +207,15 @@ public class RemoteopenhabBridgeHandler extends BaseBridgeHandler
             return;
         }
 
+        if (command instanceof RefreshType) {
+            refreshChannelState(channelUID);
+            return;
+        }
+
         try {
             if (isLinked(channelUID)) {
+                // The remote item state follows the command, so its next state must not be suppressed
+                itemsLastStates.remove(channelUID.getId());
                 restClient.sendCommandToRemoteItem(channelUID.getId(), command);
                 String commandStr = command.toFullString();
                 logger.debug("Sending command {} to remote item {} succeeded",
@@ -214,6 +229,33 @@ public class RemoteopenhabBridgeHandler extends BaseBridgeHandler
         }
     }
 
+    @Override
+    public void channelUnlinked(ChannelUID channelUID) {
+        // The channel does not receive updates while unlinked, so its last state is no longer reliable
+        itemsLastStates.remove(channelUID.getId());
+        super.channelUnlinked(channelUID);
+    }
+
+    /**
+     * Push the last known state of the remote item to the channel, or request it from the remote server
+     * when no state is known yet (e.g. for a channel which has just been linked).
+     */
+    private void refreshChannelState(ChannelUID channelUID) {
+        String itemName = channelUID.getId();
+        State lastState = itemsLastStates.get(itemName);
+        if (lastState != null) {
+            updateState(channelUID, lastState);
+            return;
+        }
+        scheduler.execute(() -> {
+            try {
+                updateChannelState(itemName, null, restClient.getRemoteItemState(itemName), false);
+            } catch (RemoteopenhabException e) {
+                logger.debug("Refreshing state of channel {} failed: {}", itemName, e.getMessage(bundle, i18nProvider));
+            }
+        });
+    }
+
     private boolean createChannels(List<RemoteopenhabItem> items, boolean replace) {
         synchronized (updateThingLock) {
             try {
@@ -283,7 +325,20 @@ public class RemoteopenhabBridgeHandler extends BaseBridgeHandler
                             .withKind(ChannelKind.STATE).withLabel(label).withDescription(description).build());
                 }
                 ThingBuilder thingBuilder = editThing();
-                if (replace) {
+                if (replace && hasSameChannels(channels)) {
+                    logger.debug("{} channels unchanged for the thing {} (from {} items including {} groups)",
+                            channels.size(), getThing().getUID(), items.size(), nbGroups);
+                } else if (replace) {
+                    // Keep the last states only for the channels which still accept the same item type
+                    Set<String> channelIds = new HashSet<>();
+                    for (Channel channel : channels) {
+                        Channel current = getThing().getChannel(channel.getUID());
+                        if (current != null
+                                && Objects.equals(current.getAcceptedItemType(), channel.getAcceptedItemType())) {
+                            channelIds.add(channel.getUID().getId());
+                        }
+                    }
+                    itemsLastStates.keySet().retainAll(channelIds);
                     thingBuilder.withChannels(channels);
                     updateThing(thingBuilder.build());
                     logger.debug(
@@ -294,6 +349,7 @@ public class RemoteopenhabBridgeHandler extends BaseBridgeHandler
                     for (Channel channel : channels) {
                         if (getThing().getChannel(channel.getUID()) != null) {
                             thingBuilder.withoutChannel(channel.getUID());
+                            itemsLastStates.remove(channel.getUID().getId());
                             nbRemoved++;
                         }
                     }
@@ -322,6 +378,29 @@ public class RemoteopenhabBridgeHandler extends BaseBridgeHandler
         }
     }
 
+    /**
+     * Check whether the new channels are identical to the current channels of the thing, so that the thing
+     * does not need to be updated when resynchronizing with an unchanged remote server.
+     */
+    private boolean hasSameChannels(List<Channel> channels) {
+        List<Channel> currentChannels = getThing().getChannels();
+        if (currentChannels.size() != channels.size()) {
+            return false;
+        }
+        Map<ChannelUID, Channel> currentChannelsByUID = new HashMap<>();
+        currentChannels.forEach(channel -> currentChannelsByUID.put(channel.getUID(), channel));
+        for (Channel channel : channels) {
+            Channel current = currentChannelsByUID.get(channel.getUID());
+            if (current == null || !Objects.equals(current.getChannelTypeUID(), channel.getChannelTypeUID())
+                    || !Objects.equals(current.getAcceptedItemType(), channel.getAcceptedItemType())
+                    || !Objects.equals(current.getLabel(), channel.getLabel())
+                    || !Objects.equals(current.getDescription(), channel.getDescription())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private void removeChannels(List<RemoteopenhabItem> items) {
         synchronized (updateThingLock) {
             int nbRemoved = 0;
@@ -330,6 +409,7 @@ public class RemoteopenhabBridgeHandler extends BaseBridgeHandler
                 Channel channel = getThing().getChannel(item.name);
                 if (channel != null) {
                     thingBuilder.withoutChannel(channel.getUID());
+                    itemsLastStates.remove(item.name);
                     nbRemoved++;
                 }
             }
@@ -382,9 +462,15 @@ public class RemoteopenhabBridgeHandler extends BaseBridgeHandler
 
                 if (createChannels(items, true)) {
                     setDynamicOptions(items);
+                    // Only the states which changed since the last known state are pushed again
+                    int nbUpdated = 0;
                     for (RemoteopenhabItem item : items) {
-                        updateChannelState(item.name, null, item.state, false);
+                        if (updateChannelState(item.name, null, item.state, true)) {
+                            nbUpdated++;
+                        }
                     }
+                    logger.debug("{} channel states updated for the thing {} (from {} items)", nbUpdated,
+                            getThing().getUID(), items.size());
 
                     updateStatus(ThingStatus.ONLINE);
 
@@ -409,6 +495,7 @@ public class RemoteopenhabBridgeHandler extends BaseBridgeHandler
         ScheduledFuture<?> localCheckConnectionJob = checkConnectionJob;
         if (localCheckConnectionJob == null || localCheckConnectionJob.isCancelled()) {
             checkConnectionJob = scheduler.scheduleWithFixedDelay(() -> {
+                restClient.logEventStatistics();
                 long millisSinceLastEvent = System.currentTimeMillis() - restClient.getLastEventTimestamp();
                 if (getThing().getStatus() != ThingStatus.ONLINE || aliveInterval == 0
                         || restClient.getLastEventTimestamp() == 0) {
@@ -467,6 +554,15 @@ public class RemoteopenhabBridgeHandler extends BaseBridgeHandler
         return restClient;
     }
 
+    @Override
+    protected void updateStatus(ThingStatus status, ThingStatusDetail statusDetail, @Nullable String description) {
+        if (status == ThingStatus.OFFLINE) {
+            // Updates may be missed while offline, so the last states are no longer reliable
+            itemsLastStates.clear();
+        }
+        super.updateStatus(status, statusDetail, description);
+    }
+
     @Override
     public void onConnected() {
         updateStatus(ThingStatus.ONLINE);
@@ -515,21 +611,26 @@ public class RemoteopenhabBridgeHandler extends BaseBridgeHandler
         setDynamicOptions(List.of(item));
     }
 
-    private void updateChannelState(String itemName, @Nullable String stateType, String state,
+    /**
+     * Update the state of the channel linked to a remote item.
+     *
+     * @return true if the channel state was updated
+     */
+    private boolean updateChannelState(String itemName, @Nullable String stateType, String state,
             boolean onlyIfStateChanged) {
         Channel channel = getThing().getChannel(itemName);
         if (channel == null) {
             logger.trace("No channel for item {}", itemName);
-            return;
+            return false;
         }
         String acceptedItemType = channel.getAcceptedItemType();
         if (acceptedItemType == null) {
             logger.trace("Channel without accepted item type for item {}", itemName);
-            return;
+            return false;
         }
         if (!isLinked(channel.getUID())) {
             logger.trace("Unlinked channel {}", channel.getUID());
-            return;
+            return false;
         }
         State channelState = null;
         try {
@@ -636,18 +737,19 @@ public class RemoteopenhabBridgeHandler extends BaseBridgeHandler
             channelState = UnDefType.UNDEF;
         }
         if (channelState != null) {
-            if (onlyIfStateChanged && channelState.equals(channelsLastStates.get(channel.getUID()))) {
-                logger.trace("ItemStateChangedEvent ignored for item {} as state is identical to the last state",
-                        itemName);
-                return;
+            if (onlyIfStateChanged && channelState.equals(itemsLastStates.get(itemName))) {
+                logger.trace("State update ignored for item {} as state is identical to the last state", itemName);
+                return false;
             }
-            channelsLastStates.put(channel.getUID(), channelState);
+            itemsLastStates.put(itemName, channelState);
             updateState(channel.getUID(), channelState);
             String channelStateStr = channelState.toFullString();
             logger.debug("updateState {} with {}", channel.getUID(),
                     channelStateStr.length() < MAX_STATE_SIZE_FOR_LOGGING ? channelStateStr
                             : channelStateStr.substring(0, MAX_STATE_SIZE_FOR_LOGGING) + "...");
+            return true;
         }
+        return false;
     }
 
     private boolean checkStateType(String itemName, @Nullable String stateType, String expectedType) {
@@ -111,6 +111,7 @@ public class RemoteopenhabRestClient {
 
     private @Nullable SseEventSource eventSource;
     private long lastEventTimestamp;
+    private final EventStatistics eventStatistics = new EventStatistics();
 
     public RemoteopenhabRestClient(final HttpClient httpClient, final ClientBuilder clientBuilder,
             final SseEventSourceFactory eventSourceFactory, final Gson jsonParser,
@@ -389,6 +390,16 @@ public class RemoteopenhabRestClient {
         return lastEventTimestamp;
     }
 
+    /**
+     * Log the throughput and processing time of the streaming events received since the previous call.
+     * The remote events do not contain their emission time, so the lag is estimated from the time needed
+     * to process each event and the time elapsed since the last event.
+     */
+    public void logEventStatistics() {
+        String statistics = eventStatistics.getAndReset(lastEventTimestamp);
+        logger.debug("Streaming events: {}", statistics);
+    }
+
     private void onEvent(InboundSseEvent inboundEvent) {
         String name = inboundEvent.getName();
         String data = inboundEvent.readData();
@@ -405,6 +416,7 @@ public class RemoteopenhabRestClient {
             return;
         }
 
+        long startTime = System.nanoTime();
         try {
             RemoteopenhabEvent event = jsonParser.fromJson(data, RemoteopenhabEvent.class);
             String itemName;
@@ -518,6 +530,8 @@ public class RemoteopenhabRestClient {
         } catch (RemoteopenhabException | JsonSyntaxException e) {
             logger.debug("An exception occurred while processing the inbound '{}' event containg data: {}", name, data,
                     e);
+        } finally {
+            eventStatistics.add(System.nanoTime() - startTime);
         }
     }
 
@@ -643,4 +657,34 @@ public class RemoteopenhabRestClient {
             throw new RemoteopenhabException(e);
         }
     }
+
+    /**
+     * Throughput and processing time of the "message" streaming events
+     */
+    private static class EventStatistics {
+        private long since = System.currentTimeMillis();
+        private int count;
+        private long totalNanos;
+        private long maxNanos;
+
+        synchronized void add(long processingNanos) {
+            count++;
+            totalNanos += processingNanos;
+            maxNanos = Math.max(maxNanos, processingNanos);
+        }
+
+        synchronized String getAndReset(long lastEventTimestamp) {
+            long now = System.currentTimeMillis();
+            double seconds = Math.max(now - since, 1) / 1000.0;
+            String result = String.format(
+                    "%d events in %.0f s (%.2f events/s), processing avg %d µs max %d µs, last event %s", count,
+                    seconds, count / seconds, count == 0 ? 0 : totalNanos / count / 1000, maxNanos / 1000,
+                    lastEventTimestamp == 0 ? "none" : (now - lastEventTimestamp) + " ms ago");
+            since = now;
+            count = 0;
+            totalNanos = 0;
+            maxNanos = 0;
+            return result;
+        }
+    }
 }
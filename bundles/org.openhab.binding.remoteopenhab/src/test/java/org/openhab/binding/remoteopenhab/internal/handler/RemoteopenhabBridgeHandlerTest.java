@@ -0,0 +1,164 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.remoteopenhab.internal.handler;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.openhab.binding.remoteopenhab.internal.RemoteopenhabBindingConstants.BRIDGE_TYPE_SERVER;
+
+import javax.ws.rs.client.ClientBuilder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jetty.client.HttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedConstruction;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.binding.remoteopenhab.internal.RemoteopenhabChannelTypeProvider;
+import org.openhab.binding.remoteopenhab.internal.RemoteopenhabCommandDescriptionOptionProvider;
+import org.openhab.binding.remoteopenhab.internal.RemoteopenhabStateDescriptionOptionProvider;
+import org.openhab.binding.remoteopenhab.internal.exceptions.RemoteopenhabException;
+import org.openhab.binding.remoteopenhab.internal.rest.RemoteopenhabRestClient;
+import org.openhab.core.i18n.LocaleProvider;
+import org.openhab.core.i18n.TranslationProvider;
+import org.openhab.core.library.CoreItemFactory;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.thing.Bridge;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.core.thing.binding.ThingHandlerCallback;
+import org.openhab.core.thing.binding.builder.BridgeBuilder;
+import org.openhab.core.thing.binding.builder.ChannelBuilder;
+import org.openhab.core.types.RefreshType;
+import org.osgi.service.jaxrs.client.SseEventSourceFactory;
+
+import com.google.gson.Gson;
+
+/**
+ * Tests for the state updates of the channels in {@link RemoteopenhabBridgeHandler}.
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class RemoteopenhabBridgeHandlerTest {
+
+    private static final String ITEM_NAME = "Temperature";
+    private static final ChannelUID CHANNEL_UID = new ChannelUID(new ThingUID(BRIDGE_TYPE_SERVER, "server"),
+            ITEM_NAME);
+
+    private @Mock @NonNullByDefault({}) HttpClient httpClient;
+    private @Mock @NonNullByDefault({}) ClientBuilder clientBuilder;
+    private @Mock @NonNullByDefault({}) SseEventSourceFactory eventSourceFactory;
+    private @Mock @NonNullByDefault({}) RemoteopenhabChannelTypeProvider channelTypeProvider;
+    private @Mock @NonNullByDefault({}) RemoteopenhabStateDescriptionOptionProvider stateDescriptionProvider;
+    private @Mock @NonNullByDefault({}) RemoteopenhabCommandDescriptionOptionProvider commandDescriptionProvider;
+    private @Mock @NonNullByDefault({}) TranslationProvider i18nProvider;
+    private @Mock @NonNullByDefault({}) LocaleProvider localeProvider;
+    private @Mock @NonNullByDefault({}) ThingHandlerCallback callback;
+
+    private @NonNullByDefault({}) MockedConstruction<RemoteopenhabRestClient> restClients;
+    private @NonNullByDefault({}) RemoteopenhabRestClient restClient;
+    private @NonNullByDefault({}) RemoteopenhabBridgeHandler handler;
+
+    @BeforeEach
+    public void setUp() {
+        Bridge bridge = BridgeBuilder.create(BRIDGE_TYPE_SERVER, "server").withLabel("server")
+                .withChannel(ChannelBuilder.create(CHANNEL_UID, CoreItemFactory.NUMBER).build()).build();
+
+        doAnswer(answer -> {
+            ((Thing) answer.getArgument(0)).setStatusInfo(answer.getArgument(1));
+            return null;
+        }).when(callback).statusUpdated(any(), any());
+        when(callback.isChannelLinked(CHANNEL_UID)).thenReturn(true);
+
+        restClients = mockConstruction(RemoteopenhabRestClient.class);
+        handler = new RemoteopenhabBridgeHandler(bridge, httpClient, httpClient, clientBuilder, eventSourceFactory,
+                channelTypeProvider, stateDescriptionProvider, commandDescriptionProvider, new Gson(), i18nProvider,
+                localeProvider);
+        restClient = restClients.constructed().get(0);
+        bridge.setHandler(handler);
+        handler.setCallback(callback);
+        handler.onConnected();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        handler.dispose();
+        restClients.close();
+    }
+
+    @Test
+    public void identicalStateIsSuppressed() {
+        handler.onItemStateEvent(ITEM_NAME, "Decimal", "21", true);
+        handler.onItemStateEvent(ITEM_NAME, "Decimal", "21", true);
+        handler.onItemStateEvent(ITEM_NAME, "Decimal", "22", true);
+
+        verify(callback, times(1)).stateUpdated(CHANNEL_UID, new DecimalType("21"));
+        verify(callback, times(1)).stateUpdated(CHANNEL_UID, new DecimalType("22"));
+    }
+
+    @Test
+    public void identicalStateIsPushedWhenNotOnlyIfChanged() {
+        handler.onItemStateEvent(ITEM_NAME, "Decimal", "21", true);
+        handler.onItemStateEvent(ITEM_NAME, "Decimal", "21", false);
+
+        verify(callback, times(2)).stateUpdated(CHANNEL_UID, new DecimalType("21"));
+    }
+
+    @Test
+    public void identicalStateIsPushedAfterCommand() throws RemoteopenhabException {
+        handler.onItemStateEvent(ITEM_NAME, "Decimal", "21", true);
+        handler.handleCommand(CHANNEL_UID, new DecimalType("21"));
+        handler.onItemStateEvent(ITEM_NAME, "Decimal", "21", true);
+
+        verify(restClient).sendCommandToRemoteItem(ITEM_NAME, new DecimalType("21"));
+        verify(callback, times(2)).stateUpdated(CHANNEL_UID, new DecimalType("21"));
+    }
+
+    @Test
+    public void identicalStateIsPushedAfterOffline() {
+        handler.onItemStateEvent(ITEM_NAME, "Decimal", "21", true);
+        handler.onDisconnected();
+        handler.onConnected();
+        handler.onItemStateEvent(ITEM_NAME, "Decimal", "21", true);
+
+        verify(callback, times(2)).stateUpdated(CHANNEL_UID, new DecimalType("21"));
+    }
+
+    @Test
+    public void refreshPushesLastState() throws RemoteopenhabException {
+        handler.onItemStateEvent(ITEM_NAME, "Decimal", "21", true);
+        handler.handleCommand(CHANNEL_UID, RefreshType.REFRESH);
+
+        verify(callback, times(2)).stateUpdated(CHANNEL_UID, new DecimalType("21"));
+        verify(restClient, never()).getRemoteItemState(anyString());
+    }
+
+    @Test
+    public void refreshWithoutLastStateRequestsRemoteState() throws RemoteopenhabException {
+        when(restClient.getRemoteItemState(ITEM_NAME)).thenReturn("21");
+
+        handler.handleCommand(CHANNEL_UID, RefreshType.REFRESH);
+
+        verify(callback, timeout(5000)).stateUpdated(CHANNEL_UID, new DecimalType("21"));
+        verify(restClient, never()).sendCommandToRemoteItem(anyString(), any());
+    }
+}
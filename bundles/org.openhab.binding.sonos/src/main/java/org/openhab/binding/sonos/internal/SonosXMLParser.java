@@ -17,11 +17,13 @@ import java.io.StringReader;
 import java.net.URL;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiPredicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -58,6 +60,14 @@ public class SonosXMLParser {
                     + "<desc id=\"cdudn\" nameSpace=\"urn:schemas-rinconnetworks-com:metadata-1-0/\">" + "{4}</desc>"
                     + "</item></DIDL-Lite>");
 
+    private static final DefaultHandler NO_HANDLER = new DefaultHandler();
+
+    // creating a reader is expensive compared to parsing a small event, so each thread keeps its own
+    private static final ThreadLocal<@Nullable XMLReader> READERS = new ThreadLocal<>();
+
+    // all players receive the same zone group state, it only needs to be parsed once per change
+    private static volatile @Nullable ZoneGroupState lastZoneGroupState;
+
     private enum Element {
         TITLE,
         CLASS,
@@ -83,6 +93,32 @@ public class SonosXMLParser {
         desc
     }
 
+    /**
+     * Parses the input with the reader of the current thread
+     *
+     * @param input the XML input
+     * @param handler the handler receiving the parser events
+     * @throws IOException
+     * @throws SAXException
+     */
+    private static void parse(InputSource input, DefaultHandler handler) throws IOException, SAXException {
+        XMLReader reader = READERS.get();
+        if (reader == null) {
+            reader = XMLReaderFactory.createXMLReader();
+        } else {
+            // don't share the reader with a nested parse
+            READERS.set(null);
+        }
+        try {
+            reader.setContentHandler(handler);
+            reader.parse(input);
+        } finally {
+            // don't keep the handler and its results alive
+            reader.setContentHandler(NO_HANDLER);
+            READERS.set(reader);
+        }
+    }
+
     /**
      * @param xml
      * @return a list of alarms from the given xml string.
@@ -90,9 +126,7 @@ public class SonosXMLParser {
     public static List<SonosAlarm> getAlarmsFromStringResult(String xml) {
         AlarmHandler handler = new AlarmHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException e) {
             LOGGER.error("Could not parse Alarms from string '{}'", xml);
         } catch (SAXException s) {
@@ -108,9 +142,7 @@ public class SonosXMLParser {
     public static List<SonosEntry> getEntriesFromString(String xml) {
         EntryHandler handler = new EntryHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException e) {
             LOGGER.error("Could not parse Entries from string '{}'", xml);
         } catch (SAXException s) {
@@ -145,30 +177,34 @@ public class SonosXMLParser {
 
     /**
      * @param xml
-     * @return zone group from the given xml
+     * @return zone group from the given xml, the list must not be modified
      */
     public static List<SonosZoneGroup> getZoneGroupFromXML(String xml) {
+        ZoneGroupState zoneGroupState = lastZoneGroupState;
+        if (zoneGroupState != null && zoneGroupState.xml.equals(xml)) {
+            return zoneGroupState.groups;
+        }
         ZoneGroupHandler handler = new ZoneGroupHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse ZoneGroup from string '{}'", xml);
+            return handler.getGroups();
         } catch (SAXException s) {
             LOGGER.error("Could not parse ZoneGroup from string '{}'", xml);
+            return handler.getGroups();
         }
 
-        return handler.getGroups();
+        List<SonosZoneGroup> groups = Collections.unmodifiableList(handler.getGroups());
+        lastZoneGroupState = new ZoneGroupState(xml, groups);
+        return groups;
     }
 
     public static List<String> getRadioTimeFromXML(String xml) {
         OpmlHandler handler = new OpmlHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse RadioTime from string '{}'", xml);
@@ -180,11 +216,18 @@ public class SonosXMLParser {
     }
 
     public static Map<String, String> getRenderingControlFromXML(String xml) {
-        RenderingControlEventHandler handler = new RenderingControlEventHandler();
+        return getRenderingControlFromXML(xml, (variable, value) -> true);
+    }
+
+    /**
+     * @param xml
+     * @param filter only variables for which the filter returns true are reported, e.g. changed values
+     * @return map of the variables in the rendering control event
+     */
+    public static Map<String, String> getRenderingControlFromXML(String xml, BiPredicate<String, String> filter) {
+        RenderingControlEventHandler handler = new RenderingControlEventHandler(filter);
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse Rendering Control from string '{}'", xml);
@@ -195,11 +238,18 @@ public class SonosXMLParser {
     }
 
     public static Map<String, String> getAVTransportFromXML(String xml) {
-        AVTransportEventHandler handler = new AVTransportEventHandler();
+        return getAVTransportFromXML(xml, (variable, value) -> true);
+    }
+
+    /**
+     * @param xml
+     * @param filter only variables for which the filter returns true are reported, e.g. changed values
+     * @return map of the variables in the AV transport event
+     */
+    public static Map<String, String> getAVTransportFromXML(String xml, BiPredicate<String, String> filter) {
+        AVTransportEventHandler handler = new AVTransportEventHandler(filter);
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse AV Transport from string '{}'", xml);
@@ -212,9 +262,7 @@ public class SonosXMLParser {
     public static SonosMetaData getMetaDataFromXML(String xml) {
         MetaDataHandler handler = new MetaDataHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse MetaData from string '{}'", xml);
@@ -228,9 +276,7 @@ public class SonosXMLParser {
     public static List<SonosMusicService> getMusicServicesFromXML(String xml) {
         MusicServiceHandler handler = new MusicServiceHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse music services from string '{}'", xml);
@@ -548,6 +594,29 @@ public class SonosXMLParser {
         }
     }
 
+    /**
+     * Adds a variable to the changes if the filter accepts it. A later value of the same variable
+     * in the event replaces an earlier one, also if the filter rejects it.
+     */
+    private static void putChange(Map<String, String> changes, BiPredicate<String, String> filter, String variable,
+            String value) {
+        if (filter.test(variable, value)) {
+            changes.put(variable, value);
+        } else {
+            changes.remove(variable);
+        }
+    }
+
+    private static class ZoneGroupState {
+        private final String xml;
+        private final List<SonosZoneGroup> groups;
+
+        ZoneGroupState(String xml, List<SonosZoneGroup> groups) {
+            this.xml = xml;
+            this.groups = groups;
+        }
+    }
+
     private static class ZoneGroupHandler extends DefaultHandler {
 
         private final List<SonosZoneGroup> groups = new ArrayList<>();
@@ -707,6 +776,11 @@ public class SonosXMLParser {
          */
 
         private final Map<String, String> changes = new HashMap<>();
+        private final BiPredicate<String, String> filter;
+
+        AVTransportEventHandler(BiPredicate<String, String> filter) {
+            this.filter = filter;
+        }
 
         @Override
         public void startElement(@Nullable String uri, @Nullable String localName, @Nullable String qName,
@@ -721,7 +795,7 @@ public class SonosXMLParser {
             } else {
                 String val = attributes == null ? null : attributes.getValue("val");
                 if (val != null) {
-                    changes.put(localName, val);
+                    putChange(changes, filter, localName, val);
                 }
             }
         }
@@ -837,10 +911,15 @@ public class SonosXMLParser {
     private static class RenderingControlEventHandler extends DefaultHandler {
 
         private final Map<String, String> changes = new HashMap<>();
+        private final BiPredicate<String, String> filter;
 
         private boolean getPresetName = false;
         private @Nullable String presetName;
 
+        RenderingControlEventHandler(BiPredicate<String, String> filter) {
+            this.filter = filter;
+        }
+
         @Override
         public void startElement(@Nullable String uri, @Nullable String localName, @Nullable String qName,
                 @Nullable Attributes attributes) throws SAXException {
@@ -856,7 +935,7 @@ public class SonosXMLParser {
                     channel = attributes == null ? null : attributes.getValue("channel");
                     val = attributes == null ? null : attributes.getValue("val");
                     if (channel != null && val != null) {
-                        changes.put(qName + channel, val);
+                        putChange(changes, filter, qName + channel, val);
                     }
                     break;
                 case "Bass":
@@ -874,7 +953,7 @@ public class SonosXMLParser {
                 case "HeightChannelLevel":
                     val = attributes == null ? null : attributes.getValue("val");
                     if (val != null) {
-                        changes.put(qName, val);
+                        putChange(changes, filter, qName, val);
                     }
                     break;
                 case "PresetNameList":
@@ -899,7 +978,7 @@ public class SonosXMLParser {
                 getPresetName = false;
                 String preset = presetName;
                 if (qName != null && preset != null) {
-                    changes.put(qName, preset);
+                    putChange(changes, filter, qName, preset);
                 }
             }
         }
@@ -931,10 +1010,8 @@ public class SonosXMLParser {
     public static @Nullable String getRoomName(String descriptorXML) {
         RoomNameHandler roomNameHandler = new RoomNameHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(roomNameHandler);
             URL url = new URL(descriptorXML);
-            reader.parse(new InputSource(url.openStream()));
+            parse(new InputSource(url.openStream()), roomNameHandler);
         } catch (IOException | SAXException e) {
             LOGGER.error("Could not parse Sonos room name from string '{}'", descriptorXML);
         }
@@ -970,10 +1047,8 @@ public class SonosXMLParser {
     public static @Nullable String parseModelDescription(URL descriptorURL) {
         ModelNameHandler modelNameHandler = new ModelNameHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(modelNameHandler);
             URL url = new URL(descriptorURL.toString());
-            reader.parse(new InputSource(url.openStream()));
+            parse(new InputSource(url.openStream()), modelNameHandler);
         } catch (IOException | SAXException e) {
             LOGGER.error("Could not parse Sonos model name from string '{}'", descriptorURL.toString());
         }
@@ -491,7 +491,10 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
 
             // pre-process some variables, eg XML processing
             if (SERVICE_AV_TRANSPORT.equals(service) && "LastChange".equals(variable)) {
-                Map<String, String> parsedValues = SonosXMLParser.getAVTransportFromXML(value);
+                // only unchanged values are skipped, AVTransportURI(MetaData) also updates CurrentURI(MetaData)
+                Map<String, String> parsedValues = SonosXMLParser.getAVTransportFromXML(value,
+                        (variable1, value1) -> hasValueChanged(value1, stateMap.get(variable1))
+                                || "AVTransportURI".equals(variable1) || "AVTransportURIMetaData".equals(variable1));
                 parsedValues.forEach((variable1, value1) -> {
                     // Update the transport state after the update of the media information
                     // to not break the notification mechanism
@@ -513,7 +516,8 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
             }
 
             if (SERVICE_RENDERING_CONTROL.equals(service) && "LastChange".equals(variable)) {
-                Map<String, String> parsedValues = SonosXMLParser.getRenderingControlFromXML(value);
+                Map<String, String> parsedValues = SonosXMLParser.getRenderingControlFromXML(value,
+                        (variable1, value1) -> hasValueChanged(value1, stateMap.get(variable1)));
                 parsedValues.forEach((variable1, value1) -> {
                     onValueReceived(variable1, value1, service);
                 });
@@ -18,6 +18,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.Test;
@@ -79,4 +80,50 @@ public class SonosXMLParserTest {
             assertEquals("Paris, France", result.get(2));
         }
     }
+
+    @Test
+    public void getRenderingControlFromXMLWithFilter() {
+        String xml = "<Event xmlns=\"urn:schemas-upnp-org:metadata-1-0/RCS/\"><InstanceID val=\"0\">"
+                + "<Volume channel=\"Master\" val=\"20\"/><Mute channel=\"Master\" val=\"0\"/>"
+                + "<Bass val=\"2\"/><Treble val=\"0\"/></InstanceID></Event>";
+        Map<String, String> state = Map.of("VolumeMaster", "20", "Bass", "1", "Treble", "0");
+
+        Map<String, String> all = SonosXMLParser.getRenderingControlFromXML(xml);
+        assertEquals(4, all.size());
+
+        Map<String, String> changed = SonosXMLParser.getRenderingControlFromXML(xml,
+                (variable, value) -> !value.equals(state.get(variable)));
+        assertEquals(Map.of("MuteMaster", "0", "Bass", "2"), changed);
+    }
+
+    @Test
+    public void getAVTransportFromXMLWithFilter() {
+        String xml = "<Event xmlns=\"urn:schemas-upnp-org:metadata-1-0/AVT/\"><InstanceID val=\"0\">"
+                + "<TransportState val=\"PLAYING\"/><CurrentPlayMode val=\"NORMAL\"/>"
+                + "<NumberOfTracks val=\"12\"/></InstanceID></Event>";
+
+        Map<String, String> changed = SonosXMLParser.getAVTransportFromXML(xml,
+                (variable, value) -> !"CurrentPlayMode".equals(variable));
+        assertEquals(Map.of("InstanceID", "0", "TransportState", "PLAYING", "NumberOfTracks", "12"), changed);
+    }
+
+    @Test
+    public void getZoneGroupFromXML() {
+        String xml = "<ZoneGroupState><ZoneGroups>"
+                + "<ZoneGroup Coordinator=\"RINCON_1\" ID=\"RINCON_1:1\">"
+                + "<ZoneGroupMember UUID=\"RINCON_1\" ZoneName=\"Kitchen\"/>"
+                + "<ZoneGroupMember UUID=\"RINCON_2\" ZoneName=\"Living Room\"/></ZoneGroup>"
+                + "<ZoneGroup Coordinator=\"RINCON_3\" ID=\"RINCON_3:2\">"
+                + "<ZoneGroupMember UUID=\"RINCON_3\" ZoneName=\"Office\"/></ZoneGroup>"
+                + "</ZoneGroups></ZoneGroupState>";
+
+        List<SonosZoneGroup> groups = SonosXMLParser.getZoneGroupFromXML(xml);
+        assertEquals(2, groups.size());
+        assertEquals("RINCON_1", groups.get(0).getCoordinator());
+        assertEquals(List.of("RINCON_1", "RINCON_2"), groups.get(0).getMembers());
+        assertEquals(List.of("RINCON_3"), groups.get(1).getMembers());
+
+        // the same state is only parsed once
+        assertSame(groups, SonosXMLParser.getZoneGroupFromXML(new String(xml)));
+    }
 }
@@ -19,7 +19,9 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -29,6 +31,7 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
@@ -81,6 +84,12 @@ public class CloudClient {
 
     private static final long READ_TIMEOUT = 60_0000;
 
+    private static final long ITEM_UPDATE_WINDOW = 200;
+
+    private static final int ITEM_UPDATE_MAX_BATCH = 100;
+
+    private static final long STATISTICS_INTERVAL = 60_000;
+
     /*
      * Logger for this class
      */
@@ -156,6 +165,28 @@ public class CloudClient {
     private final AtomicReference<Optional<ScheduledFuture<?>>> reconnectFuture = new AtomicReference<>(
             Optional.empty());
 
+    /*
+     * Item updates waiting to be sent, only the last state of each item is kept
+     */
+    private final Map<String, String> pendingItemUpdates = new LinkedHashMap<>();
+
+    private @Nullable ScheduledFuture<?> itemUpdateFuture;
+
+    /*
+     * Keeps the flushed item updates in order when a full batch and the scheduled flush overlap
+     */
+    private final Object itemUpdateSendLock = new Object();
+
+    private @Nullable ScheduledFuture<?> statisticsFuture;
+
+    /*
+     * Uplink statistics, logged and reset periodically
+     */
+    private final LongAdder uplinkEvents = new LongAdder();
+    private final LongAdder uplinkResponseBytes = new LongAdder();
+    private final LongAdder supersededItemUpdates = new LongAdder();
+    private long statisticsSince = System.currentTimeMillis();
+
     /**
      * Constructor of CloudClient
      *
@@ -356,6 +387,8 @@ public class CloudClient {
                 .on("command", args -> onEvent("command", (JSONObject) args[0]))//
         ;
         socket.connect();
+        statisticsFuture = scheduler.scheduleWithFixedDelay(this::logStatistics, STATISTICS_INTERVAL,
+                STATISTICS_INTERVAL, TimeUnit.MILLISECONDS);
     }
 
     /**
@@ -456,7 +489,7 @@ public class CloudClient {
             }
             request.method(method);
             if (!requestBody.isEmpty()) {
-                request.content(new BytesContentProvider(requestBody.getBytes()));
+                request.content(new BytesContentProvider(requestBody.getBytes(StandardCharsets.UTF_8)));
             }
 
             request.onResponseHeaders(response -> {
@@ -467,7 +500,7 @@ public class CloudClient {
                     responseJson.put("headers", getJSONHeaders(response.getHeaders()));
                     responseJson.put("responseStatusCode", response.getStatus());
                     responseJson.put("responseStatusText", "OK");
-                    socket.emit("responseHeader", responseJson);
+                    emit("responseHeader", responseJson);
                     logger.trace("Sent headers to request {}", requestId);
                     logger.trace("{}", responseJson.toString());
                 } catch (JSONException e) {
@@ -477,12 +510,14 @@ public class CloudClient {
                 logger.debug("onResponseContent: {}, content size {}", requestId, String.valueOf(content.remaining()));
                 JSONObject responseJson = new JSONObject();
                 try {
+                    byte[] body = BufferUtil.toArray(content);
                     responseJson.put("id", requestId);
-                    responseJson.put("body", BufferUtil.toArray(content));
+                    responseJson.put("body", body);
                     if (logger.isTraceEnabled()) {
-                        logger.trace("{}", StandardCharsets.UTF_8.decode(content).toString());
+                        logger.trace("{}", new String(body, StandardCharsets.UTF_8));
                     }
-                    socket.emit("responseContentBinary", responseJson);
+                    emit("responseContentBinary", responseJson);
+                    uplinkResponseBytes.add(body.length);
                     logger.trace("Sent content to request {}", requestId);
                 } catch (JSONException e) {
                     logger.debug("{}", e.getMessage());
@@ -493,7 +528,7 @@ public class CloudClient {
                 try {
                     responseJson.put("id", requestId);
                     responseJson.put("responseStatusText", "openHAB connection error: " + failure.getMessage());
-                    socket.emit("responseError", responseJson);
+                    emit("responseError", responseJson);
                 } catch (JSONException e) {
                     logger.debug("{}", e.getMessage());
                 }
@@ -516,7 +551,7 @@ public class CloudClient {
                 JSONObject responseJson = new JSONObject();
                 try {
                     responseJson.put("id", requestId);
-                    socket.emit("responseFinished", responseJson);
+                    emit("responseFinished", responseJson);
                     logger.debug("Finished responding to request {}", requestId);
                 } catch (JSONException e) {
                     logger.debug("{}", e.getMessage());
@@ -596,7 +631,7 @@ public class CloudClient {
                 notificationMessage.put("message", message);
                 notificationMessage.put("icon", icon);
                 notificationMessage.put("severity", severity);
-                socket.emit("notification", notificationMessage);
+                emit("notification", notificationMessage);
             } catch (JSONException e) {
                 logger.debug("{}", e.getMessage());
             }
@@ -619,7 +654,7 @@ public class CloudClient {
                 notificationMessage.put("message", message);
                 notificationMessage.put("icon", icon);
                 notificationMessage.put("severity", severity);
-                socket.emit("lognotification", notificationMessage);
+                emit("lognotification", notificationMessage);
             } catch (JSONException e) {
                 logger.debug("{}", e.getMessage());
             }
@@ -642,7 +677,7 @@ public class CloudClient {
                 notificationMessage.put("message", message);
                 notificationMessage.put("icon", icon);
                 notificationMessage.put("severity", severity);
-                socket.emit("broadcastnotification", notificationMessage);
+                emit("broadcastnotification", notificationMessage);
             } catch (JSONException e) {
                 logger.debug("{}", e.getMessage());
             }
@@ -654,26 +689,82 @@ public class CloudClient {
     /**
      * Send item update to openHAB Cloud
      *
+     * Updates are collected for a short time and only the last state of each item is sent.
+     * The collected updates are sent at once when the maximum batch size is reached.
+     *
      * @param itemName the name of the item
      * @param itemState updated item state
      *
      */
     public void sendItemUpdate(String itemName, String itemState) {
         if (isConnected()) {
-            logger.debug("Sending update '{}' for item '{}'", itemState, itemName);
-            JSONObject itemUpdateMessage = new JSONObject();
-            try {
-                itemUpdateMessage.put("itemName", itemName);
-                itemUpdateMessage.put("itemStatus", itemState);
-                socket.emit("itemupdate", itemUpdateMessage);
-            } catch (JSONException e) {
-                logger.debug("{}", e.getMessage());
+            logger.debug("Queuing update '{}' for item '{}'", itemState, itemName);
+            boolean flush;
+            synchronized (pendingItemUpdates) {
+                if (pendingItemUpdates.put(itemName, itemState) != null) {
+                    supersededItemUpdates.increment();
+                }
+                flush = pendingItemUpdates.size() >= ITEM_UPDATE_MAX_BATCH;
+                if (!flush && itemUpdateFuture == null) {
+                    itemUpdateFuture = scheduler.schedule(this::flushItemUpdates, ITEM_UPDATE_WINDOW,
+                            TimeUnit.MILLISECONDS);
+                }
+            }
+            if (flush) {
+                flushItemUpdates();
             }
         } else {
             logger.debug("No connection, Item update is not sent");
         }
     }
 
+    private void flushItemUpdates() {
+        synchronized (itemUpdateSendLock) {
+            List<Map.Entry<String, String>> itemUpdates;
+            synchronized (pendingItemUpdates) {
+                ScheduledFuture<?> future = itemUpdateFuture;
+                if (future != null) {
+                    future.cancel(false);
+                    itemUpdateFuture = null;
+                }
+                itemUpdates = new ArrayList<>(pendingItemUpdates.entrySet());
+                pendingItemUpdates.clear();
+            }
+            if (!isConnected()) {
+                logger.debug("No connection, {} item updates are not sent", itemUpdates.size());
+                return;
+            }
+            for (Map.Entry<String, String> itemUpdate : itemUpdates) {
+                logger.debug("Sending update '{}' for item '{}'", itemUpdate.getValue(), itemUpdate.getKey());
+                JSONObject itemUpdateMessage = new JSONObject();
+                try {
+                    itemUpdateMessage.put("itemName", itemUpdate.getKey());
+                    itemUpdateMessage.put("itemStatus", itemUpdate.getValue());
+                    emit("itemupdate", itemUpdateMessage);
+                } catch (JSONException e) {
+                    logger.debug("{}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void emit(String event, JSONObject message) {
+        socket.emit(event, message);
+        uplinkEvents.increment();
+    }
+
+    private void logStatistics() {
+        long now = System.currentTimeMillis();
+        double seconds = Math.max(now - statisticsSince, 1) / 1000.0;
+        long events = uplinkEvents.sumThenReset();
+        long bytes = uplinkResponseBytes.sumThenReset();
+        long superseded = supersededItemUpdates.sumThenReset();
+        statisticsSince = now;
+        logger.debug("Uplink: {} events ({} events/s), {} response bytes ({} bytes/s), {} item updates superseded",
+                events, String.format("%.2f", events / seconds), bytes, String.format("%.0f", bytes / seconds),
+                superseded);
+    }
+
     /**
      * Returns true if openHAB Cloud connection is active
      */
@@ -687,6 +778,19 @@ public class CloudClient {
     public void shutdown() {
         logger.info("Shutting down openHAB Cloud service connection");
         reconnectFuture.get().ifPresent(future -> future.cancel(true));
+        ScheduledFuture<?> future = statisticsFuture;
+        if (future != null) {
+            future.cancel(true);
+            statisticsFuture = null;
+        }
+        synchronized (pendingItemUpdates) {
+            future = itemUpdateFuture;
+            if (future != null) {
+                future.cancel(false);
+                itemUpdateFuture = null;
+            }
+            pendingItemUpdates.clear();
+        }
         socket.disconnect();
     }
 
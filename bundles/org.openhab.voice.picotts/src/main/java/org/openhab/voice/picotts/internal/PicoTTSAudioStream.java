@@ -12,43 +12,61 @@
  */
 package org.openhab.voice.picotts.internal;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.BreakIterator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
-import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.audio.AudioException;
 import org.openhab.core.audio.AudioFormat;
 import org.openhab.core.audio.AudioStream;
 import org.openhab.core.audio.FixedLengthAudioStream;
-import org.openhab.core.common.Disposable;
 import org.openhab.core.voice.Voice;
 
 /**
  * Implementation of {@link AudioStream} for {@link PicoTTSService}
  *
+ * Longer texts are split into sentences which are synthesized in parallel and joined into a single wave
+ * in memory. The temporary files written by pico2wave are deleted as soon as they have been read.
+ *
  * @author Florian Schmidt - Initial Contribution
  */
 @NonNullByDefault
-class PicoTTSAudioStream extends FixedLengthAudioStream implements Disposable {
+class PicoTTSAudioStream extends FixedLengthAudioStream {
+
+    /**
+     * Sentences are joined until a segment has at least this many characters, to limit the number of processes
+     */
+    private static final int MIN_SEGMENT_LENGTH = 100;
+    private static final int RIFF_HEADER_LENGTH = 12;
+    private static final int CHUNK_HEADER_LENGTH = 8;
 
     private final Voice voice;
     private final String text;
     private final AudioFormat audioFormat;
+    private final byte[] audio;
     private final InputStream inputStream;
 
-    private long length;
-    private @Nullable File file;
-
-    public PicoTTSAudioStream(String text, Voice voice, AudioFormat audioFormat) throws AudioException {
+    public PicoTTSAudioStream(String text, Voice voice, AudioFormat audioFormat, ExecutorService executor)
+            throws AudioException {
         this.text = text;
         this.voice = voice;
         this.audioFormat = audioFormat;
-        this.inputStream = createInputStream();
+        this.audio = synthesize(executor);
+        this.inputStream = new ByteArrayInputStream(audio);
     }
 
     @Override
@@ -56,46 +74,108 @@ class PicoTTSAudioStream extends FixedLengthAudioStream implements Disposable {
         return audioFormat;
     }
 
-    private InputStream createInputStream() throws AudioException {
-        String outputFile = generateOutputFilename();
-        String[] command = getCommand(outputFile);
+    private byte[] synthesize(ExecutorService executor) throws AudioException {
+        List<String> segments = splitText(text, voice.getLocale());
+        if (segments.size() == 1) {
+            return synthesize(segments.get(0));
+        }
 
+        List<Future<byte[]>> futures = new ArrayList<>();
+        for (String segment : segments) {
+            futures.add(executor.submit(() -> synthesize(segment)));
+        }
+        List<byte[]> waves = new ArrayList<>();
         try {
-            Process process = Runtime.getRuntime().exec(command);
-            process.waitFor();
-            File file = new File(outputFile);
-            this.file = file;
-            this.length = file.length();
-            return getFileInputStream(file);
-        } catch (IOException e) {
-            throw new AudioException("Error while executing '" + command + "'", e);
+            for (Future<byte[]> future : futures) {
+                waves.add(future.get());
+            }
         } catch (InterruptedException e) {
-            throw new AudioException("The '" + command + "' has been interrupted", e);
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new AudioException("The synthesis of '" + text + "' has been interrupted", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            Throwable cause = e.getCause();
+            if (cause instanceof AudioException audioException) {
+                throw audioException;
+            }
+            throw new AudioException("Error while synthesizing '" + text + "'", cause);
+        }
+        return joinWaves(waves);
+    }
+
+    /**
+     * Splits the text into segments of whole sentences
+     *
+     * @param text The text to split
+     * @param locale The locale used to find the sentence boundaries
+     * @return List of segments in the order of the text
+     */
+    static List<String> splitText(String text, Locale locale) {
+        List<String> segments = new ArrayList<>();
+        BreakIterator iterator = BreakIterator.getSentenceInstance(locale);
+        iterator.setText(text);
+        StringBuilder segment = new StringBuilder();
+        int start = iterator.first();
+        for (int end = iterator.next(); end != BreakIterator.DONE; start = end, end = iterator.next()) {
+            segment.append(text, start, end);
+            if (segment.length() >= MIN_SEGMENT_LENGTH) {
+                addSegment(segments, segment.toString());
+                segment.setLength(0);
+            }
+        }
+        addSegment(segments, segment.toString());
+        if (segments.isEmpty()) {
+            segments.add(text);
+        }
+        return segments;
+    }
+
+    private static void addSegment(List<String> segments, String segment) {
+        String trimmed = segment.trim();
+        if (!trimmed.isEmpty()) {
+            segments.add(trimmed);
         }
     }
 
-    private InputStream getFileInputStream(File file) throws AudioException {
-        if (file.exists()) {
+    private byte[] synthesize(String segment) throws AudioException {
+        Path outputFile = createOutputFile();
+        String[] command = getCommand(outputFile.toString(), segment);
+
+        Process process = null;
+        try {
+            process = Runtime.getRuntime().exec(command);
+            process.waitFor();
+            if (!Files.exists(outputFile)) {
+                throw new AudioException("Temporary file '" + outputFile.getFileName() + "' not found!");
+            }
+            return Files.readAllBytes(outputFile);
+        } catch (IOException e) {
+            throw new AudioException("Error while executing '" + String.join(" ", command) + "'", e);
+        } catch (InterruptedException e) {
+            // the synthesis was cancelled, so do not leave pico2wave running
+            if (process != null) {
+                process.destroy();
+            }
+            Thread.currentThread().interrupt();
+            throw new AudioException("The '" + String.join(" ", command) + "' has been interrupted", e);
+        } finally {
             try {
-                return new FileInputStream(file);
-            } catch (FileNotFoundException e) {
-                throw new AudioException("Cannot open temporary audio file '" + file.getName() + ".");
+                Files.deleteIfExists(outputFile);
+            } catch (IOException e) {
+                outputFile.toFile().deleteOnExit();
             }
-        } else {
-            throw new AudioException("Temporary file '" + file.getName() + "' not found!");
         }
     }
 
     /**
-     * Generates a unique, absolute output filename
+     * Creates a unique, absolute output file
      *
-     * @return Unique, absolute output filename
+     * @return Unique, absolute output file
      */
-    private String generateOutputFilename() throws AudioException {
+    private Path createOutputFile() throws AudioException {
         try {
-            File tempFile = Files.createTempFile(Integer.toString(text.hashCode()), ".wav").toFile();
-            tempFile.deleteOnExit();
-            return tempFile.getAbsolutePath();
+            return Files.createTempFile(Integer.toString(text.hashCode()), ".wav").toAbsolutePath();
         } catch (IOException e) {
             throw new AudioException("Unable to create temp file.", e);
         }
@@ -105,10 +185,61 @@ class PicoTTSAudioStream extends FixedLengthAudioStream implements Disposable {
      * Gets the command used to generate an audio file {@code outputFile}
      *
      * @param outputFile The absolute filename of the command's output
+     * @param segment The text to synthesize
      * @return The command used to generate the audio file {@code outputFile}
      */
-    private String[] getCommand(String outputFile) {
-        return new String[] { "pico2wave", "-l=" + this.voice.getLabel(), "-w=" + outputFile, this.text };
+    private String[] getCommand(String outputFile, String segment) {
+        return new String[] { "pico2wave", "-l=" + this.voice.getLabel(), "-w=" + outputFile, segment };
+    }
+
+    /**
+     * Joins the samples of several waves with the same format into one wave
+     *
+     * @param waves The waves in playing order
+     * @return The joined wave, with the header of the first wave
+     */
+    static byte[] joinWaves(List<byte[]> waves) throws AudioException {
+        byte[] first = waves.get(0);
+        int dataStart = findDataStart(first);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.write(first, 0, dataStart - CHUNK_HEADER_LENGTH);
+        output.writeBytes("data".getBytes(StandardCharsets.US_ASCII));
+        output.writeBytes(new byte[4]);
+        for (byte[] wave : waves) {
+            int start = findDataStart(wave);
+            // the size is unsigned and pico2wave may write a placeholder, so never read beyond the wave
+            int length = (int) Math.min(getUnsignedInt(wave, start - 4), wave.length - start);
+            output.write(wave, start, length);
+        }
+
+        byte[] result = output.toByteArray();
+        ByteBuffer buffer = ByteBuffer.wrap(result).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(4, result.length - 8);
+        buffer.putInt(dataStart - 4, result.length - dataStart);
+        return result;
+    }
+
+    /**
+     * Finds the start of the samples in a wave
+     *
+     * @param wave The content of a wave file
+     * @return The offset of the first byte after the header of the data chunk
+     */
+    private static int findDataStart(byte[] wave) throws AudioException {
+        long offset = RIFF_HEADER_LENGTH;
+        while (offset + CHUNK_HEADER_LENGTH <= wave.length) {
+            String id = new String(wave, (int) offset, 4, StandardCharsets.US_ASCII);
+            long size = getUnsignedInt(wave, (int) offset + 4);
+            if ("data".equals(id)) {
+                return (int) offset + CHUNK_HEADER_LENGTH;
+            }
+            offset += CHUNK_HEADER_LENGTH + size + (size & 1);
+        }
+        throw new AudioException("Invalid wave file generated by pico2wave");
+    }
+
+    private static long getUnsignedInt(byte[] bytes, int offset) {
+        return ByteBuffer.wrap(bytes, offset, 4).order(ByteOrder.LITTLE_ENDIAN).getInt() & 0xFFFFFFFFL;
     }
 
     @Override
@@ -117,31 +248,22 @@ class PicoTTSAudioStream extends FixedLengthAudioStream implements Disposable {
     }
 
     @Override
-    public long length() {
-        return length;
+    public int read(byte[] b, int off, int len) throws IOException {
+        return inputStream.read(b, off, len);
     }
 
     @Override
-    public InputStream getClonedStream() throws AudioException {
-        File file = this.file;
-        if (file != null) {
-            return getFileInputStream(file);
-        } else {
-            throw new AudioException("No temporary audio file available.");
-        }
+    public int available() throws IOException {
+        return inputStream.available();
     }
 
     @Override
-    public void dispose() throws IOException {
-        File localFile = file;
-        if (localFile != null && localFile.exists()) {
-            try {
-                if (!localFile.delete()) {
-                    throw new IOException("Failed to delete the file " + localFile.getAbsolutePath());
-                }
-            } catch (SecurityException e) {
-                throw new IOException("Failed to delete the file " + localFile.getAbsolutePath(), e);
-            }
-        }
+    public long length() {
+        return audio.length;
+    }
+
+    @Override
+    public InputStream getClonedStream() throws AudioException {
+        return new ByteArrayInputStream(audio);
     }
 }
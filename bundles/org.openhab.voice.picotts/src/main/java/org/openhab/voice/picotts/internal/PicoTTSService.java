@@ -14,6 +14,7 @@ package org.openhab.voice.picotts.internal;
 
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -22,6 +23,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.audio.AudioException;
 import org.openhab.core.audio.AudioFormat;
 import org.openhab.core.audio.AudioStream;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.voice.AbstractCachedTTSService;
 import org.openhab.core.voice.TTSCache;
 import org.openhab.core.voice.TTSException;
@@ -38,6 +40,8 @@ import org.osgi.service.component.annotations.Reference;
 @NonNullByDefault
 public class PicoTTSService extends AbstractCachedTTSService {
 
+    private final ExecutorService executor = ThreadPoolManager.getPool("OH-voice-picotts");
+
     @Activate
     public PicoTTSService(@Reference TTSCache ttsCache) {
         super(ttsCache);
@@ -79,7 +83,7 @@ public class PicoTTSService extends AbstractCachedTTSService {
         }
 
         try {
-            return new PicoTTSAudioStream(text, voice, requestedFormat);
+            return new PicoTTSAudioStream(text, voice, requestedFormat, executor);
         } catch (AudioException e) {
             throw new TTSException(e);
         }
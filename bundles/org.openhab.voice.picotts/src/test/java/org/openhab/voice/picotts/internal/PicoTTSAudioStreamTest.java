@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.picotts.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.audio.AudioException;
+
+/**
+ * Tests for splitting the text and joining the waves in {@link PicoTTSAudioStream}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PicoTTSAudioStreamTest {
+
+    private static final String SENTENCE = "This sentence is about forty characters. ";
+
+    @Test
+    public void shortTextIsOneSegment() {
+        assertEquals(List.of("Hello world. How are you?"),
+                PicoTTSAudioStream.splitText(" Hello world. How are you? ", Locale.US));
+    }
+
+    @Test
+    public void sentencesAreJoinedUntilMinimumLength() {
+        String text = SENTENCE.repeat(7);
+        List<String> segments = PicoTTSAudioStream.splitText(text, Locale.US);
+
+        assertEquals(3, segments.size());
+        assertEquals(SENTENCE.repeat(3).trim(), segments.get(0));
+        assertEquals(SENTENCE.repeat(3).trim(), segments.get(1));
+        assertEquals(SENTENCE.trim(), segments.get(2));
+    }
+
+    @Test
+    public void blankTextIsKept() {
+        assertEquals(List.of("  "), PicoTTSAudioStream.splitText("  ", Locale.US));
+    }
+
+    @Test
+    public void joinWavesConcatenatesSamples() throws AudioException {
+        byte[] first = createWave(new byte[] { 1, 2, 3, 4 }, false, false);
+        byte[] second = createWave(new byte[] { 5, 6 }, true, false);
+
+        byte[] joined = PicoTTSAudioStream.joinWaves(List.of(first, second));
+
+        int dataStart = first.length - 4;
+        assertEquals(dataStart + 6, joined.length);
+        assertEquals(joined.length - 8, getInt(joined, 4));
+        assertEquals(6, getInt(joined, dataStart - 4));
+        assertArrayEquals(Arrays.copyOfRange(first, 8, dataStart - 4), Arrays.copyOfRange(joined, 8, dataStart - 4));
+        assertArrayEquals(new byte[] { 1, 2, 3, 4, 5, 6 }, Arrays.copyOfRange(joined, dataStart, joined.length));
+    }
+
+    @Test
+    public void joinWavesAcceptsPlaceholderDataSize() throws AudioException {
+        byte[] first = createWave(new byte[] { 1, 2 }, false, true);
+        byte[] second = createWave(new byte[] { 3, 4 }, false, true);
+
+        byte[] joined = PicoTTSAudioStream.joinWaves(List.of(first, second));
+
+        int dataStart = first.length - 2;
+        assertEquals(4, getInt(joined, dataStart - 4));
+        assertArrayEquals(new byte[] { 1, 2, 3, 4 }, Arrays.copyOfRange(joined, dataStart, joined.length));
+    }
+
+    @Test
+    public void joinWavesRejectsWaveWithoutData() {
+        byte[] wave = Arrays.copyOf(createWave(new byte[0], false, false), 36);
+
+        assertThrows(AudioException.class, () -> PicoTTSAudioStream.joinWaves(List.of(wave)));
+    }
+
+    private static byte[] createWave(byte[] samples, boolean withListChunk, boolean placeholderSize) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.writeBytes("RIFF".getBytes(StandardCharsets.US_ASCII));
+        output.writeBytes(intBytes(0));
+        output.writeBytes("WAVE".getBytes(StandardCharsets.US_ASCII));
+        output.writeBytes("fmt ".getBytes(StandardCharsets.US_ASCII));
+        output.writeBytes(intBytes(16));
+        output.writeBytes(new byte[16]);
+        if (withListChunk) {
+            // odd sized chunks are padded to an even length
+            output.writeBytes("LIST".getBytes(StandardCharsets.US_ASCII));
+            output.writeBytes(intBytes(3));
+            output.writeBytes(new byte[4]);
+        }
+        output.writeBytes("data".getBytes(StandardCharsets.US_ASCII));
+        output.writeBytes(intBytes(placeholderSize ? -1 : samples.length));
+        output.writeBytes(samples);
+        return output.toByteArray();
+    }
+
+    private static byte[] intBytes(int value) {
+        return ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(value).array();
+    }
+
+    private static int getInt(byte[] bytes, int offset) {
+        return ByteBuffer.wrap(bytes, offset, 4).order(ByteOrder.LITTLE_ENDIAN).getInt();
+    }
+}
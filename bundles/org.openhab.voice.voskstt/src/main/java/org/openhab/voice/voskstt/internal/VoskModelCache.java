@@ -0,0 +1,271 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.voskstt.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.vosk.Model;
+import org.vosk.Recognizer;
+
+/**
+ * The {@link VoskModelCache} class shares one loaded model between all recognitions.
+ * The model is reference counted and unloaded after being idle for the configured time, unless it is pinned.
+ * Recognizers are reset and kept per sample rate, so they can be reused by the next recognition.
+ * The model is loaded outside the cache lock, so a slow load does not block releasing recognizers.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class VoskModelCache {
+    private static final int MAX_IDLE_RECOGNIZERS = 4;
+
+    private final Logger logger = LoggerFactory.getLogger(VoskModelCache.class);
+    private final ScheduledExecutorService scheduler;
+    private final String modelPath;
+    private final Object loadLock = new Object();
+    private @Nullable LoadedModel current;
+    private @Nullable ScheduledFuture<?> unloadJob;
+    private boolean pinned = false;
+    private long idleMillis = 0;
+    private long unloadCount = 0;
+
+    public VoskModelCache(ScheduledExecutorService scheduler, String modelPath) {
+        this.scheduler = scheduler;
+        this.modelPath = modelPath;
+    }
+
+    /**
+     * Configure the cache.
+     *
+     * @param pinned keep the model loaded while not in use
+     * @param idleSeconds seconds an unused model is kept before it is unloaded, when not pinned
+     */
+    public synchronized void configure(boolean pinned, int idleSeconds) {
+        this.pinned = pinned;
+        this.idleMillis = Math.max(0, idleSeconds) * 1000L;
+        scheduleUnload();
+    }
+
+    /**
+     * Load the model if it is not loaded yet.
+     */
+    public void load() throws IOException, UnsatisfiedLinkError {
+        LoadedModel model = getModel();
+        synchronized (this) {
+            if (model.retired) {
+                model.closeIfUnused();
+            } else {
+                scheduleUnload();
+            }
+        }
+    }
+
+    /**
+     * Unload the model, a model still in use is closed once all its recognitions are done.
+     */
+    public synchronized void unload() {
+        unloadCount++;
+        cancelUnload();
+        LoadedModel model = current;
+        if (model != null) {
+            current = null;
+            model.retire();
+        }
+    }
+
+    /**
+     * Get a recognizer for the sample rate, loading the model if needed.
+     * The recognizer must be given back with {@link #release(Lease, boolean)}.
+     */
+    public Lease acquire(float sampleRate) throws IOException, UnsatisfiedLinkError {
+        while (true) {
+            LoadedModel model = getModel();
+            synchronized (this) {
+                if (model.closed) {
+                    // unloaded before we could use it
+                    continue;
+                }
+                cancelUnload();
+                Recognizer recognizer;
+                try {
+                    recognizer = model.takeRecognizer(sampleRate);
+                } catch (IOException | RuntimeException e) {
+                    if (model.retired) {
+                        model.closeIfUnused();
+                    } else {
+                        scheduleUnload();
+                    }
+                    throw e;
+                }
+                model.references++;
+                return new Lease(model, recognizer, sampleRate);
+            }
+        }
+    }
+
+    /**
+     * Give back a recognizer.
+     *
+     * @param lease the lease returned by {@link #acquire(float)}
+     * @param reusable false if the recognizer is in an unknown state and must be closed
+     */
+    public synchronized void release(Lease lease, boolean reusable) {
+        LoadedModel model = lease.model;
+        model.references--;
+        model.returnRecognizer(lease.sampleRate, lease.recognizer, reusable);
+        if (model.retired) {
+            model.closeIfUnused();
+        } else if (model.references == 0) {
+            scheduleUnload();
+        }
+    }
+
+    /**
+     * Get the current model or load it. Only one model is loaded at a time, but the cache itself
+     * is not locked while loading. A model loaded while {@link #unload()} was called is returned
+     * retired, so it is closed once it is no longer used.
+     */
+    private LoadedModel getModel() throws IOException, UnsatisfiedLinkError {
+        synchronized (loadLock) {
+            long unloads;
+            synchronized (this) {
+                LoadedModel model = current;
+                if (model != null) {
+                    return model;
+                }
+                unloads = unloadCount;
+            }
+            var modelFile = new File(modelPath);
+            if (!modelFile.exists() || !modelFile.isDirectory()) {
+                throw new IOException("missing model dir: " + modelPath);
+            }
+            logger.debug("loading model");
+            long startTime = System.currentTimeMillis();
+            LoadedModel model = new LoadedModel(new Model(modelPath));
+            logger.debug("model loaded in {} ms", System.currentTimeMillis() - startTime);
+            synchronized (this) {
+                if (unloadCount == unloads) {
+                    current = model;
+                } else {
+                    model.retired = true;
+                }
+            }
+            return model;
+        }
+    }
+
+    private void scheduleUnload() {
+        cancelUnload();
+        LoadedModel model = current;
+        if (pinned || model == null || model.references > 0) {
+            return;
+        }
+        if (idleMillis == 0) {
+            unload();
+        } else {
+            unloadJob = scheduler.schedule(this::unloadIfIdle, idleMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized void unloadIfIdle() {
+        LoadedModel model = current;
+        if (!pinned && model != null && model.references == 0) {
+            logger.debug("model idle for {} ms", idleMillis);
+            unload();
+        }
+    }
+
+    private void cancelUnload() {
+        ScheduledFuture<?> job = unloadJob;
+        if (job != null) {
+            job.cancel(false);
+            unloadJob = null;
+        }
+    }
+
+    /**
+     * A recognizer lent to a recognition.
+     */
+    public static class Lease {
+        private final LoadedModel model;
+        private final Recognizer recognizer;
+        private final float sampleRate;
+
+        private Lease(LoadedModel model, Recognizer recognizer, float sampleRate) {
+            this.model = model;
+            this.recognizer = recognizer;
+            this.sampleRate = sampleRate;
+        }
+
+        public Recognizer getRecognizer() {
+            return recognizer;
+        }
+    }
+
+    private class LoadedModel {
+        private final Model model;
+        private final Map<Float, ArrayDeque<Recognizer>> idleRecognizers = new HashMap<>();
+        private int references = 0;
+        private boolean retired = false;
+        private boolean closed = false;
+
+        LoadedModel(Model model) {
+            this.model = model;
+        }
+
+        Recognizer takeRecognizer(float sampleRate) throws IOException {
+            ArrayDeque<Recognizer> recognizers = idleRecognizers.get(sampleRate);
+            Recognizer recognizer = recognizers == null ? null : recognizers.poll();
+            return recognizer != null ? recognizer : new Recognizer(model, sampleRate);
+        }
+
+        void returnRecognizer(float sampleRate, Recognizer recognizer, boolean reusable) {
+            if (reusable && !retired) {
+                ArrayDeque<Recognizer> recognizers = idleRecognizers.computeIfAbsent(sampleRate,
+                        k -> new ArrayDeque<>());
+                if (recognizers.size() < MAX_IDLE_RECOGNIZERS) {
+                    recognizer.reset();
+                    recognizers.push(recognizer);
+                    return;
+                }
+            }
+            recognizer.close();
+        }
+
+        void retire() {
+            retired = true;
+            idleRecognizers.values().forEach(recognizers -> recognizers.forEach(Recognizer::close));
+            idleRecognizers.clear();
+            closeIfUnused();
+        }
+
+        void closeIfUnused() {
+            if (references == 0 && !closed) {
+                closed = true;
+                logger.debug("unloading model");
+                model.close();
+            }
+        }
+    }
+}
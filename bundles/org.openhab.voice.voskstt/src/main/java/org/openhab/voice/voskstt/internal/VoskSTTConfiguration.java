@@ -46,4 +46,8 @@ public class VoskSTTConfiguration {
      * Keep language model loaded
      */
     public boolean preloadModel = true;
+    /**
+     * Seconds to keep the language model loaded after its last use, when not preloaded
+     */
+    public int modelIdleSeconds = 30;
 }
@@ -53,7 +53,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.vosk.LibVosk;
 import org.vosk.LogLevel;
-import org.vosk.Model;
 import org.vosk.Recognizer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -71,6 +70,7 @@ import com.sun.jna.NativeLibrary;
 public class VoskSTTService implements STTService {
     private static final String VOSK_FOLDER = Path.of(OpenHAB.getUserDataFolder(), "vosk").toString();
     private static final String MODEL_PATH = Path.of(VOSK_FOLDER, "model").toString();
+    private static final int MIN_CHUNK_BYTES = 1024;
     static {
         Logger logger = LoggerFactory.getLogger(VoskSTTService.class);
         File directory = new File(VOSK_FOLDER);
@@ -83,8 +83,9 @@ public class VoskSTTService implements STTService {
     private final Logger logger = LoggerFactory.getLogger(VoskSTTService.class);
     private final ScheduledExecutorService executor = ThreadPoolManager.getScheduledPool("OH-voice-voskstt");
     private final LocaleService localeService;
+    private final VoskModelCache modelCache = new VoskModelCache(executor, MODEL_PATH);
+    private final ObjectMapper mapper = new ObjectMapper();
     private VoskSTTConfiguration config = new VoskSTTConfiguration();
-    private @Nullable Model model;
 
     @Activate
     public VoskSTTService(@Reference LocaleService localeService) {
@@ -114,29 +115,22 @@ public class VoskSTTService implements STTService {
 
     @Deactivate
     protected void deactivate(Map<String, Object> config) {
-        try {
-            unloadModel();
-        } catch (IOException e) {
-            logger.warn("IOException unloading model: {}", e.getMessage());
-        }
+        modelCache.unload();
     }
 
     private void configChange(Map<String, Object> config) {
         this.config = new Configuration(config).as(VoskSTTConfiguration.class);
+        modelCache.configure(this.config.preloadModel, this.config.modelIdleSeconds);
         if (this.config.preloadModel) {
             try {
-                loadModel();
+                // reload the model on configuration updates
+                modelCache.unload();
+                modelCache.load();
             } catch (IOException e) {
                 logger.warn("IOException loading model: {}", e.getMessage());
             } catch (UnsatisfiedLinkError e) {
                 logger.warn("Missing native dependency: {}", e.getMessage());
             }
-        } else {
-            try {
-                unloadModel();
-            } catch (IOException e) {
-                logger.warn("IOException unloading model: {}", e.getMessage());
-            }
         }
     }
 
@@ -186,37 +180,6 @@ public class VoskSTTService implements STTService {
         };
     }
 
-    private Model getModel() throws IOException, UnsatisfiedLinkError {
-        var model = this.model;
-        if (model != null) {
-            return model;
-        }
-        return loadModel();
-    }
-
-    private Model loadModel() throws IOException, UnsatisfiedLinkError {
-        unloadModel();
-        var modelFile = new File(MODEL_PATH);
-        if (!modelFile.exists() || !modelFile.isDirectory()) {
-            throw new IOException("missing model dir: " + MODEL_PATH);
-        }
-        logger.debug("loading model");
-        var model = new Model(MODEL_PATH);
-        if (config.preloadModel) {
-            this.model = model;
-        }
-        return model;
-    }
-
-    private void unloadModel() throws IOException {
-        var model = this.model;
-        if (model != null) {
-            logger.debug("unloading model");
-            model.close();
-            this.model = null;
-        }
-    }
-
     private Future<?> backgroundRecognize(STTListener sttListener, InputStream audioStream, long frequency,
             AtomicBoolean aborted) {
         StringBuilder transcriptBuilder = new StringBuilder();
@@ -224,15 +187,18 @@ public class VoskSTTService implements STTService {
         long maxSilenceMillis = (config.maxSilenceSeconds * 1000L);
         long startTime = System.currentTimeMillis();
         return executor.submit(() -> {
-            Recognizer recognizer = null;
-            Model model = null;
+            VoskModelCache.Lease lease = null;
+            boolean reusable = false;
             try {
-                model = getModel();
-                recognizer = new Recognizer(model, frequency);
+                lease = modelCache.acquire(frequency);
+                Recognizer recognizer = lease.getRecognizer();
                 long lastInputTime = System.currentTimeMillis();
                 int nbytes;
-                byte[] b = new byte[4096];
+                // feed about 100 ms of 16 bit audio at a time, so partial results are available early
+                byte[] b = new byte[(int) Math.max(MIN_CHUNK_BYTES, frequency / 10 * 2)];
+                long firstPartialTime = 0;
                 sttListener.sttEventReceived(new RecognitionStartEvent());
+                long listeningTime = System.currentTimeMillis();
                 while (!aborted.get()) {
                     nbytes = audioStream.read(b);
                     if (aborted.get()) {
@@ -254,16 +220,21 @@ public class VoskSTTService implements STTService {
                         lastInputTime = System.currentTimeMillis();
                         var result = recognizer.getResult();
                         logger.debug("Result: {}", result);
-                        ObjectMapper mapper = new ObjectMapper();
                         var json = mapper.readTree(result);
                         transcriptBuilder.append(json.get("text").asText()).append(" ");
                         if (config.singleUtteranceMode) {
                             break;
                         }
                     } else {
-                        logger.debug("Partial: {}", recognizer.getPartialResult());
+                        var partial = recognizer.getPartialResult();
+                        logger.debug("Partial: {}", partial);
+                        if (firstPartialTime == 0 && !mapper.readTree(partial).path("partial").asText().isEmpty()) {
+                            firstPartialTime = System.currentTimeMillis();
+                            logger.debug("Time to first partial: {} ms", firstPartialTime - listeningTime);
+                        }
                     }
                 }
+                reusable = true;
                 if (!aborted.get()) {
                     sttListener.sttEventReceived(new RecognitionStopEvent());
                     var transcript = transcriptBuilder.toString().trim();
@@ -293,11 +264,8 @@ public class VoskSTTService implements STTService {
                     sttListener.sttEventReceived(new SpeechRecognitionErrorEvent(config.errorMessage));
                 }
             } finally {
-                if (recognizer != null) {
-                    recognizer.close();
-                }
-                if (!config.preloadModel && model != null) {
-                    model.close();
+                if (lease != null) {
+                    modelCache.release(lease, reusable);
                 }
             }
             try {